@@ -27,7 +27,7 @@ import org.neo4j.gds.config.AlgoBaseConfig;
 import java.util.List;
 import java.util.stream.Collectors;
 
-import static org.neo4j.gds.AbstractPropertyMappings.fromObject;
+import static org.neo4j.gds.AbstractPropertyMappings.fromObjectWithoutPrecision;
 
 @ValueClass
 @SuppressWarnings("immutables:subtype")
@@ -42,7 +42,7 @@ public interface ScalePropertiesBaseConfig extends AlgoBaseConfig {
 
     @SuppressWarnings("unused")
     static List<String> parsePropertyNames(Object nodePropertiesOrMappings) {
-        return fromObject(nodePropertiesOrMappings)
+        return fromObjectWithoutPrecision(nodePropertiesOrMappings)
             .mappings()
             .stream()
             .map(PropertyMapping::propertyKey)
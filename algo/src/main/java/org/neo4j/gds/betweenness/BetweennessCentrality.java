@@ -23,23 +23,22 @@ import com.carrotsearch.hppc.LongArrayList;
 import com.carrotsearch.hppc.cursors.LongCursor;
 import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.api.Graph;
-import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.concurrency.WorkStealingScheduler;
 import org.neo4j.gds.core.utils.paged.HugeAtomicDoubleArray;
 import org.neo4j.gds.core.utils.paged.HugeCursor;
 import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
 import org.neo4j.gds.core.utils.paged.HugeLongArray;
 import org.neo4j.gds.core.utils.paged.HugeLongArrayStack;
 import org.neo4j.gds.core.utils.paged.HugeObjectArray;
+import org.neo4j.gds.core.utils.partition.Partition;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 
 public class BetweennessCentrality extends Algorithm<HugeAtomicDoubleArray> {
 
     private final Graph graph;
-    private final AtomicLong nodeQueue = new AtomicLong();
     private final long nodeCount;
     private final double divisor;
     private final ForwardTraverser.Factory traverserFactory;
@@ -75,8 +74,11 @@ public class BetweennessCentrality extends Algorithm<HugeAtomicDoubleArray> {
     @Override
     public HugeAtomicDoubleArray compute() {
         progressTracker.beginSubTask();
-        nodeQueue.set(0);
-        ParallelUtil.run(ParallelUtil.tasks(concurrency, BCTask::new), executorService);
+        // Every selected start node costs a full traversal, all other nodes are free.
+        // Ranges are split on demand, as the selected nodes need not be evenly distributed.
+        WorkStealingScheduler
+            .weighted(nodeCount, nodeId -> selectionStrategy.select(nodeId) ? 1L : 0L, concurrency)
+            .run(executorService, concurrency, BCTask::new, BCTask::compute);
         progressTracker.endSubTask();
         return centrality;
     }
@@ -87,12 +89,13 @@ public class BetweennessCentrality extends Algorithm<HugeAtomicDoubleArray> {
         selectionStrategy = null;
     }
 
-    final class BCTask implements Runnable {
+    final class BCTask {
         private final HugeObjectArray<LongArrayList> predecessors;
         private final HugeCursor<LongArrayList[]> predecessorsCursor;
         private final HugeLongArrayStack backwardNodes;
         private final HugeDoubleArray delta;
         private final HugeLongArray sigma;
+        private final ForwardTraverser forwardTraversor;
 
         private BCTask() {
             this.predecessors = HugeObjectArray.newArray(LongArrayList.class, nodeCount);
@@ -100,22 +103,21 @@ public class BetweennessCentrality extends Algorithm<HugeAtomicDoubleArray> {
             this.backwardNodes = HugeLongArrayStack.newStack(nodeCount);
             this.sigma = HugeLongArray.newArray(nodeCount);
             this.delta = HugeDoubleArray.newArray(nodeCount);
-        }
-
-        @Override
-        public void run() {
-            var forwardTraversor = traverserFactory.create(
+            this.forwardTraversor = traverserFactory.create(
                 graph.concurrentCopy(),
                 predecessors,
                 backwardNodes,
                 sigma,
                 terminationFlag
             );
+        }
+
+        void compute(Partition startNodes) {
+            var startNode = startNodes.startNode();
+            var endNode = startNode + startNodes.nodeCount();
 
-            for (;;) {
-                // take start node from the queue
-                long startNodeId = nodeQueue.getAndIncrement();
-                if (startNodeId >= nodeCount || !terminationFlag.running()) {
+            for (long startNodeId = startNode; startNodeId < endNode; startNodeId++) {
+                if (!terminationFlag.running()) {
                     return;
                 }
                 // check whether the node is part of the subset
@@ -24,6 +24,7 @@ import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.RelationshipConsumer;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.concurrency.WorkStealingScheduler;
 import org.neo4j.gds.core.utils.BatchingProgressLogger;
 import org.neo4j.gds.core.utils.SetBitsIterable;
 import org.neo4j.gds.core.utils.paged.HugeObjectArray;
@@ -315,14 +316,23 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
 
         Comparator<SimilarityResult> comparator = config.normalizedK() > 0 ? SimilarityResult.DESCENDING : SimilarityResult.ASCENDING;
         TopKMap topKMap = new TopKMap(vectors.size(), sourceNodes, Math.abs(config.normalizedK()), comparator);
-        ParallelUtil.parallelStreamConsume(
-            loggableAndTerminatableSourceNodeStream(),
-            concurrency,
-            stream -> stream
-                .forEach(node1 -> {
+        // Comparing a source node costs roughly its vector length for every target node.
+        // Ranges are weighted accordingly and split on demand, since degrees are usually skewed.
+        WorkStealingScheduler
+            .weighted(
+                graph.nodeCount(),
+                node -> sourceNodes.get(node) ? vectors.get(node).length + 1L : 0L,
+                concurrency
+            )
+            .run(executorService, concurrency, partition -> {
+                terminationFlag.assertRunning();
+                partition.consume(node1 -> {
+                    if (!sourceNodes.get(node1)) {
+                        return;
+                    }
                     long[] vector1 = vectors.get(node1);
                     // We deliberately compute the full matrix (except the diagonal).
-                    // The parallel workload is partitioned based on the outer stream.
+                    // The parallel workload is partitioned based on the source nodes.
                     // The TopKMap stores a priority queue for each node. Writing
                     // into these queues is not considered to be thread-safe.
                     // Hence, we need to ensure that down the stream, exactly one queue
@@ -340,8 +350,8 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
                                 topKMap.put(node1, node2, similarity);
                             }
                         });
-                })
-        );
+                });
+            });
 
         progressTracker.endSubTask();
         return topKMap;
@@ -68,73 +68,23 @@ public abstract class GraphIntersect<CURSOR extends AdjacencyCursor> implements
 
         // iterates over neighbours of A
         CURSOR neighboursA = cacheA;
-        // current neighbour of A
-        long nodeCFromA = NOT_FOUND;
         // iterates over neighbours of B
         CURSOR neighboursB = cacheB;
-        // current neighbour of B
-        long nodeCFromB;
-
-        // last node where Ca = Cb
-        // prevents counting a new triangle for parallel relationships
-        long triangleC;
 
         // for all neighbors of A
         while (neighboursAMain.hasNextVLong()) {
-            // we have not yet seen a triangle
-            triangleC = NOT_FOUND;
             // check the second node's degree
             int degreeB = degree(nodeB);
             if (degreeFilter.test(degreeB)) {
                 neighboursB = cursorForNode(neighboursB, nodeB, degreeB);
                 // find first neighbour Cb of B with id > B
-                nodeCFromB = neighboursB.skipUntil(nodeB);
+                long nodeCFromB = neighboursB.skipUntil(nodeB);
 
-                // if B had no neighbors, find a new B
-                if (nodeCFromB != NOT_FOUND) {
+                // if B had no such neighbours, find a new B
+                if (nodeCFromB > nodeB) {
                     // copy the state of A's cursor
                     neighboursA = copyCursor(neighboursAMain, neighboursA);
-
-                    if (degreeFilter.test(degree(nodeCFromB))) {
-                        // find the first neighbour Ca of A with id >= Cb
-                        nodeCFromA = neighboursA.advance(nodeCFromB);
-                        triangleC = checkForAndEmitTriangle(consumer, nodeA, nodeB, nodeCFromA, nodeCFromB, triangleC);
-                    }
-
-                    // while both A and B have more neighbours
-                    while (neighboursA.hasNextVLong() && neighboursB.hasNextVLong()) {
-                        // take the next neighbour Cb of B
-                        nodeCFromB = neighboursB.nextVLong();
-                        if (degreeFilter.test(degree(nodeCFromB))) {
-                            if (nodeCFromB > nodeCFromA) {
-                                // if Cb > Ca, take the next neighbour Ca of A with id >= Cb
-                                nodeCFromA = neighboursA.advance(nodeCFromB);
-                            }
-                            triangleC = checkForAndEmitTriangle(
-                                consumer,
-                                nodeA,
-                                nodeB,
-                                nodeCFromA,
-                                nodeCFromB,
-                                triangleC
-                            );
-                        }
-                    }
-
-                    // it is possible that the last Ca > Cb, but there are no more neighbours Ca of A
-                    // so if there are more neighbours Cb of B
-                    if (neighboursB.hasNextVLong()) {
-                        // we take the next neighbour Cb of B with id >= Ca
-                        nodeCFromB = neighboursB.advance(nodeCFromA);
-                        // B had some more nodes, but none of them were >= Ca, so we skip it
-                        if (nodeCFromB != NOT_FOUND) {
-                            var degreeCFromB = degree(nodeCFromB);
-
-                            if (degreeFilter.test(degreeCFromB)) {
-                                checkForAndEmitTriangle(consumer, nodeA, nodeB, nodeCFromA, nodeCFromB, triangleC);
-                            }
-                        }
-                    }
+                    intersect(consumer, nodeA, nodeB, neighboursA, neighboursB, nodeCFromB);
                 }
             }
 
@@ -151,22 +101,51 @@ public abstract class GraphIntersect<CURSOR extends AdjacencyCursor> implements
         cacheB = neighboursB;
     }
 
-    private long checkForAndEmitTriangle(
+    /**
+     * Emits a triangle for every common neighbour C of A and B, starting at the current neighbour Cb of B.
+     *
+     * Both cursors take turns advancing to the current target of the other one,
+     * so that neither of them has to be decoded one target at a time.
+     * If the degrees are very different, the cursor of the high degree node
+     * can skip over large parts of its adjacency list, e.g. whole blocks of a packed adjacency list.
+     */
+    private void intersect(
         IntersectionConsumer consumer,
         long nodeA,
         long nodeB,
-        long nodeCa,
-        long nodeCb,
-        long triangleC
+        CURSOR neighboursA,
+        CURSOR neighboursB,
+        long nodeCFromB
     ) {
-        // if Ca = Cb there exists a triangle
-        // if Ca = triangleC we have already counted it
-        // Ca might also be NOT_FOUND, we ignore those as well
-        if (nodeCa == nodeCb && nodeCa > triangleC) {
-            consumer.accept(nodeA, nodeB, nodeCa);
-            return nodeCa;
+        // find the first neighbour Ca of A with id >= Cb
+        // if there is none, A is exhausted and returns a smaller id or NOT_FOUND
+        long nodeCFromA = neighboursA.advance(nodeCFromB);
+
+        while (nodeCFromA >= nodeCFromB) {
+            if (nodeCFromA == nodeCFromB) {
+                // if Ca = Cb there exists a triangle
+                if (degreeFilter.test(degree(nodeCFromA))) {
+                    consumer.accept(nodeA, nodeB, nodeCFromA);
+                }
+                // skipping parallel relationships prevents counting the triangle again
+                long next = neighboursB.skipUntil(nodeCFromB);
+                if (next <= nodeCFromB) {
+                    return;
+                }
+                nodeCFromB = next;
+                nodeCFromA = neighboursA.advance(nodeCFromB);
+            } else {
+                // take the next neighbour Cb of B with id >= Ca
+                long next = neighboursB.advance(nodeCFromA);
+                if (next < nodeCFromA) {
+                    return;
+                }
+                nodeCFromB = next;
+                if (nodeCFromB > nodeCFromA) {
+                    nodeCFromA = neighboursA.advance(nodeCFromB);
+                }
+            }
         }
-        return triangleC;
     }
 
     private @NotNull CURSOR copyCursor(@NotNull CURSOR source, @Nullable CURSOR destination) {
@@ -28,22 +28,18 @@ import org.neo4j.gds.api.RelationshipIterator;
 import org.neo4j.gds.api.RelationshipWithPropertyConsumer;
 import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.concurrency.WorkStealingScheduler;
 import org.neo4j.gds.core.utils.TerminationFlag;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
 import org.neo4j.gds.core.utils.paged.dss.DisjointSetStruct;
 import org.neo4j.gds.core.utils.paged.dss.HugeAtomicDisjointSetStruct;
 import org.neo4j.gds.core.utils.partition.Partition;
-import org.neo4j.gds.core.utils.partition.PartitionUtils;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 
 import java.util.ArrayList;
-import java.util.List;
-import java.util.Optional;
 import java.util.SplittableRandom;
 import java.util.concurrent.ExecutorService;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
 import static org.neo4j.gds.core.utils.TerminationFlag.RUN_CHECK_NODE_COUNT;
 import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
@@ -169,35 +165,26 @@ public class Wcc extends Algorithm<DisjointSetStruct> {
     }
 
     private void computeUndirected(DisjointSetStruct components) {
-        var partitions = PartitionUtils.rangePartition(
-            config.concurrency(),
-            graph.nodeCount(),
-            Function.identity(),
-            Optional.empty()
-        );
+        // Sampling is cheap for every node, but linking iterates all remaining relationships.
+        // Work is stolen on demand, so that ranges with high degree nodes are shared between threads.
+        var scheduler = WorkStealingScheduler.degreeWeighted(graph, config.concurrency());
 
-        sampleSubgraph(components, partitions);
+        sampleSubgraph(components, scheduler);
         long largestComponent = findLargestComponent(components);
-        linkRemaining(components, partitions, largestComponent);
+        linkRemaining(components, scheduler, largestComponent);
     }
 
     /**
      * Processes a sparse samples subgraph first for approximating components.
      * Samples by processing a fixed number of neighbors for each node.
      */
-    private void sampleSubgraph(DisjointSetStruct components, List<Partition> partitions) {
-        var tasks = partitions
-            .stream()
-            .map(partition -> new UndirectedSamplingTask(
-                graph,
-                partition,
-                components,
-                progressTracker,
-                terminationFlag
-            ))
-            .collect(Collectors.toList());
-
-        ParallelUtil.run(tasks, executor);
+    private void sampleSubgraph(DisjointSetStruct components, WorkStealingScheduler scheduler) {
+        scheduler.run(
+            executor,
+            config.concurrency(),
+            () -> new UndirectedSamplingTask(graph, components, progressTracker, terminationFlag),
+            UndirectedSamplingTask::run
+        );
     }
 
     /**
@@ -232,19 +219,13 @@ public class Wcc extends Algorithm<DisjointSetStruct> {
      *
      * Skips nodes that are already contained in the largest component.
      */
-    private void linkRemaining(DisjointSetStruct components, List<Partition> partitions, long largestComponent) {
-        var tasks = partitions
-            .stream()
-            .map(partition -> new UndirectedUnionTask(
-                graph,
-                partition,
-                largestComponent,
-                components,
-                progressTracker,
-                terminationFlag
-            ))
-            .collect(Collectors.toList());
-        ParallelUtil.run(tasks, executor);
+    private void linkRemaining(DisjointSetStruct components, WorkStealingScheduler scheduler, long largestComponent) {
+        scheduler.run(
+            executor,
+            config.concurrency(),
+            () -> new UndirectedUnionTask(graph, largestComponent, components, progressTracker, terminationFlag),
+            UndirectedUnionTask::run
+        );
     }
 
     private static double defaultWeight(double threshold) {
@@ -311,10 +292,9 @@ public class Wcc extends Algorithm<DisjointSetStruct> {
         }
     }
 
-    static final class UndirectedSamplingTask implements Runnable, RelationshipConsumer {
+    static final class UndirectedSamplingTask implements RelationshipConsumer {
 
         private final Graph graph;
-        private final Partition partition;
         private final DisjointSetStruct components;
         private final ProgressTracker progressTracker;
         private final TerminationFlag terminationFlag;
@@ -322,20 +302,17 @@ public class Wcc extends Algorithm<DisjointSetStruct> {
 
         UndirectedSamplingTask(
             Graph graph,
-            Partition partition,
             DisjointSetStruct components,
             ProgressTracker progressTracker,
             TerminationFlag terminationFlag
         ) {
             this.graph = graph.concurrentCopy();
-            this.partition = partition;
             this.components = components;
             this.progressTracker = progressTracker;
             this.terminationFlag = terminationFlag;
         }
 
-        @Override
-        public void run() {
+        void run(Partition partition) {
             var startNode = partition.startNode();
             var endNode = startNode + partition.nodeCount();
 
@@ -363,11 +340,10 @@ public class Wcc extends Algorithm<DisjointSetStruct> {
 
     }
 
-    static final class UndirectedUnionTask implements Runnable, RelationshipConsumer {
+    static final class UndirectedUnionTask implements RelationshipConsumer {
 
         private final Graph graph;
         private final long skipComponent;
-        private final Partition partition;
         private final DisjointSetStruct components;
         private final ProgressTracker progressTracker;
         private final TerminationFlag terminationFlag;
@@ -375,7 +351,6 @@ public class Wcc extends Algorithm<DisjointSetStruct> {
 
         UndirectedUnionTask(
             Graph graph,
-            Partition partition,
             long skipComponent,
             DisjointSetStruct components,
             ProgressTracker progressTracker,
@@ -383,14 +358,12 @@ public class Wcc extends Algorithm<DisjointSetStruct> {
         ) {
             this.graph = graph.concurrentCopy();
             this.skipComponent = skipComponent;
-            this.partition = partition;
             this.components = components;
             this.progressTracker = progressTracker;
             this.terminationFlag = terminationFlag;
         }
 
-        @Override
-        public void run() {
+        void run(Partition partition) {
             var startNode = partition.startNode();
             var endNode = startNode + partition.nodeCount();
 
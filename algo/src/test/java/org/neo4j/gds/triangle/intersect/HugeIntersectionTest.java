@@ -24,14 +24,21 @@ import org.junit.jupiter.api.Test;
 import org.neo4j.gds.BaseTest;
 import org.neo4j.gds.Orientation;
 import org.neo4j.gds.StoreLoaderBuilder;
+import org.neo4j.gds.TestSupport;
+import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.RelationshipIntersect;
+import org.neo4j.gds.utils.GdsFeatureToggles;
 import org.neo4j.graphdb.Node;
 import org.neo4j.graphdb.RelationshipType;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.PrimitiveIterator;
 import java.util.Random;
+import java.util.TreeSet;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.neo4j.gds.compat.GraphDatabaseApiProxy.applyInTransaction;
 
@@ -93,4 +100,64 @@ final class HugeIntersectionTest extends BaseTest {
             assertEquals(targets.nextLong(), c);
         });
     }
+
+    @Test
+    void intersectSkewedDegrees() {
+        // a hub that is connected to every node, a ring over all other nodes
+        // and a few parallel relationships
+        var gdl = new StringBuilder("(hub)");
+        int nodeCount = 500;
+        for (int i = 0; i < nodeCount; i++) {
+            gdl.append(", (n").append(i).append(")");
+        }
+        for (int i = 0; i < nodeCount; i++) {
+            gdl.append(", (hub)-->(n").append(i).append(")");
+            gdl.append(", (n").append(i).append(")-->(n").append((i + 1) % nodeCount).append(")");
+            if (i % 7 == 0) {
+                gdl.append(", (n").append(i).append(")-->(n").append((i + 1) % nodeCount).append(")");
+                gdl.append(", (n").append(i).append(")-->(n").append((i + 13) % nodeCount).append(")");
+            }
+        }
+
+        Runnable test = () -> {
+            var graph = TestSupport.fromGdl(gdl.toString(), Orientation.UNDIRECTED).graph();
+            var intersect = RelationshipIntersectFactoryLocator.lookup(graph)
+                .orElseThrow(IllegalArgumentException::new)
+                .load(graph, ImmutableRelationshipIntersectConfig.builder().build());
+
+            var expected = new ArrayList<List<Long>>();
+            for (long a = 0; a < graph.nodeCount(); a++) {
+                var neighboursA = neighbours(graph, a);
+                for (long b : neighboursA) {
+                    if (b > a) {
+                        for (long c : neighbours(graph, b)) {
+                            if (c > b && neighboursA.contains(c)) {
+                                expected.add(List.of(a, b, c));
+                            }
+                        }
+                    }
+                }
+            }
+
+            var actual = new ArrayList<List<Long>>();
+            for (long a = 0; a < graph.nodeCount(); a++) {
+                intersect.intersectAll(a, (x, y, z) -> actual.add(List.of(x, y, z)));
+            }
+
+            assertThat(expected).isNotEmpty();
+            assertThat(actual).containsExactlyElementsOf(expected);
+        };
+
+        test.run();
+        GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST.enableAndRun(test::run);
+    }
+
+    private static TreeSet<Long> neighbours(Graph graph, long node) {
+        var neighbours = new TreeSet<Long>();
+        graph.forEachRelationship(node, (source, target) -> {
+            neighbours.add(target);
+            return true;
+        });
+        return neighbours;
+    }
 }
@@ -60,13 +60,12 @@ class UndirectedSamplingTaskTest {
 
         var task = new Wcc.UndirectedSamplingTask(
             graph,
-            partition,
             components,
             ProgressTracker.NULL_TRACKER,
             TerminationFlag.RUNNING_TRUE
         );
 
-        task.run();
+        task.run(partition);
 
         var actualCommunities = new ArrayList<Long>();
         graph.forEachNode(node -> actualCommunities.add(components.setIdOf(node)));
@@ -62,14 +62,13 @@ class UndirectedUnionTaskTest {
 
         var task = new Wcc.UndirectedUnionTask(
             graph,
-            partition,
             idFunction.of("a"),
             components,
             ProgressTracker.NULL_TRACKER,
             TerminationFlag.RUNNING_TRUE
         );
 
-        task.run();
+        task.run(partition);
 
         var actualCommunities = new ArrayList<Long>();
         graph.forEachNode(node -> actualCommunities.add(components.setIdOf(node)));
@@ -91,14 +90,13 @@ class UndirectedUnionTaskTest {
 
         var task = new Wcc.UndirectedUnionTask(
             graph,
-            partition,
             -1,
             components,
             ProgressTracker.NULL_TRACKER,
             TerminationFlag.RUNNING_TRUE
         );
 
-        task.run();
+        task.run(partition);
 
         var actualCommunities = new ArrayList<Long>();
         graph.forEachNode(node -> actualCommunities.add(components.setIdOf(node)));
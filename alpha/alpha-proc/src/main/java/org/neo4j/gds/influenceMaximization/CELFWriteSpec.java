@@ -70,7 +70,7 @@ public class CELFWriteSpec implements AlgorithmSpec<CELF, LongDoubleScatterMap,
                 NodePropertyExporter exporter =  executionContext.nodePropertyExporterBuilder()
                     .withIdMap(graph)
                     .withTerminationFlag(algorithm.getTerminationFlag())
-                    .parallel(Pools.DEFAULT, writeConcurrency)
+                    .parallel(Pools.io(), writeConcurrency)
                     .build();
 
                 var properties = new CelfNodeProperties(celfSeedSet, graph.nodeCount());
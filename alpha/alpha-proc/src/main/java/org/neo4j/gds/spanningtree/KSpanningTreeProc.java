@@ -108,7 +108,7 @@ public abstract class KSpanningTreeProc extends NodePropertiesWriter<KSpanningTr
                 final NodePropertyExporter exporter = nodePropertyExporterBuilder
                     .withIdMap(graph)
                     .withTerminationFlag(TerminationFlag.wrap(transaction)).withProgressTracker(progressTracker)
-                    .parallel(Pools.DEFAULT, config.writeConcurrency())
+                    .parallel(Pools.io(), config.writeConcurrency())
                     .build();
 
                 var properties = new DoubleNodePropertyValues() {
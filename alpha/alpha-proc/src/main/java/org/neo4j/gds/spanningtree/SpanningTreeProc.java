@@ -92,6 +92,7 @@ public abstract class SpanningTreeProc extends AlgoBaseProc<Prim, SpanningTree,
                     .withGraph(spanningGraph)
                     .withIdMappingOperator(spanningGraph::toOriginalNodeId)
                     .withTerminationFlag(prim.getTerminationFlag())
+                    .withTargetBatchLatency(config.targetBatchLatency())
                     .withProgressTracker(progressTracker)
                     .build()
                     .write(config.writeProperty(), config.weightWriteProperty());
@@ -26,8 +26,10 @@ import org.neo4j.gds.core.loading.CSRGraphStore;
 import org.neo4j.gds.core.loading.Capabilities;
 import org.neo4j.gds.core.loading.GraphStoreBuilder;
 import org.neo4j.gds.core.loading.IdMapAndProperties;
+import org.neo4j.gds.core.loading.NodeRelabeling;
 import org.neo4j.gds.core.loading.RelationshipsAndProperties;
 import org.neo4j.gds.mem.MemoryUsage;
+import org.neo4j.gds.utils.GdsFeatureToggles;
 
 import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
@@ -45,6 +47,22 @@ public abstract class CSRGraphStoreFactory<CONFIG extends GraphProjectConfig> ex
     protected CSRGraphStore createGraphStore(
         IdMapAndProperties idMapAndProperties,
         RelationshipsAndProperties relationshipsAndProperties
+    ) {
+        if (GdsFeatureToggles.USE_DEGREE_ORDERED_NODE_IDS.isEnabled()) {
+            var relabeled = NodeRelabeling.byDescendingDegree(
+                idMapAndProperties,
+                relationshipsAndProperties,
+                graphProjectConfig.readConcurrency()
+            );
+            progressTracker.logInfo("Relabeled nodes by descending degree");
+            return buildGraphStore(relabeled.nodes(), relabeled.relationships());
+        }
+        return buildGraphStore(idMapAndProperties, relationshipsAndProperties);
+    }
+
+    private CSRGraphStore buildGraphStore(
+        IdMapAndProperties idMapAndProperties,
+        RelationshipsAndProperties relationshipsAndProperties
     ) {
         return new GraphStoreBuilder()
             .databaseId(DatabaseId.of(loadingContext.graphDatabaseService()))
@@ -20,17 +20,24 @@
 package org.neo4j.gds.config;
 
 import org.immutables.value.Value;
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.NodeLabel;
 import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.annotation.Configuration;
 import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.concurrency.ConcurrencyValidatorService;
 
+import java.time.Duration;
 import java.util.Collection;
+import java.util.Optional;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
 public interface WriteConfig extends ConcurrencyConfig {
 
     String WRITE_CONCURRENCY_KEY = "writeConcurrency";
+    String WRITE_BATCH_SIZE_KEY = "writeBatchSize";
+    String WRITE_BATCH_LATENCY_KEY = "writeBatchLatency";
 
     @Value.Default
     @Configuration.Key(WRITE_CONCURRENCY_KEY)
@@ -45,6 +52,47 @@ public interface WriteConfig extends ConcurrencyConfig {
             .validate(writeConcurrency(), WRITE_CONCURRENCY_KEY, ConcurrencyConfig.CONCURRENCY_LIMITATION);
     }
 
+    @Configuration.Key(WRITE_BATCH_SIZE_KEY)
+    Optional<Long> writeBatchSize();
+
+    @Value.Check
+    default void validateWriteBatchSize() {
+        writeBatchSize().ifPresent(batchSize -> {
+            if (batchSize < 1) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Configuration parameter `%s` must be a positive number, got %d.",
+                    WRITE_BATCH_SIZE_KEY,
+                    batchSize
+                ));
+            }
+        });
+    }
+
+    /**
+     * The targeted commit latency in milliseconds when writing relationships.
+     * If set, the number of relationships per transaction adapts to it, otherwise it is fixed.
+     */
+    @Configuration.Key(WRITE_BATCH_LATENCY_KEY)
+    Optional<Long> writeBatchLatency();
+
+    @Configuration.Ignore
+    default @Nullable Duration targetBatchLatency() {
+        return writeBatchLatency().map(Duration::ofMillis).orElse(null);
+    }
+
+    @Value.Check
+    default void validateWriteBatchLatency() {
+        writeBatchLatency().ifPresent(latency -> {
+            if (latency < 1) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Configuration parameter `%s` must be a positive number, got %d.",
+                    WRITE_BATCH_LATENCY_KEY,
+                    latency
+                ));
+            }
+        });
+    }
+
     @Configuration.GraphStoreValidationCheck
     @Value.Default
     default void validateGraphIsSuitableForWrite(
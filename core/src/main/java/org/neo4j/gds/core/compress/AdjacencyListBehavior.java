@@ -23,9 +23,13 @@ import org.neo4j.gds.PropertyMappings;
 import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.core.Aggregation;
 import org.neo4j.gds.core.huge.CompressedAdjacencyList;
+import org.neo4j.gds.core.huge.Float32AdjacencyProperties;
+import org.neo4j.gds.core.huge.PackedAdjacencyList;
 import org.neo4j.gds.core.huge.UncompressedAdjacencyList;
 import org.neo4j.gds.core.loading.CompressedAdjacencyListBuilderFactory;
 import org.neo4j.gds.core.loading.DeltaVarLongCompressor;
+import org.neo4j.gds.core.loading.Float32AdjacencyPropertiesBuilder;
+import org.neo4j.gds.core.loading.PackedAdjacencyListBuilderFactory;
 import org.neo4j.gds.core.loading.RawCompressor;
 import org.neo4j.gds.core.loading.UncompressedAdjacencyListBuilderFactory;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
@@ -36,7 +40,7 @@ import java.util.function.LongSupplier;
 
 /**
  * Manages different configurations of adjacency list building,
- * i.e., compressed or uncompressed.
+ * i.e., compressed, block-packed or uncompressed, and where compressed pages are stored.
  */
 public interface AdjacencyListBehavior {
 
@@ -44,13 +48,26 @@ public interface AdjacencyListBehavior {
         LongSupplier nodeCountSupplier,
         PropertyMappings propertyMappings,
         Aggregation[] aggregations
+    ) {
+        return asConfigured(nodeCountSupplier, propertyMappings, aggregations, AdjacencyPageStore.asConfigured());
+    }
+
+    static AdjacencyCompressorFactory asConfigured(
+        LongSupplier nodeCountSupplier,
+        PropertyMappings propertyMappings,
+        Aggregation[] aggregations,
+        AdjacencyPageStore pageStore
     ) {
         var resolvedAggregations = Arrays.stream(aggregations).map(Aggregation::resolve).toArray(Aggregation[]::new);
         var noAggregation = Arrays.stream(aggregations).map(Aggregation::resolve).allMatch(Aggregation::equivalentToNone);
 
-        return GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.isEnabled()
-            ? uncompressed(nodeCountSupplier, propertyMappings, resolvedAggregations, noAggregation)
-            : compressed(nodeCountSupplier, propertyMappings, resolvedAggregations, noAggregation);
+        if (GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.isEnabled()) {
+            return uncompressed(nodeCountSupplier, propertyMappings, resolvedAggregations, noAggregation);
+        }
+        if (GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST.isEnabled()) {
+            return packed(nodeCountSupplier, propertyMappings, resolvedAggregations, noAggregation);
+        }
+        return compressed(nodeCountSupplier, propertyMappings, resolvedAggregations, noAggregation, pageStore);
     }
 
     static AdjacencyCompressorFactory compressed(
@@ -58,10 +75,20 @@ public interface AdjacencyListBehavior {
         PropertyMappings propertyMappings,
         Aggregation[] aggregations,
         boolean noAggregation
+    ) {
+        return compressed(nodeCountSupplier, propertyMappings, aggregations, noAggregation, AdjacencyPageStore.HEAP);
+    }
+
+    static AdjacencyCompressorFactory compressed(
+        LongSupplier nodeCountSupplier,
+        PropertyMappings propertyMappings,
+        Aggregation[] aggregations,
+        boolean noAggregation,
+        AdjacencyPageStore pageStore
     ) {
         return DeltaVarLongCompressor.factory(
             nodeCountSupplier,
-            CompressedAdjacencyListBuilderFactory.of(),
+            CompressedAdjacencyListBuilderFactory.of(pageStore),
             propertyMappings,
             aggregations,
             noAggregation
@@ -83,19 +110,61 @@ public interface AdjacencyListBehavior {
         );
     }
 
+    static AdjacencyCompressorFactory packed(
+        LongSupplier nodeCountSupplier,
+        PropertyMappings propertyMappings,
+        Aggregation[] aggregations,
+        boolean noAggregation
+    ) {
+        return RawCompressor.factory(
+            nodeCountSupplier,
+            PackedAdjacencyListBuilderFactory.of(),
+            propertyMappings,
+            aggregations,
+            noAggregation
+        );
+    }
+
     static MemoryEstimation adjacencyListEstimation(long avgDegree, long nodeCount) {
-        return GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.isEnabled()
-            ? UncompressedAdjacencyList.adjacencyListEstimation(avgDegree, nodeCount)
-            : CompressedAdjacencyList.adjacencyListEstimation(avgDegree, nodeCount);
+        if (GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.isEnabled()) {
+            return UncompressedAdjacencyList.adjacencyListEstimation(avgDegree, nodeCount);
+        }
+        if (GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST.isEnabled()) {
+            return PackedAdjacencyList.adjacencyListEstimation(avgDegree, nodeCount);
+        }
+        return CompressedAdjacencyList.adjacencyListEstimation(avgDegree, nodeCount, AdjacencyPageStore.asConfigured());
     }
 
     static MemoryEstimation adjacencyListEstimation(RelationshipType relationshipType, boolean undirected) {
-        return GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.isEnabled()
-            ? UncompressedAdjacencyList.adjacencyListEstimation(relationshipType, undirected)
-            : CompressedAdjacencyList.adjacencyListEstimation(relationshipType, undirected);
+        return adjacencyListEstimation(relationshipType, undirected, AdjacencyPageStore.asConfigured());
+    }
+
+    static MemoryEstimation adjacencyListEstimation(
+        RelationshipType relationshipType,
+        boolean undirected,
+        AdjacencyPageStore pageStore
+    ) {
+        if (GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.isEnabled()) {
+            return UncompressedAdjacencyList.adjacencyListEstimation(relationshipType, undirected);
+        }
+        if (GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST.isEnabled()) {
+            return PackedAdjacencyList.adjacencyListEstimation(relationshipType, undirected);
+        }
+        return CompressedAdjacencyList.adjacencyListEstimation(relationshipType, undirected, pageStore);
     }
 
     static MemoryEstimation adjacencyPropertiesEstimation(RelationshipType relationshipType, boolean undirected) {
         return UncompressedAdjacencyList.adjacencyPropertiesEstimation(relationshipType, undirected);
     }
+
+    static MemoryEstimation adjacencyPropertiesEstimation(
+        RelationshipType relationshipType,
+        PropertyMappings propertyMappings,
+        boolean undirected
+    ) {
+        if (Float32AdjacencyPropertiesBuilder.appliesTo(propertyMappings)) {
+            return Float32AdjacencyProperties.adjacencyPropertiesEstimation(relationshipType, undirected);
+        }
+        return adjacencyPropertiesEstimation(relationshipType, undirected);
+    }
 }
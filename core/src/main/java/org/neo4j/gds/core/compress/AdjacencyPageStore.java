@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.compress;
+
+import org.neo4j.gds.utils.GdsFeatureToggles;
+
+/**
+ * Describes where the pages of a compressed adjacency list are kept once the list has been built.
+ */
+public enum AdjacencyPageStore {
+    /**
+     * Pages are {@code byte[]} on the Java heap.
+     */
+    HEAP,
+    /**
+     * Pages are direct {@link java.nio.ByteBuffer}s outside of the Java heap.
+     */
+    OFF_HEAP,
+    /**
+     * Pages are written to a temporary spill file and are memory-mapped back.
+     */
+    MEMORY_MAPPED;
+
+    public static AdjacencyPageStore asConfigured() {
+        if (GdsFeatureToggles.USE_MEMORY_MAPPED_ADJACENCY_LIST.isEnabled()) {
+            return MEMORY_MAPPED;
+        }
+        if (GdsFeatureToggles.USE_OFF_HEAP_ADJACENCY_LIST.isEnabled()) {
+            return OFF_HEAP;
+        }
+        return HEAP;
+    }
+
+    public boolean isOffHeap() {
+        return this != HEAP;
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.concurrency;
+
+import org.neo4j.annotations.service.ServiceProvider;
+import org.neo4j.configuration.Description;
+import org.neo4j.configuration.DocumentedDefaultValue;
+import org.neo4j.configuration.SettingsDeclaration;
+import org.neo4j.graphdb.config.Setting;
+
+import static org.neo4j.configuration.SettingConstraints.min;
+import static org.neo4j.configuration.SettingValueParsers.BOOL;
+import static org.neo4j.configuration.SettingValueParsers.INT;
+import static org.neo4j.gds.compat.SettingProxy.newBuilder;
+
+@ServiceProvider
+public final class IoPoolSettings implements SettingsDeclaration {
+
+    @Description("Run write-back tasks on a dedicated I/O thread pool instead of the pool used for computations.")
+    @DocumentedDefaultValue("false")
+    public static final Setting<Boolean> io_pool_enabled = newBuilder(
+        "gds.io_pool.enabled",
+        BOOL,
+        false
+    ).build();
+
+    @Description("The maximum number of threads of the dedicated I/O thread pool.")
+    @DocumentedDefaultValue("4")
+    public static final Setting<Integer> io_pool_max_size = newBuilder(
+        "gds.io_pool.max_size",
+        INT,
+        4
+    ).addConstraint(min(1)).build();
+}
@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.core.concurrency;
 
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.concurrency.PoolSizesService;
 import org.neo4j.internal.helpers.NamedThreadFactory;
 
@@ -38,11 +39,14 @@ import java.util.concurrent.TimeoutException;
 public final class Pools {
 
     private static final String THREAD_NAME_PREFIX = "gds";
+    private static final String IO_THREAD_NAME_PREFIX = "gds-io";
     private static final ThreadFactory DEFAULT_THREAD_FACTORY = NamedThreadFactory.daemon(THREAD_NAME_PREFIX);
 
     public static final ExecutorService DEFAULT = createDefaultPool();
     public static final ExecutorService DEFAULT_SINGLE_THREAD_POOL = createSingleThreadPool("algo");
 
+    private static volatile @Nullable ExecutorService ioPool;
+
     private Pools() {
         throw new UnsupportedOperationException();
     }
@@ -60,6 +64,54 @@ public final class Pools {
         );
     }
 
+    /**
+     * Executor for tasks that spend most of their time blocked in kernel transactions, e.g. writing results.
+     * Unless a dedicated I/O pool is enabled, this is the {@link #DEFAULT} pool.
+     */
+    public static ExecutorService io() {
+        return io(DEFAULT);
+    }
+
+    /**
+     * @return the dedicated I/O pool if it is enabled, otherwise the given fallback
+     */
+    public static ExecutorService io(ExecutorService fallback) {
+        var pool = ioPool;
+        return pool != null ? pool : fallback;
+    }
+
+    /**
+     * Enables a dedicated, bounded pool for I/O-bound tasks, so that they do not compete
+     * with computations for the threads of the {@link #DEFAULT} pool.
+     */
+    public static synchronized void enableIoPool(int maxPoolSize) {
+        disableIoPool();
+        ioPool = createIoPool(maxPoolSize);
+    }
+
+    public static synchronized void disableIoPool() {
+        var pool = ioPool;
+        ioPool = null;
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+
+    static ExecutorService createIoPool(int maxPoolSize) {
+        var pool = new ThreadPoolExecutor(
+            maxPoolSize,
+            maxPoolSize,
+            30L,
+            TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(maxPoolSize * 50),
+            NamedThreadFactory.daemon(IO_THREAD_NAME_PREFIX),
+            new CallerBlocksPolicy()
+        );
+        // I/O threads are only needed while results are written
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+
     public static ExecutorService createSingleThreadPool(String threadPrefix) {
         return Executors.newSingleThreadExecutor(NamedThreadFactory.daemon(threadPrefix));
     }
@@ -68,6 +120,15 @@ public final class Pools {
         return new ForkJoinPool(concurrency, FJ_WORKER_THREAD_FACTORY, null, false);
     }
 
+    /**
+     * Returns the fork-join pool that is shared by all callers and never shut down.
+     * It is sized like the default pool, callers limit their own parallelism on it.
+     * Idle threads of the pool are released after a while.
+     */
+    public static ForkJoinPool forkJoinPool() {
+        return SharedForkJoinPool.INSTANCE;
+    }
+
     public static Thread newThread(Runnable code) {
         return DEFAULT_THREAD_FACTORY.newThread(code);
     }
@@ -106,4 +167,9 @@ public final class Pools {
         worker.setName(Pools.THREAD_NAME_PREFIX + "-forkjoin-" + worker.getPoolIndex());
         return worker;
     };
+
+    // created on first use, so that callers which never need it do not start its threads
+    private static final class SharedForkJoinPool {
+        static final ForkJoinPool INSTANCE = createForkJoinPool(PoolSizesService.poolSizes().maxPoolSize());
+    }
 }
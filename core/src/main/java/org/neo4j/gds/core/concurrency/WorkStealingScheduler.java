@@ -0,0 +1,352 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.concurrency;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.partition.Partition;
+import org.neo4j.gds.mem.BitUtil;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountedCompleter;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Supplier;
+
+/**
+ * Runs a task over all node ids of a graph, using work-stealing instead of static partitions.
+ *
+ * Every fork-join task processes its node range from the front in small chunks.
+ * Between two chunks, it splits off the back half of its remaining range whenever
+ * the pool is running low on queued work, so that idle threads can steal it.
+ * A thread that ends up with expensive nodes therefore does not hold back the whole computation.
+ *
+ * Nodes are grouped into blocks of {@value #BLOCK_SIZE} ids and the scheduler keeps
+ * a prefix sum of the block weights, e.g. the node degrees.
+ * Split points and chunk sizes are chosen by weight, not by node count.
+ *
+ * At most {@code concurrency} ranges are in flight at any time, independent of the
+ * parallelism of the pool, so runs with different concurrencies can share one pool.
+ *
+ * Tasks are called with a worker state, created by the given supplier.
+ * A worker is never used by two threads at the same time and at most
+ * {@code concurrency} workers are created.
+ */
+public final class WorkStealingScheduler {
+
+    static final int BLOCK_SHIFT = 6;
+    static final int BLOCK_SIZE = 1 << BLOCK_SHIFT;
+
+    // ranges are only split while the current thread has less than this many tasks queued
+    private static final int SURPLUS_THRESHOLD = 3;
+    // granularity of the chunks that are processed between two split decisions
+    private static final int CHUNKS_PER_THREAD = 64;
+
+    private final long nodeCount;
+    private final long blockCount;
+    private final @Nullable HugeLongArray weightOffsets;
+
+    public static WorkStealingScheduler uniform(long nodeCount) {
+        return new WorkStealingScheduler(nodeCount, null);
+    }
+
+    /**
+     * Weighs every node by its degree plus one, so that nodes without relationships still count.
+     */
+    public static WorkStealingScheduler degreeWeighted(Graph graph) {
+        return degreeWeighted(graph, 1);
+    }
+
+    public static WorkStealingScheduler degreeWeighted(Graph graph, int concurrency) {
+        return weighted(graph.nodeCount(), nodeId -> graph.degree(nodeId) + 1L, concurrency);
+    }
+
+    public static WorkStealingScheduler weighted(long nodeCount, LongUnaryOperator nodeWeight) {
+        return weighted(nodeCount, nodeWeight, 1);
+    }
+
+    /**
+     * Sums up the node weights of every block with the given concurrency, the node weight function must be thread-safe.
+     * Only the prefix sum over the block weights is computed sequentially.
+     */
+    public static WorkStealingScheduler weighted(long nodeCount, LongUnaryOperator nodeWeight, int concurrency) {
+        long blockCount = BitUtil.ceilDiv(nodeCount, BLOCK_SIZE);
+        var weightOffsets = HugeLongArray.newArray(blockCount + 1);
+
+        LongConsumer sumBlock = block -> {
+            long endNode = Math.min(nodeCount, (block + 1) << BLOCK_SHIFT);
+            long weight = 0L;
+            for (long nodeId = block << BLOCK_SHIFT; nodeId < endNode; nodeId++) {
+                weight += nodeWeight.applyAsLong(nodeId);
+            }
+            weightOffsets.set(block, weight);
+        };
+        // every block is a single "node" of the uniform scheduler
+        uniform(blockCount).run(concurrency, partition -> partition.consume(sumBlock));
+
+        long offset = 0L;
+        for (long block = 0L; block < blockCount; block++) {
+            long weight = weightOffsets.get(block);
+            weightOffsets.set(block, offset);
+            offset += weight;
+        }
+        weightOffsets.set(blockCount, offset);
+
+        return new WorkStealingScheduler(nodeCount, weightOffsets);
+    }
+
+    private WorkStealingScheduler(long nodeCount, @Nullable HugeLongArray weightOffsets) {
+        this.nodeCount = nodeCount;
+        this.blockCount = BitUtil.ceilDiv(nodeCount, BLOCK_SIZE);
+        this.weightOffsets = weightOffsets;
+    }
+
+    public long totalWeight() {
+        return weightOffset(blockCount);
+    }
+
+    public void run(int concurrency, Consumer<Partition> task) {
+        run(concurrency, () -> task, Consumer::accept);
+    }
+
+    public void run(ExecutorService executor, int concurrency, Consumer<Partition> task) {
+        run(executor, concurrency, () -> task, Consumer::accept);
+    }
+
+    /**
+     * Runs the task on the shared fork-join pool, using at most the given concurrency.
+     * For a concurrency of 1, the task is run on the calling thread.
+     */
+    public <W> void run(int concurrency, Supplier<W> workerSupplier, BiConsumer<W, Partition> task) {
+        if (concurrency <= 1) {
+            runSequential(workerSupplier, task);
+            return;
+        }
+
+        run(Pools.forkJoinPool(), concurrency, workerSupplier, task);
+    }
+
+    /**
+     * Runs the task on the given executor if it is a fork-join pool,
+     * otherwise like {@link #run(int, Supplier, BiConsumer)}.
+     */
+    public <W> void run(
+        ExecutorService executor,
+        int concurrency,
+        Supplier<W> workerSupplier,
+        BiConsumer<W, Partition> task
+    ) {
+        if (executor instanceof ForkJoinPool) {
+            run((ForkJoinPool) executor, concurrency, workerSupplier, task);
+        } else {
+            run(concurrency, workerSupplier, task);
+        }
+    }
+
+    public <W> void run(ForkJoinPool pool, Supplier<W> workerSupplier, BiConsumer<W, Partition> task) {
+        run(pool, pool.getParallelism(), workerSupplier, task);
+    }
+
+    /**
+     * Runs the task on the given fork-join pool, using at most the given concurrency.
+     */
+    public <W> void run(
+        ForkJoinPool pool,
+        int concurrency,
+        Supplier<W> workerSupplier,
+        BiConsumer<W, Partition> task
+    ) {
+        if (nodeCount == 0) {
+            return;
+        }
+
+        int lanes = Math.max(1, concurrency);
+        long grain = grain((long) lanes * CHUNKS_PER_THREAD);
+        var workers = new Workers<>(workerSupplier, lanes);
+        pool.invoke(new RangeTask<>(null, workers, task, grain, 0L, blockCount));
+    }
+
+    private <W> void runSequential(Supplier<W> workerSupplier, BiConsumer<W, Partition> task) {
+        if (nodeCount == 0) {
+            return;
+        }
+
+        long grain = grain(CHUNKS_PER_THREAD);
+        var worker = workerSupplier.get();
+        for (long fromBlock = 0L; fromBlock < blockCount; ) {
+            long toBlock = chunkEnd(fromBlock, blockCount, grain);
+            task.accept(worker, partition(fromBlock, toBlock));
+            fromBlock = toBlock;
+        }
+    }
+
+    private long grain(long chunkCount) {
+        return Math.max(1L, BitUtil.ceilDiv(totalWeight(), chunkCount));
+    }
+
+    private long weightOffset(long block) {
+        return weightOffsets == null
+            ? Math.min(nodeCount, block << BLOCK_SHIFT)
+            : weightOffsets.get(block);
+    }
+
+    private Partition partition(long fromBlock, long toBlock) {
+        long startNode = fromBlock << BLOCK_SHIFT;
+        long endNode = Math.min(nodeCount, toBlock << BLOCK_SHIFT);
+        return Partition.of(startNode, endNode - startNode);
+    }
+
+    /**
+     * @return the block that splits the range into two halves of roughly the same weight
+     */
+    long splitBlock(long fromBlock, long toBlock) {
+        long fromOffset = weightOffset(fromBlock);
+        long halfWeight = (weightOffset(toBlock) - fromOffset) / 2;
+        return searchBlock(fromBlock + 1, toBlock - 1, fromOffset + halfWeight);
+    }
+
+    /**
+     * @return the end of the smallest chunk starting at fromBlock that carries at least grain weight
+     */
+    long chunkEnd(long fromBlock, long toBlock, long grain) {
+        return searchBlock(fromBlock + 1, toBlock, weightOffset(fromBlock) + grain);
+    }
+
+    // smallest block in [low, high] with an offset of at least targetOffset, or high if there is none
+    private long searchBlock(long low, long high, long targetOffset) {
+        while (low < high) {
+            long mid = (low + high) >>> 1;
+            if (weightOffset(mid) >= targetOffset) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    private static final class Workers<W> {
+        private final Supplier<W> supplier;
+        private final ConcurrentLinkedQueue<W> idle;
+        private final int maxLanes;
+        // ranges that are queued or running, the root range holds the first lane
+        private final AtomicInteger lanes;
+
+        Workers(Supplier<W> supplier, int maxLanes) {
+            this.supplier = supplier;
+            this.idle = new ConcurrentLinkedQueue<>();
+            this.maxLanes = maxLanes;
+            this.lanes = new AtomicInteger(1);
+        }
+
+        boolean tryAddLane() {
+            int current;
+            do {
+                current = lanes.get();
+                if (current >= maxLanes) {
+                    return false;
+                }
+            } while (!lanes.compareAndSet(current, current + 1));
+            return true;
+        }
+
+        void releaseLane() {
+            lanes.decrementAndGet();
+        }
+
+        W acquire() {
+            var worker = idle.poll();
+            return worker != null ? worker : supplier.get();
+        }
+
+        void release(W worker) {
+            idle.offer(worker);
+        }
+    }
+
+    private final class RangeTask<W> extends CountedCompleter<Void> {
+
+        private final Workers<W> workers;
+        private final BiConsumer<W, Partition> task;
+        private final long grain;
+        private final long fromBlock;
+        private final long toBlock;
+
+        RangeTask(
+            @Nullable CountedCompleter<?> parent,
+            Workers<W> workers,
+            BiConsumer<W, Partition> task,
+            long grain,
+            long fromBlock,
+            long toBlock
+        ) {
+            super(parent);
+            this.workers = workers;
+            this.task = task;
+            this.grain = grain;
+            this.fromBlock = fromBlock;
+            this.toBlock = toBlock;
+        }
+
+        @Override
+        public void compute() {
+            long from = fromBlock;
+            long to = toBlock;
+
+            while (from < to) {
+                if (shouldSplit(from, to)) {
+                    long mid = splitBlock(from, to);
+                    addToPendingCount(1);
+                    new RangeTask<>(this, workers, task, grain, mid, to).fork();
+                    to = mid;
+                } else {
+                    long chunkEnd = chunkEnd(from, to, grain);
+                    process(from, chunkEnd);
+                    from = chunkEnd;
+                }
+            }
+
+            workers.releaseLane();
+            tryComplete();
+        }
+
+        private boolean shouldSplit(long from, long to) {
+            return to - from > 1
+                   && weightOffset(to) - weightOffset(from) >= 2 * grain
+                   && getSurplusQueuedTaskCount() < SURPLUS_THRESHOLD
+                   && workers.tryAddLane();
+        }
+
+        private void process(long from, long to) {
+            var worker = workers.acquire();
+            try {
+                task.accept(worker, partition(from, to));
+            } finally {
+                workers.release(worker);
+            }
+        }
+    }
+}
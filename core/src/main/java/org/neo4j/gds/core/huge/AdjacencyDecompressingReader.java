@@ -22,6 +22,7 @@ package org.neo4j.gds.core.huge;
 import org.neo4j.gds.api.AdjacencyCursor;
 import org.neo4j.gds.core.loading.MutableIntValue;
 
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 
 import static org.neo4j.gds.core.huge.VarLongDecoding.decodeDeltaVLongs;
@@ -33,6 +34,7 @@ final class AdjacencyDecompressingReader {
     private final long[] block;
     private int pos;
     private byte[] array;
+    private ByteBuffer buffer;
     private int offset;
 
     AdjacencyDecompressingReader() {
@@ -56,11 +58,24 @@ final class AdjacencyDecompressingReader {
         System.arraycopy(other.block, 0, block, 0, CHUNK_SIZE);
         pos = other.pos;
         array = other.array;
+        buffer = other.buffer;
         offset = other.offset;
     }
 
     int reset(byte[] adjacencyPage, int offset, int degree) {
         this.array = adjacencyPage;
+        this.buffer = null;
+        this.offset = decodeDeltaVLongs(0L, adjacencyPage, offset, Math.min(degree, CHUNK_SIZE), block);
+        pos = 0;
+        return degree;
+    }
+
+    /**
+     * Same as {@link #reset(byte[], int, int)}, but for pages that are stored outside of the heap.
+     */
+    int reset(ByteBuffer adjacencyPage, int offset, int degree) {
+        this.array = null;
+        this.buffer = adjacencyPage;
         this.offset = decodeDeltaVLongs(0L, adjacencyPage, offset, Math.min(degree, CHUNK_SIZE), block);
         pos = 0;
         return degree;
@@ -90,10 +105,16 @@ final class AdjacencyDecompressingReader {
     }
 
     private long readNextBlock(int remaining) {
-        offset = decodeDeltaVLongs(block[CHUNK_SIZE - 1], array, offset, Math.min(remaining, CHUNK_SIZE), block);
+        offset = decodeBlock(block[CHUNK_SIZE - 1], offset, Math.min(remaining, CHUNK_SIZE), block);
         return block[0];
     }
 
+    private int decodeBlock(long startValue, int offset, int limit, long[] out) {
+        return array != null
+            ? decodeDeltaVLongs(startValue, array, offset, limit, out)
+            : decodeDeltaVLongs(startValue, buffer, offset, limit, out);
+    }
+
     long skipUntil(long target, int remaining, MutableIntValue consumed) {
         int pos = this.pos;
         long[] block = this.block;
@@ -104,7 +125,7 @@ final class AdjacencyDecompressingReader {
             int skippedInThisBlock = CHUNK_SIZE - pos;
             available -= skippedInThisBlock;
             int needToDecode = Math.min(CHUNK_SIZE, available);
-            offset = decodeDeltaVLongs(block[CHUNK_SIZE - 1], array, offset, needToDecode, block);
+            offset = decodeBlock(block[CHUNK_SIZE - 1], offset, needToDecode, block);
             pos = 0;
         }
 
@@ -131,7 +152,7 @@ final class AdjacencyDecompressingReader {
             int skippedInThisBlock = CHUNK_SIZE - pos;
             available -= skippedInThisBlock;
             int needToDecode = Math.min(CHUNK_SIZE, available);
-            offset = decodeDeltaVLongs(block[CHUNK_SIZE - 1], array, offset, needToDecode, block);
+            offset = decodeBlock(block[CHUNK_SIZE - 1], offset, needToDecode, block);
             pos = 0;
         }
 
@@ -159,7 +180,7 @@ final class AdjacencyDecompressingReader {
             // we need to decode the full block of the adjacency list, even if we would only
             // skip it partially. We would get wrong data after the skip position otherwise.
             int needToDecode = Math.min(CHUNK_SIZE, skip + availableBeyondSkip);
-            offset = decodeDeltaVLongs(block[CHUNK_SIZE - 1], array, offset, needToDecode, block);
+            offset = decodeBlock(block[CHUNK_SIZE - 1], offset, needToDecode, block);
             pos = 0;
         }
 
@@ -26,6 +26,7 @@ import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.api.AdjacencyCursor;
 import org.neo4j.gds.api.AdjacencyList;
 import org.neo4j.gds.collections.PageUtil;
+import org.neo4j.gds.core.compress.AdjacencyPageStore;
 import org.neo4j.gds.core.loading.BumpAllocator;
 import org.neo4j.gds.core.loading.MutableIntValue;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
@@ -35,6 +36,8 @@ import org.neo4j.gds.core.utils.paged.HugeIntArray;
 import org.neo4j.gds.core.utils.paged.HugeLongArray;
 import org.neo4j.gds.mem.MemoryUsage;
 
+import java.nio.ByteBuffer;
+
 import static org.neo4j.gds.RelationshipType.ALL_RELATIONSHIPS;
 import static org.neo4j.gds.collections.PageUtil.indexInPage;
 import static org.neo4j.gds.collections.PageUtil.pageIndex;
@@ -43,7 +46,18 @@ import static org.neo4j.gds.mem.BitUtil.ceilDiv;
 
 public final class CompressedAdjacencyList implements AdjacencyList {
 
+    // Shallow size of a direct or mapped ByteBuffer instance, including its cleaner.
+    private static final long SIZE_OF_BYTE_BUFFER = 96;
+
     public static MemoryEstimation adjacencyListEstimation(RelationshipType relationshipType, boolean undirected) {
+        return adjacencyListEstimation(relationshipType, undirected, AdjacencyPageStore.HEAP);
+    }
+
+    public static MemoryEstimation adjacencyListEstimation(
+        RelationshipType relationshipType,
+        boolean undirected,
+        AdjacencyPageStore pageStore
+    ) {
         return MemoryEstimations.setup("", dimensions -> {
             long nodeCount = dimensions.nodeCount();
             long relCountForType = dimensions
@@ -51,11 +65,19 @@ public final class CompressedAdjacencyList implements AdjacencyList {
                 .getOrDefault(relationshipType, dimensions.relCountUpperBound());
             long relCount = undirected ? relCountForType * 2 : relCountForType;
             long avgDegree = (nodeCount > 0) ? ceilDiv(relCount, nodeCount) : 0L;
-            return CompressedAdjacencyList.adjacencyListEstimation(avgDegree, nodeCount);
+            return CompressedAdjacencyList.adjacencyListEstimation(avgDegree, nodeCount, pageStore);
         });
     }
 
     public static MemoryEstimation adjacencyListEstimation(long avgDegree, long nodeCount) {
+        return adjacencyListEstimation(avgDegree, nodeCount, AdjacencyPageStore.HEAP);
+    }
+
+    public static MemoryEstimation adjacencyListEstimation(
+        long avgDegree,
+        long nodeCount,
+        AdjacencyPageStore pageStore
+    ) {
         // Best case scenario:
         // Difference between node identifiers in each adjacency list is 1.
         // This leads to ideal compression through delta encoding.
@@ -72,15 +94,32 @@ public final class CompressedAdjacencyList implements AdjacencyList {
         int minPages = PageUtil.numPagesFor(bestCaseAdjacencySize, BumpAllocator.PAGE_SHIFT, BumpAllocator.PAGE_MASK);
         int maxPages = PageUtil.numPagesFor(worstCaseAdjacencySize, BumpAllocator.PAGE_SHIFT, BumpAllocator.PAGE_MASK);
 
-        long bytesPerPage = MemoryUsage.sizeOfByteArray(BumpAllocator.PAGE_SIZE);
-        long minMemoryReqs = minPages * bytesPerPage + MemoryUsage.sizeOfObjectArray(minPages);
-        long maxMemoryReqs = maxPages * bytesPerPage + MemoryUsage.sizeOfObjectArray(maxPages);
-
-        MemoryRange pagesMemoryRange = MemoryRange.of(minMemoryReqs, maxMemoryReqs);
+        var builder = MemoryEstimations.builder(
+            pageStore.isOffHeap() ? OffHeapCompressedAdjacencyList.class : CompressedAdjacencyList.class
+        );
+
+        if (pageStore.isOffHeap()) {
+            // The page references are kept on heap, the page contents are not.
+            // Pages are trimmed to their used size before they are moved off-heap.
+            long minPageReferences = minPages * SIZE_OF_BYTE_BUFFER + MemoryUsage.sizeOfObjectArray(minPages);
+            long maxPageReferences = maxPages * SIZE_OF_BYTE_BUFFER + MemoryUsage.sizeOfObjectArray(maxPages);
+            builder
+                .fixed("pages", MemoryRange.of(minPageReferences, maxPageReferences))
+                // every allocator fills one page on heap before it is moved off-heap
+                .perThread("staging pages", MemoryUsage.sizeOfByteArray(BumpAllocator.PAGE_SIZE))
+                .fixedOffHeap(
+                    pageStore == AdjacencyPageStore.MEMORY_MAPPED ? "memory-mapped pages" : "off-heap pages",
+                    MemoryRange.of(bestCaseAdjacencySize, worstCaseAdjacencySize)
+                );
+        } else {
+            long bytesPerPage = MemoryUsage.sizeOfByteArray(BumpAllocator.PAGE_SIZE);
+            long minMemoryReqs = minPages * bytesPerPage + MemoryUsage.sizeOfObjectArray(minPages);
+            long maxMemoryReqs = maxPages * bytesPerPage + MemoryUsage.sizeOfObjectArray(maxPages);
+
+            builder.fixed("pages", MemoryRange.of(minMemoryReqs, maxMemoryReqs));
+        }
 
-        return MemoryEstimations
-            .builder(CompressedAdjacencyList.class)
-            .fixed("pages", pagesMemoryRange)
+        return builder
             .perNode("degrees", HugeIntArray::memoryEstimation)
             .perNode("offsets", HugeLongArray::memoryEstimation)
             .build();
@@ -129,7 +168,7 @@ public final class CompressedAdjacencyList implements AdjacencyList {
         if (degree == 0) {
             return AdjacencyCursor.empty();
         }
-        var cursor = new DecompressingCursor(pages);
+        var cursor = new DecompressingCursor(pages, null);
         var offset = offsets.get(node);
         cursor.init(offset, degree);
         return cursor;
@@ -150,29 +189,34 @@ public final class CompressedAdjacencyList implements AdjacencyList {
 
     @Override
     public AdjacencyCursor rawAdjacencyCursor() {
-        return new DecompressingCursor(pages);
+        return new DecompressingCursor(pages, null);
     }
 
     public static final class DecompressingCursor extends MutableIntValue implements AdjacencyCursor {
 
         private byte[][] pages;
+        private ByteBuffer[] offHeapPages;
         private final AdjacencyDecompressingReader decompress;
 
         private int maxTargets;
         private int currentPosition;
 
-        private DecompressingCursor(byte[][] pages) {
+        /**
+         * Exactly one of {@code pages} and {@code offHeapPages} is expected to be non-null.
+         */
+        DecompressingCursor(@Nullable byte[][] pages, @Nullable ByteBuffer[] offHeapPages) {
             this.pages = pages;
+            this.offHeapPages = offHeapPages;
             this.decompress = new AdjacencyDecompressingReader();
         }
 
         @Override
         public void init(long fromIndex, int degree) {
-            maxTargets = decompress.reset(
-                pages[pageIndex(fromIndex, BumpAllocator.PAGE_SHIFT)],
-                indexInPage(fromIndex, BumpAllocator.PAGE_MASK),
-                degree
-            );
+            int pageIndex = pageIndex(fromIndex, BumpAllocator.PAGE_SHIFT);
+            int indexInPage = indexInPage(fromIndex, BumpAllocator.PAGE_MASK);
+            maxTargets = pages != null
+                ? decompress.reset(pages[pageIndex], indexInPage, degree)
+                : decompress.reset(offHeapPages[pageIndex], indexInPage, degree);
             currentPosition = 0;
         }
 
@@ -180,7 +224,7 @@ public final class CompressedAdjacencyList implements AdjacencyList {
         public @NotNull AdjacencyCursor shallowCopy(@Nullable AdjacencyCursor destination) {
             var dest = destination instanceof DecompressingCursor
                 ? (DecompressingCursor) destination
-                : new DecompressingCursor(pages);
+                : new DecompressingCursor(pages, offHeapPages);
             dest.decompress.copyFrom(this.decompress);
             dest.currentPosition = this.currentPosition;
             dest.maxTargets = this.maxTargets;
@@ -258,6 +302,7 @@ public final class CompressedAdjacencyList implements AdjacencyList {
         @Override
         public void close() {
             pages = null;
+            offHeapPages = null;
         }
     }
 }
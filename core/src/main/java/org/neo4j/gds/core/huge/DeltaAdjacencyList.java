@@ -0,0 +1,581 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.huge;
+
+import com.carrotsearch.hppc.LongHashSet;
+import com.carrotsearch.hppc.LongIntHashMap;
+import com.carrotsearch.hppc.LongObjectHashMap;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.api.AdjacencyCursor;
+import org.neo4j.gds.api.AdjacencyList;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * An adjacency list that overlays inserted and removed targets on top of a frozen base adjacency list.
+ *
+ * Changes are buffered per source node as two sorted arrays, one for inserted targets and one for
+ * base targets that have been removed. Cursors merge both arrays with the base cursor, so targets
+ * are still returned in ascending order.
+ *
+ * Instances are immutable. Changes are applied through a {@link Builder}, which produces a new overlay
+ * and leaves graphs that were created from the previous overlay untouched.
+ * The node deltas are stored in pages, which the builder copies only when it changes one of their nodes.
+ * Once the overlay grows large, it should be merged into a new base adjacency list.
+ */
+public final class DeltaAdjacencyList implements AdjacencyList {
+
+    private static final long[] EMPTY = new long[0];
+
+    private static final int PAGE_SHIFT = 12;
+    private static final int PAGE_SIZE = 1 << PAGE_SHIFT;
+    private static final long PAGE_MASK = PAGE_SIZE - 1;
+
+    private final AdjacencyList base;
+    private final NodeDelta[][] pages;
+    private final int changedNodeCount;
+    private final long insertedCount;
+    private final long removedCount;
+
+    public static DeltaAdjacencyList of(AdjacencyList adjacencyList) {
+        if (adjacencyList instanceof DeltaAdjacencyList) {
+            return (DeltaAdjacencyList) adjacencyList;
+        }
+        return new DeltaAdjacencyList(adjacencyList, new NodeDelta[0][], 0, 0, 0);
+    }
+
+    private DeltaAdjacencyList(
+        AdjacencyList base,
+        NodeDelta[][] pages,
+        int changedNodeCount,
+        long insertedCount,
+        long removedCount
+    ) {
+        this.base = base;
+        this.pages = pages;
+        this.changedNodeCount = changedNodeCount;
+        this.insertedCount = insertedCount;
+        this.removedCount = removedCount;
+    }
+
+    public AdjacencyList base() {
+        return base;
+    }
+
+    /**
+     * Returns the number of source nodes that have buffered changes.
+     */
+    public int changedNodeCount() {
+        return changedNodeCount;
+    }
+
+    public long insertedCount() {
+        return insertedCount;
+    }
+
+    public long removedCount() {
+        return removedCount;
+    }
+
+    public Builder builder() {
+        return new Builder(this);
+    }
+
+    @Override
+    public int degree(long node) {
+        var delta = delta(pages, node);
+        return delta == null ? base.degree(node) : delta.degree;
+    }
+
+    @Override
+    public AdjacencyCursor adjacencyCursor(long node, double fallbackValue) {
+        return adjacencyCursor(null, node, fallbackValue);
+    }
+
+    @Override
+    public AdjacencyCursor adjacencyCursor(@Nullable AdjacencyCursor reuse, long node, double fallbackValue) {
+        DeltaCursor cursor;
+        if (reuse instanceof DeltaCursor && ((DeltaCursor) reuse).adjacencyList == this) {
+            cursor = (DeltaCursor) reuse;
+        } else {
+            cursor = new DeltaCursor(this, null);
+        }
+        cursor.reset(node, fallbackValue);
+        return cursor;
+    }
+
+    @Override
+    public AdjacencyCursor rawAdjacencyCursor() {
+        return new DeltaCursor(this, base.rawAdjacencyCursor());
+    }
+
+    @Override
+    public void close() {
+        base.close();
+    }
+
+    private static @Nullable NodeDelta delta(NodeDelta[][] pages, long node) {
+        int pageIndex = (int) (node >>> PAGE_SHIFT);
+        if (pageIndex >= pages.length || pages[pageIndex] == null) {
+            return null;
+        }
+        return pages[pageIndex][(int) (node & PAGE_MASK)];
+    }
+
+    private static final class NodeDelta {
+        private final long[] inserted;
+        private final long[] removed;
+        private final int degree;
+
+        private NodeDelta(long[] inserted, long[] removed, int degree) {
+            this.inserted = inserted;
+            this.removed = removed;
+            this.degree = degree;
+        }
+    }
+
+    /**
+     * Collects changes on top of an existing overlay. The overlay the builder was created from is not modified.
+     * Node ids are internal ids. The builder is not thread-safe.
+     *
+     * Changes are buffered per node in hash based buffers and are sorted into the arrays of the
+     * new overlay once per {@link #build()}, so that each change takes amortized constant time.
+     */
+    public static final class Builder {
+
+        private final AdjacencyList base;
+        private final LongObjectHashMap<PendingDelta> pending;
+        // pages that have been copied by this builder and can be written to
+        private final BitSet copiedPages;
+        private NodeDelta[][] pages;
+        private boolean copiedPageArray;
+        private int changedNodeCount;
+        private long insertedCount;
+        private long removedCount;
+
+        private Builder(DeltaAdjacencyList source) {
+            this.base = source.base;
+            this.pending = new LongObjectHashMap<>();
+            this.copiedPages = new BitSet();
+            this.pages = source.pages;
+            this.changedNodeCount = source.changedNodeCount;
+            this.insertedCount = source.insertedCount;
+            this.removedCount = source.removedCount;
+        }
+
+        /**
+         * Adds the target to the adjacency of the source node.
+         * If {@code allowParallel} is false and the relationship already exists, nothing is added.
+         *
+         * @return true iff the relationship was added
+         */
+        public boolean insert(long source, long target, boolean allowParallel) {
+            var delta = pending(source);
+            if (!allowParallel && contains(source, delta, target)) {
+                return false;
+            }
+            delta.inserted.addTo(target, 1);
+            delta.degree++;
+            delta.changed = true;
+            insertedCount++;
+            return true;
+        }
+
+        /**
+         * Removes all relationships from the source to the target node.
+         *
+         * @return the number of removed relationships
+         */
+        public int remove(long source, long target) {
+            var delta = pending(source);
+
+            int insertedMatches = delta.inserted.remove(target);
+            if (!delta.droppedInserted.contains(target)) {
+                int previousMatches = count(delta.previous.inserted, target);
+                if (previousMatches > 0) {
+                    delta.droppedInserted.add(target);
+                    insertedMatches += previousMatches;
+                }
+            }
+
+            int baseMatches = 0;
+            if (!delta.removed.contains(target) && Arrays.binarySearch(delta.previous.removed, target) < 0) {
+                baseMatches = countInBase(source, target);
+                if (baseMatches > 0) {
+                    delta.removed.add(target);
+                }
+            }
+
+            int removedRelationships = insertedMatches + baseMatches;
+            if (removedRelationships > 0) {
+                delta.degree -= removedRelationships;
+                delta.changed = true;
+                insertedCount -= insertedMatches;
+                removedCount += baseMatches;
+            }
+            return removedRelationships;
+        }
+
+        /**
+         * Returns a new overlay with all changes so far. The builder can be used for further changes,
+         * which do not affect the returned overlay.
+         */
+        public DeltaAdjacencyList build() {
+            for (var entry : pending) {
+                if (entry.value.changed) {
+                    put(entry.key, entry.value.build());
+                }
+            }
+            var result = new DeltaAdjacencyList(base, pages, changedNodeCount, insertedCount, removedCount);
+
+            pending.clear();
+            copiedPages.clear();
+            copiedPageArray = false;
+            return result;
+        }
+
+        private PendingDelta pending(long source) {
+            var delta = pending.get(source);
+            if (delta == null) {
+                var previous = delta(pages, source);
+                delta = new PendingDelta(previous == null ? new NodeDelta(EMPTY, EMPTY, base.degree(source)) : previous);
+                pending.put(source, delta);
+            }
+            return delta;
+        }
+
+        private void put(long node, NodeDelta delta) {
+            int pageIndex = (int) (node >>> PAGE_SHIFT);
+            if (!copiedPageArray || pageIndex >= pages.length) {
+                pages = Arrays.copyOf(pages, Math.max(pages.length, pageIndex + 1));
+                copiedPageArray = true;
+            }
+            var page = pages[pageIndex];
+            if (page == null) {
+                page = new NodeDelta[PAGE_SIZE];
+                pages[pageIndex] = page;
+                copiedPages.set(pageIndex);
+            } else if (!copiedPages.get(pageIndex)) {
+                page = page.clone();
+                pages[pageIndex] = page;
+                copiedPages.set(pageIndex);
+            }
+            int indexInPage = (int) (node & PAGE_MASK);
+            if (page[indexInPage] == null) {
+                changedNodeCount++;
+            }
+            page[indexInPage] = delta;
+        }
+
+        private boolean contains(long source, PendingDelta delta, long target) {
+            if (delta.inserted.containsKey(target)) {
+                return true;
+            }
+            if (!delta.droppedInserted.contains(target) && Arrays.binarySearch(delta.previous.inserted, target) >= 0) {
+                return true;
+            }
+            return !delta.removed.contains(target)
+                   && Arrays.binarySearch(delta.previous.removed, target) < 0
+                   && countInBase(source, target) > 0;
+        }
+
+        private int countInBase(long source, long target) {
+            if (base.degree(source) == 0) {
+                return 0;
+            }
+            var cursor = base.adjacencyCursor(source);
+            int count = 0;
+            long current = cursor.advance(target);
+            while (current == target) {
+                count++;
+                if (!cursor.hasNextVLong()) {
+                    break;
+                }
+                current = cursor.nextVLong();
+            }
+            cursor.close();
+            return count;
+        }
+
+        private static int count(long[] sorted, long target) {
+            int index = Arrays.binarySearch(sorted, target);
+            if (index < 0) {
+                return 0;
+            }
+            int from = index;
+            int to = index + 1;
+            while (from > 0 && sorted[from - 1] == target) {
+                from--;
+            }
+            while (to < sorted.length && sorted[to] == target) {
+                to++;
+            }
+            return to - from;
+        }
+    }
+
+    /**
+     * The changes of a node since the last {@link Builder#build()} on top of its previous delta.
+     */
+    private static final class PendingDelta {
+        private final NodeDelta previous;
+        // inserted target -> number of inserted relationships
+        private final LongIntHashMap inserted;
+        // targets whose relationships in the previous inserted targets have been removed
+        private final LongHashSet droppedInserted;
+        // base targets that have been removed
+        private final LongHashSet removed;
+        private int degree;
+        private boolean changed;
+
+        private PendingDelta(NodeDelta previous) {
+            this.previous = previous;
+            this.inserted = new LongIntHashMap();
+            this.droppedInserted = new LongHashSet();
+            this.removed = new LongHashSet();
+            this.degree = previous.degree;
+        }
+
+        NodeDelta build() {
+            var previousInserted = previous.inserted;
+            var previousRemoved = previous.removed;
+
+            int insertedLength = 0;
+            for (long target : previousInserted) {
+                if (!droppedInserted.contains(target)) {
+                    insertedLength++;
+                }
+            }
+            for (var entry : inserted) {
+                insertedLength += entry.value;
+            }
+            var newInserted = new long[insertedLength];
+            int i = 0;
+            for (long target : previousInserted) {
+                if (!droppedInserted.contains(target)) {
+                    newInserted[i++] = target;
+                }
+            }
+            for (var entry : inserted) {
+                for (int j = 0; j < entry.value; j++) {
+                    newInserted[i++] = entry.key;
+                }
+            }
+            Arrays.sort(newInserted);
+
+            var newRemoved = previousRemoved;
+            if (!removed.isEmpty()) {
+                newRemoved = Arrays.copyOf(previousRemoved, previousRemoved.length + removed.size());
+                i = previousRemoved.length;
+                for (var entry : removed) {
+                    newRemoved[i++] = entry.value;
+                }
+                Arrays.sort(newRemoved);
+            }
+
+            return new NodeDelta(newInserted, newRemoved, degree);
+        }
+    }
+
+    /**
+     * Merges the base cursor with the inserted targets of a node, skipping removed targets.
+     * For nodes without changes, all calls are delegated to the base cursor.
+     *
+     * {@link #init(long, int)} expects the node id as index; the degree is ignored.
+     */
+    static final class DeltaCursor implements AdjacencyCursor {
+
+        private final DeltaAdjacencyList adjacencyList;
+        private AdjacencyCursor baseCursor;
+        private long[] inserted;
+        private long[] removed;
+        private int insertedIndex;
+        private int removedIndex;
+        private boolean unchanged;
+        private int size;
+        private int remaining;
+
+        private DeltaCursor(DeltaAdjacencyList adjacencyList, @Nullable AdjacencyCursor baseCursor) {
+            this.adjacencyList = adjacencyList;
+            this.baseCursor = baseCursor == null ? AdjacencyCursor.empty() : baseCursor;
+            this.inserted = EMPTY;
+            this.removed = EMPTY;
+            this.unchanged = true;
+        }
+
+        void reset(long node, double fallbackValue) {
+            var base = adjacencyList.base;
+            baseCursor = base.degree(node) == 0
+                ? AdjacencyCursor.empty()
+                : base.adjacencyCursor(baseCursor == AdjacencyCursor.empty() ? null : baseCursor, node, fallbackValue);
+
+            var delta = delta(adjacencyList.pages, node);
+            if (delta == null) {
+                unchanged = true;
+                inserted = EMPTY;
+                removed = EMPTY;
+                size = baseCursor.size();
+            } else {
+                unchanged = false;
+                inserted = delta.inserted;
+                removed = delta.removed;
+                size = delta.degree;
+            }
+            insertedIndex = 0;
+            removedIndex = 0;
+            remaining = size;
+        }
+
+        @Override
+        public void init(long index, int degree) {
+            reset(index, Double.NaN);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean hasNextVLong() {
+            return unchanged ? baseCursor.hasNextVLong() : remaining > 0;
+        }
+
+        @Override
+        public long nextVLong() {
+            if (unchanged) {
+                return baseCursor.nextVLong();
+            }
+            long nextBase = peekBase();
+            remaining--;
+            if (insertedIndex < inserted.length && inserted[insertedIndex] <= nextBase) {
+                return inserted[insertedIndex++];
+            }
+            return baseCursor.nextVLong();
+        }
+
+        @Override
+        public long peekVLong() {
+            if (unchanged) {
+                return baseCursor.peekVLong();
+            }
+            long nextBase = peekBase();
+            if (insertedIndex < inserted.length && inserted[insertedIndex] <= nextBase) {
+                return inserted[insertedIndex];
+            }
+            return nextBase;
+        }
+
+        @Override
+        public int remaining() {
+            return unchanged ? baseCursor.remaining() : remaining;
+        }
+
+        @Override
+        public long skipUntil(long nodeId) {
+            if (unchanged) {
+                return baseCursor.skipUntil(nodeId);
+            }
+            if (remaining == 0) {
+                return NOT_FOUND;
+            }
+            long next;
+            do {
+                next = nextVLong();
+            } while (next <= nodeId && remaining > 0);
+            return next;
+        }
+
+        @Override
+        public long advance(long nodeId) {
+            if (unchanged) {
+                return baseCursor.advance(nodeId);
+            }
+            if (remaining == 0) {
+                return NOT_FOUND;
+            }
+            long next;
+            do {
+                next = nextVLong();
+            } while (next < nodeId && remaining > 0);
+            return next;
+        }
+
+        @Override
+        public long advanceBy(int n) {
+            if (unchanged) {
+                return baseCursor.advanceBy(n);
+            }
+            if (remaining <= n) {
+                while (remaining > 0) {
+                    nextVLong();
+                }
+                return NOT_FOUND;
+            }
+            for (int i = 0; i < n; i++) {
+                nextVLong();
+            }
+            return nextVLong();
+        }
+
+        @Override
+        public @NotNull AdjacencyCursor shallowCopy(@Nullable AdjacencyCursor destination) {
+            var copy = destination instanceof DeltaCursor && ((DeltaCursor) destination).adjacencyList == adjacencyList
+                ? (DeltaCursor) destination
+                : new DeltaCursor(adjacencyList, null);
+            copy.baseCursor = baseCursor == AdjacencyCursor.empty() || copy.baseCursor == AdjacencyCursor.empty()
+                ? baseCursor.shallowCopy(null)
+                : baseCursor.shallowCopy(copy.baseCursor);
+            copy.inserted = inserted;
+            copy.removed = removed;
+            copy.insertedIndex = insertedIndex;
+            copy.removedIndex = removedIndex;
+            copy.unchanged = unchanged;
+            copy.size = size;
+            copy.remaining = remaining;
+            return copy;
+        }
+
+        @Override
+        public void close() {
+            baseCursor.close();
+        }
+
+        /**
+         * Returns the next base target that has not been removed, or {@link Long#MAX_VALUE} if there is none.
+         */
+        private long peekBase() {
+            while (baseCursor.hasNextVLong()) {
+                long next = baseCursor.peekVLong();
+                while (removedIndex < removed.length && removed[removedIndex] < next) {
+                    removedIndex++;
+                }
+                if (removedIndex < removed.length && removed[removedIndex] == next) {
+                    baseCursor.nextVLong();
+                    continue;
+                }
+                return next;
+            }
+            return Long.MAX_VALUE;
+        }
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.huge;
+
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.AdjacencyProperties;
+import org.neo4j.gds.api.PropertyCursor;
+import org.neo4j.gds.core.loading.BumpAllocator;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+
+import static org.neo4j.gds.collections.PageUtil.indexInPage;
+import static org.neo4j.gds.collections.PageUtil.pageIndex;
+
+/**
+ * Relationship properties that are stored as {@code float}s, two values per {@code long}.
+ * The value at position {@code i} of a list is kept in the lower half of the long at {@code i / 2}
+ * if {@code i} is even and in the upper half otherwise.
+ * Values are widened to {@code double} when they are read.
+ */
+public final class Float32AdjacencyProperties implements AdjacencyProperties {
+
+    public static MemoryEstimation adjacencyPropertiesEstimation(
+        RelationshipType relationshipType,
+        boolean undirected
+    ) {
+        return MemoryEstimations
+            .builder(Float32AdjacencyProperties.class)
+            .perGraphDimension("pages", (dimensions, concurrency) ->
+                UncompressedAdjacencyList.listSize(
+                    UncompressedAdjacencyList.averageDegree(dimensions, relationshipType, undirected),
+                    dimensions.nodeCount(),
+                    Float.BYTES
+                )
+            )
+            // degrees are shared with the adjacency list
+            .perNode("offsets", HugeLongArray::memoryEstimation)
+            .build();
+    }
+
+    /**
+     * Packs the first {@code length} values, given as {@code double} bits, into {@code out}.
+     *
+     * @return the number of longs written
+     */
+    public static int pack(long[] doubleBits, int length, long[] out) {
+        int packedLength = packedLength(length);
+        for (int i = 0; i < packedLength; i++) {
+            out[i] = 0L;
+        }
+        for (int i = 0; i < length; i++) {
+            long floatBits = Float.floatToRawIntBits((float) Double.longBitsToDouble(doubleBits[i])) & 0xFFFF_FFFFL;
+            out[i >>> 1] |= floatBits << ((i & 1) << 5);
+        }
+        return packedLength;
+    }
+
+    public static int packedLength(int length) {
+        return (length + 1) >>> 1;
+    }
+
+    private long[][] pages;
+    private HugeIntArray degrees;
+    private HugeLongArray offsets;
+
+    public Float32AdjacencyProperties(long[][] pages, HugeIntArray degrees, HugeLongArray offsets) {
+        this.pages = pages;
+        this.degrees = degrees;
+        this.offsets = offsets;
+    }
+
+    @Override
+    public PropertyCursor propertyCursor(long node, double fallbackValue) {
+        var degree = degrees.get(node);
+        if (degree == 0) {
+            return PropertyCursor.empty();
+        }
+        var cursor = new Cursor(pages);
+        cursor.init(offsets.get(node), degree);
+        return cursor;
+    }
+
+    @Override
+    public PropertyCursor propertyCursor(PropertyCursor reuse, long node, double fallbackValue) {
+        var degree = degrees.get(node);
+        if (degree == 0) {
+            return PropertyCursor.empty();
+        }
+        if (reuse instanceof Cursor) {
+            reuse.init(offsets.get(node), degree);
+            return reuse;
+        }
+        return propertyCursor(node, fallbackValue);
+    }
+
+    @Override
+    public PropertyCursor rawPropertyCursor() {
+        return new Cursor(pages);
+    }
+
+    @Override
+    public void close() {
+        pages = null;
+        degrees = null;
+        offsets = null;
+    }
+
+    static final class Cursor implements PropertyCursor {
+
+        private long[][] pages;
+
+        private long[] currentPage;
+        private int offset;
+        private int index;
+        private int degree;
+
+        private Cursor(long[][] pages) {
+            this.pages = pages;
+        }
+
+        @Override
+        public void init(long fromIndex, int degree) {
+            this.currentPage = pages[pageIndex(fromIndex, BumpAllocator.PAGE_SHIFT)];
+            this.offset = indexInPage(fromIndex, BumpAllocator.PAGE_MASK);
+            this.index = 0;
+            this.degree = degree;
+        }
+
+        @Override
+        public boolean hasNextLong() {
+            return index < degree;
+        }
+
+        @Override
+        public long nextLong() {
+            var packed = currentPage[offset + (index >>> 1)];
+            var floatBits = (int) (packed >>> ((index & 1) << 5));
+            index++;
+            return Double.doubleToRawLongBits(Float.intBitsToFloat(floatBits));
+        }
+
+        @Override
+        public void close() {
+            pages = null;
+            currentPage = null;
+        }
+    }
+}
@@ -38,6 +38,7 @@ import org.neo4j.gds.api.RelationshipWithPropertyConsumer;
 import org.neo4j.gds.api.Relationships;
 import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
 import org.neo4j.gds.api.schema.GraphSchema;
+import org.neo4j.gds.core.loading.nodeproperties.LazyNodePropertyValues;
 import org.neo4j.gds.core.utils.collection.primitive.PrimitiveLongIterable;
 
 import java.util.Collection;
@@ -271,7 +272,11 @@ public class HugeGraph implements CSRGraph {
 
     @Override
     public NodePropertyValues nodeProperties(String propertyKey) {
-        return nodeProperties.get(propertyKey);
+        var values = nodeProperties.get(propertyKey);
+        // algorithms read the materialized column directly instead of going through the lazy wrapper
+        return values instanceof LazyNodePropertyValues
+            ? ((LazyNodePropertyValues) values).materialize()
+            : values;
     }
 
     @Override
@@ -0,0 +1,570 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.huge;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.AdjacencyCursor;
+import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.core.loading.AdjacencyPacking;
+import org.neo4j.gds.core.loading.BumpAllocator;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.mem.BitUtil;
+import org.neo4j.gds.mem.MemoryUsage;
+import org.neo4j.internal.unsafe.UnsafeUtil;
+import org.neo4j.memory.LocalMemoryTracker;
+
+import java.lang.ref.Cleaner;
+import java.util.Arrays;
+
+import static org.neo4j.gds.mem.BitUtil.ceilDiv;
+
+/**
+ * An adjacency list that stores the delta-encoded targets of every node in blocks of
+ * {@link org.neo4j.gds.core.loading.AdjacencyPacking#BLOCK_SIZE} values, each block bit-packed
+ * with the number of bits required for its largest delta.
+ *
+ * The adjacency list of a node is stored off-heap and starts at the address stored in the offsets.
+ * It is laid out as follows:
+ *
+ * <ol>
+ *     <li>For every block, the last (i.e. largest) target of that block as a {@code long}.</li>
+ *     <li>For every block, the number of bits per value as a {@code byte}, padded to a multiple of 8 bytes.</li>
+ *     <li>The bit-packed deltas of every block. A block with {@code b} bits occupies {@code 8 * b} bytes.</li>
+ * </ol>
+ *
+ * The deltas of a block are computed relative to the last target of the previous block.
+ * Together with the block headers, this allows skipping whole blocks without decoding them.
+ *
+ * Nodes whose targets are unique and cover a dense id range are stored as a bitmap instead,
+ * whenever that requires fewer bytes than the packed blocks. Such adjacency lists are marked by
+ * setting the {@link #BITMAP_TAG} bit in their offset and are laid out as follows:
+ *
+ * <ol>
+ *     <li>The first target as a {@code long}.</li>
+ *     <li>The last target as a {@code long}.</li>
+ *     <li>One bit per id, starting at the first target rounded down to a multiple of 64, as {@code long} words.</li>
+ * </ol>
+ *
+ * Bitmaps allow {@link AdjacencyCursor#advance(long)} to jump directly to the word of the target.
+ *
+ * The off-heap pages are shared by the adjacency list and all of its cursors. They are freed by a
+ * {@link Cleaner} once neither is reachable anymore, so that graph views and cursors that are
+ * still in use never read freed memory, even after the list has been closed.
+ */
+public final class PackedAdjacencyList implements AdjacencyList {
+
+    public static MemoryEstimation adjacencyListEstimation(RelationshipType relationshipType, boolean undirected) {
+        return MemoryEstimations.setup("", dimensions -> {
+            long nodeCount = dimensions.nodeCount();
+            long relCountForType = dimensions
+                .relationshipCounts()
+                .getOrDefault(relationshipType, dimensions.relCountUpperBound());
+            long relCount = undirected ? relCountForType * 2 : relCountForType;
+            long avgDegree = (nodeCount > 0) ? ceilDiv(relCount, nodeCount) : 0L;
+            return PackedAdjacencyList.adjacencyListEstimation(avgDegree, nodeCount);
+        });
+    }
+
+    public static MemoryEstimation adjacencyListEstimation(long avgDegree, long nodeCount) {
+        long blocks = ceilDiv(avgDegree, AdjacencyPacking.BLOCK_SIZE);
+        // The first block of every node stores its first target relative to 0,
+        // which requires as many bits as the largest node id.
+        int firstBlockBits = bitsNeeded(nodeCount);
+
+        // Best case scenario:
+        // Difference between node identifiers in each adjacency list is 1.
+        long bestCaseBits = blocks > 0 ? firstBlockBits + (blocks - 1) : 0L;
+
+        // Worst case scenario:
+        // Highest possible difference is the number of nodes divided by the average degree.
+        long deltaWorstCase = (avgDegree > 0) ? ceilDiv(nodeCount, avgDegree) : 0L;
+        long worstCaseBits = blocks > 0 ? firstBlockBits + (blocks - 1) * bitsNeeded(deltaWorstCase) : 0L;
+
+        long headerBytes = headerBytes(blocks);
+        long bestCaseAdjacencySize = (headerBytes + bestCaseBits * Long.BYTES) * nodeCount;
+        long worstCaseAdjacencySize = (headerBytes + worstCaseBits * Long.BYTES) * nodeCount;
+
+        long minPages = ceilDiv(bestCaseAdjacencySize, BumpAllocator.PAGE_SIZE);
+        long maxPages = ceilDiv(worstCaseAdjacencySize, BumpAllocator.PAGE_SIZE);
+
+        return MemoryEstimations
+            .builder(PackedAdjacencyList.class)
+            .fixed("pages", MemoryRange.of(
+                2 * MemoryUsage.sizeOfLongArray(minPages),
+                2 * MemoryUsage.sizeOfLongArray(maxPages)
+            ))
+            .fixedOffHeap("packed blocks", MemoryRange.of(bestCaseAdjacencySize, worstCaseAdjacencySize))
+            .perNode("degrees", HugeIntArray::memoryEstimation)
+            .perNode("offsets", HugeLongArray::memoryEstimation)
+            .build();
+    }
+
+    /**
+     * Set in the offset of nodes that are encoded as a bitmap.
+     * Offsets are always aligned to 8 bytes, so the lowest bit is never part of the address.
+     */
+    public static final long BITMAP_TAG = 1L;
+
+    public static long headerBytes(long blocks) {
+        return blocks * Long.BYTES + BitUtil.align(blocks, Long.BYTES);
+    }
+
+    public static long bitmapBytes(long firstTarget, long lastTarget) {
+        return 2L * Long.BYTES + bitmapWords(firstTarget, lastTarget) * Long.BYTES;
+    }
+
+    public static long bitmapWords(long firstTarget, long lastTarget) {
+        return ((lastTarget - bitmapBase(firstTarget)) >>> 6) + 1;
+    }
+
+    public static long bitmapBase(long firstTarget) {
+        return firstTarget & ~63L;
+    }
+
+    private static int bitsNeeded(long value) {
+        return Long.SIZE - Long.numberOfLeadingZeros(value);
+    }
+
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    // The tracker is not thread-safe, all allocations and releases synchronize on it.
+    private static final LocalMemoryTracker MEMORY_TRACKER = new LocalMemoryTracker();
+
+    /**
+     * Allocates an off-heap page, which must be handed to a {@link PackedAdjacencyList} to be freed.
+     */
+    public static long allocatePage(long bytes) {
+        synchronized (MEMORY_TRACKER) {
+            return UnsafeUtil.allocateMemory(bytes, MEMORY_TRACKER);
+        }
+    }
+
+    /**
+     * The number of bytes of all packed adjacency lists that have not been freed yet.
+     */
+    public static long usedNativeMemory() {
+        synchronized (MEMORY_TRACKER) {
+            return MEMORY_TRACKER.usedNativeMemory();
+        }
+    }
+
+    private Pages pages;
+    private HugeIntArray degrees;
+    private HugeLongArray offsets;
+
+    public PackedAdjacencyList(long[] pages, long[] pageSizes, HugeIntArray degrees, HugeLongArray offsets) {
+        this.pages = new Pages(pages, pageSizes);
+        this.degrees = degrees;
+        this.offsets = offsets;
+    }
+
+    @Override
+    public int degree(long node) {
+        return degrees.get(node);
+    }
+
+    @Override
+    public AdjacencyCursor adjacencyCursor(long node, double fallbackValue) {
+        var degree = degrees.get(node);
+        if (degree == 0) {
+            return AdjacencyCursor.empty();
+        }
+        var cursor = new Cursor(pages);
+        cursor.init(offsets.get(node), degree);
+        return cursor;
+    }
+
+    @Override
+    public AdjacencyCursor adjacencyCursor(@Nullable AdjacencyCursor reuse, long node, double fallbackValue) {
+        var degree = degrees.get(node);
+        if (degree == 0) {
+            return AdjacencyCursor.empty();
+        }
+        // a cursor of another list would not keep the pages of this list alive
+        if (reuse instanceof Cursor && ((Cursor) reuse).pages == pages) {
+            reuse.init(offsets.get(node), degree);
+            return reuse;
+        }
+        return adjacencyCursor(node, fallbackValue);
+    }
+
+    @Override
+    public AdjacencyCursor rawAdjacencyCursor() {
+        return new Cursor(pages);
+    }
+
+    @Override
+    public void close() {
+        // The pages are freed once the cursors that still use them are unreachable.
+        pages = null;
+        degrees = null;
+        offsets = null;
+    }
+
+    /**
+     * Owns the off-heap pages, which are freed once this object has become unreachable.
+     */
+    private static final class Pages {
+        Pages(long[] addresses, long[] sizes) {
+            CLEANER.register(this, new Release(addresses, sizes));
+        }
+    }
+
+    /**
+     * Frees the pages, must not reference the {@link Pages} it is registered for.
+     */
+    private static final class Release implements Runnable {
+        private final long[] addresses;
+        private final long[] sizes;
+
+        Release(long[] addresses, long[] sizes) {
+            this.addresses = addresses;
+            this.sizes = sizes;
+        }
+
+        @Override
+        public void run() {
+            synchronized (MEMORY_TRACKER) {
+                for (int i = 0; i < addresses.length; i++) {
+                    UnsafeUtil.free(addresses[i], sizes[i], MEMORY_TRACKER);
+                }
+            }
+        }
+    }
+
+    public static final class Cursor implements AdjacencyCursor {
+
+        private static final int BLOCK_SIZE = AdjacencyPacking.BLOCK_SIZE;
+
+        // the decoded targets of the current block
+        private final long[] block;
+        // keeps the pages alive while the cursor is in use
+        private final Pages pages;
+
+        private int degree;
+        private int blockCount;
+        // address of the last target per block
+        private long lastValues;
+        // address of the number of bits per block
+        private long blockBits;
+        // address of the packed data of the block following the current block
+        private long nextBlockPtr;
+
+        private int blockIndex;
+        private int blockLength;
+        private int posInBlock;
+        private int position;
+
+        // whether the current node is encoded as a bitmap
+        private boolean bitmap;
+        // the target represented by the first bit of the bitmap
+        private long bitmapBase;
+        private long lastTarget;
+        // address of the first bitmap word
+        private long words;
+        private long wordIndex;
+        // the bits of the current word that have not been returned yet
+        private long currentWord;
+
+        private Cursor(Pages pages) {
+            this.block = new long[BLOCK_SIZE];
+            this.pages = pages;
+        }
+
+        @Override
+        public void init(long address, int degree) {
+            if ((address & BITMAP_TAG) != 0) {
+                initBitmap(address & ~BITMAP_TAG, degree);
+                return;
+            }
+            this.bitmap = false;
+            this.degree = degree;
+            this.blockCount = ceilDiv(degree, BLOCK_SIZE);
+            this.lastValues = address;
+            this.blockBits = address + (long) blockCount * Long.BYTES;
+            this.nextBlockPtr = address + headerBytes(blockCount);
+            this.blockIndex = -1;
+            this.position = 0;
+            decodeBlock(0);
+        }
+
+        @Override
+        public int size() {
+            return degree;
+        }
+
+        @Override
+        public int remaining() {
+            return degree - position;
+        }
+
+        @Override
+        public boolean hasNextVLong() {
+            return position < degree;
+        }
+
+        @Override
+        public long nextVLong() {
+            if (bitmap) {
+                long next = peekVLong();
+                currentWord &= currentWord - 1;
+                position++;
+                return next;
+            }
+            if (posInBlock == blockLength) {
+                decodeBlock(blockIndex + 1);
+            }
+            position++;
+            return block[posInBlock++];
+        }
+
+        @Override
+        public long peekVLong() {
+            if (bitmap) {
+                if (position >= degree) {
+                    return NOT_FOUND;
+                }
+                while (currentWord == 0L) {
+                    currentWord = word(++wordIndex);
+                }
+                return bitmapBase + (wordIndex << 6) + Long.numberOfTrailingZeros(currentWord);
+            }
+            if (posInBlock == blockLength) {
+                decodeBlock(blockIndex + 1);
+            }
+            return block[posInBlock];
+        }
+
+        @Override
+        public long skipUntil(long target) {
+            return advance(target + 1);
+        }
+
+        @Override
+        public long advance(long target) {
+            if (position >= degree) {
+                return NOT_FOUND;
+            }
+            if (bitmap) {
+                return advanceBitmap(target);
+            }
+
+            if (lastValue(blockIndex) < target) {
+                // Use the block headers to skip all blocks
+                // that only contain smaller targets.
+                int nextBlock = findBlock(target);
+                if (nextBlock == blockCount) {
+                    // No target is large enough, we return the
+                    // last one, which is also what the other cursors do.
+                    position = degree;
+                    posInBlock = blockLength;
+                    return lastValue(blockCount - 1);
+                }
+                decodeBlock(nextBlock);
+            } else if (posInBlock == blockLength) {
+                // the current block is consumed, but the next one
+                // starts at a value that is at least the target
+                decodeBlock(blockIndex + 1);
+            }
+
+            int index = Arrays.binarySearch(block, posInBlock, blockLength, target);
+            if (index < 0) {
+                index = -index - 1;
+            } else {
+                // in case of parallel edges, find the first occurrence
+                while (index > posInBlock && block[index - 1] == target) {
+                    index--;
+                }
+            }
+
+            position += 1 + index - posInBlock;
+            posInBlock = index + 1;
+            return block[index];
+        }
+
+        @Override
+        public long advanceBy(int n) {
+            assert n >= 0;
+
+            if (remaining() <= n) {
+                position = degree;
+                posInBlock = blockLength;
+                currentWord = 0L;
+                return NOT_FOUND;
+            }
+            if (bitmap) {
+                return advanceBitmapBy(n);
+            }
+
+            int targetPosition = position + n;
+            int targetBlock = targetPosition / BLOCK_SIZE;
+            if (targetBlock != blockIndex) {
+                decodeBlock(targetBlock);
+            }
+            posInBlock = targetPosition - targetBlock * BLOCK_SIZE + 1;
+            position = targetPosition + 1;
+            return block[posInBlock - 1];
+        }
+
+        @Override
+        public @NotNull AdjacencyCursor shallowCopy(@Nullable AdjacencyCursor destination) {
+            // a cursor of another list would not keep the pages of this list alive
+            var dest = destination instanceof Cursor && ((Cursor) destination).pages == pages
+                ? (Cursor) destination
+                : new Cursor(pages);
+            System.arraycopy(block, 0, dest.block, 0, BLOCK_SIZE);
+            dest.degree = degree;
+            dest.blockCount = blockCount;
+            dest.lastValues = lastValues;
+            dest.blockBits = blockBits;
+            dest.nextBlockPtr = nextBlockPtr;
+            dest.blockIndex = blockIndex;
+            dest.blockLength = blockLength;
+            dest.posInBlock = posInBlock;
+            dest.position = position;
+            dest.bitmap = bitmap;
+            dest.bitmapBase = bitmapBase;
+            dest.lastTarget = lastTarget;
+            dest.words = words;
+            dest.wordIndex = wordIndex;
+            dest.currentWord = currentWord;
+            return dest;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        private void initBitmap(long address, int degree) {
+            this.bitmap = true;
+            this.degree = degree;
+            this.position = 0;
+            this.bitmapBase = bitmapBase(UnsafeUtil.getLong(address));
+            this.lastTarget = UnsafeUtil.getLong(address + Long.BYTES);
+            this.words = address + 2L * Long.BYTES;
+            this.wordIndex = 0L;
+            this.currentWord = word(0L);
+        }
+
+        private long advanceBitmap(long target) {
+            if (target > lastTarget) {
+                position = degree;
+                currentWord = 0L;
+                return lastTarget;
+            }
+            if (peekVLong() >= target) {
+                return nextVLong();
+            }
+
+            long targetWord = (target - bitmapBase) >>> 6;
+            while (wordIndex < targetWord) {
+                // count the skipped targets to keep track of the position
+                position += Long.bitCount(currentWord);
+                currentWord = word(++wordIndex);
+            }
+            long smallerTargets = currentWord & ((1L << ((target - bitmapBase) & 63)) - 1);
+            position += Long.bitCount(smallerTargets);
+            currentWord &= ~smallerTargets;
+            // there is a target that is at least as large, since target <= lastTarget
+            return nextVLong();
+        }
+
+        private long advanceBitmapBy(int n) {
+            int bitCount;
+            while ((bitCount = Long.bitCount(currentWord)) <= n) {
+                n -= bitCount;
+                position += bitCount;
+                currentWord = word(++wordIndex);
+            }
+            for (int i = 0; i < n; i++) {
+                currentWord &= currentWord - 1;
+            }
+            position += n;
+            return nextVLong();
+        }
+
+        private long word(long index) {
+            return UnsafeUtil.getLong(words + index * Long.BYTES);
+        }
+
+        /**
+         * Returns the first block after the current one whose last target is at least the given target,
+         * or the number of blocks if there is none.
+         * Gallops over the block headers, so that far away targets are found in a logarithmic number of steps.
+         */
+        private int findBlock(long target) {
+            int low = blockIndex + 1;
+            int bound = 1;
+            while (low + bound - 1 < blockCount && lastValue(low + bound - 1) < target) {
+                low += bound;
+                bound <<= 1;
+            }
+            int high = Math.min(low + bound - 1, blockCount);
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (lastValue(mid) < target) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private long lastValue(int block) {
+            return UnsafeUtil.getLong(lastValues + (long) block * Long.BYTES);
+        }
+
+        private int bits(int block) {
+            return UnsafeUtil.getByte(blockBits + block) & 0xFF;
+        }
+
+        /**
+         * Decodes the given block into the reusable block buffer.
+         * Blocks between the current and the given block are skipped without being decoded.
+         */
+        private void decodeBlock(int blockToDecode) {
+            long ptr = nextBlockPtr;
+            for (int skipped = blockIndex + 1; skipped < blockToDecode; skipped++) {
+                ptr += (long) bits(skipped) * Long.BYTES;
+            }
+            nextBlockPtr = AdjacencyPacking.unpack(bits(blockToDecode), block, 0, ptr);
+
+            int start = blockToDecode * BLOCK_SIZE;
+            int length = Math.min(BLOCK_SIZE, degree - start);
+            long value = blockToDecode == 0 ? 0L : lastValue(blockToDecode - 1);
+            for (int i = 0; i < length; i++) {
+                value += block[i];
+                block[i] = value;
+            }
+
+            blockIndex = blockToDecode;
+            blockLength = length;
+            posInBlock = 0;
+            position = start;
+        }
+    }
+}
@@ -91,7 +91,7 @@ public final class UncompressedAdjacencyList implements AdjacencyList, Adjacency
             .build();
     }
 
-    private static long averageDegree(
+    static long averageDegree(
         GraphDimensions dimensions,
         RelationshipType relationshipType,
         boolean undirected
@@ -103,7 +103,11 @@ public final class UncompressedAdjacencyList implements AdjacencyList, Adjacency
     }
 
     private static MemoryRange listSize(long avgDegree, long nodeCount) {
-        long uncompressedAdjacencySize = nodeCount * avgDegree * Long.BYTES;
+        return listSize(avgDegree, nodeCount, Long.BYTES);
+    }
+
+    static MemoryRange listSize(long avgDegree, long nodeCount, int bytesPerValue) {
+        long uncompressedAdjacencySize = nodeCount * avgDegree * bytesPerValue;
         int pages = PageUtil.numPagesFor(uncompressedAdjacencySize, BumpAllocator.PAGE_SHIFT, BumpAllocator.PAGE_MASK);
         long bytesPerPage = MemoryUsage.sizeOfByteArray(BumpAllocator.PAGE_SIZE);
         return MemoryRange.of(pages * bytesPerPage + MemoryUsage.sizeOfObjectArray(pages));
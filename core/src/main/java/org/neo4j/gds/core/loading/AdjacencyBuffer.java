@@ -34,6 +34,7 @@ import org.neo4j.gds.core.utils.mem.MemoryEstimations;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.Optional;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.function.LongConsumer;
@@ -242,6 +243,10 @@ public final class AdjacencyBuffer {
             ));
         }
 
+        // Pages hold very different numbers of targets, e.g. if they contain hub nodes.
+        // Starting with the largest pages keeps a single large page from being flushed last.
+        tasks.sort(Comparator.comparingLong(AdjacencyListBuilderTask::targetCount).reversed());
+
         return tasks;
     }
 
@@ -295,6 +300,10 @@ public final class AdjacencyBuffer {
             this.relationshipCounter = relationshipCounter;
         }
 
+        long targetCount() {
+            return chunkedAdjacencyLists.targetCount();
+        }
+
         @Override
         public void run() {
             try (var compressor = threadLocalRelationshipsBuilder.intoCompressor()) {
@@ -34,6 +34,12 @@ import static org.neo4j.gds.core.loading.ZigZagLongDecoding.zigZagUncompress;
 
 public final class AdjacencyCompression {
 
+    /**
+     * Adjacency lists with at least this many targets are sorted in parallel.
+     * Below, the overhead of splitting the work outweighs the gain.
+     */
+    static final int PARALLEL_SORT_THRESHOLD = 1 << 16;
+
     /**
      * Decompress the given {@code array} into the given {@code into}.
      * After this, {@link org.neo4j.gds.core.compress.LongArrayBuffer#length} will reflect the number of decompressed values
@@ -55,18 +61,28 @@ public final class AdjacencyCompression {
     }
 
     public static int applyDeltaEncoding(long[] data, int length, Aggregation aggregation) {
-        Arrays.sort(data, 0, length);
+        sort(data, length);
         return deltaEncodeSortedValues(data, 0, length, aggregation);
     }
 
+    static void sort(long[] data, int length) {
+        if (length >= PARALLEL_SORT_THRESHOLD) {
+            // Hub nodes would otherwise be sorted by a single importer thread.
+            // Arrays#parallelSort runs on the common pool, which cannot be blocked by the import pool.
+            Arrays.parallelSort(data, 0, length);
+        } else {
+            Arrays.sort(data, 0, length);
+        }
+    }
+
     // TODO: requires lots of additional memory ... inline indirect sort to make reuse of - to be created - buffers
     static int applyDeltaEncoding(LongArrayBuffer data, long[][] weights, Aggregation[] aggregations, boolean noAggregation) {
         return data.length = applyDeltaEncoding(data.buffer, data.length, weights, aggregations, noAggregation);
     }
 
     // TODO: requires lots of additional memory ... inline indirect sort to make reuse of - to be created - buffers
-    static int applyDeltaEncoding(long[] data, int length, long[][] weights, Aggregation[] aggregations, boolean noAggregation) {
-        int[] order = IndirectSort.mergesort(0, length, new AscendingLongComparator(data));
+    public static int applyDeltaEncoding(long[] data, int length, long[][] weights, Aggregation[] aggregations, boolean noAggregation) {
+        int[] order = sortOrder(data, length);
 
         long[] sortedValues = new long[length];
         long[][] sortedWeights = new long[weights.length][length];
@@ -91,6 +107,34 @@ public final class AdjacencyCompression {
         return length;
     }
 
+    /**
+     * Returns the indices of {@code data} in ascending order of their values.
+     * Indices with equal values keep their relative order, so that aggregations are applied in input order.
+     */
+    static int[] sortOrder(long[] data, int length) {
+        if (length >= PARALLEL_SORT_THRESHOLD) {
+            long max = 0L;
+            for (int i = 0; i < length; i++) {
+                max = Math.max(max, data[i]);
+            }
+            int indexBits = Integer.SIZE - Integer.numberOfLeadingZeros(length - 1);
+            int valueBits = Long.SIZE - Long.numberOfLeadingZeros(max);
+            // Pack each value with its index into a single long, so that the
+            // order can be computed by a parallel primitive sort.
+            // Sorting the packed values also orders equal values by index.
+            if (valueBits + indexBits < Long.SIZE) {
+                long[] packed = new long[length];
+                Arrays.parallelSetAll(packed, i -> (data[i] << indexBits) | i);
+                Arrays.parallelSort(packed);
+                long indexMask = (1L << indexBits) - 1;
+                int[] order = new int[length];
+                Arrays.parallelSetAll(order, i -> (int) (packed[i] & indexMask));
+                return order;
+            }
+        }
+        return IndirectSort.mergesort(0, length, new AscendingLongComparator(data));
+    }
+
     static byte[] ensureBufferSize(LongArrayBuffer data, byte[] out) {
         return ensureBufferSize(data.buffer, out, data.length);
     }
@@ -21,7 +21,7 @@ package org.neo4j.gds.core.loading;
 
 public interface AdjacencyListBuilderFactory<TARGET_PAGE, TARGET_TYPE, PROPERTY_PAGE, PROPERTY_TYPE> {
 
-    AdjacencyListBuilder<TARGET_PAGE, TARGET_TYPE> newAdjacencyListBuilder();
+    AdjacencyListBuilder<TARGET_PAGE, ? extends TARGET_TYPE> newAdjacencyListBuilder();
 
     AdjacencyListBuilder<PROPERTY_PAGE, PROPERTY_TYPE> newAdjacencyPropertiesBuilder();
 }
@@ -19,6 +19,8 @@
  */
 package org.neo4j.gds.core.loading;
 
+import org.apache.commons.lang3.mutable.MutableBoolean;
+import org.apache.commons.lang3.mutable.MutableLong;
 import org.immutables.builder.Builder;
 import org.immutables.value.Value;
 import org.jetbrains.annotations.NotNull;
@@ -26,6 +28,7 @@ import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.NodeLabel;
 import org.neo4j.gds.Orientation;
 import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.AdjacencyCursor;
 import org.neo4j.gds.api.AdjacencyProperties;
 import org.neo4j.gds.api.CSRGraph;
 import org.neo4j.gds.api.CompositeRelationshipIterator;
@@ -34,6 +37,7 @@ import org.neo4j.gds.api.FilteredIdMap;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.api.ImmutableTopology;
 import org.neo4j.gds.api.PropertyState;
 import org.neo4j.gds.api.RelationshipProperty;
 import org.neo4j.gds.api.RelationshipPropertyStore;
@@ -52,10 +56,13 @@ import org.neo4j.gds.api.schema.PropertySchema;
 import org.neo4j.gds.api.schema.RelationshipPropertySchema;
 import org.neo4j.gds.api.schema.RelationshipSchema;
 import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.core.huge.CSRCompositeRelationshipIterator;
+import org.neo4j.gds.core.huge.DeltaAdjacencyList;
 import org.neo4j.gds.core.huge.HugeGraph;
 import org.neo4j.gds.core.huge.NodeFilteredGraph;
 import org.neo4j.gds.core.huge.UnionGraph;
+import org.neo4j.gds.core.loading.construction.GraphFactory;
 import org.neo4j.gds.core.utils.TimeUtil;
 import org.neo4j.gds.utils.ExceptionUtil;
 import org.neo4j.gds.utils.StringJoining;
@@ -70,6 +77,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -496,6 +504,188 @@ public class CSRGraphStore implements GraphStore {
         );
     }
 
+    /**
+     * Adds relationships to an existing relationship type without re-projecting the graph.
+     * The relationships are buffered in a {@link DeltaAdjacencyList} on top of the current adjacency list,
+     * see {@link #mergeRelationshipDeltas(RelationshipType, int, ExecutorService)} to merge them into a new one.
+     *
+     * Node ids are original node ids. For undirected relationship types, both directions are added.
+     * Graphs that have been created before are not affected.
+     * Only relationship types without properties can be changed.
+     *
+     * @return the number of added relationships
+     */
+    public long insertRelationships(RelationshipType relationshipType, long[] sourceNodeIds, long[] targetNodeIds) {
+        return updateRelationshipDeltas(relationshipType, sourceNodeIds, targetNodeIds, (builder, topology, source, target) -> {
+            boolean allowParallel = topology.isMultiGraph();
+            long inserted = builder.insert(source, target, allowParallel) ? 1 : 0;
+            if (topology.orientation() == Orientation.UNDIRECTED && inserted > 0) {
+                inserted += builder.insert(target, source, allowParallel) ? 1 : 0;
+            }
+            return inserted;
+        });
+    }
+
+    /**
+     * Removes all relationships between the given node pairs from an existing relationship type.
+     * Follows the same rules as {@link #insertRelationships(RelationshipType, long[], long[])}.
+     *
+     * @return the number of removed relationships
+     */
+    public long removeRelationships(RelationshipType relationshipType, long[] sourceNodeIds, long[] targetNodeIds) {
+        return -updateRelationshipDeltas(relationshipType, sourceNodeIds, targetNodeIds, (builder, topology, source, target) -> {
+            long removed = builder.remove(source, target);
+            if (topology.orientation() == Orientation.UNDIRECTED && source != target) {
+                removed += builder.remove(target, source);
+            }
+            return -removed;
+        });
+    }
+
+    /**
+     * Merges the buffered changes of a relationship type into a new adjacency list.
+     * The merge is coordinated on the calling thread, while the adjacency lists are read and compressed
+     * on the given executor. Other changes can be applied concurrently; the new adjacency list replaces
+     * the current one only if the relationship type has not been changed while the merge was running,
+     * otherwise the result is discarded.
+     *
+     * The replaced adjacency list is not closed, since graphs created before might still be using it.
+     *
+     * @return true iff the merged adjacency list replaced the current one
+     */
+    public boolean mergeRelationshipDeltas(
+        RelationshipType relationshipType,
+        int concurrency,
+        ExecutorService executorService
+    ) {
+        var topology = deltaTopology(relationshipType);
+        if (!(topology.adjacencyList() instanceof DeltaAdjacencyList)) {
+            return false;
+        }
+
+        var deltaAdjacencyList = (DeltaAdjacencyList) topology.adjacencyList();
+        var builder = GraphFactory.initRelationshipsBuilder()
+            .nodes(nodes)
+            // undirected adjacency lists already contain both directions
+            .orientation(Orientation.NATURAL)
+            .aggregation(Aggregation.NONE)
+            .concurrency(concurrency)
+            .executorService(executorService)
+            .build();
+
+        ParallelUtil.readParallel(concurrency, nodes.nodeCount(), executorService, (start, end) -> {
+            AdjacencyCursor adjacencyCursor = null;
+            for (long node = start; node < end; node++) {
+                if (deltaAdjacencyList.degree(node) == 0) {
+                    continue;
+                }
+                adjacencyCursor = deltaAdjacencyList.adjacencyCursor(adjacencyCursor, node);
+                while (adjacencyCursor.hasNextVLong()) {
+                    builder.addFromInternal(node, adjacencyCursor.nextVLong());
+                }
+            }
+        });
+
+        var mergedTopology = ImmutableTopology.of(
+            builder.build().topology().adjacencyList(),
+            topology.elementCount(),
+            topology.orientation(),
+            topology.isMultiGraph()
+        );
+
+        var replaced = new MutableBoolean(false);
+        updateGraphStore(graphStore -> {
+            if (graphStore.relationships.get(relationshipType) == topology) {
+                graphStore.relationships.put(relationshipType, mergedTopology);
+                replaced.setTrue();
+            }
+        });
+        if (replaced.isFalse()) {
+            mergedTopology.adjacencyList().close();
+        }
+        return replaced.booleanValue();
+    }
+
+    /**
+     * Applies a change for one node pair and returns the change in the number of relationships.
+     */
+    @FunctionalInterface
+    private interface RelationshipDeltaFunction {
+        long apply(DeltaAdjacencyList.Builder builder, Relationships.Topology topology, long source, long target);
+    }
+
+    private long updateRelationshipDeltas(
+        RelationshipType relationshipType,
+        long[] sourceNodeIds,
+        long[] targetNodeIds,
+        RelationshipDeltaFunction deltaFunction
+    ) {
+        if (sourceNodeIds.length != targetNodeIds.length) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Expected the same number of source and target nodes, but got %d source nodes and %d target nodes.",
+                sourceNodeIds.length,
+                targetNodeIds.length
+            ));
+        }
+
+        var changedRelationships = new MutableLong(0);
+        updateGraphStore(graphStore -> {
+            var topology = deltaTopology(relationshipType);
+            var builder = DeltaAdjacencyList.of(topology.adjacencyList()).builder();
+
+            for (int i = 0; i < sourceNodeIds.length; i++) {
+                changedRelationships.add(deltaFunction.apply(
+                    builder,
+                    topology,
+                    toMappedNodeId(sourceNodeIds[i]),
+                    toMappedNodeId(targetNodeIds[i])
+                ));
+            }
+
+            graphStore.relationships.put(relationshipType, ImmutableTopology.of(
+                builder.build(),
+                topology.elementCount() + changedRelationships.longValue(),
+                topology.orientation(),
+                topology.isMultiGraph()
+            ));
+        });
+        return changedRelationships.longValue();
+    }
+
+    private Relationships.Topology deltaTopology(RelationshipType relationshipType) {
+        var topology = relationships.get(relationshipType);
+        if (topology == null) {
+            throw new IllegalArgumentException(
+                prettySuggestions(
+                    formatWithLocale(
+                        "Unknown relationship type `%s`.",
+                        relationshipType
+                    ),
+                    relationshipType.name(),
+                    relationshipTypes().stream().map(RelationshipType::name).collect(Collectors.toSet())
+                )
+            );
+        }
+        if (!relationshipPropertyKeys(relationshipType).isEmpty()) {
+            throw new UnsupportedOperationException(formatWithLocale(
+                "Relationship type `%s` has properties. Only relationship types without properties can be changed incrementally.",
+                relationshipType.name
+            ));
+        }
+        return topology;
+    }
+
+    private long toMappedNodeId(long originalNodeId) {
+        long mappedNodeId = nodes.safeToMappedNodeId(originalNodeId);
+        if (mappedNodeId == IdMap.NOT_FOUND) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Node with original id %d does not exist in the graph.",
+                originalNodeId
+            ));
+        }
+        return mappedNodeId;
+    }
+
     @Override
     public CSRGraph getGraph(Collection<NodeLabel> nodeLabels) {
         return getGraph(nodeLabels, List.of(), Optional.empty());
@@ -53,6 +53,8 @@ public final class ChunkedAdjacencyLists {
     private final HugeSparseIntList positions;
     private final HugeSparseLongList lastValues;
     private final HugeSparseIntList lengths;
+    // the number of targets added to all nodes, used to balance the flush
+    private long targetCount;
 
     public static MemoryEstimation memoryEstimation(long avgDegree, long nodeCount, int propertyCount) {
         // Best case scenario:
@@ -135,6 +137,7 @@ public final class ChunkedAdjacencyLists {
 
         this.lastValues.set(index, currentLastValue);
         this.lengths.addTo(index, valuesToAdd);
+        this.targetCount += valuesToAdd;
     }
 
     /**
@@ -217,6 +220,14 @@ public final class ChunkedAdjacencyLists {
         return currentProperties;
     }
 
+    /**
+     * Returns the number of targets that have been added to all nodes.
+     * Must not be called concurrently with {@code add}.
+     */
+    public long targetCount() {
+        return targetCount;
+    }
+
     public long capacity() {
         return targetLists.capacity();
     }
@@ -19,21 +19,36 @@
  */
 package org.neo4j.gds.core.loading;
 
-import org.neo4j.gds.core.huge.CompressedAdjacencyList;
+import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.core.compress.AdjacencyPageStore;
 import org.neo4j.gds.core.huge.UncompressedAdjacencyList;
 
-public final class CompressedAdjacencyListBuilderFactory implements AdjacencyListBuilderFactory<byte[], CompressedAdjacencyList, long[], UncompressedAdjacencyList> {
+public final class CompressedAdjacencyListBuilderFactory implements AdjacencyListBuilderFactory<byte[], AdjacencyList, long[], UncompressedAdjacencyList> {
+
+    private final AdjacencyPageStore pageStore;
 
     public static CompressedAdjacencyListBuilderFactory of() {
-        return new CompressedAdjacencyListBuilderFactory();
+        return of(AdjacencyPageStore.HEAP);
+    }
+
+    public static CompressedAdjacencyListBuilderFactory of(AdjacencyPageStore pageStore) {
+        return new CompressedAdjacencyListBuilderFactory(pageStore);
     }
 
-    private CompressedAdjacencyListBuilderFactory() {
+    private CompressedAdjacencyListBuilderFactory(AdjacencyPageStore pageStore) {
+        this.pageStore = pageStore;
     }
 
     @Override
-    public CompressedAdjacencyListBuilder newAdjacencyListBuilder() {
-        return new CompressedAdjacencyListBuilder();
+    public AdjacencyListBuilder<byte[], ? extends AdjacencyList> newAdjacencyListBuilder() {
+        switch (pageStore) {
+            case OFF_HEAP:
+                return OffHeapCompressedAdjacencyListBuilder.direct();
+            case MEMORY_MAPPED:
+                return OffHeapCompressedAdjacencyListBuilder.memoryMapped();
+            default:
+                return new CompressedAdjacencyListBuilder();
+        }
     }
 
     @Override
@@ -51,7 +51,11 @@ public final class DeltaVarLongCompressor implements AdjacencyCompressor {
     ) {
         @SuppressWarnings("unchecked")
         AdjacencyListBuilder<long[], ? extends AdjacencyProperties>[] propertyBuilders = new AdjacencyListBuilder[propertyMappings.numberOfMappings()];
-        Arrays.setAll(propertyBuilders, i -> adjacencyListBuilderFactory.newAdjacencyPropertiesBuilder());
+        var float32Properties = Float32AdjacencyPropertiesBuilder.appliesTo(propertyMappings);
+        Arrays.setAll(propertyBuilders, i -> float32Properties
+            ? new Float32AdjacencyPropertiesBuilder()
+            : adjacencyListBuilderFactory.newAdjacencyPropertiesBuilder()
+        );
 
         return new Factory(
             nodeCountSupplier,
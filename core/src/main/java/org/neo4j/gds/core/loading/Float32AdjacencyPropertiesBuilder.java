@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.neo4j.gds.PropertyMappings;
+import org.neo4j.gds.PropertyPrecision;
+import org.neo4j.gds.core.huge.Float32AdjacencyProperties;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+
+/**
+ * Builds relationship properties that are stored with {@link PropertyPrecision#FLOAT}.
+ * All property lists of a relationship type share the same offsets,
+ * which is why this builder is only used if every property of the type asks for float precision.
+ */
+public final class Float32AdjacencyPropertiesBuilder implements AdjacencyListBuilder<long[], Float32AdjacencyProperties> {
+
+    public static boolean appliesTo(PropertyMappings propertyMappings) {
+        return !propertyMappings.isEmpty() && propertyMappings
+            .mappings()
+            .stream()
+            .allMatch(mapping -> mapping.precision() == PropertyPrecision.FLOAT);
+    }
+
+    private final BumpAllocator<long[]> builder;
+
+    Float32AdjacencyPropertiesBuilder() {
+        this.builder = new BumpAllocator<>(UncompressedAdjacencyListBuilder.Factory.INSTANCE);
+    }
+
+    @Override
+    public Allocator newAllocator() {
+        return new Allocator(this.builder.newLocalAllocator());
+    }
+
+    @Override
+    public PositionalAllocator newPositionalAllocator() {
+        return new PositionalAllocator(this.builder.newLocalPositionalAllocator());
+    }
+
+    @Override
+    public Float32AdjacencyProperties build(HugeIntArray degrees, HugeLongArray offsets) {
+        var intoPages = builder.intoPages();
+        reorder(intoPages, offsets, degrees);
+        return new Float32AdjacencyProperties(intoPages, degrees, offsets);
+    }
+
+    public static final class Allocator implements AdjacencyListBuilder.Allocator<long[]> {
+
+        private final BumpAllocator.LocalAllocator<long[]> allocator;
+        private long[] buffer;
+
+        private Allocator(BumpAllocator.LocalAllocator<long[]> allocator) {
+            this.allocator = allocator;
+            this.buffer = new long[0];
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public long write(long[] properties, int length, long address) {
+            buffer = ensureCapacity(buffer, length);
+            int packedLength = Float32AdjacencyProperties.pack(properties, length, buffer);
+            return allocator.insert(buffer, packedLength);
+        }
+    }
+
+    public static final class PositionalAllocator implements AdjacencyListBuilder.Allocator<long[]> {
+
+        private final BumpAllocator.LocalPositionalAllocator<long[]> allocator;
+        private long[] buffer;
+
+        private PositionalAllocator(BumpAllocator.LocalPositionalAllocator<long[]> allocator) {
+            this.allocator = allocator;
+            this.buffer = new long[0];
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public long write(long[] properties, int length, long address) {
+            buffer = ensureCapacity(buffer, length);
+            int packedLength = Float32AdjacencyProperties.pack(properties, length, buffer);
+            allocator.insertAt(address, buffer, packedLength);
+            return address;
+        }
+    }
+
+    private static long[] ensureCapacity(long[] buffer, int length) {
+        int packedLength = Float32AdjacencyProperties.packedLength(length);
+        return buffer.length < packedLength ? new long[packedLength] : buffer;
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.apache.commons.lang3.mutable.MutableDouble;
+
+import java.util.Arrays;
+
+/**
+ * A lossy codec that stores every {@code double} as the nearest {@code float}, using 4 bytes per value.
+ * Values outside of the {@code float} range become infinite and the payload of {@code NaN}s is dropped.
+ */
+@SuppressWarnings({"PointlessBitwiseExpression", "PointlessArithmeticExpression"})
+public final class Float32DoubleCodec extends DoubleCodec {
+
+    /**
+     * The number of logical bits in the significand of a {@code float} number, including the implicit bit.
+     */
+    private static final int FLOAT_SIGNIFICAND_WIDTH = 24;
+
+    private static final DoubleCodec INSTANCE = new Float32DoubleCodec();
+
+    public static DoubleCodec instance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public int compressDouble(long doubleBits, byte[] out, int outPos) {
+        var floatBits = Float.floatToRawIntBits((float) Double.longBitsToDouble(doubleBits));
+        out[0 + outPos] = (byte) ((floatBits >>> 24) & 0xFF);
+        out[1 + outPos] = (byte) ((floatBits >>> 16) & 0xFF);
+        out[2 + outPos] = (byte) ((floatBits >>> 8) & 0xFF);
+        out[3 + outPos] = (byte) ((floatBits >>> 0) & 0xFF);
+        return 4 + outPos;
+    }
+
+    @Override
+    public int decompressDouble(byte[] data, int pos, MutableDouble out) {
+        int bits = ((data[0 + pos] & 0xFF) << 24) |
+                   ((data[1 + pos] & 0xFF) << 16) |
+                   ((data[2 + pos] & 0xFF) << 8) |
+                   ((data[3 + pos] & 0xFF) << 0);
+        out.setValue((double) Float.intBitsToFloat(bits));
+        return 4 + pos;
+    }
+
+    @Override
+    public int compressedSize(byte[] data, int pos) {
+        return 4;
+    }
+
+    @Override
+    public String describeCompression(int type) {
+        return "FLOAT32";
+    }
+
+    @Override
+    public CompressionInfo describeCompressedValue(byte[] data, int pos, double originalInput) {
+        return ImmutableCompressionInfo.builder()
+            .input(originalInput)
+            .compressed(Arrays.copyOfRange(data, pos, 4 + pos))
+            .decompressed(decompressDouble(data, pos))
+            .compressedSize(4)
+            .compressedType(0)
+            .compressionDescription("FLOAT32")
+            .build();
+    }
+
+    @Override
+    public int supportedSignificandWith() {
+        return FLOAT_SIGNIFICAND_WIDTH;
+    }
+
+    private Float32DoubleCodec() {
+    }
+}
@@ -22,6 +22,8 @@ package org.neo4j.gds.core.loading;
 import org.jetbrains.annotations.NotNull;
 import org.neo4j.gds.NodeProjections;
 import org.neo4j.gds.Orientation;
+import org.neo4j.gds.PropertyMapping;
+import org.neo4j.gds.PropertyPrecision;
 import org.neo4j.gds.RelationshipProjection;
 import org.neo4j.gds.RelationshipProjections;
 import org.neo4j.gds.RelationshipType;
@@ -49,6 +51,7 @@ import org.neo4j.gds.core.utils.warnings.EmptyUserLogRegistryFactory;
 import org.neo4j.internal.id.IdGeneratorFactory;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.neo4j.gds.core.GraphDimensionsValidation.validate;
 import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
@@ -102,8 +105,19 @@ public final class NativeFactory extends CSRGraphStoreFactory<GraphProjectFromSt
         builder.add("nodeIdMap", IdMapBehaviorServiceProvider.idMapBehavior().memoryEstimation());
 
         // nodeProperties
+        var floatProperties = nodeProjections.allProjections()
+            .stream()
+            .flatMap(projection -> projection.properties().mappings().stream())
+            .filter(mapping -> mapping.precision() == PropertyPrecision.FLOAT)
+            .map(PropertyMapping::propertyKey)
+            .collect(Collectors.toSet());
         nodeProjections.allProperties()
-            .forEach(property -> builder.add(property, NodePropertiesFromStoreBuilder.memoryEstimation()));
+            .forEach(property -> builder.add(
+                property,
+                NodePropertiesFromStoreBuilder.memoryEstimation(floatProperties.contains(property)
+                    ? PropertyPrecision.FLOAT
+                    : PropertyPrecision.DOUBLE)
+            ));
 
         // relationships
         relationshipProjections.projections().forEach((relationshipType, relationshipProjection) -> {
@@ -173,7 +187,11 @@ public final class NativeFactory extends CSRGraphStoreFactory<GraphProjectFromSt
         relationshipProjection.properties().mappings().forEach(resolvedPropertyMapping -> {
             afterLoadingEstimation.add(
                 formatWithLocale("property '%s.%s", relationshipType, resolvedPropertyMapping.propertyKey()),
-                AdjacencyListBehavior.adjacencyPropertiesEstimation(relationshipType, undirected)
+                AdjacencyListBehavior.adjacencyPropertiesEstimation(
+                    relationshipType,
+                    relationshipProjection.properties(),
+                    undirected
+                )
             );
         });
 
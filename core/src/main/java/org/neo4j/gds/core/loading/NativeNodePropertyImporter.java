@@ -197,6 +197,7 @@ public final class NativeNodePropertyImporter {
                      propertyMapping.propertyKey(),
                      NodePropertiesFromStoreBuilder.of(
                          propertyMapping.defaultValue(),
+                         propertyMapping.precision(),
                          concurrency
                      )
                  ));
@@ -0,0 +1,278 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.annotation.ValueClass;
+import org.neo4j.gds.api.AdjacencyCursor;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.api.ImmutableProperties;
+import org.neo4j.gds.api.ImmutableRelationshipProperty;
+import org.neo4j.gds.api.ImmutableTopology;
+import org.neo4j.gds.api.PropertyCursor;
+import org.neo4j.gds.api.RelationshipProperty;
+import org.neo4j.gds.api.RelationshipPropertyStore;
+import org.neo4j.gds.api.Relationships;
+import org.neo4j.gds.api.properties.nodes.NodeProperty;
+import org.neo4j.gds.api.properties.nodes.NodePropertyStore;
+import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.loading.construction.GraphFactory;
+import org.neo4j.gds.core.loading.nodeproperties.LazyNodePropertyValues;
+import org.neo4j.gds.core.loading.nodeproperties.NodePropertiesFromStoreBuilder;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.paged.HugeSerialIndirectMergeSort;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Assigns new internal node ids to a loaded graph, before the graph store is built.
+ *
+ * Nodes are ordered by their degree, summed over all relationship types, in descending order.
+ * Nodes with the same degree keep their relative order.
+ * High-degree nodes are referenced by most adjacency lists, so placing them next to each other
+ * keeps the values that iterative algorithms read for them in few pages.
+ *
+ * The relabeling rewrites the id map, all node properties and all adjacency lists.
+ * The id map is always an {@link org.neo4j.gds.core.loading.ArrayIdMap}, since other
+ * id maps derive the internal id from the original id.
+ * The adjacency lists and properties of the given input are closed afterwards and must not be used anymore.
+ */
+public final class NodeRelabeling {
+
+    private NodeRelabeling() {}
+
+    @ValueClass
+    public interface Relabeled {
+        IdMapAndProperties nodes();
+
+        RelationshipsAndProperties relationships();
+    }
+
+    public static Relabeled byDescendingDegree(
+        IdMapAndProperties nodes,
+        RelationshipsAndProperties relationships,
+        int concurrency
+    ) {
+        var idMap = nodes.idMap();
+        long nodeCount = idMap.nodeCount();
+
+        var degrees = HugeLongArray.newArray(nodeCount);
+        var topologies = relationships.relationships().values();
+        ParallelUtil.parallelForEachNode(nodeCount, concurrency, node -> {
+            long degree = 0L;
+            for (var topology : topologies) {
+                degree += topology.adjacencyList().degree(node);
+            }
+            degrees.set(node, degree);
+        });
+
+        var newToOld = HugeLongArray.newArray(nodeCount);
+        newToOld.setAll(node -> node);
+        // the sort is stable, nodes with equal degree stay in store order
+        HugeSerialIndirectMergeSort.sort(newToOld, node -> -degrees.get(node));
+
+        // the degrees are no longer needed, we reuse the array for the inverse mapping
+        var oldToNew = degrees;
+        ParallelUtil.parallelForEachNode(nodeCount, concurrency, newId -> oldToNew.set(newToOld.get(newId), newId));
+
+        var relabeledIdMap = relabelIdMap(idMap, newToOld, concurrency);
+
+        return ImmutableRelabeled.of(
+            ImmutableIdMapAndProperties.of(
+                relabeledIdMap,
+                relabelNodeProperties(idMap, nodes.properties(), relabeledIdMap, concurrency)
+            ),
+            relabelRelationships(relationships, relabeledIdMap, oldToNew, concurrency)
+        );
+    }
+
+    private static IdMap relabelIdMap(IdMap idMap, HugeLongArray newToOld, int concurrency) {
+        long nodeCount = idMap.nodeCount();
+
+        var graphIds = HugeLongArray.newArray(nodeCount);
+        graphIds.setAll(newId -> idMap.toOriginalNodeId(newToOld.get(newId)));
+
+        var availableLabels = idMap.availableNodeLabels();
+        LabelInformation.Builder labelInformationBuilder;
+        if (availableLabels.size() == 1) {
+            labelInformationBuilder = LabelInformation.single(availableLabels.iterator().next());
+        } else {
+            var builder = LabelInformation.builder(nodeCount);
+            for (long node = 0; node < nodeCount; node++) {
+                long originalId = idMap.toOriginalNodeId(node);
+                idMap.forEachNodeLabel(node, label -> {
+                    builder.addNodeIdToLabel(label, originalId);
+                    return true;
+                });
+            }
+            labelInformationBuilder = builder;
+        }
+
+        return ArrayIdMapBuilderOps.build(
+            graphIds,
+            nodeCount,
+            labelInformationBuilder,
+            idMap.highestNeoId(),
+            concurrency
+        );
+    }
+
+    private static NodePropertyStore relabelNodeProperties(
+        IdMap idMap,
+        NodePropertyStore properties,
+        IdMap relabeledIdMap,
+        int concurrency
+    ) {
+        var storeBuilder = NodePropertyStore.builder();
+        properties.properties().forEach((propertyKey, property) -> {
+            var values = property.values();
+            var schema = property.propertySchema();
+            if (values instanceof LazyNodePropertyValues) {
+                // not read yet, so there is nothing to reorder
+                storeBuilder.putProperty(
+                    propertyKey,
+                    NodeProperty.of(
+                        propertyKey,
+                        schema.state(),
+                        ((LazyNodePropertyValues) values).withIdMap(relabeledIdMap),
+                        schema.defaultValue()
+                    )
+                );
+                return;
+            }
+            var builder = NodePropertiesFromStoreBuilder.of(schema.defaultValue(), concurrency);
+            // the builder is keyed by original ids, which are the same for both id maps
+            ParallelUtil.parallelForEachNode(
+                idMap.nodeCount(),
+                concurrency,
+                node -> builder.set(idMap.toOriginalNodeId(node), values.value(node))
+            );
+            storeBuilder.putProperty(
+                propertyKey,
+                NodeProperty.of(propertyKey, schema.state(), builder.build(relabeledIdMap), schema.defaultValue())
+            );
+        });
+        return storeBuilder.build();
+    }
+
+    private static RelationshipsAndProperties relabelRelationships(
+        RelationshipsAndProperties relationships,
+        IdMap relabeledIdMap,
+        HugeLongArray oldToNew,
+        int concurrency
+    ) {
+        Map<RelationshipType, Relationships.Topology> topologies = new HashMap<>();
+        Map<RelationshipType, RelationshipPropertyStore> propertyStores = new HashMap<>();
+
+        relationships.relationships().forEach((relationshipType, topology) -> {
+            var propertyStore = relationships.properties().get(relationshipType);
+            List<RelationshipProperty> properties = propertyStore == null
+                ? List.of()
+                : new ArrayList<>(propertyStore.values());
+
+            var relationshipsBuilder = GraphFactory.initRelationshipsBuilder()
+                .nodes(relabeledIdMap)
+                // undirected adjacency lists already contain both directions
+                .orientation(Orientation.NATURAL)
+                .aggregation(Aggregation.NONE)
+                .concurrency(concurrency)
+                .executorService(Pools.DEFAULT);
+            properties.forEach(property -> relationshipsBuilder.addPropertyConfig(
+                Aggregation.NONE,
+                property.defaultValue()
+            ));
+            var builder = relationshipsBuilder.build();
+
+            ParallelUtil.readParallel(concurrency, oldToNew.size(), Pools.DEFAULT, (start, end) -> {
+                var adjacencyList = topology.adjacencyList();
+                AdjacencyCursor adjacencyCursor = null;
+                var propertyCursors = new PropertyCursor[properties.size()];
+                var propertyValues = new double[properties.size()];
+
+                for (long node = start; node < end; node++) {
+                    long source = oldToNew.get(node);
+                    adjacencyCursor = adjacencyList.adjacencyCursor(adjacencyCursor, node);
+                    for (int i = 0; i < propertyCursors.length; i++) {
+                        propertyCursors[i] = properties
+                            .get(i)
+                            .values()
+                            .propertiesList()
+                            .propertyCursor(propertyCursors[i], node);
+                    }
+
+                    while (adjacencyCursor.hasNextVLong()) {
+                        long target = oldToNew.get(adjacencyCursor.nextVLong());
+                        if (propertyCursors.length == 0) {
+                            builder.addFromInternal(source, target);
+                        } else {
+                            for (int i = 0; i < propertyCursors.length; i++) {
+                                propertyValues[i] = Double.longBitsToDouble(propertyCursors[i].nextLong());
+                            }
+                            builder.addFromInternal(source, target, propertyValues);
+                        }
+                    }
+                }
+            });
+
+            var relabeled = builder.buildAll();
+
+            topologies.put(relationshipType, ImmutableTopology.of(
+                relabeled.get(0).topology().adjacencyList(),
+                topology.elementCount(),
+                topology.orientation(),
+                topology.isMultiGraph()
+            ));
+
+            if (propertyStore != null) {
+                var propertyStoreBuilder = RelationshipPropertyStore.builder();
+                for (int i = 0; i < properties.size(); i++) {
+                    var property = properties.get(i);
+                    var values = property.values();
+                    var relabeledValues = ImmutableProperties.of(
+                        relabeled.get(i).properties().orElseThrow().propertiesList(),
+                        values.elementCount(),
+                        values.orientation(),
+                        values.isMultiGraph(),
+                        values.defaultPropertyValue()
+                    );
+                    propertyStoreBuilder.putIfAbsent(
+                        property.key(),
+                        ImmutableRelationshipProperty.of(relabeledValues, property.propertySchema())
+                    );
+                    values.propertiesList().close();
+                }
+                propertyStores.put(relationshipType, propertyStoreBuilder.build());
+            }
+
+            topology.adjacencyList().close();
+        });
+
+        return ImmutableRelationshipsAndProperties.builder()
+            .relationships(topologies)
+            .properties(propertyStores)
+            .build();
+    }
+}
@@ -0,0 +1,359 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.collections.PageUtil;
+import org.neo4j.gds.core.huge.OffHeapCompressedAdjacencyList;
+import org.neo4j.gds.core.utils.PageReordering;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.utils.GdsFeatureToggles;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.IntStream;
+
+import static org.neo4j.gds.core.loading.BumpAllocator.PAGE_SHIFT;
+import static org.neo4j.gds.core.loading.BumpAllocator.PAGE_SIZE;
+
+/**
+ * Builds an {@link org.neo4j.gds.core.huge.OffHeapCompressedAdjacencyList}, i.e. a compressed adjacency list
+ * whose pages reside outside of the Java heap.
+ *
+ * Every allocator fills a single page-sized staging buffer on the heap.
+ * Once the buffer is full, or the allocator is closed, the used part of the
+ * buffer is moved into a {@link PageStore} and the buffer is reused.
+ * The address layout is the same as for {@link org.neo4j.gds.core.loading.BumpAllocator},
+ * so the resulting adjacency list can be read with the same cursors.
+ */
+public final class OffHeapCompressedAdjacencyListBuilder implements AdjacencyListBuilder<byte[], OffHeapCompressedAdjacencyList> {
+
+    private final PageStore pageStore;
+    private final AtomicInteger allocatedPages;
+
+    static OffHeapCompressedAdjacencyListBuilder direct() {
+        return new OffHeapCompressedAdjacencyListBuilder(new DirectPageStore());
+    }
+
+    static OffHeapCompressedAdjacencyListBuilder memoryMapped() {
+        return new OffHeapCompressedAdjacencyListBuilder(MappedPageStore.create());
+    }
+
+    private OffHeapCompressedAdjacencyListBuilder(PageStore pageStore) {
+        this.pageStore = pageStore;
+        this.allocatedPages = new AtomicInteger();
+    }
+
+    @Override
+    public Allocator newAllocator() {
+        return new Allocator(this);
+    }
+
+    @Override
+    public Allocator newPositionalAllocator() {
+        return newAllocator();
+    }
+
+    @Override
+    public OffHeapCompressedAdjacencyList build(HugeIntArray degrees, HugeLongArray offsets) {
+        var pages = pageStore.intoPages(allocatedPages.get());
+        if (GdsFeatureToggles.USE_REORDERED_ADJACENCY_LIST.isEnabled() && pages.length > 0) {
+            PageReordering.reorder(pages, offsets, degrees);
+        }
+        return new OffHeapCompressedAdjacencyList(pages, degrees, offsets);
+    }
+
+    private int nextPageIndex() {
+        return allocatedPages.getAndIncrement();
+    }
+
+    static final class Allocator implements AdjacencyListBuilder.Allocator<byte[]> {
+
+        private static final int NO_PAGE = -1;
+
+        private final OffHeapCompressedAdjacencyListBuilder builder;
+
+        private byte[] page;
+        private int pageIndex;
+        private int offset;
+
+        private Allocator(OffHeapCompressedAdjacencyListBuilder builder) {
+            this.builder = builder;
+            this.pageIndex = NO_PAGE;
+        }
+
+        @Override
+        public long write(byte[] targets, int length, long address) {
+            // the targets array might be a buffer that is larger than the actual data
+            int bytes = Math.min(length, targets.length);
+
+            if (bytes > PAGE_SIZE) {
+                // Oversized adjacency lists get their own page that
+                // is stored directly without going through the buffer.
+                int oversizedPageIndex = builder.nextPageIndex();
+                builder.pageStore.store(oversizedPageIndex, targets, bytes);
+                return PageUtil.capacityFor(oversizedPageIndex, PAGE_SHIFT);
+            }
+
+            if (pageIndex == NO_PAGE || offset + bytes > PAGE_SIZE) {
+                flush();
+                pageIndex = builder.nextPageIndex();
+            }
+            if (page == null) {
+                page = new byte[PAGE_SIZE];
+            }
+
+            System.arraycopy(targets, 0, page, offset, bytes);
+            long pageAddress = PageUtil.capacityFor(pageIndex, PAGE_SHIFT) + offset;
+            offset += bytes;
+            return pageAddress;
+        }
+
+        @Override
+        public void close() {
+            flush();
+            page = null;
+        }
+
+        private void flush() {
+            if (pageIndex != NO_PAGE && offset > 0) {
+                builder.pageStore.store(pageIndex, page, offset);
+            }
+            pageIndex = NO_PAGE;
+            offset = 0;
+        }
+    }
+
+    interface PageStore {
+
+        /**
+         * Stores the first {@code length} bytes of the given page at the given page index.
+         * The page can be reused by the caller once this method returns.
+         */
+        void store(int pageIndex, byte[] page, int length);
+
+        ByteBuffer[] intoPages(int numberOfPages);
+    }
+
+    /**
+     * Stores pages in direct byte buffers, which are trimmed to the used size of each page.
+     */
+    static final class DirectPageStore implements PageStore {
+
+        private final ReentrantLock lock;
+        private ByteBuffer[] pages;
+
+        DirectPageStore() {
+            this.lock = new ReentrantLock();
+            this.pages = new ByteBuffer[0];
+        }
+
+        @Override
+        public void store(int pageIndex, byte[] page, int length) {
+            var buffer = ByteBuffer.allocateDirect(length);
+            buffer.put(page, 0, length);
+
+            lock.lock();
+            try {
+                if (pageIndex >= pages.length) {
+                    pages = Arrays.copyOf(pages, Math.max(pageIndex + 1, pages.length + (pages.length >> 1)));
+                }
+                pages[pageIndex] = buffer;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public ByteBuffer[] intoPages(int numberOfPages) {
+            lock.lock();
+            try {
+                return Arrays.copyOf(pages, numberOfPages);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Appends pages to a temporary spill file and maps the file back once all pages are written.
+     * The file is mapped in as few segments as possible, every page is a slice of one segment.
+     * The spill file is removed after mapping; the mappings stay valid until they are garbage collected.
+     * If the pages are never mapped, because the import failed, the spill file is removed as soon as a
+     * write fails or the store has become unreachable.
+     */
+    static final class MappedPageStore implements PageStore {
+
+        private static final long MAX_SEGMENT_SIZE = Integer.MAX_VALUE;
+        private static final Cleaner CLEANER = Cleaner.create();
+
+        private final Path file;
+        private final FileChannel channel;
+        private final Cleaner.Cleanable spillFile;
+        private final AtomicLong fileSize;
+        private final ReentrantLock lock;
+        private long[] positions;
+        private int[] lengths;
+
+        static MappedPageStore create() {
+            Path file;
+            try {
+                file = Files.createTempFile("gds-adjacency-", ".pages");
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not create spill file for adjacency list pages", e);
+            }
+            try {
+                var channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                return new MappedPageStore(file, channel);
+            } catch (IOException e) {
+                new SpillFileRemoval(file, null).run();
+                throw new UncheckedIOException("Could not create spill file for adjacency list pages", e);
+            }
+        }
+
+        private MappedPageStore(Path file, FileChannel channel) {
+            this.file = file;
+            this.channel = channel;
+            this.spillFile = CLEANER.register(this, new SpillFileRemoval(file, channel));
+            this.fileSize = new AtomicLong();
+            this.lock = new ReentrantLock();
+            this.positions = new long[0];
+            this.lengths = new int[0];
+        }
+
+        @Override
+        public void store(int pageIndex, byte[] page, int length) {
+            long position = fileSize.getAndAdd(length);
+            var source = ByteBuffer.wrap(page, 0, length);
+            try {
+                while (source.hasRemaining()) {
+                    channel.write(source, position + source.position());
+                }
+            } catch (IOException e) {
+                spillFile.clean();
+                throw new UncheckedIOException("Could not spill adjacency list page to " + file, e);
+            }
+
+            lock.lock();
+            try {
+                if (pageIndex >= positions.length) {
+                    int newLength = Math.max(pageIndex + 1, positions.length + (positions.length >> 1));
+                    positions = Arrays.copyOf(positions, newLength);
+                    lengths = Arrays.copyOf(lengths, newLength);
+                }
+                positions[pageIndex] = position;
+                lengths[pageIndex] = length;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public ByteBuffer[] intoPages(int numberOfPages) {
+            var pages = new ByteBuffer[numberOfPages];
+            try {
+                var positions = Arrays.copyOf(this.positions, numberOfPages);
+                var lengths = Arrays.copyOf(this.lengths, numberOfPages);
+                var pagesInFileOrder = IntStream
+                    .range(0, numberOfPages)
+                    .filter(pageIndex -> lengths[pageIndex] > 0)
+                    .boxed()
+                    .sorted(Comparator.comparingLong(pageIndex -> positions[pageIndex]))
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+
+                int segmentStart = 0;
+                while (segmentStart < pagesInFileOrder.length) {
+                    long segmentPosition = positions[pagesInFileOrder[segmentStart]];
+                    int segmentEnd = segmentStart;
+                    long segmentSize = 0;
+                    while (segmentEnd < pagesInFileOrder.length) {
+                        int pageIndex = pagesInFileOrder[segmentEnd];
+                        long pageEnd = positions[pageIndex] + lengths[pageIndex] - segmentPosition;
+                        if (pageEnd > MAX_SEGMENT_SIZE) {
+                            break;
+                        }
+                        segmentSize = pageEnd;
+                        segmentEnd++;
+                    }
+
+                    MappedByteBuffer segment = channel.map(FileChannel.MapMode.READ_ONLY, segmentPosition, segmentSize);
+                    for (int i = segmentStart; i < segmentEnd; i++) {
+                        int pageIndex = pagesInFileOrder[i];
+                        int start = (int) (positions[pageIndex] - segmentPosition);
+                        var page = segment.duplicate();
+                        page.limit(start + lengths[pageIndex]);
+                        page.position(start);
+                        pages[pageIndex] = page.slice();
+                    }
+                    segmentStart = segmentEnd;
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not map adjacency list pages from " + file, e);
+            } finally {
+                spillFile.clean();
+            }
+            return pages;
+        }
+    }
+
+    /**
+     * Closes the channel and removes the spill file, must not reference the {@link MappedPageStore} it is registered for.
+     */
+    private static final class SpillFileRemoval implements Runnable {
+        private final Path file;
+        private final @Nullable FileChannel channel;
+
+        SpillFileRemoval(Path file, @Nullable FileChannel channel) {
+            this.file = file;
+            this.channel = channel;
+        }
+
+        @Override
+        public void run() {
+            if (channel != null) {
+                try {
+                    channel.close();
+                } catch (IOException ignored) {
+                    // the file is removed regardless
+                }
+            }
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                // some platforms do not allow removing a file that is still mapped
+                file.toFile().deleteOnExit();
+            }
+        }
+    }
+}
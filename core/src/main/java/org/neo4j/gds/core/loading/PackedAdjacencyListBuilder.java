@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import com.carrotsearch.hppc.LongArrayList;
+import org.neo4j.gds.core.huge.PackedAdjacencyList;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.mem.BitUtil;
+import org.neo4j.internal.unsafe.UnsafeUtil;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.neo4j.gds.core.loading.AdjacencyPacking.BLOCK_SIZE;
+import static org.neo4j.gds.core.loading.BumpAllocator.PAGE_SIZE;
+
+/**
+ * Builds a {@link org.neo4j.gds.core.huge.PackedAdjacencyList} from sorted, absolute target ids.
+ *
+ * Every allocator owns an off-heap page into which it bump-allocates the packed adjacency lists.
+ * The returned addresses are absolute memory addresses, so the pages are never reordered.
+ */
+public final class PackedAdjacencyListBuilder implements AdjacencyListBuilder<long[], PackedAdjacencyList> {
+
+    private final ReentrantLock lock;
+    private final LongArrayList pages;
+    private final LongArrayList pageSizes;
+
+    PackedAdjacencyListBuilder() {
+        this.lock = new ReentrantLock();
+        this.pages = new LongArrayList();
+        this.pageSizes = new LongArrayList();
+    }
+
+    @Override
+    public Allocator newAllocator() {
+        return new Allocator(this);
+    }
+
+    @Override
+    public Allocator newPositionalAllocator() {
+        // The topology decides the addresses, which the positional writes of the properties follow.
+        return newAllocator();
+    }
+
+    @Override
+    public PackedAdjacencyList build(HugeIntArray degrees, HugeLongArray offsets) {
+        lock.lock();
+        try {
+            return new PackedAdjacencyList(pages.toArray(), pageSizes.toArray(), degrees, offsets);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long allocatePage(long bytes) {
+        long address = PackedAdjacencyList.allocatePage(bytes);
+        lock.lock();
+        try {
+            pages.add(address);
+            pageSizes.add(bytes);
+        } finally {
+            lock.unlock();
+        }
+        return address;
+    }
+
+    static final class Allocator implements AdjacencyListBuilder.Allocator<long[]> {
+
+        private final PackedAdjacencyListBuilder builder;
+        private final long[] block;
+        private byte[] bits;
+
+        private long page;
+        private long offset;
+
+        private Allocator(PackedAdjacencyListBuilder builder) {
+            this.builder = builder;
+            this.block = new long[BLOCK_SIZE];
+            this.bits = new byte[0];
+            this.offset = PAGE_SIZE;
+        }
+
+        /**
+         * Packs the given targets, which must be sorted in ascending order.
+         * Unique targets are written as a bitmap if that is smaller than the packed blocks.
+         *
+         * @return the memory address of the packed adjacency list,
+         *     tagged with {@link PackedAdjacencyList#BITMAP_TAG} for bitmaps
+         */
+        @Override
+        public long write(long[] targets, int length, long ignoredAddress) {
+            int blocks = BitUtil.ceilDiv(length, BLOCK_SIZE);
+            if (bits.length < blocks) {
+                bits = new byte[blocks];
+            }
+
+            long bytes = PackedAdjacencyList.headerBytes(blocks);
+            long previous = 0L;
+            boolean unique = true;
+            for (int blockIdx = 0, start = 0; blockIdx < blocks; blockIdx++, start += BLOCK_SIZE) {
+                int end = Math.min(start + BLOCK_SIZE, length);
+                long deltas = 0L;
+                for (int i = start; i < end; i++) {
+                    long delta = targets[i] - previous;
+                    unique &= delta != 0L || i == 0;
+                    deltas |= delta;
+                    previous = targets[i];
+                }
+                int blockBits = Long.SIZE - Long.numberOfLeadingZeros(deltas);
+                bits[blockIdx] = (byte) blockBits;
+                bytes += (long) blockBits * Long.BYTES;
+            }
+
+            // Parallel relationships cannot be represented in a bitmap.
+            if (unique && length > 0) {
+                long bitmapBytes = PackedAdjacencyList.bitmapBytes(targets[0], targets[length - 1]);
+                if (bitmapBytes < bytes) {
+                    return writeBitmap(targets, length, bitmapBytes);
+                }
+            }
+
+            long address = allocate(bytes);
+
+            long ptr = address;
+            for (int blockIdx = 0; blockIdx < blocks; blockIdx++) {
+                int lastIdx = Math.min((blockIdx + 1) * BLOCK_SIZE, length) - 1;
+                UnsafeUtil.putLong(ptr, targets[lastIdx]);
+                ptr += Long.BYTES;
+            }
+            for (int blockIdx = 0; blockIdx < blocks; blockIdx++) {
+                UnsafeUtil.putByte(ptr + blockIdx, bits[blockIdx]);
+            }
+            ptr += BitUtil.align(blocks, Long.BYTES);
+
+            previous = 0L;
+            for (int blockIdx = 0, start = 0; blockIdx < blocks; blockIdx++, start += BLOCK_SIZE) {
+                int blockLength = Math.min(BLOCK_SIZE, length - start);
+                for (int i = 0; i < blockLength; i++) {
+                    long target = targets[start + i];
+                    block[i] = target - previous;
+                    previous = target;
+                }
+                // the tail block is padded with zero deltas
+                for (int i = blockLength; i < BLOCK_SIZE; i++) {
+                    block[i] = 0L;
+                }
+                ptr = AdjacencyPacking.pack(bits[blockIdx], block, 0, ptr);
+            }
+
+            return address;
+        }
+
+        private long writeBitmap(long[] targets, int length, long bytes) {
+            long address = allocate(bytes);
+            long first = targets[0];
+            long words = address + 2L * Long.BYTES;
+            UnsafeUtil.putLong(address, first);
+            UnsafeUtil.putLong(address + Long.BYTES, targets[length - 1]);
+
+            long base = PackedAdjacencyList.bitmapBase(first);
+            long wordIndex = 0L;
+            long word = 0L;
+            for (int i = 0; i < length; i++) {
+                long bit = targets[i] - base;
+                if ((bit >>> 6) != wordIndex) {
+                    UnsafeUtil.putLong(words + wordIndex * Long.BYTES, word);
+                    // words without any target are zeroed explicitly, the page is not cleared
+                    while (++wordIndex < (bit >>> 6)) {
+                        UnsafeUtil.putLong(words + wordIndex * Long.BYTES, 0L);
+                    }
+                    word = 0L;
+                }
+                word |= 1L << bit;
+            }
+            UnsafeUtil.putLong(words + wordIndex * Long.BYTES, word);
+
+            return address | PackedAdjacencyList.BITMAP_TAG;
+        }
+
+        private long allocate(long bytes) {
+            if (bytes > PAGE_SIZE) {
+                // Oversized adjacency lists get their own page.
+                return builder.allocatePage(bytes);
+            }
+            if (offset + bytes > PAGE_SIZE) {
+                page = builder.allocatePage(PAGE_SIZE);
+                offset = 0L;
+            }
+            long address = page + offset;
+            offset += bytes;
+            return address;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -19,7 +19,6 @@
  */
 package org.neo4j.gds.core.loading;
 
-import com.carrotsearch.hppc.sorting.IndirectSort;
 import org.neo4j.gds.PropertyMappings;
 import org.neo4j.gds.api.AdjacencyList;
 import org.neo4j.gds.api.AdjacencyProperties;
@@ -27,7 +26,6 @@ import org.neo4j.gds.core.Aggregation;
 import org.neo4j.gds.core.compress.AdjacencyCompressor;
 import org.neo4j.gds.core.compress.AdjacencyCompressorFactory;
 import org.neo4j.gds.core.compress.LongArrayBuffer;
-import org.neo4j.gds.core.utils.AscendingLongComparator;
 import org.neo4j.gds.core.utils.paged.HugeIntArray;
 import org.neo4j.gds.core.utils.paged.HugeLongArray;
 
@@ -53,7 +51,11 @@ public final class RawCompressor implements AdjacencyCompressor {
     ) {
         @SuppressWarnings("unchecked")
         AdjacencyListBuilder<long[], ? extends AdjacencyProperties>[] propertyBuilders = new AdjacencyListBuilder[propertyMappings.numberOfMappings()];
-        Arrays.setAll(propertyBuilders, i -> adjacencyListBuilderFactory.newAdjacencyPropertiesBuilder());
+        var float32Properties = Float32AdjacencyPropertiesBuilder.appliesTo(propertyMappings);
+        Arrays.setAll(propertyBuilders, i -> float32Properties
+            ? new Float32AdjacencyPropertiesBuilder()
+            : adjacencyListBuilderFactory.newAdjacencyPropertiesBuilder()
+        );
 
         return new Factory(
             nodeCountSupplier,
@@ -142,7 +144,7 @@ public final class RawCompressor implements AdjacencyCompressor {
         var values = targets.buffer;
         var length = targets.length;
 
-        Arrays.sort(values, 0, length);
+        AdjacencyCompression.sort(values, length);
 
         if (aggregation == Aggregation.NONE) {
             return length;
@@ -164,7 +166,7 @@ public final class RawCompressor implements AdjacencyCompressor {
         var values = targets.buffer;
         var length = targets.length;
 
-        int[] order = IndirectSort.mergesort(0, length, new AscendingLongComparator(values));
+        int[] order = AdjacencyCompression.sortOrder(values, length);
 
         long[] outValues = new long[length];
         long[][] outProperties = new long[properties.length][length];
@@ -21,6 +21,7 @@ package org.neo4j.gds.core.loading;
 
 import org.immutables.builder.Builder;
 import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.NodeLabel;
 import org.neo4j.gds.PropertyMapping;
 import org.neo4j.gds.api.GraphLoaderContext;
 import org.neo4j.gds.api.IdMap;
@@ -29,6 +30,7 @@ import org.neo4j.gds.config.GraphProjectFromStoreConfig;
 import org.neo4j.gds.core.GraphDimensions;
 import org.neo4j.gds.core.IdMapBehaviorServiceProvider;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.loading.nodeproperties.LazyNodePropertyValues;
 import org.neo4j.gds.core.loading.nodeproperties.NodePropertiesFromStoreBuilder;
 import org.neo4j.gds.core.utils.TerminationFlag;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
@@ -40,8 +42,10 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.RoundingMode;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
@@ -53,6 +57,7 @@ public final class ScanningNodesImporter extends ScanningRecordsImporter<NodeRef
     private final IdMapBuilder idMapBuilder;
     private final LabelInformation.Builder labelInformationBuilder;
     private final @Nullable NativeNodePropertyImporter nodePropertyImporter;
+    private final boolean lazyNodeProperties;
 
     @Builder.Factory
     public static ScanningNodesImporter scanningNodesImporter(
@@ -89,11 +94,11 @@ public final class ScanningNodesImporter extends ScanningRecordsImporter<NodeRef
             loadingContext.transactionContext()
         );
 
-        var nodePropertyImporter = initializeNodePropertyImporter(
-            propertyMappings,
-            dimensions,
-            concurrency
-        );
+        // lazy properties are read from the database once they are requested, not during the scan
+        var lazyNodeProperties = GdsFeatureToggles.USE_LAZY_NODE_PROPERTIES.isEnabled();
+        var nodePropertyImporter = lazyNodeProperties
+            ? null
+            : initializeNodePropertyImporter(propertyMappings, dimensions, concurrency);
 
         return new ScanningNodesImporter(
             scannerFactory,
@@ -103,6 +108,7 @@ public final class ScanningNodesImporter extends ScanningRecordsImporter<NodeRef
             concurrency,
             propertyMappings,
             nodePropertyImporter,
+            lazyNodeProperties,
             idMapBuilder,
             labelInformationBuilder
         );
@@ -116,6 +122,7 @@ public final class ScanningNodesImporter extends ScanningRecordsImporter<NodeRef
         int concurrency,
         IndexPropertyMappings.LoadablePropertyMappings propertyMappings,
         @Nullable NativeNodePropertyImporter nodePropertyImporter,
+        boolean lazyNodeProperties,
         IdMapBuilder idMapBuilder,
         LabelInformation.Builder labelInformationBuilder
     ) {
@@ -130,6 +137,7 @@ public final class ScanningNodesImporter extends ScanningRecordsImporter<NodeRef
         this.terminationFlag = loadingContext.terminationFlag();
         this.propertyMappings = propertyMappings;
         this.nodePropertyImporter = nodePropertyImporter;
+        this.lazyNodeProperties = lazyNodeProperties;
         this.idMapBuilder = idMapBuilder;
         this.labelInformationBuilder = labelInformationBuilder;
     }
@@ -183,6 +191,10 @@ public final class ScanningNodesImporter extends ScanningRecordsImporter<NodeRef
             ? new HashMap<>()
             : nodePropertyImporter.result(idMap);
 
+        if (lazyNodeProperties) {
+            nodeProperties.putAll(lazyNodeProperties(idMap));
+        }
+
         if (!propertyMappings.indexedProperties().isEmpty()) {
             importPropertiesFromIndex(idMap, nodeProperties);
         }
@@ -190,6 +202,31 @@ public final class ScanningNodesImporter extends ScanningRecordsImporter<NodeRef
         return IdMapAndProperties.of(idMap, nodeProperties);
     }
 
+    private Map<PropertyMapping, NodePropertyValues> lazyNodeProperties(IdMap idMap) {
+        var mappingsByKey = new HashMap<String, PropertyMapping>();
+        var labelsByKey = new HashMap<String, Set<NodeLabel>>();
+        propertyMappings.storedProperties().forEach((label, mappings) -> {
+            for (var mapping : mappings) {
+                mappingsByKey.putIfAbsent(mapping.propertyKey(), mapping);
+                labelsByKey.computeIfAbsent(mapping.propertyKey(), __ -> new HashSet<>()).add(label);
+            }
+        });
+
+        var nodeProperties = new HashMap<PropertyMapping, NodePropertyValues>();
+        mappingsByKey.forEach((propertyKey, mapping) -> nodeProperties.put(
+            mapping,
+            LazyNodePropertyValues.of(
+                transaction,
+                idMap,
+                mapping,
+                dimensions.nodePropertyTokens().get(mapping.neoPropertyKey()),
+                labelsByKey.get(propertyKey),
+                concurrency
+            )
+        ));
+        return nodeProperties;
+    }
+
     private void importPropertiesFromIndex(
         IdMap idMap,
         Map<PropertyMapping, NodePropertyValues> nodeProperties
@@ -214,7 +251,11 @@ public final class ScanningNodesImporter extends ScanningRecordsImporter<NodeRef
                 .stream()
                 .flatMap(propertyMappings -> propertyMappings.mappings().stream())
                 .forEach(propertyMapping ->
-                    buildersByPropertyKey.put(propertyMapping.property(), NodePropertiesFromStoreBuilder.of(propertyMapping.property().defaultValue(), concurrency)));
+                    buildersByPropertyKey.put(propertyMapping.property(), NodePropertiesFromStoreBuilder.of(
+                        propertyMapping.property().defaultValue(),
+                        propertyMapping.property().precision(),
+                        concurrency
+                    )));
 
             var indexScanningImporters = propertyMappings.indexedProperties()
                 .entrySet()
@@ -30,6 +30,7 @@ import org.neo4j.gds.core.Aggregation;
 import org.neo4j.gds.core.compress.AdjacencyCompressor;
 import org.neo4j.gds.core.compress.AdjacencyCompressorFactory;
 import org.neo4j.gds.core.compress.AdjacencyListBehavior;
+import org.neo4j.gds.core.compress.AdjacencyPageStore;
 import org.neo4j.gds.core.compress.AdjacencyListsWithProperties;
 import org.neo4j.kernel.api.KernelTransaction;
 
@@ -60,7 +61,8 @@ public final class SingleTypeRelationshipImporter {
         var adjacencyCompressorFactory = AdjacencyListBehavior.asConfigured(
             nodeCountSupplier,
             importMetaData.projection().properties(),
-            importMetaData.aggregations()
+            importMetaData.aggregations(),
+            importMetaData.adjacencyPageStore()
         );
 
         var adjacencyBuffer = new AdjacencyBufferBuilder()
@@ -161,6 +163,15 @@ public final class SingleTypeRelationshipImporter {
 
         int typeTokenId();
 
+        /**
+         * Where the pages of a compressed adjacency list for this relationship type are stored.
+         * Defaults to the globally configured feature toggles.
+         */
+        @Value.Default
+        default AdjacencyPageStore adjacencyPageStore() {
+            return AdjacencyPageStore.asConfigured();
+        }
+
         static ImportMetaData of(
             RelationshipProjection projection,
             int typeTokenId,
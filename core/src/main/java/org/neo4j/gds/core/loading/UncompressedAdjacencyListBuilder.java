@@ -50,7 +50,7 @@ public final class UncompressedAdjacencyListBuilder implements AdjacencyListBuil
         return new UncompressedAdjacencyList(intoPages, degrees, offsets);
     }
 
-    private enum Factory implements BumpAllocator.Factory<long[]> {
+    enum Factory implements BumpAllocator.Factory<long[]> {
         INSTANCE;
 
         @Override
@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.core.loading.nodeproperties;
 
+import org.neo4j.gds.PropertyPrecision;
 import org.neo4j.gds.api.DefaultValue;
 import org.neo4j.gds.api.IdMap;
 import org.neo4j.gds.api.properties.nodes.DoubleNodePropertyValues;
@@ -26,6 +27,7 @@ import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
 import org.neo4j.gds.collections.HugeSparseDoubleArray;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
 import org.neo4j.gds.utils.Neo4jValueConversion;
 import org.neo4j.values.storable.Value;
 
@@ -58,13 +60,23 @@ public class DoubleNodePropertiesBuilder extends InnerNodePropertiesBuilder {
 
     private final HugeSparseDoubleArray.Builder builder;
     private final double defaultValue;
+    private final PropertyPrecision precision;
     private final int concurrency;
 
     public DoubleNodePropertiesBuilder(
         DefaultValue defaultValue,
         int concurrency
+    ) {
+        this(defaultValue, PropertyPrecision.DOUBLE, concurrency);
+    }
+
+    public DoubleNodePropertiesBuilder(
+        DefaultValue defaultValue,
+        PropertyPrecision precision,
+        int concurrency
     ) {
         this.defaultValue = defaultValue.doubleValue();
+        this.precision = precision;
         this.concurrency = concurrency;
         this.maxValue = Double.NEGATIVE_INFINITY;
         this.builder = HugeSparseDoubleArray.builder(
@@ -134,6 +146,10 @@ public class DoubleNodePropertiesBuilder extends InnerNodePropertiesBuilder {
             ? OptionalDouble.of((double) MAX_VALUE.getVolatile(DoubleNodePropertiesBuilder.this))
             : OptionalDouble.empty();
 
+        if (precision == PropertyPrecision.FLOAT) {
+            return Float32StoreNodePropertyValues.of(propertyValues, idMap.nodeCount(), size, maybeMaxValue, concurrency);
+        }
+
         return new DoubleStoreNodePropertyValues(propertyValues, size, maybeMaxValue);
     }
 
@@ -197,4 +213,53 @@ public class DoubleNodePropertiesBuilder extends InnerNodePropertiesBuilder {
             return size;
         }
     }
+
+    /**
+     * Stores every value as the nearest {@code float}, which halves the memory of a dense property.
+     */
+    static final class Float32StoreNodePropertyValues implements DoubleNodePropertyValues {
+        private final HugeIntArray floatBits;
+        private final long size;
+        private final OptionalDouble maxValue;
+
+        static Float32StoreNodePropertyValues of(
+            HugeSparseDoubleArray propertyValues,
+            long nodeCount,
+            long size,
+            OptionalDouble maxValue,
+            int concurrency
+        ) {
+            var floatBits = HugeIntArray.newArray(nodeCount);
+            ParallelUtil.parallelForEachNode(
+                nodeCount,
+                concurrency,
+                nodeId -> floatBits.set(nodeId, Float.floatToRawIntBits((float) propertyValues.get(nodeId)))
+            );
+            var roundedMaxValue = maxValue.isPresent()
+                ? OptionalDouble.of((float) maxValue.getAsDouble())
+                : OptionalDouble.empty();
+            return new Float32StoreNodePropertyValues(floatBits, size, roundedMaxValue);
+        }
+
+        private Float32StoreNodePropertyValues(HugeIntArray floatBits, long size, OptionalDouble maxValue) {
+            this.floatBits = floatBits;
+            this.size = size;
+            this.maxValue = maxValue;
+        }
+
+        @Override
+        public double doubleValue(long nodeId) {
+            return Float.intBitsToFloat(floatBits.get(nodeId));
+        }
+
+        @Override
+        public OptionalDouble getMaxDoublePropertyValue() {
+            return maxValue;
+        }
+
+        @Override
+        public long size() {
+            return size;
+        }
+    }
 }
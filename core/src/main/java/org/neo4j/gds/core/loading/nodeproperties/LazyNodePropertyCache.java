@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading.nodeproperties;
+
+import org.neo4j.gds.utils.GdsFeatureToggles;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.function.IntSupplier;
+
+/**
+ * Bounds the number of materialized {@link LazyNodePropertyValues} columns over all graphs.
+ * Once more columns are materialized than allowed, the least recently used ones are evicted.
+ * Columns are ordered by when they were materialized, columns that were accessed since then
+ * get a second chance and are moved to the back instead of being evicted.
+ * Algorithms that are still holding on to an evicted column can keep using it,
+ * the memory is freed once the last of them finished.
+ */
+public final class LazyNodePropertyCache {
+
+    private static final LazyNodePropertyCache GLOBAL = new LazyNodePropertyCache(
+        GdsFeatureToggles.LAZY_NODE_PROPERTIES_CACHE_SIZE::get
+    );
+
+    private final IntSupplier capacity;
+    // access ordered, the eldest entry is the least recently used column
+    private final LinkedHashMap<LazyNodePropertyValues, Boolean> columns;
+
+    public static LazyNodePropertyCache global() {
+        return GLOBAL;
+    }
+
+    LazyNodePropertyCache(IntSupplier capacity) {
+        this.capacity = capacity;
+        this.columns = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    void touch(LazyNodePropertyValues values) {
+        var evicted = new ArrayList<LazyNodePropertyValues>();
+        synchronized (this) {
+            columns.put(values, Boolean.TRUE);
+            var maxColumns = Math.max(1, capacity.getAsInt());
+            // every column gets at most one second chance, so this terminates after two rounds
+            var candidates = 2 * columns.size();
+            while (columns.size() > maxColumns && candidates-- > 0) {
+                var eldest = columns.keySet().iterator().next();
+                if (eldest == values || eldest.clearReferenced()) {
+                    // accessing the column moves it to the back of the access order
+                    columns.get(eldest);
+                } else {
+                    evicted.add(eldest);
+                    columns.remove(eldest);
+                }
+            }
+        }
+        evicted.forEach(LazyNodePropertyValues::evict);
+    }
+
+    synchronized void remove(LazyNodePropertyValues values) {
+        columns.remove(values);
+    }
+
+    public synchronized int size() {
+        return columns.size();
+    }
+}
@@ -0,0 +1,407 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading.nodeproperties;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.PropertyMapping;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.compat.Neo4jProxy;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.loading.ValueConverter;
+import org.neo4j.gds.core.utils.partition.Partition;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.mem.MemoryUsage;
+import org.neo4j.gds.transaction.TransactionContext;
+import org.neo4j.internal.kernel.api.NodeCursor;
+import org.neo4j.internal.kernel.api.PropertyCursor;
+import org.neo4j.kernel.api.KernelTransaction;
+import org.neo4j.values.storable.Value;
+import org.neo4j.values.storable.Values;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+import static org.neo4j.values.storable.Values.NO_VALUE;
+
+/**
+ * Node property values that are read from the database the first time they are requested.
+ *
+ * Only the value type is determined during projection, by reading the property of some node that has one.
+ * The materialized column is kept in the {@link LazyNodePropertyCache} and is read again once it was evicted.
+ * Values are read under the security context of the user who projected the graph.
+ * <p>
+ * Values reflect the database at the time they are read, not at projection time.
+ * Nodes that no longer carry any of the projected labels, e.g. because they were deleted
+ * and their id was reused, get the default value instead.
+ * Projections of all nodes cannot detect reused ids, the feature is therefore meant for graphs
+ * whose nodes are not deleted while the projection is in use.
+ */
+public final class LazyNodePropertyValues implements NodePropertyValues, MemoryUsage.Sized {
+
+    private final TransactionContext transactionContext;
+    private final IdMap idMap;
+    private final PropertyMapping propertyMapping;
+    private final int propertyToken;
+    private final Collection<NodeLabel> labels;
+    private final ValueType valueType;
+    private final int concurrency;
+    private final LazyNodePropertyCache cache;
+
+    private volatile @Nullable NodePropertyValues materialized;
+    // set on every access, cleared by the cache when it looks for a column to evict
+    private volatile boolean referenced;
+
+    /**
+     * @param labels the labels for which the property is projected, values of nodes without one of them are not read
+     */
+    public static LazyNodePropertyValues of(
+        TransactionContext transactionContext,
+        IdMap idMap,
+        PropertyMapping propertyMapping,
+        int propertyToken,
+        Collection<NodeLabel> labels,
+        int concurrency
+    ) {
+        var valueType = probeValueType(transactionContext, idMap, propertyMapping, propertyToken, labels, concurrency);
+        return new LazyNodePropertyValues(
+            transactionContext,
+            idMap,
+            propertyMapping,
+            propertyToken,
+            labels,
+            valueType,
+            concurrency,
+            LazyNodePropertyCache.global()
+        );
+    }
+
+    LazyNodePropertyValues(
+        TransactionContext transactionContext,
+        IdMap idMap,
+        PropertyMapping propertyMapping,
+        int propertyToken,
+        Collection<NodeLabel> labels,
+        ValueType valueType,
+        int concurrency,
+        LazyNodePropertyCache cache
+    ) {
+        this.transactionContext = transactionContext;
+        this.idMap = idMap;
+        this.propertyMapping = propertyMapping;
+        this.propertyToken = propertyToken;
+        this.labels = labels;
+        this.valueType = valueType;
+        this.concurrency = concurrency;
+        this.cache = cache;
+    }
+
+    /**
+     * Returns lazy values for the same property on a relabeled id map.
+     * Nothing is read from the database.
+     */
+    public LazyNodePropertyValues withIdMap(IdMap idMap) {
+        return new LazyNodePropertyValues(
+            transactionContext,
+            idMap,
+            propertyMapping,
+            propertyToken,
+            labels,
+            valueType,
+            concurrency,
+            cache
+        );
+    }
+
+    public boolean isMaterialized() {
+        return materialized != null;
+    }
+
+    /**
+     * Returns the values of the property, reading them from the database if they are not in memory.
+     * This marks the column as recently used, callers should hold on to the returned instance
+     * rather than reading single values through this class.
+     */
+    public NodePropertyValues materialize() {
+        var values = values();
+        cache.touch(this);
+        return values;
+    }
+
+    private NodePropertyValues values() {
+        var values = materialized;
+        if (values == null) {
+            values = load();
+            cache.touch(this);
+        } else if (!referenced) {
+            referenced = true;
+        }
+        return values;
+    }
+
+    /**
+     * @return whether the values were accessed since the last call
+     */
+    boolean clearReferenced() {
+        var wasReferenced = referenced;
+        referenced = false;
+        return wasReferenced;
+    }
+
+    private synchronized NodePropertyValues load() {
+        var values = materialized;
+        if (values == null) {
+            values = readFromDatabase();
+            materialized = values;
+        }
+        return values;
+    }
+
+    /**
+     * Drops the materialized values, they are read again on the next access.
+     */
+    void evict() {
+        materialized = null;
+    }
+
+    /**
+     * Counts the materialized values only, the database and the shared cache are not owned by a graph.
+     */
+    @Override
+    public long sizeOf() {
+        var values = materialized;
+        return values == null ? 0L : MemoryUsage.sizeOf(values);
+    }
+
+    @Override
+    public ValueType valueType() {
+        return valueType;
+    }
+
+    @Override
+    public long size() {
+        return values().size();
+    }
+
+    @Override
+    public long release() {
+        cache.remove(this);
+        var values = materialized;
+        materialized = null;
+        return values == null ? 0 : values.release();
+    }
+
+    @Override
+    public double doubleValue(long nodeId) {
+        return values().doubleValue(nodeId);
+    }
+
+    @Override
+    public long longValue(long nodeId) {
+        return values().longValue(nodeId);
+    }
+
+    @Override
+    public @Nullable double[] doubleArrayValue(long nodeId) {
+        return values().doubleArrayValue(nodeId);
+    }
+
+    @Override
+    public @Nullable float[] floatArrayValue(long nodeId) {
+        return values().floatArrayValue(nodeId);
+    }
+
+    @Override
+    public @Nullable long[] longArrayValue(long nodeId) {
+        return values().longArrayValue(nodeId);
+    }
+
+    @Override
+    public @Nullable Object getObject(long nodeId) {
+        return values().getObject(nodeId);
+    }
+
+    @Override
+    public Value value(long nodeId) {
+        return values().value(nodeId);
+    }
+
+    @Override
+    public OptionalLong getMaxLongPropertyValue() {
+        return values().getMaxLongPropertyValue();
+    }
+
+    @Override
+    public OptionalDouble getMaxDoublePropertyValue() {
+        return values().getMaxDoublePropertyValue();
+    }
+
+    private NodePropertyValues readFromDatabase() {
+        var builder = NodePropertiesFromStoreBuilder.of(
+            propertyMapping.defaultValue(),
+            propertyMapping.precision(),
+            concurrency
+        );
+
+        var tasks = PartitionUtils.rangePartition(
+            concurrency,
+            idMap.nodeCount(),
+            partition -> (Runnable) () -> transactionContext.accept((tx, ktx) -> readPartition(ktx, partition, builder)),
+            Optional.empty()
+        );
+        ParallelUtil.run(tasks, Pools.DEFAULT);
+
+        return builder.build(idMap);
+    }
+
+    private void readPartition(KernelTransaction ktx, Partition partition, NodePropertiesFromStoreBuilder builder) {
+        var labelTokens = labelTokens(ktx, labels);
+        try (
+            var nodeCursor = Neo4jProxy.allocateNodeCursor(ktx);
+            var propertyCursor = Neo4jProxy.allocatePropertyCursor(ktx)
+        ) {
+            partition.consume(nodeId -> {
+                if (hasProjectedLabel(idMap, labels, nodeId)) {
+                    var neoNodeId = idMap.toOriginalNodeId(nodeId);
+                    var value = readValue(ktx, nodeCursor, propertyCursor, neoNodeId, propertyToken, labelTokens);
+                    builder.set(neoNodeId, value);
+                }
+            });
+        }
+    }
+
+    /**
+     * Reads the property of the nodes in parallel until the first partition found a node that has it.
+     */
+    private static ValueType probeValueType(
+        TransactionContext transactionContext,
+        IdMap idMap,
+        PropertyMapping propertyMapping,
+        int propertyToken,
+        Collection<NodeLabel> labels,
+        int concurrency
+    ) {
+        var probedValueType = new AtomicReference<ValueType>();
+        var tasks = PartitionUtils.rangePartition(
+            concurrency,
+            idMap.nodeCount(),
+            partition -> (Runnable) () -> transactionContext.accept((tx, ktx) -> {
+                var labelTokens = labelTokens(ktx, labels);
+                try (
+                    var nodeCursor = Neo4jProxy.allocateNodeCursor(ktx);
+                    var propertyCursor = Neo4jProxy.allocatePropertyCursor(ktx)
+                ) {
+                    long endNode = partition.startNode() + partition.nodeCount();
+                    for (long nodeId = partition.startNode(); nodeId < endNode; nodeId++) {
+                        if (probedValueType.get() != null) {
+                            return;
+                        }
+                        if (!hasProjectedLabel(idMap, labels, nodeId)) {
+                            continue;
+                        }
+                        var neoNodeId = idMap.toOriginalNodeId(nodeId);
+                        var value = readValue(ktx, nodeCursor, propertyCursor, neoNodeId, propertyToken, labelTokens);
+                        if (value != NO_VALUE) {
+                            probedValueType.compareAndSet(null, ValueConverter.valueType(value));
+                            return;
+                        }
+                    }
+                }
+            }),
+            Optional.empty()
+        );
+        ParallelUtil.run(tasks, Pools.DEFAULT);
+
+        var valueType = probedValueType.get();
+        if (valueType != null) {
+            return valueType;
+        }
+
+        var defaultValue = propertyMapping.defaultValue().getObject();
+        if (defaultValue == null) {
+            throw new IllegalStateException(formatWithLocale(
+                "Cannot infer type of property `%s`",
+                propertyMapping.neoPropertyKey()
+            ));
+        }
+        return ValueConverter.valueType(Values.of(defaultValue));
+    }
+
+    // the node id may have been reused by a node that is not part of the projection
+    private static boolean hasAnyLabel(NodeCursor nodeCursor, @Nullable int[] labelTokens) {
+        if (labelTokens == null) {
+            return true;
+        }
+        for (int labelToken : labelTokens) {
+            if (nodeCursor.hasLabel(labelToken)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasProjectedLabel(IdMap idMap, Collection<NodeLabel> labels, long nodeId) {
+        for (var label : labels) {
+            if (label.equals(NodeLabel.ALL_NODES) || idMap.hasLabel(nodeId, label)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the tokens of the projected labels, or {@code null} if all nodes are projected
+     */
+    private static @Nullable int[] labelTokens(KernelTransaction ktx, Collection<NodeLabel> labels) {
+        if (labels.contains(NodeLabel.ALL_NODES)) {
+            return null;
+        }
+        var tokenRead = ktx.tokenRead();
+        return labels.stream().mapToInt(label -> tokenRead.nodeLabel(label.name)).toArray();
+    }
+
+    private static Value readValue(
+        KernelTransaction ktx,
+        NodeCursor nodeCursor,
+        PropertyCursor propertyCursor,
+        long neoNodeId,
+        int propertyToken,
+        @Nullable int[] labelTokens
+    ) {
+        ktx.dataRead().singleNode(neoNodeId, nodeCursor);
+        if (!nodeCursor.next() || !hasAnyLabel(nodeCursor, labelTokens)) {
+            return NO_VALUE;
+        }
+        Neo4jProxy.nodeProperties(ktx, neoNodeId, Neo4jProxy.propertyReference(nodeCursor), propertyCursor);
+        while (propertyCursor.next()) {
+            if (propertyCursor.propertyKey() == propertyToken) {
+                return propertyCursor.propertyValue();
+            }
+        }
+        return NO_VALUE;
+    }
+}
@@ -26,6 +26,7 @@ import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
 import org.neo4j.gds.collections.HugeSparseLongArray;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.utils.GdsFeatureToggles;
 import org.neo4j.gds.utils.Neo4jValueConversion;
 import org.neo4j.values.storable.Value;
 
@@ -141,6 +142,20 @@ public class LongNodePropertiesBuilder extends InnerNodePropertiesBuilder {
             ? OptionalLong.of((long) MAX_VALUE.getVolatile(LongNodePropertiesBuilder.this))
             : OptionalLong.empty();
 
+        if (GdsFeatureToggles.USE_PACKED_NODE_PROPERTIES.isEnabled()) {
+            var packedValues = PackedLongNodePropertyValues.of(
+                propertyValues,
+                defaultValue,
+                idMap.nodeCount(),
+                size,
+                maybeMaxValue,
+                concurrency
+            );
+            if (packedValues.isPresent()) {
+                return packedValues.get();
+            }
+        }
+
         return new LongStoreNodePropertyValues(propertyValues, size, maybeMaxValue);
     }
 
@@ -19,14 +19,21 @@
  */
 package org.neo4j.gds.core.loading.nodeproperties;
 
+import org.neo4j.gds.PropertyPrecision;
 import org.neo4j.gds.api.DefaultValue;
 import org.neo4j.gds.api.IdMap;
 import org.neo4j.gds.api.nodeproperties.ValueType;
 import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
 import org.neo4j.gds.collections.HugeSparseCollections;
+import org.neo4j.gds.core.GraphDimensions;
 import org.neo4j.gds.core.loading.ValueConverter;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.mem.BitUtil;
+import org.neo4j.gds.utils.GdsFeatureToggles;
 import org.neo4j.values.storable.Value;
 import org.neo4j.values.storable.Values;
 
@@ -40,36 +47,74 @@ public final class NodePropertiesFromStoreBuilder {
 
     private static final MemoryEstimation MEMORY_ESTIMATION = MemoryEstimations
         .builder(NodePropertiesFromStoreBuilder.class)
+        .rangePerGraphDimension("property values", NodePropertiesFromStoreBuilder::estimatePropertyValues)
+        .build();
+
+    // packed values are built while the sparse values are still alive
+    private static final MemoryEstimation PACKED_MEMORY_ESTIMATION = MemoryEstimations
+        .builder(NodePropertiesFromStoreBuilder.class)
+        .rangePerGraphDimension("property values", NodePropertiesFromStoreBuilder::estimatePropertyValues)
         .rangePerGraphDimension(
-            "property values",
-            (dimensions, concurrency) -> HugeSparseCollections.estimateLong(
-                dimensions.nodeCount(),
-                dimensions.nodeCount()
+            "packed property values",
+            (dimensions, concurrency) -> MemoryRange.of(
+                HugeLongArray.memoryEstimation(0),
+                HugeLongArray.memoryEstimation(BitUtil.ceilDiv(
+                    dimensions.nodeCount() * PackedLongNodePropertyValues.MAX_BITS,
+                    Long.SIZE
+                ))
             )
         )
         .build();
 
+    private static final MemoryEstimation FLOAT_MEMORY_ESTIMATION = MemoryEstimations
+        .builder(NodePropertiesFromStoreBuilder.class)
+        .perNode("property values", HugeIntArray::memoryEstimation)
+        .build();
+
+    private static MemoryRange estimatePropertyValues(GraphDimensions dimensions, int concurrency) {
+        return HugeSparseCollections.estimateLong(dimensions.nodeCount(), dimensions.nodeCount());
+    }
+
     public static MemoryEstimation memoryEstimation() {
-        return MEMORY_ESTIMATION;
+        return GdsFeatureToggles.USE_PACKED_NODE_PROPERTIES.isEnabled()
+            ? PACKED_MEMORY_ESTIMATION
+            : MEMORY_ESTIMATION;
+    }
+
+    public static MemoryEstimation memoryEstimation(PropertyPrecision precision) {
+        return precision == PropertyPrecision.FLOAT
+            ? FLOAT_MEMORY_ESTIMATION
+            : memoryEstimation();
+    }
+
+    public static NodePropertiesFromStoreBuilder of(
+        DefaultValue defaultValue,
+        int concurrency
+    ) {
+        return of(defaultValue, PropertyPrecision.DOUBLE, concurrency);
     }
 
     public static NodePropertiesFromStoreBuilder of(
         DefaultValue defaultValue,
+        PropertyPrecision precision,
         int concurrency
     ) {
-        return new NodePropertiesFromStoreBuilder(defaultValue, concurrency);
+        return new NodePropertiesFromStoreBuilder(defaultValue, precision, concurrency);
     }
 
     private final DefaultValue defaultValue;
+    private final PropertyPrecision precision;
     private final int concurrency;
     private final AtomicReference<InnerNodePropertiesBuilder> innerBuilder;
     private final LongAdder size;
 
     private NodePropertiesFromStoreBuilder(
         DefaultValue defaultValue,
+        PropertyPrecision precision,
         int concurrency
     ) {
         this.defaultValue = defaultValue;
+        this.precision = precision;
         this.concurrency = concurrency;
         this.innerBuilder = new AtomicReference<>();
         this.size = new LongAdder();
@@ -111,7 +156,7 @@ public final class NodePropertiesFromStoreBuilder {
             case LONG:
                 return LongNodePropertiesBuilder.of(defaultValue, concurrency);
             case DOUBLE:
-                return new DoubleNodePropertiesBuilder(defaultValue, concurrency);
+                return new DoubleNodePropertiesBuilder(defaultValue, precision, concurrency);
             case DOUBLE_ARRAY:
                 return new DoubleArrayNodePropertiesBuilder(defaultValue, concurrency);
             case FLOAT_ARRAY:
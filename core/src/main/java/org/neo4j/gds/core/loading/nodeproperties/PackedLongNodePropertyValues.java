@@ -0,0 +1,370 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading.nodeproperties;
+
+import com.carrotsearch.hppc.LongHashSet;
+import org.neo4j.gds.api.properties.nodes.LongNodePropertyValues;
+import org.neo4j.gds.collections.HugeSparseLongArray;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.mem.BitUtil;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Long node property values that are bit-packed with a fixed number of bits per node.
+ * Reading a value touches at most two words, so random access stays constant time.
+ *
+ * Two encodings are supported:
+ * <ul>
+ *     <li>Frame of reference: every value is stored as its difference to the smallest value.</li>
+ *     <li>Dictionary: every value is stored as its index into the sorted distinct values.</li>
+ * </ul>
+ *
+ * The encoding that requires fewer bits is chosen from the values at load time.
+ * If both would require more than {@link #MAX_BITS} bits, the values are not packed.
+ *
+ * Only values that are present are encoded, so that a default value far from the actual values
+ * does not inflate the number of bits. Nodes without a value are stored as one additional code,
+ * which is decoded to the default value.
+ */
+abstract class PackedLongNodePropertyValues implements LongNodePropertyValues {
+
+    static final int MAX_BITS = 32;
+    static final int MAX_DICTIONARY_SIZE = 1 << 16;
+
+    private final HugeLongArray words;
+    private final int bits;
+    private final long mask;
+    // the code of nodes without a value, or -1 if every node has a value
+    private final long missingCode;
+    private final long defaultValue;
+    private final long nodeCount;
+    private final long size;
+    private final OptionalLong maxValue;
+
+    /**
+     * Packs the values of the first {@code nodeCount} nodes, if that saves enough memory.
+     * {@code size} is the number of nodes that have a value and is reported by {@link #size()}.
+     */
+    static Optional<LongNodePropertyValues> of(
+        HugeSparseLongArray values,
+        long defaultValue,
+        long nodeCount,
+        long size,
+        OptionalLong maxValue,
+        int concurrency
+    ) {
+        if (nodeCount == 0) {
+            return Optional.empty();
+        }
+
+        var statistics = new Statistics();
+        ParallelUtil.readParallel(concurrency, nodeCount, Pools.DEFAULT, (start, end) -> {
+            long min = Long.MAX_VALUE;
+            long max = Long.MIN_VALUE;
+            boolean hasMissingValues = false;
+            for (long node = start; node < end; node++) {
+                if (!values.contains(node)) {
+                    hasMissingValues = true;
+                    continue;
+                }
+                long value = values.get(node);
+                min = Math.min(min, value);
+                max = Math.max(max, value);
+            }
+            statistics.update(min, max, hasMissingValues);
+        });
+
+        if (statistics.min > statistics.max) {
+            // no node has a value, every node is stored as the missing code 0
+            return Optional.of(new FrameOfReference(values, defaultValue, nodeCount, size, maxValue, 0L, 0L, 0, concurrency));
+        }
+
+        long range = statistics.max - statistics.min;
+        long frameOfReferenceMissingCode = statistics.hasMissingValues ? range + 1 : -1L;
+        // the range overflows if the values span more than half of the long range
+        int frameOfReferenceBits = range < 0 || range == Long.MAX_VALUE
+            ? Long.SIZE
+            : bitsNeeded(Math.max(range, frameOfReferenceMissingCode));
+        if (frameOfReferenceBits <= 1) {
+            return Optional.of(new FrameOfReference(
+                values,
+                defaultValue,
+                nodeCount,
+                size,
+                maxValue,
+                frameOfReferenceMissingCode,
+                statistics.min,
+                frameOfReferenceBits,
+                concurrency
+            ));
+        }
+
+        var dictionary = dictionary(values, nodeCount, concurrency);
+        long dictionaryMissingCode = dictionary.isPresent() && statistics.hasMissingValues
+            ? dictionary.get().length
+            : -1L;
+        int dictionaryBits = dictionary
+            .map(d -> bitsNeeded(Math.max(d.length - 1, dictionaryMissingCode)))
+            .orElse(Long.SIZE);
+
+        if (Math.min(frameOfReferenceBits, dictionaryBits) > MAX_BITS) {
+            return Optional.empty();
+        }
+        if (frameOfReferenceBits <= dictionaryBits) {
+            return Optional.of(new FrameOfReference(
+                values,
+                defaultValue,
+                nodeCount,
+                size,
+                maxValue,
+                frameOfReferenceMissingCode,
+                statistics.min,
+                frameOfReferenceBits,
+                concurrency
+            ));
+        }
+        return Optional.of(new Dictionary(
+            values,
+            defaultValue,
+            nodeCount,
+            size,
+            maxValue,
+            dictionaryMissingCode,
+            dictionary.get(),
+            dictionaryBits,
+            concurrency
+        ));
+    }
+
+    /**
+     * Returns the sorted distinct values, or nothing if there are more than {@link #MAX_DICTIONARY_SIZE}.
+     */
+    private static Optional<long[]> dictionary(HugeSparseLongArray values, long nodeCount, int concurrency) {
+        var distinctValues = new LongHashSet();
+        var tooManyValues = new AtomicBoolean(false);
+        ParallelUtil.readParallel(concurrency, nodeCount, Pools.DEFAULT, (start, end) -> {
+            var localValues = new LongHashSet();
+            for (long node = start; node < end; node++) {
+                if (!values.contains(node)) {
+                    continue;
+                }
+                localValues.add(values.get(node));
+                if (localValues.size() > MAX_DICTIONARY_SIZE) {
+                    tooManyValues.set(true);
+                }
+                if (tooManyValues.get()) {
+                    return;
+                }
+            }
+            synchronized (distinctValues) {
+                distinctValues.addAll(localValues);
+                if (distinctValues.size() > MAX_DICTIONARY_SIZE) {
+                    tooManyValues.set(true);
+                }
+            }
+        });
+
+        if (tooManyValues.get()) {
+            return Optional.empty();
+        }
+        var dictionary = distinctValues.toArray();
+        Arrays.sort(dictionary);
+        return Optional.of(dictionary);
+    }
+
+    private static int bitsNeeded(long value) {
+        return Long.SIZE - Long.numberOfLeadingZeros(value);
+    }
+
+    PackedLongNodePropertyValues(
+        long defaultValue,
+        long nodeCount,
+        long size,
+        OptionalLong maxValue,
+        long missingCode,
+        int bits
+    ) {
+        this.defaultValue = defaultValue;
+        this.missingCode = missingCode;
+        this.nodeCount = nodeCount;
+        this.size = size;
+        this.maxValue = maxValue;
+        this.bits = bits;
+        this.mask = bits == 0 ? 0L : -1L >>> (Long.SIZE - bits);
+        this.words = HugeLongArray.newArray(BitUtil.ceilDiv(nodeCount * bits, Long.SIZE));
+    }
+
+    /**
+     * Returns the code that is stored for the given value.
+     */
+    abstract long encode(long value);
+
+    /**
+     * Returns the value of the given code, which is not the missing code.
+     */
+    abstract long decode(long code);
+
+    @Override
+    public long longValue(long nodeId) {
+        long code = code(nodeId);
+        return code == missingCode ? defaultValue : decode(code);
+    }
+
+    /**
+     * Packs the codes of all values. Every task packs blocks of 64 nodes,
+     * which occupy exactly {@code bits} words, so that no two tasks write to the same word.
+     */
+    void pack(HugeSparseLongArray values, int concurrency) {
+        if (bits == 0) {
+            return;
+        }
+        long blocks = BitUtil.ceilDiv(nodeCount, Long.SIZE);
+        ParallelUtil.readParallel(concurrency, blocks, Pools.DEFAULT, (startBlock, endBlock) -> {
+            var buffer = new long[bits];
+            for (long block = startBlock; block < endBlock; block++) {
+                Arrays.fill(buffer, 0L);
+                long startNode = block * Long.SIZE;
+                long endNode = Math.min(startNode + Long.SIZE, nodeCount);
+                for (long node = startNode; node < endNode; node++) {
+                    long code = values.contains(node) ? encode(values.get(node)) : missingCode;
+                    long bitIndex = (node - startNode) * bits;
+                    int word = (int) (bitIndex >>> 6);
+                    int shift = (int) (bitIndex & 63);
+                    buffer[word] |= code << shift;
+                    if (shift + bits > Long.SIZE) {
+                        buffer[word + 1] |= code >>> (Long.SIZE - shift);
+                    }
+                }
+                long firstWord = block * bits;
+                for (int i = 0; i < bits && firstWord + i < words.size(); i++) {
+                    words.set(firstWord + i, buffer[i]);
+                }
+            }
+        });
+    }
+
+    private long code(long nodeId) {
+        if (bits == 0) {
+            return 0L;
+        }
+        long bitIndex = nodeId * bits;
+        long word = bitIndex >>> 6;
+        int shift = (int) (bitIndex & 63);
+        long code = words.get(word) >>> shift;
+        if (shift + bits > Long.SIZE) {
+            code |= words.get(word + 1) << (Long.SIZE - shift);
+        }
+        return code & mask;
+    }
+
+    int bits() {
+        return bits;
+    }
+
+    @Override
+    public OptionalLong getMaxLongPropertyValue() {
+        return maxValue;
+    }
+
+    @Override
+    public long size() {
+        return size;
+    }
+
+    static final class FrameOfReference extends PackedLongNodePropertyValues {
+
+        private final long min;
+
+        FrameOfReference(
+            HugeSparseLongArray values,
+            long defaultValue,
+            long nodeCount,
+            long size,
+            OptionalLong maxValue,
+            long missingCode,
+            long min,
+            int bits,
+            int concurrency
+        ) {
+            super(defaultValue, nodeCount, size, maxValue, missingCode, bits);
+            this.min = min;
+            pack(values, concurrency);
+        }
+
+        @Override
+        long encode(long value) {
+            return value - min;
+        }
+
+        @Override
+        long decode(long code) {
+            return min + code;
+        }
+    }
+
+    static final class Dictionary extends PackedLongNodePropertyValues {
+
+        private final long[] dictionary;
+
+        Dictionary(
+            HugeSparseLongArray values,
+            long defaultValue,
+            long nodeCount,
+            long size,
+            OptionalLong maxValue,
+            long missingCode,
+            long[] dictionary,
+            int bits,
+            int concurrency
+        ) {
+            super(defaultValue, nodeCount, size, maxValue, missingCode, bits);
+            this.dictionary = dictionary;
+            pack(values, concurrency);
+        }
+
+        @Override
+        long encode(long value) {
+            return Arrays.binarySearch(dictionary, value);
+        }
+
+        @Override
+        long decode(long code) {
+            return dictionary[(int) code];
+        }
+    }
+
+    private static final class Statistics {
+        private long min = Long.MAX_VALUE;
+        private long max = Long.MIN_VALUE;
+        private boolean hasMissingValues;
+
+        synchronized void update(long min, long max, boolean hasMissingValues) {
+            this.min = Math.min(this.min, min);
+            this.max = Math.max(this.max, max);
+            this.hasMissingValues |= hasMissingValues;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.mem;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.core.utils.progress.JobId;
+
+/**
+ * Memory reserved by a single job in the {@link MemoryReservationLedger}.
+ * Closing the reservation releases it, closing it again has no effect.
+ */
+public final class MemoryReservation implements AutoCloseable {
+
+    /**
+     * A reservation for jobs without a memory estimation.
+     */
+    public static final MemoryReservation EMPTY = new MemoryReservation(
+        null,
+        -1,
+        new JobId(),
+        "",
+        "",
+        "",
+        MemoryRange.empty(),
+        0
+    );
+
+    private final @Nullable MemoryReservationLedger ledger;
+    private final long id;
+    private final JobId jobId;
+    private final String username;
+    private final String graphName;
+    private final String taskName;
+    private final MemoryRange memoryRange;
+    private final long bytes;
+
+    MemoryReservation(
+        @Nullable MemoryReservationLedger ledger,
+        long id,
+        JobId jobId,
+        String username,
+        String graphName,
+        String taskName,
+        MemoryRange memoryRange,
+        long bytes
+    ) {
+        this.ledger = ledger;
+        this.id = id;
+        this.jobId = jobId;
+        this.username = username;
+        this.graphName = graphName;
+        this.taskName = taskName;
+        this.memoryRange = memoryRange;
+        this.bytes = bytes;
+    }
+
+    long id() {
+        return id;
+    }
+
+    public JobId jobId() {
+        return jobId;
+    }
+
+    public String username() {
+        return username;
+    }
+
+    public String graphName() {
+        return graphName;
+    }
+
+    public String taskName() {
+        return taskName;
+    }
+
+    /**
+     * The estimated memory range the reservation was derived from.
+     */
+    public MemoryRange memoryRange() {
+        return memoryRange;
+    }
+
+    /**
+     * The reserved bytes, either the minimum or the maximum of the estimated range.
+     */
+    public long bytes() {
+        return bytes;
+    }
+
+    @Override
+    public void close() {
+        if (ledger != null) {
+            ledger.release(this);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.mem;
+
+import org.neo4j.gds.core.utils.progress.JobId;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongConsumer;
+
+/**
+ * Keeps track of the memory that running jobs have reserved, but possibly not yet allocated.
+ *
+ * Free heap only reflects what jobs have allocated so far.
+ * Two large jobs that are started at the same time would both pass a check against
+ * free heap alone, so new jobs are also validated against the maximum heap minus all reservations.
+ * Free heap is not reduced by the reservations, as it already accounts for what the reserving jobs allocated.
+ *
+ * Jobs started by a job that holds a reservation on the same thread, e.g. the node property steps
+ * of a pipeline, are covered by the outer reservation.
+ */
+public final class MemoryReservationLedger {
+
+    private static final MemoryReservationLedger GLOBAL = new MemoryReservationLedger();
+
+    private final Map<Long, MemoryReservation> reservations;
+    private final ThreadLocal<MemoryReservation> currentReservation;
+    private long reservedBytes;
+    private long nextId;
+
+    public static MemoryReservationLedger global() {
+        return GLOBAL;
+    }
+
+    public MemoryReservationLedger() {
+        this.reservations = new LinkedHashMap<>();
+        this.currentReservation = new ThreadLocal<>();
+    }
+
+    /**
+     * @return whether the current thread holds a reservation that has not been released yet
+     */
+    public synchronized boolean hasReservationOnCurrentThread() {
+        var reservation = currentReservation.get();
+        return reservation != null && reservations.containsKey(reservation.id());
+    }
+
+    /**
+     * Reserves the given bytes after the validator accepted the memory that is still available,
+     * i.e. the free memory, but at most the maximum memory minus all current reservations.
+     * Validation and reservation happen atomically with respect to other reservations.
+     *
+     * @param validator throws if the reservation does not fit into the available bytes
+     */
+    public synchronized MemoryReservation reserve(
+        JobId jobId,
+        String username,
+        String graphName,
+        String taskName,
+        MemoryRange memoryRange,
+        long bytes,
+        long freeBytes,
+        long maxBytes,
+        LongConsumer validator
+    ) {
+        validator.accept(Math.min(freeBytes, maxBytes - reservedBytes));
+        return reserve(jobId, username, graphName, taskName, memoryRange, bytes);
+    }
+
+    /**
+     * Reserves the given bytes without validation, e.g. for jobs running in sudo mode.
+     */
+    public synchronized MemoryReservation reserve(
+        JobId jobId,
+        String username,
+        String graphName,
+        String taskName,
+        MemoryRange memoryRange,
+        long bytes
+    ) {
+        var reservation = new MemoryReservation(
+            this,
+            nextId++,
+            jobId,
+            username,
+            graphName,
+            taskName,
+            memoryRange,
+            bytes
+        );
+        reservations.put(reservation.id(), reservation);
+        reservedBytes += bytes;
+        currentReservation.set(reservation);
+        return reservation;
+    }
+
+    public synchronized long reservedBytes() {
+        return reservedBytes;
+    }
+
+    public synchronized Collection<MemoryReservation> reservations() {
+        return Collections.unmodifiableList(new ArrayList<>(reservations.values()));
+    }
+
+    synchronized void release(MemoryReservation reservation) {
+        // a reservation may be released by another thread, which leaves a released reservation behind
+        if (currentReservation.get() == reservation) {
+            currentReservation.remove();
+        }
+        if (reservations.remove(reservation.id()) != null) {
+            reservedBytes -= reservation.bytes();
+        }
+    }
+}
@@ -20,6 +20,7 @@
 package org.neo4j.gds.core.utils.paged;
 
 import org.apache.commons.lang3.mutable.MutableLong;
+import org.eclipse.collections.api.block.procedure.primitive.LongLongProcedure;
 import org.eclipse.collections.api.map.primitive.LongLongMap;
 import org.eclipse.collections.api.map.primitive.MutableLongLongMap;
 import org.eclipse.collections.impl.SpreadFunctions;
@@ -31,8 +32,11 @@ import org.neo4j.gds.mem.BitUtil;
 import org.neo4j.gds.utils.CloseableThreadLocal;
 
 import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.StampedLock;
 import java.util.stream.IntStream;
 
 public final class ShardedLongLongMap {
@@ -51,6 +55,10 @@ public final class ShardedLongLongMap {
         return new BatchedBuilder(concurrency);
     }
 
+    public static ConcurrentBuilder concurrentBuilder(int concurrency) {
+        return new ConcurrentBuilder(concurrency);
+    }
+
     private ShardedLongLongMap(
         HugeLongArray internalNodeMapping,
         LongLongMap[] originalNodeMappingShards,
@@ -373,4 +381,238 @@ public final class ShardedLongLongMap {
         }
     }
 
+    /**
+     * A builder that deduplicates original ids while nodes are added concurrently.
+     *
+     * Every shard is an open-addressing hash table whose slots are claimed with a CAS,
+     * so threads that insert into the same shard do not block each other.
+     * Only growing a shard requires exclusive access, which is rare as the capacity doubles.
+     * Mapped ids are assigned after a slot has been claimed, so they are dense and
+     * no id is lost when two threads race to insert the same original id.
+     */
+    public static final class ConcurrentBuilder {
+
+        private final AtomicLong nodeCount;
+        private final ConcurrentShard[] shards;
+        private final int shardShift;
+        private final int shardMask;
+
+        ConcurrentBuilder(int concurrency) {
+            this.nodeCount = new AtomicLong();
+            int numberOfShards = numberOfShards(concurrency);
+            this.shardShift = Long.SIZE - Integer.numberOfTrailingZeros(numberOfShards);
+            this.shardMask = numberOfShards - 1;
+            this.shards = IntStream.range(0, numberOfShards)
+                .mapToObj(__ -> new ConcurrentShard(this.nodeCount))
+                .toArray(ConcurrentShard[]::new);
+        }
+
+        /**
+         * Adds the given original id, unless it has been added before.
+         *
+         * @return the mapped id if the original id has been added by this call,
+         *     or {@code -(mappedId + 1)} if it has already been added before.
+         */
+        public long addNode(long nodeId) {
+            if (nodeId == ConcurrentShard.EMPTY) {
+                throw new IllegalArgumentException("Node id " + nodeId + " is reserved and cannot be mapped.");
+            }
+            var shard = findShard(nodeId, this.shards, this.shardShift, this.shardMask);
+            return shard.addNode(nodeId);
+        }
+
+        public long toMappedNodeId(long nodeId) {
+            var shard = findShard(nodeId, this.shards, this.shardShift, this.shardMask);
+            return shard.toMappedNodeId(nodeId);
+        }
+
+        public long size() {
+            return this.nodeCount.get();
+        }
+
+        public ShardedLongLongMap build() {
+            return ShardedLongLongMap.build(
+                this.nodeCount.get(),
+                this.shards,
+                this.shardShift,
+                this.shardMask
+            );
+        }
+
+        public ShardedLongLongMap build(long maxOriginalId) {
+            return ShardedLongLongMap.build(
+                this.nodeCount.get(),
+                this.shards,
+                this.shardShift,
+                this.shardMask,
+                maxOriginalId
+            );
+        }
+
+        private static final class ConcurrentShard extends MapShard {
+
+            static final long EMPTY = Long.MIN_VALUE;
+            private static final long UNASSIGNED = -1L;
+            private static final int INITIAL_CAPACITY = 1 << 10;
+
+            private final AtomicLong nextId;
+            private final AtomicInteger size;
+            // inserts share the lock, growing the table requires exclusive access
+            private final StampedLock resizeLock;
+
+            private volatile Table table;
+
+            private ConcurrentShard(AtomicLong nextId) {
+                super();
+                this.nextId = nextId;
+                this.size = new AtomicInteger();
+                this.resizeLock = new StampedLock();
+                this.table = new Table(INITIAL_CAPACITY);
+            }
+
+            long addNode(long nodeId) {
+                while (true) {
+                    long stamp = this.resizeLock.readLock();
+                    try {
+                        var table = this.table;
+                        if (this.size.get() < (table.capacity() >>> 1)) {
+                            return insert(table, nodeId);
+                        }
+                    } finally {
+                        this.resizeLock.unlockRead(stamp);
+                    }
+                    grow();
+                }
+            }
+
+            long toMappedNodeId(long nodeId) {
+                // A table that has been replaced contains only published ids,
+                // so an optimistic lookup terminates even if it races with a resize.
+                long stamp = this.resizeLock.tryOptimisticRead();
+                long mappedId = this.table.find(nodeId);
+                if (this.resizeLock.validate(stamp)) {
+                    return mappedId;
+                }
+                stamp = this.resizeLock.readLock();
+                try {
+                    return this.table.find(nodeId);
+                } finally {
+                    this.resizeLock.unlockRead(stamp);
+                }
+            }
+
+            @Override
+            MutableLongLongMap intoMapping() {
+                this.table.forEach(this.mapping::put);
+                return this.mapping;
+            }
+
+            private long insert(Table table, long nodeId) {
+                var keys = table.keys;
+                var values = table.values;
+                int mask = keys.length() - 1;
+                int slot = slot(nodeId, mask);
+                while (true) {
+                    long key = keys.get(slot);
+                    if (key == nodeId) {
+                        return -awaitMappedId(values, slot) - 1;
+                    }
+                    if (key == EMPTY) {
+                        if (keys.compareAndSet(slot, EMPTY, nodeId)) {
+                            long mappedId = this.nextId.getAndIncrement();
+                            values.set(slot, mappedId);
+                            this.size.incrementAndGet();
+                            return mappedId;
+                        }
+                        // another thread claimed the slot, check whether it inserted the same key
+                        continue;
+                    }
+                    slot = (slot + 1) & mask;
+                }
+            }
+
+            private void grow() {
+                long stamp = this.resizeLock.writeLock();
+                try {
+                    var table = this.table;
+                    if (this.size.get() < (table.capacity() >>> 1)) {
+                        // another thread has grown the table already
+                        return;
+                    }
+                    var newTable = new Table(table.capacity() << 1);
+                    table.forEach(newTable::put);
+                    this.table = newTable;
+                } finally {
+                    this.resizeLock.unlockWrite(stamp);
+                }
+            }
+
+            private static long awaitMappedId(AtomicLongArray values, int slot) {
+                // the thread that claimed the slot is about to publish the mapped id
+                long mappedId;
+                while ((mappedId = values.get(slot)) == UNASSIGNED) {
+                    Thread.onSpinWait();
+                }
+                return mappedId;
+            }
+
+            private static int slot(long key, int mask) {
+                // the shard is selected by the high bits of a different spread function
+                return (int) SpreadFunctions.longSpreadTwo(key) & mask;
+            }
+
+            private static final class Table {
+                final AtomicLongArray keys;
+                final AtomicLongArray values;
+
+                Table(int capacity) {
+                    this.keys = new AtomicLongArray(capacity);
+                    this.values = new AtomicLongArray(capacity);
+                    for (int i = 0; i < capacity; i++) {
+                        this.keys.lazySet(i, EMPTY);
+                        this.values.lazySet(i, UNASSIGNED);
+                    }
+                }
+
+                int capacity() {
+                    return keys.length();
+                }
+
+                long find(long nodeId) {
+                    int mask = keys.length() - 1;
+                    int slot = slot(nodeId, mask);
+                    while (true) {
+                        long key = keys.get(slot);
+                        if (key == nodeId) {
+                            return awaitMappedId(values, slot);
+                        }
+                        if (key == EMPTY) {
+                            return IdMap.NOT_FOUND;
+                        }
+                        slot = (slot + 1) & mask;
+                    }
+                }
+
+                // only called while no other thread accesses the table
+                void put(long nodeId, long mappedId) {
+                    int mask = keys.length() - 1;
+                    int slot = slot(nodeId, mask);
+                    while (keys.get(slot) != EMPTY) {
+                        slot = (slot + 1) & mask;
+                    }
+                    keys.set(slot, nodeId);
+                    values.set(slot, mappedId);
+                }
+
+                void forEach(LongLongProcedure consumer) {
+                    for (int slot = 0; slot < keys.length(); slot++) {
+                        long key = keys.get(slot);
+                        if (key != EMPTY) {
+                            consumer.value(key, values.get(slot));
+                        }
+                    }
+                }
+            }
+        }
+    }
 }
@@ -76,6 +76,17 @@ public interface ProgressTracker {
 
     void logMessage(LogLevel level, String message);
 
+    /**
+     * Sets a metric on the currently running task, replacing a previous value with the same name.
+     */
+    void setMetric(String name, Number value);
+
+    /**
+     * Sets a metric on the root task of the job, replacing a previous value with the same name.
+     * The job becomes visible in the task registry, even if it has not been started yet.
+     */
+    void setJobMetric(String name, Number value);
+
     void release();
 
     void setSteps(long steps);
@@ -149,6 +160,14 @@ public interface ProgressTracker {
 
         }
 
+        @Override
+        public void setMetric(String name, Number value) {
+        }
+
+        @Override
+        public void setJobMetric(String name, Number value) {
+        }
+
         @Override
         public void release() {
         }
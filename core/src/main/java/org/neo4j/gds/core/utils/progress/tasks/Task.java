@@ -23,7 +23,10 @@ import org.apache.commons.lang3.mutable.MutableLong;
 import org.neo4j.gds.core.utils.ClockService;
 import org.neo4j.gds.core.utils.mem.MemoryRange;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
 
 import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
@@ -42,6 +45,7 @@ public class Task {
 
     private MemoryRange estimatedMemoryRangeInBytes = MemoryRange.empty();
     private int maxConcurrency = UNKNOWN_CONCURRENCY;
+    private final Map<String, Number> metrics = new ConcurrentSkipListMap<>();
 
     Task(String description, List<Task> subTasks) {
         this.description = description;
@@ -178,6 +182,17 @@ public class Task {
         this.estimatedMemoryRangeInBytes = memoryRangeInBytes;
     }
 
+    /**
+     * Measurements reported while the task is running, e.g. the throughput of a write, sorted by name.
+     */
+    public Map<String, Number> metrics() {
+        return Collections.unmodifiableMap(metrics);
+    }
+
+    public void setMetric(String name, Number value) {
+        this.metrics.put(name, value);
+    }
+
     public void fail() {
         this.status = Status.FAILED;
     }
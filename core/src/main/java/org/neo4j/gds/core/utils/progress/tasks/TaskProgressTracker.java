@@ -185,6 +185,17 @@ public class TaskProgressTracker implements ProgressTracker {
         }
     }
 
+    @Override
+    public void setMetric(String name, Number value) {
+        requireCurrentTask().setMetric(name, value);
+    }
+
+    @Override
+    public void setJobMetric(String name, Number value) {
+        registerBaseTask();
+        baseTask.setMetric(name, value);
+    }
+
     @Override
     public void release() {
         taskRegistry.unregisterTask();
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.write;
+
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decides how many elements are written within a single transaction.
+ * <p>
+ * Every committed batch is recorded with its latency. An adaptive sizer scales the batch size
+ * by the ratio of target latency to observed latency, by at most a factor of two per batch.
+ * A fixed sizer never changes the batch size.
+ * Both kinds report the measured latency and throughput as metrics on the current task.
+ */
+final class AdaptiveBatchSizer {
+
+    static final long MIN_ADAPTIVE_BATCH_SIZE = 1_000L;
+    static final long MAX_ADAPTIVE_BATCH_SIZE = NodePropertyExporter.MAX_BATCH_SIZE;
+
+    static final String BATCH_SIZE_METRIC = "batchSize";
+    static final String BATCH_COUNT_METRIC = "batchCount";
+    static final String AVERAGE_LATENCY_METRIC = "averageCommitLatencyMillis";
+    static final String MAX_LATENCY_METRIC = "maxCommitLatencyMillis";
+    static final String THROUGHPUT_METRIC = "elementsPerSecond";
+
+    private static final double MAX_GROWTH = 2.0;
+    private static final double MAX_SHRINK = 0.5;
+
+    private final long minBatchSize;
+    private final long maxBatchSize;
+    private final long targetLatencyNanos;
+
+    private volatile long batchSize;
+
+    private long batchCount;
+    private long elementCount;
+    private long totalLatencyNanos;
+    private long maxLatencyNanos;
+
+    static AdaptiveBatchSizer fixed(long batchSize) {
+        return new AdaptiveBatchSizer(batchSize, batchSize, batchSize, 0);
+    }
+
+    static AdaptiveBatchSizer adaptive(long initialBatchSize, Duration targetLatency) {
+        if (targetLatency.isNegative() || targetLatency.isZero()) {
+            throw new IllegalArgumentException("The target batch latency must be positive.");
+        }
+        return new AdaptiveBatchSizer(
+            initialBatchSize,
+            Math.min(MIN_ADAPTIVE_BATCH_SIZE, initialBatchSize),
+            Math.max(MAX_ADAPTIVE_BATCH_SIZE, initialBatchSize),
+            targetLatency.toNanos()
+        );
+    }
+
+    private AdaptiveBatchSizer(long initialBatchSize, long minBatchSize, long maxBatchSize, long targetLatencyNanos) {
+        this.batchSize = initialBatchSize;
+        this.minBatchSize = minBatchSize;
+        this.maxBatchSize = maxBatchSize;
+        this.targetLatencyNanos = targetLatencyNanos;
+    }
+
+    long batchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Records a committed batch and reports the updated measurements to the progress tracker.
+     * Only batches that were filled up to the current batch size are used to adjust it,
+     * since the trailing batch of a write is usually smaller.
+     */
+    synchronized void recordBatch(long batchElementCount, long latencyNanos, ProgressTracker progressTracker) {
+        batchCount++;
+        elementCount += batchElementCount;
+        totalLatencyNanos += latencyNanos;
+        maxLatencyNanos = Math.max(maxLatencyNanos, latencyNanos);
+
+        if (targetLatencyNanos > 0 && batchElementCount >= batchSize) {
+            double factor = targetLatencyNanos / (double) Math.max(1L, latencyNanos);
+            factor = Math.max(MAX_SHRINK, Math.min(MAX_GROWTH, factor));
+            batchSize = Math.max(minBatchSize, Math.min(maxBatchSize, Math.round(batchSize * factor)));
+        }
+
+        progressTracker.setMetric(BATCH_SIZE_METRIC, batchSize);
+        progressTracker.setMetric(BATCH_COUNT_METRIC, batchCount);
+        progressTracker.setMetric(AVERAGE_LATENCY_METRIC, TimeUnit.NANOSECONDS.toMillis(totalLatencyNanos / batchCount));
+        progressTracker.setMetric(MAX_LATENCY_METRIC, TimeUnit.NANOSECONDS.toMillis(maxLatencyNanos));
+        progressTracker.setMetric(THROUGHPUT_METRIC, elementsPerSecond());
+    }
+
+    synchronized long batchCount() {
+        return batchCount;
+    }
+
+    synchronized long elementsPerSecond() {
+        return totalLatencyNanos == 0
+            ? 0
+            : Math.round(elementCount / (totalLatencyNanos / (double) TimeUnit.SECONDS.toNanos(1)));
+    }
+}
@@ -19,27 +19,42 @@
  */
 package org.neo4j.gds.core.write;
 
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.annotation.ValueClass;
 import org.neo4j.gds.api.IdMap;
 import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.core.concurrency.RunWithConcurrency;
-import org.neo4j.gds.core.utils.LazyBatchCollection;
 import org.neo4j.gds.core.utils.TerminationFlag;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.transaction.TransactionContext;
+import org.neo4j.gds.utils.ExceptionUtil;
 import org.neo4j.gds.utils.StatementApi;
 import org.neo4j.internal.kernel.api.Write;
 import org.neo4j.values.storable.Value;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.function.LongUnaryOperator;
 import java.util.stream.Collectors;
 
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Writes node properties in batches of nodes.
+ * Parallel writes and writes with an explicit batch size use one transaction per batch,
+ * sequential writes without a batch size write all batches within a single transaction.
+ * <p>
+ * Each batch is first encoded column by column into {@link Value} arrays and then written in a single pass.
+ * In pipelined mode, the next batch is encoded on another thread while the current one is written and committed.
+ */
 public class NativeNodePropertyExporter extends StatementApi implements NodePropertyExporter {
 
     protected final TerminationFlag terminationFlag;
@@ -49,6 +64,12 @@ public class NativeNodePropertyExporter extends StatementApi implements NodeProp
     protected final long nodeCount;
     protected final LongUnaryOperator toOriginalId;
     protected final LongAdder propertiesWritten;
+    protected final long batchSize;
+    protected final boolean pipelined;
+
+    private final LongAdder encodeNanos;
+    // includes opening and committing the write transactions
+    private final LongAdder writeNanos;
 
     public static NodePropertyExporterBuilder<NativeNodePropertyExporter> builder(TransactionContext transactionContext, IdMap idMap, TerminationFlag terminationFlag) {
         return new NativeNodePropertiesExporterBuilder(transactionContext)
@@ -70,10 +91,6 @@ public class NativeNodePropertyExporter extends StatementApi implements NodeProp
         }
     }
 
-    public interface WriteConsumer {
-        void accept(Write ops, long value) throws Exception;
-    }
-
     protected NativeNodePropertyExporter(
         TransactionContext tx,
         long nodeCount,
@@ -81,7 +98,9 @@ public class NativeNodePropertyExporter extends StatementApi implements NodeProp
         TerminationFlag terminationFlag,
         ProgressTracker progressTracker,
         int concurrency,
-        ExecutorService executorService
+        ExecutorService executorService,
+        long batchSize,
+        boolean pipelined
     ) {
         super(tx);
         this.nodeCount = nodeCount;
@@ -90,7 +109,11 @@ public class NativeNodePropertyExporter extends StatementApi implements NodeProp
         this.progressTracker = progressTracker;
         this.concurrency = concurrency;
         this.executorService = executorService;
+        this.batchSize = batchSize;
+        this.pipelined = pipelined;
         this.propertiesWritten = new LongAdder();
+        this.encodeNanos = new LongAdder();
+        this.writeNanos = new LongAdder();
     }
 
     @Override
@@ -116,6 +139,11 @@ public class NativeNodePropertyExporter extends StatementApi implements NodeProp
             } else {
                 writeSequential(resolvedNodeProperties);
             }
+            progressTracker.logDebug(formatWithLocale(
+                "Encoding took %d ms, writing and committing took %d ms",
+                TimeUnit.NANOSECONDS.toMillis(encodeNanos.sumThenReset()),
+                TimeUnit.NANOSECONDS.toMillis(writeNanos.sumThenReset())
+            ));
         } finally {
             progressTracker.endSubTask();
         }
@@ -126,78 +154,174 @@ public class NativeNodePropertyExporter extends StatementApi implements NodeProp
         return propertiesWritten.longValue();
     }
 
-    private void writeSequential(Iterable<ResolvedNodeProperty> nodeProperties) {
-        writeSequential((ops, nodeId) -> doWrite(nodeProperties, ops, nodeId));
+    private void writeSequential(List<ResolvedNodeProperty> nodeProperties) {
+        if (this.batchSize > 0) {
+            new BatchWriter(nodeProperties, new AtomicLong(), this.batchSize).run();
+        } else {
+            // batches only bound the memory of the encoded values, they are all committed at once
+            var batchSize = ParallelUtil.adjustedBatchSize(nodeCount, 1, MIN_BATCH_SIZE, MAX_BATCH_SIZE);
+            new BatchWriter(nodeProperties, new AtomicLong(), batchSize).runInSingleTransaction();
+        }
+    }
+
+    private void writeParallel(List<ResolvedNodeProperty> nodeProperties) {
+        var batchSize = this.batchSize > 0
+            ? this.batchSize
+            : ParallelUtil.adjustedBatchSize(nodeCount, concurrency, MIN_BATCH_SIZE, MAX_BATCH_SIZE);
+        var nextBatchStart = new AtomicLong();
+        var taskCount = (int) Math.min(concurrency, ParallelUtil.threadCount(batchSize, nodeCount));
+        var tasks = ParallelUtil.tasks(taskCount, () -> new BatchWriter(nodeProperties, nextBatchStart, batchSize));
+
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .maxWaitRetries(Integer.MAX_VALUE)
+            .waitTime(10L, TimeUnit.MICROSECONDS)
+            .terminationFlag(terminationFlag)
+            .executor(executorService)
+            .mayInterruptIfRunning(false)
+            .run();
     }
 
-    private void writeParallel(Iterable<ResolvedNodeProperty> nodeProperties) {
-        writeParallel((ops, offset) -> doWrite(nodeProperties, ops, offset));
+    /**
+     * Node properties of a contiguous range of nodes, stored per property.
+     */
+    private static final class ColumnarBatch {
+        private final long[] originalIds;
+        private final Value[][] columns;
+
+        private ColumnarBatch(long[] originalIds, Value[][] columns) {
+            this.originalIds = originalIds;
+            this.columns = columns;
+        }
     }
 
-    private void doWrite(Iterable<ResolvedNodeProperty> nodeProperties, Write ops, long nodeId) throws Exception {
-        for (ResolvedNodeProperty nodeProperty : nodeProperties) {
-            int propertyId = nodeProperty.propertyToken();
-            final Value prop = nodeProperty.properties().value(nodeId);
-            if (prop != null) {
-                ops.nodeSetProperty(
-                    toOriginalId.applyAsLong(nodeId),
-                    propertyId,
-                    prop
-                );
-                propertiesWritten.increment();
+    /**
+     * Claims batches of nodes until all nodes are written.
+     * Batches are claimed from a shared counter, so that faster writers take over more batches.
+     */
+    private final class BatchWriter implements Runnable {
+        private final List<ResolvedNodeProperty> nodeProperties;
+        private final int[] propertyTokens;
+        private final AtomicLong nextBatchStart;
+        private final long batchSize;
+        // time spent waiting for encoded batches, it is accounted for as encoding time
+        private long awaitNanos;
+
+        private BatchWriter(List<ResolvedNodeProperty> nodeProperties, AtomicLong nextBatchStart, long batchSize) {
+            this.nodeProperties = nodeProperties;
+            this.propertyTokens = nodeProperties.stream().mapToInt(ResolvedNodeProperty::propertyToken).toArray();
+            this.nextBatchStart = nextBatchStart;
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        public void run() {
+            var nextBatch = claimBatch();
+            while (nextBatch != null) {
+                var batch = await(nextBatch);
+                nextBatch = claimBatch();
+                long startTime = System.nanoTime();
+                acceptInTransaction(stmt -> writeBatch(stmt.dataWrite(), batch));
+                writeNanos.add(System.nanoTime() - startTime);
+            }
+        }
+
+        void runInSingleTransaction() {
+            long startTime = System.nanoTime();
+            acceptInTransaction(stmt -> {
+                Write ops = stmt.dataWrite();
+                var nextBatch = claimBatch();
+                while (nextBatch != null) {
+                    var batch = await(nextBatch);
+                    nextBatch = claimBatch();
+                    writeBatch(ops, batch);
+                }
+            });
+            writeNanos.add(System.nanoTime() - startTime - awaitNanos);
+        }
+
+        private @Nullable FutureTask<ColumnarBatch> claimBatch() {
+            long start = nextBatchStart.getAndAdd(batchSize);
+            if (start >= nodeCount) {
+                return null;
+            }
+            long end = Math.min(nodeCount, start + batchSize);
+            var encodeTask = new FutureTask<>(() -> encodeBatch(start, end));
+            if (pipelined && executorService != null) {
+                try {
+                    executorService.execute(encodeTask);
+                } catch (RejectedExecutionException ignored) {
+                    // the batch is encoded by this writer instead
+                }
+            }
+            return encodeTask;
+        }
+
+        private ColumnarBatch await(FutureTask<ColumnarBatch> encodeTask) {
+            // Encode on this thread if no other thread has picked up the task yet,
+            // so that a writer never waits for a pool that is busy with other writers.
+            long startTime = System.nanoTime();
+            encodeTask.run();
+            try {
+                return encodeTask.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            } catch (ExecutionException e) {
+                ExceptionUtil.throwIfUnchecked(e.getCause());
+                throw new RuntimeException(e.getCause());
+            } finally {
+                awaitNanos += System.nanoTime() - startTime;
             }
         }
-    }
 
-    private void writeSequential(WriteConsumer writer) {
-        acceptInTransaction(stmt -> {
+        private ColumnarBatch encodeBatch(long start, long end) {
             terminationFlag.assertRunning();
-            long progress = 0L;
-            Write ops = stmt.dataWrite();
-            for (long i = 0L; i < nodeCount; i++) {
-                writer.accept(ops, i);
-                progressTracker.logProgress();
-                if (++progress % TerminationFlag.RUN_CHECK_NODE_COUNT == 0) {
-                    terminationFlag.assertRunning();
+            long startTime = System.nanoTime();
+
+            int length = Math.toIntExact(end - start);
+            var originalIds = new long[length];
+            for (int i = 0; i < length; i++) {
+                originalIds[i] = toOriginalId.applyAsLong(start + i);
+            }
+
+            var columns = new Value[nodeProperties.size()][];
+            for (int propertyIndex = 0; propertyIndex < columns.length; propertyIndex++) {
+                var propertyValues = nodeProperties.get(propertyIndex).properties();
+                var column = new Value[length];
+                for (int i = 0; i < length; i++) {
+                    column[i] = propertyValues.value(start + i);
                 }
+                columns[propertyIndex] = column;
             }
-        });
-    }
 
-    private void writeParallel(WriteConsumer writer) {
-        final long batchSize = ParallelUtil.adjustedBatchSize(
-            nodeCount,
-            concurrency,
-            MIN_BATCH_SIZE,
-            MAX_BATCH_SIZE
-        );
-        final Collection<Runnable> runnables = LazyBatchCollection.of(
-            nodeCount,
-            batchSize,
-            (start, len) -> () -> {
-                acceptInTransaction(stmt -> {
-                    terminationFlag.assertRunning();
-                    long end = start + len;
-                    Write ops = stmt.dataWrite();
-                    for (long currentNode = start; currentNode < end; currentNode++) {
-                        writer.accept(ops, currentNode);
-                        progressTracker.logProgress();
-
-                        if ((currentNode - start) % TerminationFlag.RUN_CHECK_NODE_COUNT == 0) {
-                            terminationFlag.assertRunning();
-                        }
+            encodeNanos.add(System.nanoTime() - startTime);
+            return new ColumnarBatch(originalIds, columns);
+        }
+
+        private void writeBatch(Write ops, ColumnarBatch batch) throws Exception {
+            terminationFlag.assertRunning();
+            long written = 0;
+
+            var originalIds = batch.originalIds;
+            var columns = batch.columns;
+            for (int i = 0; i < originalIds.length; i++) {
+                for (int propertyIndex = 0; propertyIndex < columns.length; propertyIndex++) {
+                    var value = columns[propertyIndex][i];
+                    if (value != null) {
+                        ops.nodeSetProperty(originalIds[i], propertyTokens[propertyIndex], value);
+                        written++;
                     }
-                });
+                }
+                progressTracker.logProgress();
+
+                if (i % TerminationFlag.RUN_CHECK_NODE_COUNT == 0) {
+                    terminationFlag.assertRunning();
+                }
             }
-        );
-        RunWithConcurrency.builder()
-            .concurrency(concurrency)
-            .tasks(runnables)
-            .maxWaitRetries(Integer.MAX_VALUE)
-            .waitTime(10L, TimeUnit.MICROSECONDS)
-            .terminationFlag(terminationFlag)
-            .executor(executorService)
-            .mayInterruptIfRunning(false)
-            .run();
+
+            propertiesWritten.add(written);
+        }
     }
 }
@@ -27,8 +27,6 @@ import org.neo4j.gds.api.RelationshipWithPropertyConsumer;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.utils.TerminationFlag;
-import org.neo4j.gds.core.utils.partition.Partition;
-import org.neo4j.gds.core.utils.partition.PartitionUtils;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.transaction.TransactionContext;
 import org.neo4j.gds.utils.ExceptionUtil;
@@ -49,6 +47,7 @@ public final class NativeRelationshipExporter extends StatementApi implements Re
     private final TerminationFlag terminationFlag;
     private final ProgressTracker progressTracker;
     private final ExecutorService executorService;
+    private final AdaptiveBatchSizer batchSizer;
 
     public static RelationshipExporterBuilder<NativeRelationshipExporter> builder(
         TransactionContext transactionContext,
@@ -81,7 +80,8 @@ public final class NativeRelationshipExporter extends StatementApi implements Re
         LongUnaryOperator toOriginalId,
         RelationshipPropertyTranslator propertyTranslator,
         TerminationFlag terminationFlag,
-        ProgressTracker progressTracker
+        ProgressTracker progressTracker,
+        AdaptiveBatchSizer batchSizer
     ) {
         super(transactionContext);
         this.graph = graph;
@@ -89,7 +89,8 @@ public final class NativeRelationshipExporter extends StatementApi implements Re
         this.propertyTranslator = propertyTranslator;
         this.terminationFlag = terminationFlag;
         this.progressTracker = progressTracker;
-        this.executorService = Pools.DEFAULT_SINGLE_THREAD_POOL;
+        this.executorService = Pools.io(Pools.DEFAULT_SINGLE_THREAD_POOL);
+        this.batchSizer = batchSizer;
     }
 
     @Override
@@ -117,60 +118,85 @@ public final class NativeRelationshipExporter extends StatementApi implements Re
     }
 
     private void write(int relationshipTypeToken, int propertyKeyToken, @Nullable RelationshipWithPropertyConsumer afterWriteConsumer) {
-        // We use MIN_BATCH_SIZE since writing relationships
-        // is performed batch-wise, but single-threaded.
-        var tasks = PartitionUtils.degreePartitionWithBatchSize(
-            graph,
-            NativeNodePropertyExporter.MIN_BATCH_SIZE,
-            partition -> createBatchRunnable(
-                relationshipTypeToken,
-                propertyKeyToken,
-                partition,
-                afterWriteConsumer
-            )
-        );
-
+        // Relationships are written batch-wise, but single-threaded.
+        // Each batch covers as many nodes as needed to reach the current batch size.
         progressTracker.beginSubTask();
         try {
-            tasks.forEach(runnable -> ParallelUtil.run(runnable, executorService));
+            long startNode = 0L;
+            while (startNode < graph.nodeCount()) {
+                var batch = new BatchWriter(
+                    relationshipTypeToken,
+                    propertyKeyToken,
+                    startNode,
+                    batchSizer.batchSize(),
+                    afterWriteConsumer
+                );
+                ParallelUtil.run(batch, executorService);
+                startNode = batch.endNode;
+            }
         } finally {
             progressTracker.endSubTask();
         }
     }
 
-    private Runnable createBatchRunnable(
-        int relationshipToken,
-        int propertyToken,
-        Partition partition,
-        @Nullable RelationshipWithPropertyConsumer afterWrite
-    ) {
-        return () -> acceptInTransaction(stmt -> {
-            terminationFlag.assertRunning();
-            Write ops = stmt.dataWrite();
+    private final class BatchWriter implements Runnable {
+        private final int relationshipToken;
+        private final int propertyToken;
+        private final long startNode;
+        private final long relationshipBudget;
+        private final @Nullable RelationshipWithPropertyConsumer afterWrite;
+        private long endNode;
 
+        private BatchWriter(
+            int relationshipToken,
+            int propertyToken,
+            long startNode,
+            long relationshipBudget,
+            @Nullable RelationshipWithPropertyConsumer afterWrite
+        ) {
+            this.relationshipToken = relationshipToken;
+            this.propertyToken = propertyToken;
+            this.startNode = startNode;
+            this.relationshipBudget = relationshipBudget;
+            this.afterWrite = afterWrite;
+            this.endNode = startNode;
+        }
 
-            RelationshipWithPropertyConsumer writeConsumer = new WriteConsumer(
+        @Override
+        public void run() {
+            long startTime = System.nanoTime();
+            var writeConsumer = new WriteConsumer(
                 toOriginalId,
-                ops,
                 propertyTranslator,
                 relationshipToken,
                 propertyToken,
                 progressTracker
             );
-            if (afterWrite != null) {
-                writeConsumer = writeConsumer.andThen(afterWrite);
-            }
-            RelationshipIterator relationshipIterator = graph.concurrentCopy();
-            RelationshipWithPropertyConsumer finalWriteConsumer = writeConsumer;
-            var startNode = partition.startNode();
-            partition.consume(nodeId -> {
-                relationshipIterator.forEachRelationship(nodeId, Double.NaN, finalWriteConsumer);
-
-                if ((nodeId - startNode) % TerminationFlag.RUN_CHECK_NODE_COUNT == 0) {
-                    terminationFlag.assertRunning();
+
+            acceptInTransaction(stmt -> {
+                terminationFlag.assertRunning();
+                writeConsumer.ops = stmt.dataWrite();
+
+                RelationshipWithPropertyConsumer consumer = writeConsumer;
+                if (afterWrite != null) {
+                    consumer = consumer.andThen(afterWrite);
                 }
+                RelationshipIterator relationshipIterator = graph.concurrentCopy();
+                long nodeCount = graph.nodeCount();
+                long nodeId = startNode;
+                while (nodeId < nodeCount && writeConsumer.written < relationshipBudget) {
+                    relationshipIterator.forEachRelationship(nodeId, Double.NaN, consumer);
+
+                    if ((nodeId - startNode) % TerminationFlag.RUN_CHECK_NODE_COUNT == 0) {
+                        terminationFlag.assertRunning();
+                    }
+                    nodeId++;
+                }
+                endNode = nodeId;
             });
-        });
+
+            batchSizer.recordBatch(writeConsumer.written, System.nanoTime() - startTime, progressTracker);
+        }
     }
 
     private static class WriteConsumer implements RelationshipWithPropertyConsumer {
@@ -180,23 +206,22 @@ public final class NativeRelationshipExporter extends StatementApi implements Re
         }
 
         private final LongUnaryOperator toOriginalId;
-        private final Write ops;
+        private Write ops;
         private final RelationshipPropertyTranslator propertyTranslator;
         private final int relTypeToken;
         private final int propertyToken;
         private final ProgressTracker progressTracker;
         private final RelationshipWriteBehavior relationshipWriteBehavior;
+        private long written;
 
         WriteConsumer(
             LongUnaryOperator toOriginalId,
-            Write ops,
             RelationshipPropertyTranslator propertyTranslator,
             int relTypeToken,
             int propertyToken,
             ProgressTracker progressTracker
         ) {
             this.toOriginalId = toOriginalId;
-            this.ops = ops;
             this.propertyTranslator = propertyTranslator;
             this.relTypeToken = relTypeToken;
             this.propertyToken = propertyToken;
@@ -212,6 +237,7 @@ public final class NativeRelationshipExporter extends StatementApi implements Re
         public boolean accept(long sourceNodeId, long targetNodeId, double property) {
             try {
                 relationshipWriteBehavior.apply(sourceNodeId, targetNodeId, property);
+                written++;
                 return true;
             } catch (Exception e) {
                 ExceptionUtil.throwIfUnchecked(e);
@@ -39,7 +39,10 @@ public final class NativeRelationshipExporterBuilder extends RelationshipExporte
             toOriginalId,
             propertyTranslator,
             terminationFlag,
-            progressTracker
+            progressTracker,
+            targetBatchLatency == null
+                ? AdaptiveBatchSizer.fixed(NativeNodePropertyExporter.MIN_BATCH_SIZE)
+                : AdaptiveBatchSizer.adaptive(NativeNodePropertyExporter.MIN_BATCH_SIZE, targetBatchLatency)
         );
     }
 }
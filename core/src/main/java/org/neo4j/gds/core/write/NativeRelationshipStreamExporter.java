@@ -40,7 +40,7 @@ public final class NativeRelationshipStreamExporter extends StatementApi impleme
 
     private final LongUnaryOperator toOriginalId;
     private final Stream<Relationship> relationships;
-    private final int batchSize;
+    private final AdaptiveBatchSizer batchSizer;
     private final TerminationFlag terminationFlag;
     private final ProgressTracker progressTracker;
 
@@ -60,14 +60,14 @@ public final class NativeRelationshipStreamExporter extends StatementApi impleme
         TransactionContext tx,
         LongUnaryOperator toOriginalId,
         Stream<Relationship> relationships,
-        int batchSize,
+        AdaptiveBatchSizer batchSizer,
         TerminationFlag terminationFlag,
         ProgressTracker progressTracker
     ) {
         super(tx);
         this.toOriginalId = toOriginalId;
         this.relationships = relationships.sequential();
-        this.batchSize = batchSize;
+        this.batchSizer = batchSizer;
         this.terminationFlag = terminationFlag;
         this.progressTracker = progressTracker;
     }
@@ -83,7 +83,7 @@ public final class NativeRelationshipStreamExporter extends StatementApi impleme
             var writeQueue = new LinkedBlockingQueue<Buffer>(QUEUE_CAPACITY);
             var bufferPool = new LinkedBlockingQueue<Buffer>(QUEUE_CAPACITY);
             for (int i = 0; i < QUEUE_CAPACITY; i++) {
-                bufferPool.add(new Buffer(batchSize));
+                bufferPool.add(new Buffer(Math.toIntExact(batchSizer.batchSize())));
             }
 
             var writer = new Writer(
@@ -94,16 +94,18 @@ public final class NativeRelationshipStreamExporter extends StatementApi impleme
                 bufferPool,
                 relationshipToken,
                 propertyTokens,
-                terminationFlag
+                terminationFlag,
+                batchSizer
             );
-            var consumer = Pools.DEFAULT.submit(writer);
+            var consumer = Pools.io().submit(writer);
 
             var bufferRef = new AtomicReference<>(bufferPool.poll());
 
             relationships.forEach(relationship -> {
                 var buffer = bufferRef.get();
                 buffer.add(relationship);
-                if (buffer.isFull()) {
+                // the batch size may change between batches, the writer adjusts it after each commit
+                if (buffer.size() >= batchSizer.batchSize()) {
                     try {
                         writeQueue.put(buffer);
                         bufferRef.set(bufferPool.take());
@@ -143,6 +145,7 @@ public final class NativeRelationshipStreamExporter extends StatementApi impleme
 
         private final int relationshipToken;
         private final int[] propertyTokens;
+        private final AdaptiveBatchSizer batchSizer;
         private long written;
 
         Writer(
@@ -153,7 +156,8 @@ public final class NativeRelationshipStreamExporter extends StatementApi impleme
             BlockingQueue<Buffer> bufferPool,
             int relationshipToken,
             int[] propertyTokens,
-            TerminationFlag terminationFlag
+            TerminationFlag terminationFlag,
+            AdaptiveBatchSizer batchSizer
         ) {
             super(tx);
             this.progressTracker = progressTracker;
@@ -163,6 +167,7 @@ public final class NativeRelationshipStreamExporter extends StatementApi impleme
             this.relationshipToken = relationshipToken;
             this.propertyTokens = propertyTokens;
             this.terminationFlag = terminationFlag;
+            this.batchSizer = batchSizer;
         }
 
         @Override
@@ -191,6 +196,7 @@ public final class NativeRelationshipStreamExporter extends StatementApi impleme
             var bufferSize = buffer.size;
             var tokenCount = propertyTokens.length;
             var relationships = buffer.relationships;
+            long startTime = System.nanoTime();
 
             acceptInTransaction(stmt -> {
                 terminationFlag.assertRunning();
@@ -212,27 +218,29 @@ public final class NativeRelationshipStreamExporter extends StatementApi impleme
                 }
             });
 
+            batchSizer.recordBatch(bufferSize, System.nanoTime() - startTime, progressTracker);
             return bufferSize;
         }
     }
 
     static class Buffer {
-        private final long capacity;
-        private final Relationship[] relationships;
+        private Relationship[] relationships;
         private int size;
 
-        Buffer(int capacity) {
-            this.relationships = new Relationship[capacity];
-            this.capacity = capacity;
+        Buffer(int initialCapacity) {
+            this.relationships = new Relationship[initialCapacity];
         }
 
         void add(Relationship relationship) {
+            if (size == relationships.length) {
+                relationships = Arrays.copyOf(relationships, Math.max(1, size * 2));
+            }
             relationships[size] = relationship;
             size += 1;
         }
 
-        boolean isFull() {
-            return size == capacity;
+        int size() {
+            return size;
         }
 
         void reset() {
@@ -34,7 +34,9 @@ public final class NativeRelationshipStreamExporterBuilder extends RelationshipS
             transactionContext,
             toOriginalId,
             relationships,
-            batchSize,
+            targetBatchLatency == null
+                ? AdaptiveBatchSizer.fixed(batchSize)
+                : AdaptiveBatchSizer.adaptive(batchSize, targetBatchLatency),
             terminationFlag,
             progressTracker
         );
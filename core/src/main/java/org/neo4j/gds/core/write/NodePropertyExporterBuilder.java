@@ -36,6 +36,8 @@ public abstract class NodePropertyExporterBuilder<T extends NodePropertyExporter
     protected ExecutorService executorService;
     protected int writeConcurrency = ConcurrencyConfig.DEFAULT_CONCURRENCY;
     protected ProgressTracker progressTracker = ProgressTracker.NULL_TRACKER;
+    protected long batchSize = -1;
+    protected boolean pipelined = true;
 
     public abstract T build();
 
@@ -71,4 +73,24 @@ public abstract class NodePropertyExporterBuilder<T extends NodePropertyExporter
         return this;
     }
 
+    /**
+     * Set the number of nodes whose properties are written within a single transaction.
+     * By default, parallel writes derive the batch size from the node count and the write concurrency,
+     * and sequential writes use a single transaction.
+     */
+    public NodePropertyExporterBuilder<T> withBatchSize(long batchSize) {
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /**
+     * Encode the next batch of property values while the current batch is being written and committed.
+     * Requires an executor to be set via {@link #parallel(ExecutorService, int)}; otherwise batches are encoded by the writer.
+     * Enabled by default, a batch that has not been picked up by the executor is encoded by the writer itself.
+     */
+    public NodePropertyExporterBuilder<T> withPipelining(boolean pipelined) {
+        this.pipelined = pipelined;
+        return this;
+    }
+
 }
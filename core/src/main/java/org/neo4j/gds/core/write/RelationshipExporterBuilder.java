@@ -19,11 +19,13 @@
  */
 package org.neo4j.gds.core.write;
 
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.core.utils.TerminationFlag;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.values.storable.Values;
 
+import java.time.Duration;
 import java.util.function.LongUnaryOperator;
 
 public abstract class RelationshipExporterBuilder<T extends RelationshipExporter> {
@@ -35,6 +37,7 @@ public abstract class RelationshipExporterBuilder<T extends RelationshipExporter
     protected Graph graph;
     protected ProgressTracker progressTracker = ProgressTracker.NULL_TRACKER;
     protected RelationshipPropertyTranslator propertyTranslator = Values::doubleValue;
+    protected @Nullable Duration targetBatchLatency = null;
 
     public abstract T build();
 
@@ -58,6 +61,16 @@ public abstract class RelationshipExporterBuilder<T extends RelationshipExporter
         return this;
     }
 
+    /**
+     * Adjust the number of relationships written per transaction, so that committing a batch takes about {@code targetLatency}.
+     * By default, or if {@code targetLatency} is {@code null}, the batch size is fixed.
+     * Either way, commit latency and throughput are reported as metrics on the current task.
+     */
+    public RelationshipExporterBuilder<T> withTargetBatchLatency(@Nullable Duration targetLatency) {
+        this.targetBatchLatency = targetLatency;
+        return this;
+    }
+
     /**
      * Set the {@link ProgressTracker} to use for logging progress during export.
      *
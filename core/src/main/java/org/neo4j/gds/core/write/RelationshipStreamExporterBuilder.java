@@ -19,10 +19,12 @@
  */
 package org.neo4j.gds.core.write;
 
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.TestOnly;
 import org.neo4j.gds.core.utils.TerminationFlag;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 
+import java.time.Duration;
 import java.util.function.LongUnaryOperator;
 import java.util.stream.Stream;
 
@@ -34,6 +36,7 @@ public abstract class RelationshipStreamExporterBuilder<T extends RelationshipSt
     protected LongUnaryOperator toOriginalId;
     protected TerminationFlag terminationFlag;
     protected ProgressTracker progressTracker = ProgressTracker.NULL_TRACKER;
+    protected @Nullable Duration targetBatchLatency = null;
 
     public abstract T build();
 
@@ -52,6 +55,17 @@ public abstract class RelationshipStreamExporterBuilder<T extends RelationshipSt
         return this;
     }
 
+    /**
+     * Adjust the number of relationships written per transaction, starting from the batch size,
+     * so that committing a batch takes about {@code targetLatency}.
+     * By default, or if {@code targetLatency} is {@code null}, the batch size is fixed.
+     * Either way, commit latency and throughput are reported as metrics on the current task.
+     */
+    public RelationshipStreamExporterBuilder<T> withTargetBatchLatency(@Nullable Duration targetLatency) {
+        this.targetBatchLatency = targetLatency;
+        return this;
+    }
+
     @TestOnly
     public RelationshipStreamExporterBuilder<T> withBatchSize(int batchSize) {
         this.batchSize = batchSize;
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.internal;
+
+import org.neo4j.annotations.service.ServiceProvider;
+import org.neo4j.configuration.Description;
+import org.neo4j.configuration.DocumentedDefaultValue;
+import org.neo4j.configuration.SettingsDeclaration;
+import org.neo4j.graphdb.config.Setting;
+
+import java.util.List;
+
+import static org.neo4j.configuration.SettingConstraints.min;
+import static org.neo4j.configuration.SettingValueParsers.BOOL;
+import static org.neo4j.configuration.SettingValueParsers.INT;
+import static org.neo4j.configuration.SettingValueParsers.STRING;
+import static org.neo4j.configuration.SettingValueParsers.listOf;
+import static org.neo4j.gds.compat.SettingProxy.newBuilder;
+
+@ServiceProvider
+public class JobAdmissionSettings implements SettingsDeclaration {
+
+    @Description("Queue algorithm computations until enough CPU slots are available.")
+    @DocumentedDefaultValue("false")
+    public static final Setting<Boolean> job_admission_enabled = newBuilder(
+        "gds.job_admission.enabled",
+        BOOL,
+        false
+    ).build();
+
+    @Description("The number of CPU slots shared by all computations. Defaults to the size of the GDS thread pool.")
+    public static final Setting<Integer> job_admission_cpu_slots = newBuilder(
+        "gds.job_admission.cpu_slots",
+        INT,
+        null
+    ).addConstraint(min(1)).build();
+
+    @Description("Computations of users with any of these roles are admitted before all others.")
+    @DocumentedDefaultValue("[]")
+    public static final Setting<List<String>> job_admission_high_priority_roles = newBuilder(
+        "gds.job_admission.high_priority_roles",
+        listOf(STRING),
+        List.of()
+    ).build();
+
+    @Description("Computations of users with any of these roles are admitted after all others.")
+    @DocumentedDefaultValue("[]")
+    public static final Setting<List<String>> job_admission_low_priority_roles = newBuilder(
+        "gds.job_admission.low_priority_roles",
+        listOf(STRING),
+        List.of()
+    ).build();
+}
@@ -24,6 +24,7 @@ import org.jetbrains.annotations.TestOnly;
 
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 public enum GdsFeatureToggles {
 
@@ -34,7 +35,13 @@ public enum GdsFeatureToggles {
     USE_BIT_ID_MAP(true),
     USE_SHARDED_ID_MAP(false),
     USE_UNCOMPRESSED_ADJACENCY_LIST(false),
-    USE_REORDERED_ADJACENCY_LIST(false);
+    USE_PACKED_ADJACENCY_LIST(false),
+    USE_REORDERED_ADJACENCY_LIST(false),
+    USE_OFF_HEAP_ADJACENCY_LIST(false),
+    USE_MEMORY_MAPPED_ADJACENCY_LIST(false),
+    USE_DEGREE_ORDERED_NODE_IDS(false),
+    USE_PACKED_NODE_PROPERTIES(true),
+    USE_LAZY_NODE_PROPERTIES(false);
 
     public boolean isEnabled() {
         return current.get();
@@ -108,6 +115,26 @@ public enum GdsFeatureToggles {
     );
     public static final AtomicInteger PAGES_PER_THREAD = new AtomicInteger(PAGES_PER_THREAD_FLAG);
 
+    // How many lazily loaded node property columns are kept in memory over all graphs.
+    // Only used when USE_LAZY_NODE_PROPERTIES is enabled, the least recently used columns are dropped first.
+    public static final int LAZY_NODE_PROPERTIES_CACHE_SIZE_DEFAULT_SETTING = 16;
+    private static final int LAZY_NODE_PROPERTIES_CACHE_SIZE_FLAG = Integer.getInteger(
+        name(GdsFeatureToggles.class, "lazyNodePropertiesCacheSize"),
+        LAZY_NODE_PROPERTIES_CACHE_SIZE_DEFAULT_SETTING
+    );
+    public static final AtomicInteger LAZY_NODE_PROPERTIES_CACHE_SIZE = new AtomicInteger(
+        LAZY_NODE_PROPERTIES_CACHE_SIZE_FLAG
+    );
+
+    // How many bytes of messages synchronous, queue-based Pregel computations keep on heap.
+    // Messages beyond the budget are written to a temporary file, 0 keeps all messages on heap.
+    public static final long PREGEL_MESSAGE_HEAP_BUDGET_DEFAULT_SETTING = 0L;
+    private static final long PREGEL_MESSAGE_HEAP_BUDGET_FLAG = Long.getLong(
+        name(GdsFeatureToggles.class, "pregelMessageHeapBudget"),
+        PREGEL_MESSAGE_HEAP_BUDGET_DEFAULT_SETTING
+    );
+    public static final AtomicLong PREGEL_MESSAGE_HEAP_BUDGET = new AtomicLong(PREGEL_MESSAGE_HEAP_BUDGET_FLAG);
+
     private static String name(Class<?> location, String name) {
         return location.getCanonicalName() + "." + name;
     }
@@ -37,8 +37,10 @@ import org.neo4j.gds.RelationshipProjection;
 import org.neo4j.gds.StoreLoaderBuilder;
 import org.neo4j.gds.TestGraphLoaderFactory;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.nodeproperties.ValueType;
 import org.neo4j.gds.compat.Neo4jProxy;
 import org.neo4j.gds.compat.TestLog;
+import org.neo4j.gds.core.loading.nodeproperties.LazyNodePropertyValues;
 import org.neo4j.gds.core.utils.TerminationFlag;
 import org.neo4j.gds.extension.TestGraph;
 import org.neo4j.logging.Log;
@@ -57,6 +59,7 @@ import static org.neo4j.gds.TestSupport.assertTransactionTermination;
 import static org.neo4j.gds.TestSupport.fromGdl;
 import static org.neo4j.gds.assertj.Extractors.removingThreadId;
 import static org.neo4j.gds.utils.GdsFeatureToggles.SKIP_ORPHANS;
+import static org.neo4j.gds.utils.GdsFeatureToggles.USE_LAZY_NODE_PROPERTIES;
 import static org.neo4j.gds.utils.GdsFeatureToggles.USE_PARALLEL_PROPERTY_VALUE_INDEX;
 import static org.neo4j.gds.utils.GdsFeatureToggles.USE_PROPERTY_VALUE_INDEX;
 
@@ -485,6 +488,54 @@ class GraphLoaderTest extends BaseTest {
         assertThat(graphStore.nodeLabels()).containsExactly(NodeLabel.of("AllNodes"));
     }
 
+    @Test
+    void shouldLoadNodePropertiesLazily() {
+        USE_LAZY_NODE_PROPERTIES.enableAndRun(() -> {
+            var graphStore = TestGraphLoaderFactory.graphLoader(db, NATIVE)
+                .withLabels("Node1", "Node2", "Node3")
+                .withNodeProperties(PropertyMappings.of(
+                    PropertyMapping.of("prop1", "prop1", 41L),
+                    PropertyMapping.of("prop2", "prop2", 42L)
+                ))
+                .withDefaultAggregation(Aggregation.SINGLE)
+                .graphStore();
+
+            var lazyValues = graphStore.nodeProperty("prop1").values();
+            assertThat(lazyValues).isInstanceOf(LazyNodePropertyValues.class);
+            assertThat(((LazyNodePropertyValues) lazyValues).isMaterialized()).isFalse();
+            assertThat(lazyValues.valueType()).isEqualTo(ValueType.LONG);
+
+            Graph expected = fromGdl("(a:Node1 {prop1: 1, prop2: 42})" +
+                                     "(b:Node2 {prop1: 41, prop2: 2})" +
+                                     "(c:Node3 {prop1: 41, prop2: 42})" +
+                                     "(a)-->(b), (a)-->(c), (b)-->(c)");
+            assertGraphEquals(expected, graphStore.getUnion());
+            assertThat(((LazyNodePropertyValues) lazyValues).isMaterialized()).isTrue();
+        });
+    }
+
+    @Test
+    void shouldNotReadLazyNodePropertiesOfNodesThatLostTheirLabel() {
+        USE_LAZY_NODE_PROPERTIES.enableAndRun(() -> {
+            var graphStore = TestGraphLoaderFactory.graphLoader(db, NATIVE)
+                .withLabels("Node1", "Node2", "Node3")
+                .withNodeProperties(PropertyMappings.of(
+                    PropertyMapping.of("prop1", "prop1", 41L),
+                    PropertyMapping.of("prop2", "prop2", 42L)
+                ))
+                .withDefaultAggregation(Aggregation.SINGLE)
+                .graphStore();
+
+            runQuery("MATCH (n:Node1) REMOVE n:Node1");
+
+            Graph expected = fromGdl("(a:Node1 {prop1: 41, prop2: 42})" +
+                                     "(b:Node2 {prop1: 41, prop2: 2})" +
+                                     "(c:Node3 {prop1: 41, prop2: 42})" +
+                                     "(a)-->(b), (a)-->(c), (b)-->(c)");
+            assertGraphEquals(expected, graphStore.getUnion());
+        });
+    }
+
     static Stream<Arguments> orientationCombinations() {
         return Stream.of(
             Arguments.of(Orientation.NATURAL, Orientation.NATURAL, false),
@@ -20,9 +20,11 @@
 package org.neo4j.gds.core.concurrency;
 
 import org.junit.jupiter.api.Test;
+import org.neo4j.gds.concurrency.PoolSizesService;
 
 import java.util.concurrent.ThreadPoolExecutor;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 class PoolsTest {
@@ -35,4 +37,36 @@ class PoolsTest {
         assertEquals(4, defaultPool.getMaximumPoolSize());
     }
 
+    @Test
+    void shouldFallBackToDefaultPoolWithoutIoPool() {
+        assertThat(Pools.io()).isSameAs(Pools.DEFAULT);
+        assertThat(Pools.io(Pools.DEFAULT_SINGLE_THREAD_POOL)).isSameAs(Pools.DEFAULT_SINGLE_THREAD_POOL);
+    }
+
+    @Test
+    void shouldUseBoundedIoPoolWhenEnabled() {
+        try {
+            Pools.enableIoPool(2);
+
+            var ioPool = Pools.io();
+            assertThat(ioPool).isNotSameAs(Pools.DEFAULT).isInstanceOf(ThreadPoolExecutor.class);
+            assertThat(((ThreadPoolExecutor) ioPool).getMaximumPoolSize()).isEqualTo(2);
+            assertThat(Pools.io(Pools.DEFAULT_SINGLE_THREAD_POOL)).isSameAs(ioPool);
+
+            Pools.disableIoPool();
+
+            assertThat(ioPool.isShutdown()).isTrue();
+            assertThat(Pools.io()).isSameAs(Pools.DEFAULT);
+        } finally {
+            Pools.disableIoPool();
+        }
+    }
+
+    @Test
+    void shouldShareOneForkJoinPool() {
+        var pool = Pools.forkJoinPool();
+
+        assertThat(pool.getParallelism()).isEqualTo(PoolSizesService.poolSizes().maxPoolSize());
+        assertThat(Pools.forkJoinPool()).isSameAs(pool);
+    }
 }
@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.concurrency;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.core.utils.partition.Partition;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.LongUnaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WorkStealingSchedulerTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldVisitEveryNodeExactlyOnce(int concurrency) {
+        var nodeCount = 100_003;
+        var visits = new AtomicIntegerArray(nodeCount);
+
+        WorkStealingScheduler
+            .uniform(nodeCount)
+            .run(concurrency, partition -> partition.consume(nodeId -> visits.incrementAndGet((int) nodeId)));
+
+        for (int nodeId = 0; nodeId < nodeCount; nodeId++) {
+            assertThat(visits.get(nodeId)).as("visits of node %d", nodeId).isEqualTo(1);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldVisitEveryNodeExactlyOnceWithSkewedWeights(int concurrency) {
+        var nodeCount = 100_003;
+        var visits = new AtomicIntegerArray(nodeCount);
+
+        WorkStealingScheduler
+            .weighted(nodeCount, nodeId -> nodeId % 1000 == 0 ? 1_000_000 : nodeId % 2)
+            .run(concurrency, partition -> partition.consume(nodeId -> visits.incrementAndGet((int) nodeId)));
+
+        for (int nodeId = 0; nodeId < nodeCount; nodeId++) {
+            assertThat(visits.get(nodeId)).as("visits of node %d", nodeId).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void shouldComputeWeightsInParallel() {
+        var nodeCount = 100_003;
+        LongUnaryOperator nodeWeight = nodeId -> nodeId % 7;
+
+        var sequential = WorkStealingScheduler.weighted(nodeCount, nodeWeight);
+        var parallel = WorkStealingScheduler.weighted(nodeCount, nodeWeight, 4);
+
+        assertThat(parallel.totalWeight()).isEqualTo(sequential.totalWeight());
+        var blockCount = nodeCount / WorkStealingScheduler.BLOCK_SIZE;
+        for (long block = 0; block < blockCount; block += 97) {
+            assertThat(parallel.chunkEnd(block, blockCount, 1_000)).isEqualTo(sequential.chunkEnd(block, blockCount, 1_000));
+        }
+    }
+
+    @Test
+    void shouldRunOnInjectedForkJoinPool() {
+        var pool = Pools.createForkJoinPool(2);
+        var threads = ConcurrentHashMap.<String>newKeySet();
+        try {
+            WorkStealingScheduler.uniform(100_000).run(
+                pool,
+                4,
+                partition -> threads.add(Thread.currentThread().getName())
+            );
+        } finally {
+            pool.shutdown();
+        }
+
+        assertThat(threads).anyMatch(name -> name.startsWith("gds-forkjoin-"));
+    }
+
+    @Test
+    void shouldCreateAtMostOneWorkerPerThread() {
+        var concurrency = 4;
+        var createdWorkers = new AtomicInteger();
+        var partitions = new ConcurrentLinkedQueue<Partition>();
+
+        WorkStealingScheduler.uniform(1_000_000).run(
+            concurrency,
+            () -> {
+                createdWorkers.incrementAndGet();
+                return new Object();
+            },
+            (worker, partition) -> partitions.add(partition)
+        );
+
+        assertThat(createdWorkers.get()).isBetween(1, concurrency);
+        assertThat(partitions.stream().mapToLong(Partition::nodeCount).sum()).isEqualTo(1_000_000);
+    }
+
+    @Test
+    void shouldLimitParallelismOnALargerPool() {
+        var concurrency = 2;
+        var createdWorkers = new AtomicInteger();
+        var running = new AtomicInteger();
+        var maxRunning = new AtomicInteger();
+        var pool = Pools.createForkJoinPool(8);
+        try {
+            WorkStealingScheduler.uniform(1_000_000).run(
+                pool,
+                concurrency,
+                () -> {
+                    createdWorkers.incrementAndGet();
+                    return new Object();
+                },
+                (worker, partition) -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    partition.consume(nodeId -> Thread.onSpinWait());
+                    running.decrementAndGet();
+                }
+            );
+        } finally {
+            pool.shutdown();
+        }
+
+        assertThat(createdWorkers.get()).isBetween(1, concurrency);
+        assertThat(maxRunning.get()).isBetween(1, concurrency);
+    }
+
+    @Test
+    void shouldSplitByWeight() {
+        // all the weight is in the last block
+        var scheduler = WorkStealingScheduler.weighted(
+            WorkStealingScheduler.BLOCK_SIZE * 10,
+            nodeId -> nodeId >= WorkStealingScheduler.BLOCK_SIZE * 9 ? 1 : 0
+        );
+
+        assertThat(scheduler.totalWeight()).isEqualTo(WorkStealingScheduler.BLOCK_SIZE);
+        assertThat(scheduler.splitBlock(0, 10)).isEqualTo(9);
+        assertThat(scheduler.chunkEnd(0, 10, 1)).isEqualTo(10);
+    }
+
+    @Test
+    void shouldSplitUniformRangesInTheMiddle() {
+        var scheduler = WorkStealingScheduler.uniform(WorkStealingScheduler.BLOCK_SIZE * 10);
+
+        assertThat(scheduler.splitBlock(0, 10)).isEqualTo(5);
+        assertThat(scheduler.splitBlock(4, 6)).isEqualTo(5);
+        assertThat(scheduler.chunkEnd(0, 10, WorkStealingScheduler.BLOCK_SIZE * 3)).isEqualTo(3);
+    }
+
+    @Test
+    void shouldNotCallTaskForEmptyGraph() {
+        var calls = new AtomicInteger();
+
+        WorkStealingScheduler.uniform(0).run(4, partition -> calls.incrementAndGet());
+
+        assertThat(calls.get()).isZero();
+    }
+
+    @Test
+    void shouldPropagateExceptions() {
+        var scheduler = WorkStealingScheduler.uniform(100_000);
+
+        assertThatThrownBy(() -> scheduler.run(4, partition -> {
+            if (partition.startNode() > 50_000) {
+                throw new IllegalStateException("boom");
+            }
+        })).hasMessageContaining("boom");
+    }
+}
@@ -23,16 +23,19 @@ import org.junit.jupiter.api.Test;
 import org.neo4j.gds.collections.PageUtil;
 import org.neo4j.gds.core.GraphDimensions;
 import org.neo4j.gds.core.ImmutableGraphDimensions;
+import org.neo4j.gds.core.compress.AdjacencyPageStore;
 import org.neo4j.gds.core.utils.mem.MemoryRange;
 import org.neo4j.gds.core.utils.mem.MemoryTree;
 import org.neo4j.gds.core.utils.paged.HugeIntArray;
 import org.neo4j.gds.core.utils.paged.HugeLongArray;
 import org.neo4j.gds.mem.BitUtil;
+import org.neo4j.gds.mem.MemoryUsage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.neo4j.gds.core.huge.CompressedAdjacencyList.computeAdjacencyByteSize;
 import static org.neo4j.gds.core.loading.BumpAllocator.PAGE_MASK;
 import static org.neo4j.gds.core.loading.BumpAllocator.PAGE_SHIFT;
+import static org.neo4j.gds.core.loading.BumpAllocator.PAGE_SIZE;
 import static org.neo4j.gds.mem.BitUtil.ceilDiv;
 
 class CompressedAdjacencyListTest {
@@ -99,6 +102,18 @@ class CompressedAdjacencyListTest {
         assertEquals(expected, memRec.memoryUsage());
     }
 
+    @Test
+    void shouldEstimateStagingPagesOfOffHeapPagesPerThread() {
+        GraphDimensions dimensions = ImmutableGraphDimensions.builder().nodeCount(100).relCountUpperBound(1000).build();
+        var estimation = CompressedAdjacencyList.adjacencyListEstimation(10, 100, AdjacencyPageStore.OFF_HEAP);
+
+        var singleThreaded = estimation.estimate(dimensions, 1).memoryUsage();
+        var multiThreaded = estimation.estimate(dimensions, 4).memoryUsage();
+
+        long stagingPage = MemoryUsage.sizeOfByteArray(PAGE_SIZE);
+        assertEquals(singleThreaded.add(MemoryRange.of(3 * stagingPage)), multiThreaded);
+    }
+
     @Test
     void shouldComputeAdjacencyByteSize() {
         long avgDegree = 1000;
@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.huge;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.api.AdjacencyCursor;
+import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.core.loading.construction.GraphFactory;
+import org.neo4j.gds.gdl.GdlFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DeltaAdjacencyListTest {
+
+    private AdjacencyList base;
+
+    @BeforeEach
+    void setup() {
+        var nodes = GdlFactory.of("(a), (b), (c), (d), (e), (f), (g), (h)").build().nodes();
+        var builder = GraphFactory.initRelationshipsBuilder()
+            .nodes(nodes)
+            .orientation(Orientation.NATURAL)
+            .build();
+        builder.addFromInternal(0, 1);
+        builder.addFromInternal(0, 2);
+        builder.addFromInternal(0, 3);
+        builder.addFromInternal(0, 5);
+        builder.addFromInternal(1, 2);
+        base = builder.build().topology().adjacencyList();
+    }
+
+    @Test
+    void shouldMergeInsertedAndRemovedTargets() {
+        var builder = DeltaAdjacencyList.of(base).builder();
+        assertThat(builder.insert(0, 4, true)).isTrue();
+        assertThat(builder.remove(0, 2)).isEqualTo(1);
+        assertThat(builder.insert(1, 0, true)).isTrue();
+        assertThat(builder.insert(7, 6, true)).isTrue();
+        var adjacencyList = builder.build();
+
+        assertThat(adjacencyList.degree(0)).isEqualTo(4);
+        assertThat(targets(adjacencyList, 0)).containsExactly(1L, 3L, 4L, 5L);
+        assertThat(targets(adjacencyList, 1)).containsExactly(0L, 2L);
+        assertThat(targets(adjacencyList, 7)).containsExactly(6L);
+        assertThat(targets(adjacencyList, 5)).isEmpty();
+
+        assertThat(adjacencyList.insertedCount()).isEqualTo(3);
+        assertThat(adjacencyList.removedCount()).isEqualTo(1);
+        assertThat(adjacencyList.changedNodeCount()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldNotChangePreviousOverlay() {
+        var first = DeltaAdjacencyList.of(base).builder();
+        first.insert(0, 4, true);
+        var firstList = first.build();
+
+        var second = firstList.builder();
+        second.remove(0, 1);
+        second.remove(0, 4);
+        var secondList = second.build();
+
+        assertThat(targets(firstList, 0)).containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(targets(secondList, 0)).containsExactly(2L, 3L, 5L);
+        assertThat(secondList.insertedCount()).isEqualTo(0);
+        assertThat(secondList.removedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldHandleParallelRelationships() {
+        var builder = DeltaAdjacencyList.of(base).builder();
+        assertThat(builder.insert(0, 3, false)).isFalse();
+        assertThat(builder.insert(0, 3, true)).isTrue();
+        assertThat(builder.insert(0, 3, true)).isTrue();
+        assertThat(targets(builder.build(), 0)).containsExactly(1L, 2L, 3L, 3L, 3L, 5L);
+
+        assertThat(builder.remove(0, 3)).isEqualTo(3);
+        assertThat(builder.remove(0, 3)).isEqualTo(0);
+        assertThat(targets(builder.build(), 0)).containsExactly(1L, 2L, 5L);
+
+        assertThat(builder.insert(0, 3, false)).isTrue();
+        assertThat(targets(builder.build(), 0)).containsExactly(1L, 2L, 3L, 5L);
+    }
+
+    @Test
+    void shouldSkipAndAdvance() {
+        var builder = DeltaAdjacencyList.of(base).builder();
+        builder.insert(0, 4, true);
+        builder.remove(0, 3);
+        var adjacencyList = builder.build();
+
+        var cursor = adjacencyList.adjacencyCursor(0);
+        assertThat(cursor.size()).isEqualTo(4);
+        assertThat(cursor.skipUntil(2)).isEqualTo(4);
+        assertThat(cursor.remaining()).isEqualTo(1);
+        assertThat(cursor.advance(5)).isEqualTo(5);
+        assertThat(cursor.hasNextVLong()).isFalse();
+        assertThat(cursor.advance(5)).isEqualTo(AdjacencyCursor.NOT_FOUND);
+
+        cursor = adjacencyList.adjacencyCursor(cursor, 0);
+        assertThat(cursor.advance(3)).isEqualTo(4);
+        assertThat(cursor.peekVLong()).isEqualTo(5);
+
+        cursor = adjacencyList.adjacencyCursor(cursor, 0);
+        assertThat(cursor.advanceBy(2)).isEqualTo(4);
+        assertThat(cursor.advanceBy(1)).isEqualTo(AdjacencyCursor.NOT_FOUND);
+        assertThat(cursor.hasNextVLong()).isFalse();
+
+        cursor = adjacencyList.adjacencyCursor(cursor, 0);
+        assertThat(cursor.skipUntil(10)).isEqualTo(5);
+        assertThat(cursor.hasNextVLong()).isFalse();
+    }
+
+    @Test
+    void shouldCopyCursorState() {
+        var builder = DeltaAdjacencyList.of(base).builder();
+        builder.insert(0, 4, true);
+        var adjacencyList = builder.build();
+
+        var cursor = adjacencyList.adjacencyCursor(0);
+        cursor.nextVLong();
+        cursor.nextVLong();
+        var copy = cursor.shallowCopy(null);
+
+        assertThat(cursor.nextVLong()).isEqualTo(3);
+        assertThat(copy.remaining()).isEqualTo(3);
+        assertThat(copy.nextVLong()).isEqualTo(3);
+        assertThat(copy.nextVLong()).isEqualTo(4);
+        assertThat(copy.nextVLong()).isEqualTo(5);
+    }
+
+    @Test
+    void shouldReuseRawCursor() {
+        var builder = DeltaAdjacencyList.of(base).builder();
+        builder.remove(1, 2);
+        var adjacencyList = builder.build();
+
+        var raw = adjacencyList.rawAdjacencyCursor();
+        var cursor = adjacencyList.adjacencyCursor(raw, 0);
+        assertThat(cursor).isSameAs(raw);
+        assertThat(cursor.size()).isEqualTo(4);
+
+        cursor = adjacencyList.adjacencyCursor(cursor, 1);
+        assertThat(cursor.size()).isEqualTo(0);
+        assertThat(cursor.hasNextVLong()).isFalse();
+    }
+
+    private static List<Long> targets(AdjacencyList adjacencyList, long node) {
+        var targets = new ArrayList<Long>();
+        var cursor = adjacencyList.adjacencyCursor(node);
+        while (cursor.hasNextVLong()) {
+            targets.add(cursor.nextVLong());
+        }
+        assertThat(targets).hasSize(adjacencyList.degree(node));
+        return targets;
+    }
+}
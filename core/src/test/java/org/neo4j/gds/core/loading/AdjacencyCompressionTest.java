@@ -19,16 +19,21 @@
  */
 package org.neo4j.gds.core.loading;
 
+import com.carrotsearch.hppc.sorting.IndirectSort;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.neo4j.gds.core.Aggregation;
 import org.neo4j.gds.core.compress.LongArrayBuffer;
+import org.neo4j.gds.core.utils.AscendingLongComparator;
 
 import java.util.Arrays;
+import java.util.Random;
 import java.util.stream.Stream;
 
 import static java.lang.Double.doubleToLongBits;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertSame;
 
@@ -67,6 +72,23 @@ class AdjacencyCompressionTest {
         assertEquals(4L, data.buffer[1]);
     }
 
+    @Test
+    void shouldSortLargeAdjacencyListsInParallel() {
+        int length = AdjacencyCompression.PARALLEL_SORT_THRESHOLD + 42;
+        var random = new Random(42);
+        long[] values = new long[length];
+        Arrays.setAll(values, i -> random.nextInt(1000));
+        long[] expected = Arrays.copyOf(values, length);
+        Arrays.sort(expected);
+
+        int[] order = AdjacencyCompression.sortOrder(values, length);
+        int[] expectedOrder = IndirectSort.mergesort(0, length, new AscendingLongComparator(values));
+        assertThat(order).containsExactly(expectedOrder);
+
+        AdjacencyCompression.sort(values, length);
+        assertThat(values).containsExactly(expected);
+    }
+
     static Stream<Arguments> aggregationsWithResults() {
         return Stream.of(
             Arguments.of(
@@ -31,6 +31,7 @@ import org.neo4j.gds.api.IdMap;
 import org.neo4j.gds.api.nodeproperties.ValueType;
 import org.neo4j.gds.api.properties.graph.LongGraphPropertyValues;
 import org.neo4j.gds.api.schema.PropertySchema;
+import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.loading.construction.GraphFactory;
 import org.neo4j.gds.core.loading.construction.RelationshipsBuilder;
 import org.neo4j.gds.gdl.GdlFactory;
@@ -41,6 +42,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Executors;
 import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
@@ -294,4 +296,104 @@ class CSRGraphStoreTest {
         assertThat(graph.nthTarget(0, 1)).isEqualTo(IdMap.NOT_FOUND);
         assertThat(graph.nthTarget(1, 0)).isEqualTo(IdMap.NOT_FOUND);
     }
+
+    @Test
+    void insertAndRemoveRelationships() {
+        var factory = GdlFactory.of("(a)-[:T]->(b), (a)-[:T]->(c), (b)-[:T]->(c)");
+        var graphStore = factory.build();
+        var type = RelationshipType.of("T");
+        var graphBefore = graphStore.getGraph(type);
+
+        long inserted = graphStore.insertRelationships(
+            type,
+            new long[]{factory.nodeId("c"), factory.nodeId("a")},
+            new long[]{factory.nodeId("a"), factory.nodeId("a")}
+        );
+        long removed = graphStore.removeRelationships(
+            type,
+            new long[]{factory.nodeId("a")},
+            new long[]{factory.nodeId("b")}
+        );
+
+        assertThat(inserted).isEqualTo(2);
+        assertThat(removed).isEqualTo(1);
+        assertThat(graphStore.relationshipCount()).isEqualTo(4);
+        assertGraphEquals(
+            fromGdl("(a)-[:T]->(a), (a)-[:T]->(c), (b)-[:T]->(c), (c)-[:T]->(a)"),
+            graphStore.getGraph(type)
+        );
+        assertGraphEquals(fromGdl("(a)-->(b), (a)-->(c), (b)-->(c)"), graphBefore);
+    }
+
+    @Test
+    void insertRelationshipsUndirected() {
+        var factory = GdlFactory.builder().graphProjectConfig(
+            ImmutableGraphProjectFromGdlConfig.builder()
+                .gdlGraph("(a)-[:T]->(b), (c)")
+                .graphName("test")
+                .orientation(Orientation.UNDIRECTED)
+                .build()
+        ).build();
+        var graphStore = factory.build();
+        var type = RelationshipType.of("T");
+
+        graphStore.insertRelationships(type, new long[]{factory.nodeId("b")}, new long[]{factory.nodeId("c")});
+
+        assertThat(graphStore.relationshipCount()).isEqualTo(4);
+        assertGraphEquals(
+            fromGdl("(a)-[:T]->(b), (b)-[:T]->(c)", Orientation.UNDIRECTED),
+            graphStore.getGraph(type)
+        );
+    }
+
+    @Test
+    void mergeRelationshipDeltas() {
+        var factory = GdlFactory.of("(a)-[:T]->(b), (a)-[:T]->(c), (b)-[:T]->(c)");
+        var graphStore = factory.build();
+        var type = RelationshipType.of("T");
+
+        graphStore.insertRelationships(type, new long[]{factory.nodeId("c")}, new long[]{factory.nodeId("b")});
+        graphStore.removeRelationships(type, new long[]{factory.nodeId("a")}, new long[]{factory.nodeId("c")});
+
+        var merged = graphStore.mergeRelationshipDeltas(type, 4, Pools.DEFAULT);
+
+        assertThat(merged).isTrue();
+        assertThat(graphStore.relationshipCount()).isEqualTo(3);
+        assertGraphEquals(
+            fromGdl("(a)-[:T]->(b), (b)-[:T]->(c), (c)-[:T]->(b)"),
+            graphStore.getGraph(type)
+        );
+        assertThat(graphStore.mergeRelationshipDeltas(type, 4, Pools.DEFAULT)).isFalse();
+    }
+
+    @Test
+    void mergeRelationshipDeltasOnSingleThread() {
+        var factory = GdlFactory.of("(a)-[:T]->(b)");
+        var graphStore = factory.build();
+        var type = RelationshipType.of("T");
+
+        graphStore.insertRelationships(type, new long[]{factory.nodeId("b")}, new long[]{factory.nodeId("a")});
+
+        var executor = Executors.newSingleThreadExecutor();
+        try {
+            assertThat(graphStore.mergeRelationshipDeltas(type, 4, executor)).isTrue();
+        } finally {
+            executor.shutdown();
+        }
+        assertGraphEquals(fromGdl("(a)-[:T]->(b), (b)-[:T]->(a)"), graphStore.getGraph(type));
+    }
+
+    @Test
+    void shouldNotChangeRelationshipsWithProperties() {
+        var factory = GdlFactory.of("(a)-[:T {w: 1.0}]->(b)");
+        var graphStore = factory.build();
+
+        assertThatThrownBy(() -> graphStore.insertRelationships(
+            RelationshipType.of("T"),
+            new long[]{factory.nodeId("b")},
+            new long[]{factory.nodeId("a")}
+        ))
+            .isInstanceOf(UnsupportedOperationException.class)
+            .hasMessageContaining("has properties");
+    }
 }
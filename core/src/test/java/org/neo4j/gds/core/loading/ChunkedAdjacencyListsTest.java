@@ -56,6 +56,8 @@ class ChunkedAdjacencyListsTest {
         adjacencyLists.add(0, new long[]{42L, 1337L, 5L}, 0, 3, 3);
         adjacencyLists.add(0, new long[]{42L, 1337L, 5L}, 1, 3, 2);
 
+        assertThat(adjacencyLists.targetCount()).isEqualTo(5);
+
         var expectedTargets = new long[]{42L, 1337L, 5L, 1337L, 5L};
         var actualTargets = new long[5];
         adjacencyLists.consume((nodeId, targets, __, position, length) -> AdjacencyCompression.copyFrom(
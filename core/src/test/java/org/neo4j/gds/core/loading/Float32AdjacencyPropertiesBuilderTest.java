@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.ImmutablePropertyMapping;
+import org.neo4j.gds.PropertyMapping;
+import org.neo4j.gds.PropertyMappings;
+import org.neo4j.gds.PropertyPrecision;
+import org.neo4j.gds.api.AdjacencyProperties;
+import org.neo4j.gds.core.huge.Float32AdjacencyProperties;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class Float32AdjacencyPropertiesBuilderTest {
+
+    @Test
+    void shouldStoreFloatPrecisionProperties() {
+        var builder = new Float32AdjacencyPropertiesBuilder();
+        var degrees = HugeIntArray.newArray(3);
+        var offsets = HugeLongArray.newArray(3);
+
+        var first = new double[]{0.1, 42.0, -1337.42};
+        var second = new double[]{Math.PI, Double.NaN};
+        try (var allocator = builder.newAllocator()) {
+            offsets.set(0, allocator.write(doubleBits(first), first.length, -1L));
+            degrees.set(0, first.length);
+            offsets.set(2, allocator.write(doubleBits(second), second.length, -1L));
+            degrees.set(2, second.length);
+        }
+
+        var properties = builder.build(degrees, offsets);
+
+        assertThat(values(properties, 0, first.length)).containsExactly(0.1F, 42.0F, -1337.42F);
+        assertThat(values(properties, 1, 0)).isEmpty();
+        assertThat(values(properties, 2, second.length)).containsExactly((float) Math.PI, Float.NaN);
+    }
+
+    @Test
+    void shouldPackTwoValuesPerLong() {
+        var out = new long[2];
+        var values = new double[]{1.0, 2.0, 3.0};
+
+        assertThat(Float32AdjacencyProperties.pack(doubleBits(values), values.length, out)).isEqualTo(2);
+        assertThat(Float.intBitsToFloat((int) out[0])).isEqualTo(1.0F);
+        assertThat(Float.intBitsToFloat((int) (out[0] >>> 32))).isEqualTo(2.0F);
+        assertThat(Float.intBitsToFloat((int) out[1])).isEqualTo(3.0F);
+        assertThat(out[1] >>> 32).isEqualTo(0L);
+    }
+
+    @Test
+    void shouldOnlyApplyIfAllPropertiesUseFloatPrecision() {
+        var floatMapping = ImmutablePropertyMapping.builder().propertyKey("a").precision(PropertyPrecision.FLOAT).build();
+        var doubleMapping = PropertyMapping.of("b");
+
+        assertThat(Float32AdjacencyPropertiesBuilder.appliesTo(PropertyMappings.of())).isFalse();
+        assertThat(Float32AdjacencyPropertiesBuilder.appliesTo(PropertyMappings.of(floatMapping))).isTrue();
+        assertThat(Float32AdjacencyPropertiesBuilder.appliesTo(PropertyMappings.of(floatMapping, doubleMapping))).isFalse();
+    }
+
+    private static long[] doubleBits(double[] values) {
+        return Arrays.stream(values).mapToLong(Double::doubleToRawLongBits).toArray();
+    }
+
+    private static float[] values(AdjacencyProperties properties, long node, int degree) {
+        var values = new float[degree];
+        try (var cursor = properties.propertyCursor(node)) {
+            for (int i = 0; i < degree; i++) {
+                values[i] = (float) Double.longBitsToDouble(cursor.nextLong());
+            }
+            assertThat(cursor.hasNextLong()).isFalse();
+        }
+        return values;
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class Float32DoubleCodecTest {
+
+    private final DoubleCodec codec = Float32DoubleCodec.instance();
+
+    @ParameterizedTest
+    @ValueSource(doubles = {0.0, -0.0, 0.15, -0.15, 1.0, 42.0, 1337.42, 16_777_216.0, 1e-40, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY})
+    void shouldRoundToNearestFloat(double value) {
+        var compressed = codec.compressDouble(value);
+
+        assertThat(compressed).hasSize(Float.BYTES);
+        assertThat(codec.compressedSize(compressed, 0)).isEqualTo(Float.BYTES);
+        assertThat(codec.decompressDouble(compressed)).isEqualTo((double) (float) value);
+    }
+
+    @Test
+    void shouldKeepNaN() {
+        assertThat(codec.decompressDouble(codec.compressDouble(Double.NaN))).isNaN();
+    }
+
+    @Test
+    void shouldOverflowToInfinity() {
+        assertThat(codec.decompressDouble(codec.compressDouble(Math.pow(2, 200)))).isEqualTo(Double.POSITIVE_INFINITY);
+    }
+
+    @Test
+    void shouldCompressManyValues() {
+        var values = new Random(42).doubles(1000, -1e6, 1e6).toArray();
+        var compressed = new byte[Float.BYTES * values.length];
+
+        var length = codec.compressDoubles(values, values.length, compressed);
+        var decompressed = codec.decompressDoubles(compressed, values.length);
+
+        assertThat(length).isEqualTo(compressed.length);
+        for (int i = 0; i < values.length; i++) {
+            assertThat(decompressed[i]).isEqualTo((double) (float) values[i]);
+        }
+    }
+}
@@ -24,11 +24,14 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.neo4j.gds.PropertyPrecision;
 import org.neo4j.gds.TestSupport;
 import org.neo4j.gds.api.DefaultValue;
 import org.neo4j.gds.api.nodeproperties.ValueType;
 import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.core.ImmutableGraphDimensions;
 import org.neo4j.gds.core.loading.nodeproperties.NodePropertiesFromStoreBuilder;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
 import org.neo4j.values.storable.Value;
 import org.neo4j.values.storable.Values;
 
@@ -49,6 +52,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.neo4j.gds.TestSupport.idMap;
+import static org.neo4j.gds.utils.GdsFeatureToggles.USE_PACKED_NODE_PROPERTIES;
 import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
 final class NodePropertiesFromStoreBuilderTest {
@@ -208,6 +212,19 @@ final class NodePropertiesFromStoreBuilderTest {
             .hasMessageContaining(formatWithLocale("Expected type of default value to be `%s`.", propertyValue.getClass().getSimpleName()));
     }
 
+    @Test
+    void shouldEstimatePackedValuesUnlessToggleIsDisabled() {
+        var dimensions = ImmutableGraphDimensions.builder().nodeCount(1_000_000L).build();
+        var packed = NodePropertiesFromStoreBuilder.memoryEstimation().estimate(dimensions, 1).memoryUsage();
+
+        USE_PACKED_NODE_PROPERTIES.disableAndRun(() -> {
+            var unpacked = NodePropertiesFromStoreBuilder.memoryEstimation().estimate(dimensions, 1).memoryUsage();
+            // at most 32 bits per node, next to the sparse values they are packed from
+            assertEquals(unpacked.max + HugeLongArray.memoryEstimation(500_000L), packed.max);
+            assertEquals(unpacked.min + HugeLongArray.memoryEstimation(0L), packed.min);
+        });
+    }
+
     @Test
     void returnsDefaultOnMissingEntries() {
         var expectedImplicitDefault = 42.0;
@@ -315,6 +332,21 @@ final class NodePropertiesFromStoreBuilderTest {
         assertEquals(1L << 42, maxPropertyValue.getAsDouble());
     }
 
+    @Test
+    void shouldStoreDoublesWithFloatPrecision() {
+        var builder = NodePropertiesFromStoreBuilder.of(DefaultValue.of(42.0), PropertyPrecision.FLOAT, 1);
+        builder.set(0, Values.of(0.1));
+        builder.set(2, Values.of(1337.42));
+
+        var properties = builder.build(idMap(3));
+
+        assertEquals(0.1F, properties.doubleValue(0));
+        assertEquals(42.0, properties.doubleValue(1));
+        assertEquals(1337.42F, properties.doubleValue(2));
+        assertEquals(2, properties.size());
+        assertEquals(OptionalDouble.of(1337.42F), properties.getMaxDoublePropertyValue());
+    }
+
     static NodePropertyValues createNodeProperties(long size, Object defaultValue, Consumer<NodePropertiesFromStoreBuilder> buildBlock) {
         var builder = NodePropertiesFromStoreBuilder.of(
             DefaultValue.of(defaultValue),
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.RelationshipPropertyStore;
+import org.neo4j.gds.api.properties.nodes.NodePropertyStore;
+import org.neo4j.gds.core.huge.HugeGraph;
+import org.neo4j.gds.gdl.GdlFactory;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.neo4j.gds.TestSupport.assertGraphEquals;
+import static org.neo4j.gds.TestSupport.fromGdl;
+
+class NodeRelabelingTest {
+
+    private static final String GDL =
+        "  (a:A {p: 1L}), (b:A {p: 2L}), (c:B {p: 3L}), (d:A:B {p: 4L}), (e:B {p: 5L})" +
+        ", (a)-[:T {w: 1.0}]->(b)" +
+        ", (b)-[:T {w: 2.0}]->(c)" +
+        ", (b)-[:T {w: 3.0}]->(d)" +
+        ", (c)-[:T {w: 4.0}]->(d)" +
+        ", (e)-[:T {w: 5.0}]->(d)" +
+        ", (e)-[:T {w: 6.0}]->(d)" +
+        ", (d)-[:T {w: 7.0}]->(a)";
+
+    @Test
+    void shouldRelabelByDescendingDegree() {
+        var graphStore = GdlFactory.of(GDL).build();
+        var type = RelationshipType.of("T");
+
+        var nodePropertyStore = NodePropertyStore.builder();
+        graphStore.nodePropertyKeys().forEach(key -> nodePropertyStore.putProperty(key, graphStore.nodeProperty(key)));
+        var nodes = ImmutableIdMapAndProperties.of(graphStore.nodes(), nodePropertyStore.build());
+
+        var relationships = ImmutableRelationshipsAndProperties.builder()
+            .relationships(Map.of(type, ((HugeGraph) graphStore.getGraph(type)).relationshipTopology()))
+            .properties(Map.of(
+                type,
+                RelationshipPropertyStore.builder()
+                    .putIfAbsent("w", graphStore.relationshipPropertyValues(type, "w"))
+                    .build()
+            ))
+            .build();
+
+        var relabeled = NodeRelabeling.byDescendingDegree(nodes, relationships, 4);
+
+        var relabeledStore = new GraphStoreBuilder()
+            .databaseId(graphStore.databaseId())
+            .capabilities(graphStore.capabilities())
+            .schema(graphStore.schema())
+            .nodes(relabeled.nodes().idMap())
+            .nodePropertyStore(relabeled.nodes().properties())
+            .relationships(relabeled.relationships().relationships())
+            .relationshipPropertyStores(relabeled.relationships().properties())
+            .concurrency(1)
+            .build();
+
+        var graph = relabeledStore.getUnion();
+        assertGraphEquals(fromGdl(GDL), graph);
+
+        // b and e have the highest out-degree, nodes with equal degree keep their relative order
+        assertThat(graph.degree(0)).isEqualTo(2);
+        assertThat(graph.degree(1)).isEqualTo(2);
+        for (long node = 1; node < graph.nodeCount(); node++) {
+            assertThat(graph.degree(node)).isLessThanOrEqualTo(graph.degree(node - 1));
+        }
+
+        var idMap = relabeled.nodes().idMap();
+        for (long node = 0; node < graph.nodeCount(); node++) {
+            assertThat(idMap.toMappedNodeId(idMap.toOriginalNodeId(node))).isEqualTo(node);
+        }
+    }
+}
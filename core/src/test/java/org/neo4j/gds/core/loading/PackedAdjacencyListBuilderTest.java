@@ -0,0 +1,309 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.api.AdjacencyCursor;
+import org.neo4j.gds.core.huge.PackedAdjacencyList;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.utils.GdsFeatureToggles;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PackedAdjacencyListBuilderTest extends AdjacencyListBuilderBaseTest {
+
+    @Test
+    void testPacked() {
+        GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST.enableAndRun(this::testAdjacencyList);
+    }
+
+    @Test
+    void testPackedMapper() {
+        GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST.enableAndRun(this::testValueMapper);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 63, 64, 65, 200, 1337})
+    void shouldDecodeAllTargets(int degree) {
+        var targets = targets(degree);
+        withCursor(targets, cursor -> {
+            assertThat(cursor.size()).isEqualTo(degree);
+            var actual = new long[degree];
+            int i = 0;
+            while (cursor.hasNextVLong()) {
+                assertThat(cursor.remaining()).isEqualTo(degree - i);
+                assertThat(cursor.peekVLong()).isEqualTo(targets[i]);
+                actual[i++] = cursor.nextVLong();
+            }
+            assertThat(actual).containsExactly(targets);
+        });
+    }
+
+    @Test
+    void shouldSkipUntilAcrossBlocks() {
+        var targets = targets(300);
+        withCursor(targets, cursor -> {
+            // the first target larger than 3 * 150 is in the third block
+            assertThat(cursor.skipUntil(450)).isEqualTo(453);
+            assertThat(cursor.remaining()).isEqualTo(300 - 152);
+            // within the same block
+            assertThat(cursor.skipUntil(455)).isEqualTo(456);
+            assertThat(cursor.nextVLong()).isEqualTo(459);
+            // beyond the last target
+            assertThat(cursor.skipUntil(Long.MAX_VALUE - 1)).isEqualTo(targets[299]);
+            assertThat(cursor.hasNextVLong()).isFalse();
+            assertThat(cursor.skipUntil(0)).isEqualTo(AdjacencyCursor.NOT_FOUND);
+        });
+    }
+
+    @Test
+    void shouldAdvanceAcrossBlocks() {
+        var targets = targets(300);
+        withCursor(targets, cursor -> {
+            assertThat(cursor.advance(0)).isEqualTo(0);
+            assertThat(cursor.advance(450)).isEqualTo(450);
+            assertThat(cursor.advance(451)).isEqualTo(453);
+            // consume the current block, whose last target is 573
+            while (cursor.remaining() > 300 - 192) {
+                cursor.nextVLong();
+            }
+            assertThat(cursor.advance(573)).isEqualTo(576);
+            assertThat(cursor.advance(700)).isEqualTo(702);
+            assertThat(cursor.advance(Long.MAX_VALUE)).isEqualTo(targets[299]);
+            assertThat(cursor.advance(0)).isEqualTo(AdjacencyCursor.NOT_FOUND);
+        });
+    }
+
+    @Test
+    void shouldAdvanceBy() {
+        var targets = targets(300);
+        withCursor(targets, cursor -> {
+            assertThat(cursor.advanceBy(0)).isEqualTo(targets[0]);
+            assertThat(cursor.advanceBy(100)).isEqualTo(targets[101]);
+            assertThat(cursor.nextVLong()).isEqualTo(targets[102]);
+            assertThat(cursor.advanceBy(196)).isEqualTo(targets[299]);
+            assertThat(cursor.hasNextVLong()).isFalse();
+        });
+        withCursor(targets, cursor -> {
+            assertThat(cursor.advanceBy(300)).isEqualTo(AdjacencyCursor.NOT_FOUND);
+            assertThat(cursor.hasNextVLong()).isFalse();
+        });
+    }
+
+    @Test
+    void shouldCopyCursor() {
+        var targets = targets(200);
+        withCursor(targets, cursor -> {
+            cursor.advanceBy(99);
+            var copy = cursor.shallowCopy(null);
+            assertThat(copy.remaining()).isEqualTo(cursor.remaining());
+            while (cursor.hasNextVLong()) {
+                assertThat(copy.nextVLong()).isEqualTo(cursor.nextVLong());
+            }
+            assertThat(copy.hasNextVLong()).isFalse();
+        });
+    }
+
+    @Test
+    void shouldPackParallelEdgesAndOversizedLists() {
+        // Every block needs 8 bytes per bit, so large deltas
+        // make the adjacency list larger than a single page.
+        var targets = LongStream.range(0, 70_000).map(i -> i * (1L << 40)).toArray();
+        withCursor(targets, cursor -> {
+            var actual = new long[targets.length];
+            int i = 0;
+            while (cursor.hasNextVLong()) {
+                actual[i++] = cursor.nextVLong();
+            }
+            assertThat(actual).containsExactly(targets);
+        });
+
+        var parallel = new long[]{1, 1, 1, 4, 4, 42};
+        withCursor(parallel, cursor -> {
+            assertThat(cursor.advance(4)).isEqualTo(4);
+            assertThat(cursor.nextVLong()).isEqualTo(4);
+            assertThat(cursor.nextVLong()).isEqualTo(42);
+        });
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 63, 64, 65, 200, 1337})
+    void shouldDecodeDenseTargetsFromBitmap(int degree) {
+        var targets = denseTargets(degree);
+        withCursor(targets, cursor -> {
+            assertThat(cursor.size()).isEqualTo(degree);
+            var actual = new long[degree];
+            int i = 0;
+            while (cursor.hasNextVLong()) {
+                assertThat(cursor.remaining()).isEqualTo(degree - i);
+                assertThat(cursor.peekVLong()).isEqualTo(targets[i]);
+                actual[i++] = cursor.nextVLong();
+            }
+            assertThat(actual).containsExactly(targets);
+        });
+    }
+
+    @Test
+    void shouldWriteBitmapForDenseTargets() {
+        var builder = new PackedAdjacencyListBuilder();
+        try (var allocator = builder.newAllocator()) {
+            var dense = denseTargets(1000);
+            assertThat(allocator.write(dense, dense.length, -1L) & PackedAdjacencyList.BITMAP_TAG).isEqualTo(1L);
+            var sparse = LongStream.range(0, 1000).map(i -> i * 5).toArray();
+            assertThat(allocator.write(sparse, sparse.length, -1L) & PackedAdjacencyList.BITMAP_TAG).isEqualTo(0L);
+            var parallel = new long[]{1, 1, 2, 3};
+            assertThat(allocator.write(parallel, parallel.length, -1L) & PackedAdjacencyList.BITMAP_TAG).isEqualTo(0L);
+        }
+        builder.build(HugeIntArray.newArray(0), HugeLongArray.newArray(0)).close();
+    }
+
+    @Test
+    void shouldKeepPagesOfOpenCursorsAfterClose() {
+        var builder = new PackedAdjacencyListBuilder();
+        var targets = LongStream.range(0, 1000).map(i -> i * 5).toArray();
+        long offset;
+        try (var allocator = builder.newAllocator()) {
+            offset = allocator.write(targets, targets.length, -1L);
+        }
+        assertThat(PackedAdjacencyList.usedNativeMemory()).isPositive();
+
+        var adjacencyList = builder.build(HugeIntArray.of(targets.length), HugeLongArray.of(offset));
+        var cursor = adjacencyList.adjacencyCursor(0);
+        adjacencyList.close();
+
+        var actual = new long[targets.length];
+        int i = 0;
+        while (cursor.hasNextVLong()) {
+            actual[i++] = cursor.nextVLong();
+        }
+        assertThat(actual).containsExactly(targets);
+    }
+
+    @Test
+    void shouldNotCopyIntoCursorOfAnotherList() {
+        var otherBuilder = new PackedAdjacencyListBuilder();
+        var otherTargets = new long[]{7, 8, 9};
+        long otherOffset;
+        try (var allocator = otherBuilder.newAllocator()) {
+            otherOffset = allocator.write(otherTargets, otherTargets.length, -1L);
+        }
+
+        try (var otherList = otherBuilder.build(HugeIntArray.of(otherTargets.length), HugeLongArray.of(otherOffset))) {
+            var otherCursor = otherList.adjacencyCursor(0);
+            var targets = targets(200);
+            withCursor(targets, cursor -> {
+                var copy = cursor.shallowCopy(otherCursor);
+                assertThat(copy).isNotSameAs(otherCursor);
+                assertThat(copy.shallowCopy(copy)).isSameAs(copy);
+                for (long target : targets) {
+                    assertThat(copy.nextVLong()).isEqualTo(target);
+                }
+            });
+        }
+    }
+
+    @Test
+    void shouldUseSequentialAllocatorForPositionalWrites() {
+        var builder = new PackedAdjacencyListBuilder();
+        var targets = new long[]{1, 2, 4, 8};
+        long offset;
+        try (var allocator = builder.newPositionalAllocator()) {
+            offset = allocator.write(targets, targets.length, 42L);
+        }
+        try (var adjacencyList = builder.build(HugeIntArray.of(targets.length), HugeLongArray.of(offset))) {
+            var cursor = adjacencyList.adjacencyCursor(0);
+            assertThat(cursor.nextVLong()).isEqualTo(1L);
+            assertThat(cursor.advance(8)).isEqualTo(8L);
+        }
+    }
+
+    @Test
+    void shouldSkipAndAdvanceInBitmap() {
+        var targets = denseTargets(1000);
+        withCursor(targets, cursor -> {
+            // 130 is the first target, 135 and 140 are missing
+            assertThat(cursor.advance(135)).isEqualTo(136);
+            assertThat(cursor.remaining()).isEqualTo(1000 - 6);
+            assertThat(cursor.skipUntil(139)).isEqualTo(141);
+            // across several words
+            assertThat(cursor.advance(500)).isEqualTo(501);
+            assertThat(cursor.remaining()).isEqualTo(1000 - indexOf(targets, 501) - 1);
+            assertThat(cursor.advanceBy(0)).isEqualTo(502);
+            assertThat(cursor.advanceBy(200)).isEqualTo(targets[indexOf(targets, 502) + 201]);
+            assertThat(cursor.remaining()).isEqualTo(1000 - indexOf(targets, 502) - 202);
+
+            var copy = cursor.shallowCopy(null);
+            assertThat(copy.nextVLong()).isEqualTo(cursor.nextVLong());
+
+            assertThat(cursor.advance(Long.MAX_VALUE)).isEqualTo(targets[999]);
+            assertThat(cursor.hasNextVLong()).isFalse();
+            assertThat(cursor.advance(0)).isEqualTo(AdjacencyCursor.NOT_FOUND);
+            assertThat(copy.hasNextVLong()).isTrue();
+        });
+        withCursor(targets, cursor -> {
+            assertThat(cursor.advanceBy(998)).isEqualTo(targets[998]);
+            assertThat(cursor.advanceBy(1)).isEqualTo(AdjacencyCursor.NOT_FOUND);
+            assertThat(cursor.hasNextVLong()).isFalse();
+        });
+    }
+
+    private static int indexOf(long[] values, long value) {
+        return Arrays.binarySearch(values, value);
+    }
+
+    // 130, 131, 132, 133, 134, 136, ... (every multiple of 5 is missing, except the first one)
+    private static long[] denseTargets(int degree) {
+        return LongStream.iterate(130, i -> i % 5 == 4 ? i + 2 : i + 1).limit(degree).toArray();
+    }
+
+    // 0, 3, 6, 9, ...
+    private static long[] targets(int degree) {
+        return LongStream.range(0, degree).map(i -> i * 3).toArray();
+    }
+
+    private static void withCursor(long[] targets, Consumer<AdjacencyCursor> test) {
+        var builder = new PackedAdjacencyListBuilder();
+        var degrees = HugeIntArray.newArray(2);
+        var offsets = HugeLongArray.newArray(2);
+
+        try (var allocator = builder.newAllocator()) {
+            // a leading list, so that the tested list does not start at the page boundary
+            var leading = new long[]{0, 1, 2};
+            offsets.set(0, allocator.write(leading, leading.length, -1L));
+            degrees.set(0, leading.length);
+            offsets.set(1, allocator.write(Arrays.copyOf(targets, targets.length + 3), targets.length, -1L));
+            degrees.set(1, targets.length);
+        }
+
+        try (PackedAdjacencyList adjacencyList = builder.build(degrees, offsets)) {
+            assertThat(adjacencyList.degree(1)).isEqualTo(targets.length);
+            try (var cursor = adjacencyList.adjacencyCursor(1)) {
+                test.accept(cursor);
+            }
+        }
+    }
+}
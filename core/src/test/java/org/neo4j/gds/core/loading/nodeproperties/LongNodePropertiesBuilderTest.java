@@ -25,6 +25,7 @@ import org.neo4j.gds.config.ConcurrencyConfig;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.neo4j.gds.TestSupport.idMap;
+import static org.neo4j.gds.utils.GdsFeatureToggles.USE_PACKED_NODE_PROPERTIES;
 
 public class LongNodePropertiesBuilderTest {
 
@@ -55,4 +56,37 @@ public class LongNodePropertiesBuilderTest {
             assertThat(longNodeProperties.longValue(i)).isEqualTo(i * 1337L);
         }
     }
+
+    @Test
+    void shouldPackValuesUnlessToggleIsDisabled() {
+        int nodeCount = 100;
+        var originalIds = new long[nodeCount];
+        for (int i = 0; i < nodeCount; i++) {
+            originalIds[i] = i * 42L;
+        }
+        var idMap = idMap(originalIds);
+
+        var packed = narrowRangeBuilder(originalIds).build(nodeCount, idMap);
+        assertThat(packed).isInstanceOf(PackedLongNodePropertyValues.class);
+        assertThat(packed.getMaxLongPropertyValue()).hasValue(1_000_006L);
+        for (int i = 0; i < nodeCount; i++) {
+            assertThat(packed.longValue(i)).isEqualTo(1_000_000L + i % 7);
+        }
+
+        USE_PACKED_NODE_PROPERTIES.disableAndRun(() -> {
+            var unpacked = narrowRangeBuilder(originalIds).build(nodeCount, idMap);
+            assertThat(unpacked).isNotInstanceOf(PackedLongNodePropertyValues.class);
+            for (int i = 0; i < nodeCount; i++) {
+                assertThat(unpacked.longValue(i)).isEqualTo(1_000_000L + i % 7);
+            }
+        });
+    }
+
+    private static LongNodePropertiesBuilder narrowRangeBuilder(long[] originalIds) {
+        var builder = LongNodePropertiesBuilder.of(DefaultValue.of(0L), ConcurrencyConfig.DEFAULT_CONCURRENCY);
+        for (int i = 0; i < originalIds.length; i++) {
+            builder.set(originalIds[i], 1_000_000L + i % 7);
+        }
+        return builder;
+    }
 }
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading.nodeproperties;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.api.properties.nodes.LongNodePropertyValues;
+import org.neo4j.gds.collections.HugeSparseLongArray;
+
+import java.util.OptionalLong;
+import java.util.Random;
+import java.util.function.LongUnaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PackedLongNodePropertyValuesTest {
+
+    @ParameterizedTest
+    @ValueSource(longs = {1, 63, 64, 65, 1000, 10_000})
+    void shouldUseFrameOfReferenceForSmallRanges(long size) {
+        // years, 7 bits relative to 1950
+        var values = values(size, node -> 1950 + (node * 31) % 100);
+        var packed = PackedLongNodePropertyValues.of(values, 0L, size, size, OptionalLong.of(2049), 4);
+
+        assertThat(packed).get().isInstanceOf(PackedLongNodePropertyValues.FrameOfReference.class);
+        assertThat(((PackedLongNodePropertyValues) packed.get()).bits()).isLessThanOrEqualTo(7);
+        assertValues(values, size, packed.get());
+        assertThat(packed.get().getMaxLongPropertyValue()).hasValue(2049);
+    }
+
+    @Test
+    void shouldUseDictionaryForFewDistinctValues() {
+        long size = 5000;
+        var distinct = new long[]{-1L << 50, 42L, 1L << 40, Long.MAX_VALUE};
+        var values = values(size, node -> distinct[(int) (node % distinct.length)]);
+        var packed = PackedLongNodePropertyValues.of(values, 0L, size, size, OptionalLong.empty(), 4);
+
+        assertThat(packed).get().isInstanceOf(PackedLongNodePropertyValues.Dictionary.class);
+        assertThat(((PackedLongNodePropertyValues) packed.get()).bits()).isEqualTo(2);
+        assertValues(values, size, packed.get());
+    }
+
+    @Test
+    void shouldPackConstantValuesWithoutBits() {
+        long size = 100;
+        var values = values(size, node -> 1337L);
+        var packed = PackedLongNodePropertyValues.of(values, 0L, size, size, OptionalLong.of(1337L), 1);
+
+        assertThat(((PackedLongNodePropertyValues) packed.orElseThrow()).bits()).isEqualTo(0);
+        assertValues(values, size, packed.get());
+    }
+
+    @Test
+    void shouldNotPackWideValues() {
+        long size = 100_000;
+        var random = new Random(42);
+        var randomValues = random.longs(size).toArray();
+        var values = values(size, node -> randomValues[(int) node]);
+
+        assertThat(PackedLongNodePropertyValues.of(values, 0L, size, size, OptionalLong.empty(), 4)).isEmpty();
+    }
+
+    @Test
+    void shouldUseDefaultValueForMissingNodes() {
+        long nodeCount = 200;
+        var builder = HugeSparseLongArray.builder(-1L);
+        builder.set(3, 10L);
+        builder.set(150, 20L);
+        var values = builder.build();
+
+        var packed = PackedLongNodePropertyValues.of(values, -1L, nodeCount, 2, OptionalLong.of(20L), 2).orElseThrow();
+
+        assertThat(packed.size()).isEqualTo(2);
+        for (long node = 0; node < nodeCount; node++) {
+            assertThat(packed.longValue(node)).as("value of node %d", node).isEqualTo(values.get(node));
+        }
+    }
+
+    @Test
+    void shouldNotEncodeDefaultValueInFrameOfReference() {
+        long nodeCount = 1000;
+        var builder = HugeSparseLongArray.builder(Long.MIN_VALUE);
+        for (long node = 0; node < nodeCount; node += 3) {
+            builder.set(node, 10L + node % 10);
+        }
+        var values = builder.build();
+
+        var packed = PackedLongNodePropertyValues.of(values, Long.MIN_VALUE, nodeCount, 334, OptionalLong.of(19L), 4);
+
+        // 10 values and the missing code
+        assertThat(packed).get().isInstanceOf(PackedLongNodePropertyValues.FrameOfReference.class);
+        assertThat(((PackedLongNodePropertyValues) packed.get()).bits()).isEqualTo(4);
+        for (long node = 0; node < nodeCount; node++) {
+            assertThat(packed.get().longValue(node)).as("value of node %d", node).isEqualTo(values.get(node));
+        }
+    }
+
+    @Test
+    void shouldPackWithoutAnyValues() {
+        long nodeCount = 100;
+        var values = HugeSparseLongArray.builder(Long.MIN_VALUE).build();
+
+        var packed = PackedLongNodePropertyValues.of(values, Long.MIN_VALUE, nodeCount, 0, OptionalLong.empty(), 1);
+
+        assertThat(((PackedLongNodePropertyValues) packed.orElseThrow()).bits()).isEqualTo(0);
+        assertThat(packed.get().longValue(42)).isEqualTo(Long.MIN_VALUE);
+    }
+
+    private static HugeSparseLongArray values(long size, LongUnaryOperator valueFn) {
+        var builder = HugeSparseLongArray.builder(0L);
+        for (long node = 0; node < size; node++) {
+            builder.set(node, valueFn.applyAsLong(node));
+        }
+        return builder.build();
+    }
+
+    private static void assertValues(HugeSparseLongArray expected, long size, LongNodePropertyValues actual) {
+        assertThat(actual.size()).isEqualTo(size);
+        for (long node = 0; node < size; node++) {
+            assertThat(actual.longValue(node)).as("value of node %d", node).isEqualTo(expected.get(node));
+        }
+    }
+}
@@ -72,6 +72,20 @@ class MemoryEstimationsTest {
         assertEquals(MemoryRange.of(42L), memoryEstimation.estimate(DIMENSIONS_100_NODES, 4).memoryUsage());
     }
 
+    @Test
+    void testFixedOffHeap() {
+        MemoryEstimation memoryEstimation = MemoryEstimations.builder()
+                .fixed("bar", 23L)
+                .fixedOffHeap("baz", MemoryRange.of(19, 42))
+                .build();
+
+        var memoryTree = memoryEstimation.estimate(DIMENSIONS_100_NODES, 4);
+        assertEquals(MemoryRange.of(23L), memoryTree.memoryUsage());
+        assertEquals(MemoryRange.of(19L, 42L), memoryTree.offHeapMemoryUsage());
+        assertEquals(MemoryRange.of(38L, 84L), memoryEstimation.times(2).estimate(DIMENSIONS_100_NODES, 4).offHeapMemoryUsage());
+        assertThat(memoryTree.renderMap()).containsEntry("offHeapMemoryUsage", MemoryRange.of(19L, 42L).toString());
+    }
+
     @Test
     void testAdd() {
         MemoryEstimation memoryEstimation = MemoryEstimations.builder()
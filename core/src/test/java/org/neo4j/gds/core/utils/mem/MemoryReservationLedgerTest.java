@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.mem;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.core.utils.progress.JobId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MemoryReservationLedgerTest {
+
+    @Test
+    void shouldValidateAgainstUnreservedMemory() {
+        var ledger = new MemoryReservationLedger();
+        var availableBytes = new long[2];
+
+        ledger.reserve(new JobId(), "alice", "g", "task", MemoryRange.of(30), 30, 100, 120, bytes -> availableBytes[0] = bytes);
+        ledger.reserve(new JobId(), "bob", "g", "task", MemoryRange.of(50), 50, 100, 120, bytes -> availableBytes[1] = bytes);
+
+        assertThat(availableBytes).containsExactly(100, 90);
+        assertThat(ledger.reservedBytes()).isEqualTo(80);
+    }
+
+    @Test
+    void shouldNotSubtractReservationsFromFreeMemory() {
+        var ledger = new MemoryReservationLedger();
+        var availableBytes = new long[1];
+
+        ledger.reserve(new JobId(), "alice", "g", "task", MemoryRange.of(30), 30, 100, 100, bytes -> {});
+        // alice allocated her reservation in the meantime, which is already reflected in the free memory
+        ledger.reserve(new JobId(), "bob", "g", "task", MemoryRange.of(50), 50, 70, 100, bytes -> availableBytes[0] = bytes);
+
+        assertThat(availableBytes).containsExactly(70);
+    }
+
+    @Test
+    void shouldTrackReservationOfCurrentThread() {
+        var ledger = new MemoryReservationLedger();
+        assertThat(ledger.hasReservationOnCurrentThread()).isFalse();
+
+        var reservation = ledger.reserve(new JobId(), "alice", "g", "task", MemoryRange.of(10), 10);
+        assertThat(ledger.hasReservationOnCurrentThread()).isTrue();
+
+        reservation.close();
+        assertThat(ledger.hasReservationOnCurrentThread()).isFalse();
+    }
+
+    @Test
+    void shouldNotReserveWhenValidationFails() {
+        var ledger = new MemoryReservationLedger();
+
+        assertThatThrownBy(() -> ledger.reserve(
+            new JobId(),
+            "alice",
+            "g",
+            "task",
+            MemoryRange.of(200),
+            200,
+            100,
+            100,
+            bytes -> {
+                throw new IllegalStateException("does not fit");
+            }
+        )).isInstanceOf(IllegalStateException.class);
+
+        assertThat(ledger.reservations()).isEmpty();
+        assertThat(ledger.reservedBytes()).isZero();
+    }
+
+    @Test
+    void shouldReleaseOnlyOnce() {
+        var ledger = new MemoryReservationLedger();
+        var first = ledger.reserve(new JobId(), "alice", "g1", "task", MemoryRange.of(10, 20), 20);
+        var second = ledger.reserve(new JobId(), "bob", "g2", "task", MemoryRange.of(5), 5);
+
+        assertThat(ledger.reservations()).containsExactly(first, second);
+
+        first.close();
+        first.close();
+
+        assertThat(ledger.reservations()).containsExactly(second);
+        assertThat(ledger.reservedBytes()).isEqualTo(5);
+    }
+
+    @Test
+    void shouldIgnoreEmptyReservation() {
+        MemoryReservation.EMPTY.close();
+
+        assertThat(MemoryReservation.EMPTY.bytes()).isZero();
+        assertThat(MemoryReservation.EMPTY.memoryRange()).isEqualTo(MemoryRange.empty());
+    }
+}
@@ -27,6 +27,7 @@ import net.jqwik.api.Provide;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.api.IdMap;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.utils.partition.PartitionUtils;
@@ -34,6 +35,8 @@ import org.neo4j.gds.core.utils.partition.PartitionUtils;
 import java.util.Arrays;
 import java.util.Optional;
 import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -262,4 +265,72 @@ abstract class ShardedLongLongMapTest {
             }
         }
     }
+
+    static final class ConcurrentBuilderTest extends ShardedLongLongMapTest {
+
+        @Property(tries = 1)
+        void testDeduplicationInParallel(@ForAll("fixedSizeIds") long[] originalIds) {
+            int concurrency = 4;
+            var builder = ShardedLongLongMap.concurrentBuilder(concurrency);
+            var returnedIds = new long[concurrency][originalIds.length];
+
+            // every thread adds all ids, each id must only be added once
+            var tasks = IntStream.range(0, concurrency).mapToObj(thread -> (Runnable) () -> {
+                for (int i = 0; i < originalIds.length; i++) {
+                    long mappedId = builder.addNode(originalIds[i]);
+                    returnedIds[thread][i] = mappedId < 0 ? -(mappedId + 1) : mappedId;
+                }
+            }).collect(Collectors.toList());
+
+            ParallelUtil.run(tasks, Pools.DEFAULT);
+
+            assertThat(builder.size()).isEqualTo(originalIds.length);
+            for (int thread = 1; thread < concurrency; thread++) {
+                assertThat(returnedIds[thread]).containsExactly(returnedIds[0]);
+            }
+
+            var map = builder.build();
+            assertThat(map.size()).isEqualTo(originalIds.length);
+            for (int i = 0; i < originalIds.length; i++) {
+                assertThat(map.toMappedNodeId(originalIds[i])).isEqualTo(returnedIds[0][i]);
+                assertThat(map.toOriginalNodeId(returnedIds[0][i])).isEqualTo(originalIds[i]);
+            }
+        }
+
+        @Test
+        void testAddingExistingNode() {
+            var builder = ShardedLongLongMap.concurrentBuilder(1);
+            assertThat(builder.addNode(42)).isEqualTo(0L);
+            assertThat(builder.addNode(1337)).isEqualTo(1L);
+            assertThat(builder.addNode(42)).isEqualTo(-1L);
+            assertThat(builder.addNode(1337)).isEqualTo(-2L);
+            assertThat(builder.toMappedNodeId(1337)).isEqualTo(1L);
+            assertThat(builder.toMappedNodeId(7)).isEqualTo(IdMap.NOT_FOUND);
+        }
+
+        @Override
+        TestBuilder builder(int concurrency) {
+            return new ConcurrentBuilder(concurrency);
+        }
+
+        private static final class ConcurrentBuilder implements TestBuilder {
+            private final ShardedLongLongMap.ConcurrentBuilder inner;
+
+            ConcurrentBuilder(int concurrency) {
+                inner = ShardedLongLongMap.concurrentBuilder(concurrency);
+            }
+
+            @Override
+            public void addNodes(long... nodeIds) {
+                for (long nodeId : nodeIds) {
+                    inner.addNode(nodeId);
+                }
+            }
+
+            @Override
+            public ShardedLongLongMap build() {
+                return inner.build();
+            }
+        }
+    }
 }
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.write;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.compat.Neo4jProxy;
+import org.neo4j.gds.core.utils.progress.EmptyTaskRegistryFactory;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.progress.tasks.TaskProgressTracker;
+import org.neo4j.gds.core.utils.progress.tasks.Tasks;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdaptiveBatchSizerTest {
+
+    private static final long TARGET_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    @Test
+    void shouldKeepFixedBatchSize() {
+        var sizer = AdaptiveBatchSizer.fixed(10_000);
+
+        sizer.recordBatch(10_000, TARGET_NANOS * 10, ProgressTracker.NULL_TRACKER);
+        sizer.recordBatch(10_000, 1, ProgressTracker.NULL_TRACKER);
+
+        assertThat(sizer.batchSize()).isEqualTo(10_000);
+        assertThat(sizer.batchCount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldGrowFastBatchesByAtMostFactorTwo() {
+        var sizer = AdaptiveBatchSizer.adaptive(10_000, Duration.ofNanos(TARGET_NANOS));
+
+        sizer.recordBatch(10_000, TARGET_NANOS / 10, ProgressTracker.NULL_TRACKER);
+
+        assertThat(sizer.batchSize()).isEqualTo(20_000);
+    }
+
+    @Test
+    void shouldShrinkSlowBatchesTowardsTarget() {
+        var sizer = AdaptiveBatchSizer.adaptive(10_000, Duration.ofNanos(TARGET_NANOS));
+
+        sizer.recordBatch(10_000, (long) (TARGET_NANOS * 1.25), ProgressTracker.NULL_TRACKER);
+
+        assertThat(sizer.batchSize()).isEqualTo(8_000);
+    }
+
+    @Test
+    void shouldStayWithinBounds() {
+        var sizer = AdaptiveBatchSizer.adaptive(10_000, Duration.ofNanos(TARGET_NANOS));
+
+        for (int i = 0; i < 20; i++) {
+            sizer.recordBatch(sizer.batchSize(), TARGET_NANOS * 10, ProgressTracker.NULL_TRACKER);
+        }
+        assertThat(sizer.batchSize()).isEqualTo(AdaptiveBatchSizer.MIN_ADAPTIVE_BATCH_SIZE);
+
+        for (int i = 0; i < 20; i++) {
+            sizer.recordBatch(sizer.batchSize(), 1, ProgressTracker.NULL_TRACKER);
+        }
+        assertThat(sizer.batchSize()).isEqualTo(AdaptiveBatchSizer.MAX_ADAPTIVE_BATCH_SIZE);
+    }
+
+    @Test
+    void shouldIgnoreTrailingPartialBatch() {
+        var sizer = AdaptiveBatchSizer.adaptive(10_000, Duration.ofNanos(TARGET_NANOS));
+
+        sizer.recordBatch(42, 1, ProgressTracker.NULL_TRACKER);
+
+        assertThat(sizer.batchSize()).isEqualTo(10_000);
+    }
+
+    @Test
+    void shouldRejectNonPositiveTargetLatency() {
+        assertThatThrownBy(() -> AdaptiveBatchSizer.adaptive(10_000, Duration.ZERO))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("must be positive");
+    }
+
+    @Test
+    void shouldReportMetricsOnCurrentTask() {
+        var task = Tasks.leaf("Write");
+        var progressTracker = new TaskProgressTracker(task, Neo4jProxy.testLog(), 1, EmptyTaskRegistryFactory.INSTANCE);
+        var sizer = AdaptiveBatchSizer.fixed(1_000);
+
+        progressTracker.beginSubTask();
+        sizer.recordBatch(1_000, TimeUnit.MILLISECONDS.toNanos(10), progressTracker);
+        sizer.recordBatch(1_000, TimeUnit.MILLISECONDS.toNanos(30), progressTracker);
+        progressTracker.endSubTask();
+
+        assertThat(task.metrics())
+            .containsEntry(AdaptiveBatchSizer.BATCH_SIZE_METRIC, 1_000L)
+            .containsEntry(AdaptiveBatchSizer.BATCH_COUNT_METRIC, 2L)
+            .containsEntry(AdaptiveBatchSizer.AVERAGE_LATENCY_METRIC, 20L)
+            .containsEntry(AdaptiveBatchSizer.MAX_LATENCY_METRIC, 30L)
+            .containsEntry(AdaptiveBatchSizer.THROUGHPUT_METRIC, 50_000L);
+    }
+}
@@ -142,6 +142,66 @@ class NativeNodePropertyExporterTest extends BaseTest {
         );
     }
 
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void exportInSmallPipelinedBatches(boolean parallel) {
+        Graph graph = new StoreLoaderBuilder().databaseService(db)
+            .addNodeProperty("newProp1", "prop1", DefaultValue.of(42.0), Aggregation.NONE)
+            .build()
+            .graph();
+
+        var log = Neo4jProxy.testLog();
+        var progressTracker = new TaskProgressTracker(
+            NodePropertyExporter.baseTask("AlgoNameGoesHere", graph.nodeCount()),
+            log,
+            4,
+            EmptyTaskRegistryFactory.INSTANCE
+        );
+        var exporterBuilder = NativeNodePropertyExporter
+            .builder(TestSupport.fullAccessTransaction(db), graph, TerminationFlag.RUNNING_TRUE)
+            .withProgressTracker(progressTracker)
+            .withBatchSize(1)
+            .withPipelining(true);
+        if (parallel) {
+            exporterBuilder = exporterBuilder.parallel(Pools.DEFAULT, 4);
+        }
+        var exporter = exporterBuilder.build();
+
+        int[] intData = {23, 42, 84};
+        double[] doubleData = {123D, 142D, 184D};
+
+        exporter.write(List.of(
+            ImmutableNodeProperty.of("newProp1", new LongTestPropertyValues(nodeId -> intData[(int) nodeId])),
+            ImmutableNodeProperty.of("newProp2", new DoubleTestPropertyValues(nodeId -> doubleData[(int) nodeId]))
+        ));
+
+        assertThat(exporter.propertiesWritten()).isEqualTo(6L);
+
+        Graph updatedGraph = new StoreLoaderBuilder().databaseService(db)
+            .addNodeProperty("newProp1", "newProp1", DefaultValue.of(42), Aggregation.NONE)
+            .addNodeProperty("newProp2", "newProp2", DefaultValue.of(42.0), Aggregation.NONE)
+            .build()
+            .graph();
+
+        assertGraphEquals(
+            fromGdl(
+                "(a { newProp1: 23, newProp2: 123.0d })" +
+                "(b { newProp1: 42, newProp2: 142.0d })" +
+                "(c { newProp1: 84, newProp2: 184.0d })" +
+                "(a)-->(b)" +
+                "(a)-->(c)" +
+                "(b)-->(c)" +
+                "(b)-->(c)"),
+            updatedGraph
+        );
+
+        assertThat(log.getMessages(TestLog.DEBUG))
+            .extracting(removingThreadId())
+            .anyMatch(message -> message.matches(
+                "AlgoNameGoesHere :: WriteNodeProperties :: Encoding took \\d+ ms, writing and committing took \\d+ ms"
+            ));
+    }
+
     @Test
     void stopsExportingWhenTransactionHasBeenTerminated() {
         transactionTerminationTest(null);
@@ -231,8 +231,9 @@ class NativeRelationshipStreamExporterTest extends BaseTest {
         var rand = new Random();
 
         var log = Neo4jProxy.testLog();
+        var task = RelationshipStreamExporter.baseTask("OpName");
         var progressTracker = new TaskProgressTracker(
-            RelationshipStreamExporter.baseTask("OpName"),
+            task,
             log,
             1,
             EmptyTaskRegistryFactory.INSTANCE
@@ -252,6 +253,15 @@ class NativeRelationshipStreamExporterTest extends BaseTest {
 
         assertEquals(relationshipCount, relationshipsWritten);
 
+        assertThat(task.metrics())
+            .containsEntry(AdaptiveBatchSizer.BATCH_SIZE_METRIC, 25L)
+            .containsEntry(AdaptiveBatchSizer.BATCH_COUNT_METRIC, 5L)
+            .containsKeys(
+                AdaptiveBatchSizer.AVERAGE_LATENCY_METRIC,
+                AdaptiveBatchSizer.MAX_LATENCY_METRIC,
+                AdaptiveBatchSizer.THROUGHPUT_METRIC
+            );
+
         assertThat(log.getMessages(TestLog.INFO))
             .extracting(removingThreadId())
             .contains(
@@ -758,12 +758,12 @@ final class FilteredHighLimitIdMap extends HighLimitIdMap implements FilteredIdM
 
 final class LazyIdMapBuilder implements PartialIdMap {
     private final AtomicBoolean isEmpty = new AtomicBoolean(true);
-    private final ShardedLongLongMap.Builder intermediateIdMapBuilder;
+    private final ShardedLongLongMap.ConcurrentBuilder intermediateIdMapBuilder;
 
     private final NodesBuilder nodesBuilder;
 
     LazyIdMapBuilder(boolean hasLabelInformation, boolean hasProperties) {
-        this.intermediateIdMapBuilder = ShardedLongLongMap.builder(DEFAULT_CONCURRENCY);
+        this.intermediateIdMapBuilder = ShardedLongLongMap.concurrentBuilder(DEFAULT_CONCURRENCY);
         this.nodesBuilder = GraphFactory.initNodesBuilder()
             .maxOriginalId(NodesBuilder.UNKNOWN_MAX_ID)
             .hasLabelInformation(hasLabelInformation)
@@ -773,15 +773,13 @@ final class LazyIdMapBuilder implements PartialIdMap {
     }
 
     long addNode(long nodeId, @Nullable NodeLabelToken nodeLabels) {
-        var intermediateId = this.intermediateIdMapBuilder.toMappedNodeId(nodeId);
+        var intermediateId = this.intermediateIdMapBuilder.addNode(nodeId);
 
-        // deduplication
-        if (intermediateId != IdMap.NOT_FOUND) {
-            return intermediateId;
+        // deduplication, the node has been added by a previous row
+        if (intermediateId < 0) {
+            return -(intermediateId + 1);
         }
 
-        intermediateId = this.intermediateIdMapBuilder.addNode(nodeId);
-
         isEmpty.lazySet(false);
         if (nodeLabels == null) {
             nodeLabels = NodeLabelTokens.empty();
@@ -796,14 +794,12 @@ final class LazyIdMapBuilder implements PartialIdMap {
         Map<String, Value> properties,
         @Nullable NodeLabelToken nodeLabels
     ) {
-        var intermediateId = this.intermediateIdMapBuilder.toMappedNodeId(nodeId);
+        var intermediateId = this.intermediateIdMapBuilder.addNode(nodeId);
 
-        // deduplication
-        if (intermediateId != IdMap.NOT_FOUND) {
-            return intermediateId;
+        // deduplication, the node has been added by a previous row
+        if (intermediateId < 0) {
+            return -(intermediateId + 1);
         }
-
-        intermediateId = this.intermediateIdMapBuilder.addNode(nodeId);
         isEmpty.lazySet(false);
         if (nodeLabels == null) {
             nodeLabels = NodeLabelTokens.empty();
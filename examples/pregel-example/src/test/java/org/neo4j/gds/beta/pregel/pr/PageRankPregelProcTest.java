@@ -112,7 +112,7 @@ class PageRankPregelProcTest extends BaseProcTest {
             .addParameter("maxIterations", 10)
             .yields("bytesMin", "bytesMax", "nodeCount", "relationshipCount");
 
-        assertCypherMemoryEstimation(db, query, MemoryRange.of(768), 11, 17);
+        assertCypherMemoryEstimation(db, query, MemoryRange.of(768, 1184), 11, 17);
     }
 
     @Test
@@ -25,7 +25,7 @@ import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.config.AlgoBaseConfig;
 import org.neo4j.gds.config.GraphProjectConfig;
-import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.core.utils.mem.MemoryReservation;
 
 public interface GraphCreation<
     ALGO extends Algorithm<ALGO_RESULT>,
@@ -38,6 +38,6 @@ public interface GraphCreation<
 
     GraphProjectConfig graphProjectConfig();
 
-    MemoryRange validateMemoryEstimation(AlgorithmFactory<?, ALGO, CONFIG> algorithmFactory);
+    MemoryReservation reserveMemory(AlgorithmFactory<?, ALGO, CONFIG> algorithmFactory, String taskName);
 
 }
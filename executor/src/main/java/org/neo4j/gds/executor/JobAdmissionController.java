@@ -0,0 +1,257 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.executor;
+
+import org.neo4j.gds.core.utils.ClockService;
+import org.neo4j.gds.core.utils.TerminationFlag;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Limits the number of CPU slots used by concurrently running computations.
+ *
+ * A job asks for as many slots as its concurrency and waits until they are available.
+ * Waiting jobs are admitted one at a time, the next one being chosen by
+ * <ol>
+ *     <li>the highest {@link JobPriority},</li>
+ *     <li>the user that currently occupies the fewest slots,</li>
+ *     <li>the earliest arrival.</li>
+ * </ol>
+ * Later jobs are never admitted ahead of the chosen one, so that jobs asking
+ * for many slots do not starve.
+ *
+ * Jobs that are started by an admitted job on the same thread, e.g. the node property steps
+ * of a pipeline, run within the slots of the outer job and are not queued again.
+ */
+public final class JobAdmissionController {
+
+    private static final long TERMINATION_CHECK_INTERVAL_MILLIS = 100;
+
+    private static JobAdmissionController instance;
+
+    private final ReentrantLock lock;
+    private final Condition slotsChanged;
+    private final List<Request> waiting;
+    private final Map<String, Integer> runningSlotsByUser;
+    private final ThreadLocal<Admission> currentAdmission;
+    private int totalSlots;
+    private int usedSlots;
+    private long sequence;
+
+    /**
+     * @return the controller shared by all jobs, resized if the number of slots changed
+     */
+    static synchronized JobAdmissionController global(int totalSlots) {
+        if (instance == null) {
+            instance = new JobAdmissionController(totalSlots);
+        } else {
+            instance.resize(totalSlots);
+        }
+        return instance;
+    }
+
+    JobAdmissionController(int totalSlots) {
+        this.totalSlots = totalSlots;
+        this.lock = new ReentrantLock();
+        this.slotsChanged = lock.newCondition();
+        this.waiting = new ArrayList<>();
+        this.runningSlotsByUser = new HashMap<>();
+        this.currentAdmission = new ThreadLocal<>();
+    }
+
+    public int totalSlots() {
+        lock.lock();
+        try {
+            return totalSlots;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Changes the number of slots, running jobs keep their slots.
+     * If the number shrinks below the used slots, waiting jobs are admitted once enough slots have been released.
+     */
+    void resize(int totalSlots) {
+        lock.lock();
+        try {
+            if (this.totalSlots != totalSlots) {
+                this.totalSlots = totalSlots;
+                slotsChanged.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int usedSlots() {
+        lock.lock();
+        try {
+            return usedSlots;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int waitingJobs() {
+        lock.lock();
+        try {
+            return waiting.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Blocks until the job is admitted.
+     * Requests for more slots than available in total are capped.
+     * If the calling thread already holds an admission, the job is admitted immediately within its slots.
+     *
+     * @throws RuntimeException if the job is terminated while waiting
+     */
+    public Admission admit(
+        String username,
+        JobPriority priority,
+        int requestedSlots,
+        TerminationFlag terminationFlag
+    ) {
+        var outerAdmission = currentAdmission.get();
+        if (outerAdmission != null && !outerAdmission.released) {
+            return new Admission(null, username, outerAdmission.slots, 0);
+        }
+
+        var queuedAt = ClockService.clock().millis();
+        int slots;
+
+        lock.lock();
+        try {
+            slots = Math.max(1, Math.min(requestedSlots, totalSlots));
+            var request = new Request(username, priority, slots, sequence++);
+            waiting.add(request);
+            try {
+                while (!canAdmit(request)) {
+                    slotsChanged.await(TERMINATION_CHECK_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                    terminationFlag.assertRunning();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            } finally {
+                waiting.remove(request);
+                // whoever is next in line may be admitted now, or after we gave up waiting
+                slotsChanged.signalAll();
+            }
+
+            // the controller may have been resized while waiting
+            slots = Math.min(request.slots, totalSlots);
+            usedSlots += slots;
+            runningSlotsByUser.merge(username, slots, Integer::sum);
+        } finally {
+            lock.unlock();
+        }
+
+        var admission = new Admission(this, username, slots, ClockService.clock().millis() - queuedAt);
+        currentAdmission.set(admission);
+        return admission;
+    }
+
+    private boolean canAdmit(Request request) {
+        return usedSlots + Math.min(request.slots, totalSlots) <= totalSlots && nextInLine() == request;
+    }
+
+    private Request nextInLine() {
+        Comparator<Request> order = Comparator
+            .comparing((Request request) -> request.priority)
+            .reversed()
+            .thenComparing(request -> runningSlotsByUser.getOrDefault(request.username, 0))
+            .thenComparingLong(request -> request.sequence);
+        return waiting.stream().min(order).orElseThrow();
+    }
+
+    private void release(Admission admission, String username, int slots) {
+        // an admission may be closed by another thread, which leaves a released admission behind
+        if (currentAdmission.get() == admission) {
+            currentAdmission.remove();
+        }
+        lock.lock();
+        try {
+            usedSlots -= slots;
+            runningSlotsByUser.computeIfPresent(username, (user, running) -> running == slots ? null : running - slots);
+            slotsChanged.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static final class Request {
+        private final String username;
+        private final JobPriority priority;
+        private final int slots;
+        private final long sequence;
+
+        private Request(String username, JobPriority priority, int slots, long sequence) {
+            this.username = username;
+            this.priority = priority;
+            this.slots = slots;
+            this.sequence = sequence;
+        }
+    }
+
+    public static final class Admission implements AutoCloseable {
+
+        static final Admission UNRESTRICTED = new Admission(null, "", 0, 0);
+
+        private final JobAdmissionController controller;
+        private final String username;
+        private final int slots;
+        private final long waitMillis;
+        private volatile boolean released;
+
+        private Admission(JobAdmissionController controller, String username, int slots, long waitMillis) {
+            this.controller = controller;
+            this.username = username;
+            this.slots = slots;
+            this.waitMillis = waitMillis;
+        }
+
+        public int slots() {
+            return slots;
+        }
+
+        public long waitMillis() {
+            return waitMillis;
+        }
+
+        @Override
+        public void close() {
+            if (controller != null && !released) {
+                released = true;
+                controller.release(this, username, slots);
+            }
+        }
+    }
+}
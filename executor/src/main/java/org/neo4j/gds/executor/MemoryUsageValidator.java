@@ -22,9 +22,12 @@ package org.neo4j.gds.executor;
 import org.neo4j.configuration.Config;
 import org.neo4j.gds.compat.GraphDatabaseApiProxy;
 import org.neo4j.gds.config.BaseConfig;
+import org.neo4j.gds.config.JobIdConfig;
 import org.neo4j.gds.core.loading.GraphStoreCatalog;
 import org.neo4j.gds.core.utils.mem.GcListenerExtension;
 import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.core.utils.mem.MemoryReservation;
+import org.neo4j.gds.core.utils.mem.MemoryReservationLedger;
 import org.neo4j.gds.core.utils.mem.MemoryTreeWithDimensions;
 import org.neo4j.gds.exceptions.MemoryEstimationNotImplementedException;
 import org.neo4j.gds.internal.MemoryEstimationSettings;
@@ -83,6 +86,75 @@ public class MemoryUsageValidator {
         return memoryTreeWithDimensions.memoryTree.memoryUsage();
     }
 
+    public <C extends BaseConfig & JobIdConfig> MemoryReservation tryReserveMemory(
+        C config,
+        Function<C, MemoryTreeWithDimensions> runEstimation,
+        String graphName,
+        String taskName
+    ) {
+        return tryReserveMemory(
+            config,
+            runEstimation,
+            graphName,
+            taskName,
+            GcListenerExtension::freeMemory,
+            MemoryReservationLedger.global()
+        );
+    }
+
+    /**
+     * Validates the estimated memory against the free memory that is not yet reserved by other jobs
+     * and reserves it in the given ledger. The caller must close the returned reservation once the job
+     * is finished, regardless of whether it succeeded.
+     * Nested jobs, started on a thread that already holds a reservation, are neither validated nor reserved.
+     */
+    public <C extends BaseConfig & JobIdConfig> MemoryReservation tryReserveMemory(
+        C config,
+        Function<C, MemoryTreeWithDimensions> runEstimation,
+        String graphName,
+        String taskName,
+        FreeMemoryInspector inspector,
+        MemoryReservationLedger ledger
+    ) {
+        if (ledger.hasReservationOnCurrentThread()) {
+            return MemoryReservation.EMPTY;
+        }
+
+        MemoryTreeWithDimensions memoryTreeWithDimensions = null;
+
+        try {
+            memoryTreeWithDimensions = runEstimation.apply(config);
+        } catch (MemoryEstimationNotImplementedException ignored) {
+        }
+
+        if (memoryTreeWithDimensions == null) {
+            return MemoryReservation.EMPTY;
+        }
+
+        var neo4jConfig = GraphDatabaseApiProxy.resolveDependency(api, Config.class);
+        var useMaxMemoryEstimation = neo4jConfig.get(MemoryEstimationSettings.validate_using_max_memory_estimation);
+        var memoryUsage = memoryTreeWithDimensions.memoryTree.memoryUsage();
+        var bytes = useMaxMemoryEstimation ? memoryUsage.max : memoryUsage.min;
+
+        if (config.sudo()) {
+            log.debug("Sudo mode: Won't check for available memory.");
+            return ledger.reserve(config.jobId(), config.username(), graphName, taskName, memoryUsage, bytes);
+        }
+
+        var estimation = memoryTreeWithDimensions;
+        return ledger.reserve(
+            config.jobId(),
+            config.username(),
+            graphName,
+            taskName,
+            memoryUsage,
+            bytes,
+            inspector.freeMemory(),
+            Runtime.getRuntime().maxMemory(),
+            availableBytes -> validateMemoryUsage(estimation, availableBytes, useMaxMemoryEstimation, log)
+        );
+    }
+
     static void validateMemoryUsage(
         MemoryTreeWithDimensions memoryTreeWithDimensions,
         long availableBytes,
@@ -19,17 +19,22 @@
  */
 package org.neo4j.gds.executor;
 
+import org.neo4j.configuration.Config;
 import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.AlgorithmFactory;
 import org.neo4j.gds.GraphAlgorithmFactory;
 import org.neo4j.gds.GraphStoreAlgorithmFactory;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.compat.GraphDatabaseApiProxy;
+import org.neo4j.gds.concurrency.PoolSizesService;
 import org.neo4j.gds.config.AlgoBaseConfig;
 import org.neo4j.gds.core.utils.ProgressTimer;
 import org.neo4j.gds.core.utils.TerminationFlag;
+import org.neo4j.gds.internal.JobAdmissionSettings;
 
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.Supplier;
 
 public class ProcedureExecutor<
@@ -75,48 +80,53 @@ public class ProcedureExecutor<
 
         var graphCreation = executorSpec.graphCreationFactory(executionContext).create(config, graphName);
 
-        var memoryEstimationInBytes = graphCreation.validateMemoryEstimation(algoSpec.algorithmFactory());
+        // the reservation is released once the result consumer returned, also on failure
+        try (var memoryReservation = graphCreation.reserveMemory(algoSpec.algorithmFactory(), algoSpec.name())) {
+            GraphStore graphStore;
+            Graph graph;
 
-        GraphStore graphStore;
-        Graph graph;
+            try (ProgressTimer timer = ProgressTimer.start(builder::preProcessingMillis)) {
+                var graphProjectConfig = graphCreation.graphProjectConfig();
+                var validator = executorSpec.validator(algoSpec.validationConfig());
+                validator.validateConfigsBeforeLoad(graphProjectConfig, config);
+                graphStore = graphCreation.graphStore();
+                validator.validateConfigWithGraphStore(graphStore, graphProjectConfig, config);
+                graph = graphCreation.createGraph(graphStore);
+            }
 
-        try (ProgressTimer timer = ProgressTimer.start(builder::preProcessingMillis)) {
-            var graphProjectConfig = graphCreation.graphProjectConfig();
-            var validator = executorSpec.validator(algoSpec.validationConfig());
-            validator.validateConfigsBeforeLoad(graphProjectConfig, config);
-            graphStore = graphCreation.graphStore();
-            validator.validateConfigWithGraphStore(graphStore, graphProjectConfig, config);
-            graph = graphCreation.createGraph(graphStore);
-        }
+            if (graph.isEmpty()) {
+                var emptyComputationResult = builder
+                    .isGraphEmpty(true)
+                    .graph(graph)
+                    .graphStore(graphStore)
+                    .config(config)
+                    .computeMillis(0)
+                    .result(null)
+                    .algorithm(null)
+                    .build();
+                return algoSpec.computationResultConsumer().consume(emptyComputationResult, executionContext);
+            }
+
+            ALGO algo = newAlgorithm(graph, graphStore, config);
+
+            algo.getProgressTracker().setEstimatedResourceFootprint(memoryReservation.memoryRange(), config.concurrency());
+
+            ALGO_RESULT result;
+            // CPU slots are held for the computation only, writing results is not throttled
+            try (var ignored = admit(config, algo)) {
+                result = executeAlgorithm(releaseAlgorithm, releaseTopology, builder, graph, algo);
+            }
 
-        if (graph.isEmpty()) {
-            var emptyComputationResult = builder
-                .isGraphEmpty(true)
+            var computationResult = builder
                 .graph(graph)
                 .graphStore(graphStore)
+                .algorithm(algo)
+                .result(result)
                 .config(config)
-                .computeMillis(0)
-                .result(null)
-                .algorithm(null)
                 .build();
-            return algoSpec.computationResultConsumer().consume(emptyComputationResult, executionContext);
-        }
-
-        ALGO algo = newAlgorithm(graph, graphStore, config);
-
-        algo.getProgressTracker().setEstimatedResourceFootprint(memoryEstimationInBytes, config.concurrency());
-
-        ALGO_RESULT result = executeAlgorithm(releaseAlgorithm, releaseTopology, builder, graph, algo);
 
-        var computationResult = builder
-            .graph(graph)
-            .graphStore(graphStore)
-            .algorithm(algo)
-            .result(result)
-            .config(config)
-            .build();
-
-        return algoSpec.computationResultConsumer().consume(computationResult, executionContext);
+            return algoSpec.computationResultConsumer().consume(computationResult, executionContext);
+        }
     }
 
     private ALGO_RESULT executeAlgorithm(
@@ -147,6 +157,51 @@ public class ProcedureExecutor<
         );
     }
 
+    private JobAdmissionController.Admission admit(CONFIG config, ALGO algo) {
+        var databaseService = executionContext.databaseService();
+        if (databaseService == null) {
+            return JobAdmissionController.Admission.UNRESTRICTED;
+        }
+        var neo4jConfig = GraphDatabaseApiProxy.resolveDependency(databaseService, Config.class);
+        if (!neo4jConfig.get(JobAdmissionSettings.job_admission_enabled)) {
+            return JobAdmissionController.Admission.UNRESTRICTED;
+        }
+
+        var totalSlots = Optional
+            .ofNullable(neo4jConfig.get(JobAdmissionSettings.job_admission_cpu_slots))
+            .orElseGet(() -> PoolSizesService.poolSizes().maxPoolSize());
+        var controller = JobAdmissionController.global(totalSlots);
+
+        var progressTracker = algo.getProgressTracker();
+        progressTracker.setJobMetric("requestedCpuSlots", config.concurrency());
+
+        var admission = controller.admit(
+            executionContext.username(),
+            priority(neo4jConfig),
+            config.concurrency(),
+            algo.getTerminationFlag()
+        );
+
+        progressTracker.setJobMetric("cpuSlots", admission.slots());
+        progressTracker.setJobMetric("queueWaitMillis", admission.waitMillis());
+        return admission;
+    }
+
+    private JobPriority priority(Config neo4jConfig) {
+        var transaction = executionContext.transaction();
+        if (transaction == null) {
+            return JobPriority.NORMAL;
+        }
+        var roles = transaction.securityContext().roles();
+        if (neo4jConfig.get(JobAdmissionSettings.job_admission_high_priority_roles).stream().anyMatch(roles::contains)) {
+            return JobPriority.HIGH;
+        }
+        if (neo4jConfig.get(JobAdmissionSettings.job_admission_low_priority_roles).stream().anyMatch(roles::contains)) {
+            return JobPriority.LOW;
+        }
+        return JobPriority.NORMAL;
+    }
+
     private ALGO newAlgorithm(
         Graph graph,
         GraphStore graphStore,
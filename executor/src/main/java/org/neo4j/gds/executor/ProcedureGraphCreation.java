@@ -28,7 +28,7 @@ import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.config.AlgoBaseConfig;
 import org.neo4j.gds.config.GraphProjectConfig;
 import org.neo4j.gds.config.RelationshipWeightConfig;
-import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.core.utils.mem.MemoryReservation;
 
 import java.util.Collection;
 import java.util.Optional;
@@ -76,11 +76,16 @@ public class ProcedureGraphCreation<
     }
 
     @Override
-    public MemoryRange validateMemoryEstimation(AlgorithmFactory<?, ALGO, CONFIG> algorithmFactory) {
+    public MemoryReservation reserveMemory(AlgorithmFactory<?, ALGO, CONFIG> algorithmFactory, String taskName) {
         var procedureMemoryEstimation = new ProcedureMemoryEstimation<>(
             graphStoreLoader.graphDimensions(),
             algorithmFactory
         );
-        return memoryUsageValidator.tryValidateMemoryUsage(config, procedureMemoryEstimation::memoryEstimation);
+        return memoryUsageValidator.tryReserveMemory(
+            config,
+            procedureMemoryEstimation::memoryEstimation,
+            graphStoreLoader.graphProjectConfig().graphName(),
+            taskName
+        );
     }
 }
@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.executor;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.core.utils.TerminationFlag;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JobAdmissionControllerTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldAdmitImmediatelyWhenSlotsAreAvailable() {
+        var controller = new JobAdmissionController(4);
+
+        try (var admission = controller.admit("alice", JobPriority.NORMAL, 3, TerminationFlag.RUNNING_TRUE)) {
+            assertThat(admission.slots()).isEqualTo(3);
+            assertThat(controller.usedSlots()).isEqualTo(3);
+        }
+
+        assertThat(controller.usedSlots()).isZero();
+    }
+
+    @Test
+    void shouldCapRequestsAtTheTotalNumberOfSlots() {
+        var controller = new JobAdmissionController(4);
+
+        try (var admission = controller.admit("alice", JobPriority.NORMAL, 16, TerminationFlag.RUNNING_TRUE)) {
+            assertThat(admission.slots()).isEqualTo(4);
+        }
+    }
+
+    @Test
+    void shouldWaitUntilSlotsAreReleased() throws Exception {
+        var controller = new JobAdmissionController(4);
+        var first = controller.admit("alice", JobPriority.NORMAL, 4, TerminationFlag.RUNNING_TRUE);
+
+        var second = admitAsync(controller, "bob", JobPriority.NORMAL, 2, TerminationFlag.RUNNING_TRUE);
+        awaitCondition(() -> controller.waitingJobs() == 1);
+        assertThat(second).isNotDone();
+
+        first.close();
+
+        try (var admission = second.get(10, TimeUnit.SECONDS)) {
+            assertThat(admission.slots()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void shouldAdmitUsersWithFewerRunningSlotsFirst() throws Exception {
+        var controller = new JobAdmissionController(4);
+        var aliceFirst = controller.admit("alice", JobPriority.NORMAL, 2, TerminationFlag.RUNNING_TRUE);
+        var aliceSecond = controller.admit("alice", JobPriority.NORMAL, 2, TerminationFlag.RUNNING_TRUE);
+
+        var aliceThird = admitAsync(controller, "alice", JobPriority.NORMAL, 2, TerminationFlag.RUNNING_TRUE);
+        awaitCondition(() -> controller.waitingJobs() == 1);
+        var bob = admitAsync(controller, "bob", JobPriority.NORMAL, 2, TerminationFlag.RUNNING_TRUE);
+        awaitCondition(() -> controller.waitingJobs() == 2);
+
+        // alice still runs a job, so bob goes first even though he arrived later
+        aliceFirst.close();
+
+        bob.get(10, TimeUnit.SECONDS).close();
+        aliceSecond.close();
+        aliceThird.get(10, TimeUnit.SECONDS).close();
+    }
+
+    @Test
+    void shouldAdmitHigherPriorityFirst() throws Exception {
+        var controller = new JobAdmissionController(2);
+        var running = controller.admit("alice", JobPriority.NORMAL, 2, TerminationFlag.RUNNING_TRUE);
+
+        var low = admitAsync(controller, "bob", JobPriority.LOW, 2, TerminationFlag.RUNNING_TRUE);
+        awaitCondition(() -> controller.waitingJobs() == 1);
+        var high = admitAsync(controller, "carol", JobPriority.HIGH, 2, TerminationFlag.RUNNING_TRUE);
+        awaitCondition(() -> controller.waitingJobs() == 2);
+
+        running.close();
+
+        var highAdmission = high.get(10, TimeUnit.SECONDS);
+        assertThat(low).isNotDone();
+        highAdmission.close();
+        low.get(10, TimeUnit.SECONDS).close();
+    }
+
+    @Test
+    void shouldStopWaitingWhenTerminated() throws Exception {
+        var controller = new JobAdmissionController(1);
+        var running = controller.admit("alice", JobPriority.NORMAL, 1, TerminationFlag.RUNNING_TRUE);
+
+        var terminated = new AtomicBoolean(false);
+        var waiting = admitAsync(controller, "bob", JobPriority.NORMAL, 1, () -> !terminated.get());
+        awaitCondition(() -> controller.waitingJobs() == 1);
+
+        terminated.set(true);
+
+        assertThatThrownBy(() -> waiting.get(10, TimeUnit.SECONDS)).hasMessageContaining("terminated");
+        assertThat(controller.waitingJobs()).isZero();
+        assertThat(controller.usedSlots()).isEqualTo(1);
+        running.close();
+    }
+
+    @Test
+    void shouldAdmitNestedJobsWithinTheSlotsOfTheOuterJob() {
+        var controller = new JobAdmissionController(2);
+
+        try (var outer = controller.admit("alice", JobPriority.NORMAL, 2, TerminationFlag.RUNNING_TRUE)) {
+            // would wait forever if it was queued behind the outer job
+            try (var nested = controller.admit("alice", JobPriority.NORMAL, 2, TerminationFlag.RUNNING_TRUE)) {
+                assertThat(nested.slots()).isEqualTo(outer.slots());
+                assertThat(nested.waitMillis()).isZero();
+            }
+            assertThat(controller.usedSlots()).isEqualTo(2);
+        }
+
+        assertThat(controller.usedSlots()).isZero();
+        try (var next = controller.admit("alice", JobPriority.NORMAL, 1, TerminationFlag.RUNNING_TRUE)) {
+            assertThat(controller.usedSlots()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void shouldKeepAccountingWhenResized() throws Exception {
+        var controller = new JobAdmissionController(4);
+        var running = controller.admit("alice", JobPriority.NORMAL, 3, TerminationFlag.RUNNING_TRUE);
+
+        controller.resize(2);
+        assertThat(controller.totalSlots()).isEqualTo(2);
+        assertThat(controller.usedSlots()).isEqualTo(3);
+
+        var waiting = admitAsync(controller, "bob", JobPriority.NORMAL, 4, TerminationFlag.RUNNING_TRUE);
+        awaitCondition(() -> controller.waitingJobs() == 1);
+        assertThat(waiting).isNotDone();
+
+        running.close();
+
+        try (var admission = waiting.get(10, TimeUnit.SECONDS)) {
+            assertThat(admission.slots()).isEqualTo(2);
+        }
+        assertThat(controller.usedSlots()).isZero();
+    }
+
+    @Test
+    void shouldResizeTheGlobalController() {
+        var controller = JobAdmissionController.global(4);
+
+        assertThat(JobAdmissionController.global(2)).isSameAs(controller);
+        assertThat(controller.totalSlots()).isEqualTo(2);
+    }
+
+    private CompletableFuture<JobAdmissionController.Admission> admitAsync(
+        JobAdmissionController controller,
+        String username,
+        JobPriority priority,
+        int slots,
+        TerminationFlag terminationFlag
+    ) {
+        return CompletableFuture.supplyAsync(
+            () -> controller.admit(username, priority, slots, terminationFlag),
+            executor
+        );
+    }
+
+    private static void awaitCondition(BooleanSupplier condition) throws InterruptedException {
+        var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("Condition not met in time");
+            }
+            Thread.sleep(10);
+        }
+    }
+}
@@ -95,6 +95,26 @@ public abstract class AbstractPropertyMappings implements Iterable<PropertyMappi
         }
     }
 
+    /**
+     * Parses property mappings that do not project values from the database, such as the properties of an export.
+     * A precision is only honored by native projections and fails for such mappings.
+     */
+    public static PropertyMappings fromObjectWithoutPrecision(Object propertyMappings) {
+        var mappings = fromObject(propertyMappings);
+        mappings
+            .stream()
+            .filter(mapping -> mapping.precision() != PropertyPrecision.DOUBLE)
+            .findFirst()
+            .ifPresent(mapping -> {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "The `%s` of property `%s` is only supported by native projections.",
+                    PropertyMapping.PRECISION_KEY,
+                    mapping.propertyKey()
+                ));
+            });
+        return mappings;
+    }
+
     public Set<String> propertyKeys() {
         return stream().map(PropertyMapping::propertyKey).collect(Collectors.toSet());
     }
@@ -38,6 +38,7 @@ public abstract class PropertyMapping {
 
     public static final String PROPERTY_KEY = "property";
     public static final String DEFAULT_VALUE_KEY = "defaultValue";
+    public static final String PRECISION_KEY = "precision";
 
     /**
      * property key in the result map Graph.nodeProperties(`propertyKey`)
@@ -62,6 +63,15 @@ public abstract class PropertyMapping {
         return Aggregation.DEFAULT;
     }
 
+    /**
+     * The precision in which floating point values of this property are stored.
+     */
+    @Value.Default
+    @Value.Parameter(false)
+    public PropertyPrecision precision() {
+        return PropertyPrecision.DOUBLE;
+    }
+
     @Value.Check
     public void validateProperties() {
         if (neoPropertyKey().equals(ElementProjection.PROJECT_ALL) && aggregation() != Aggregation.COUNT) {
@@ -107,12 +117,20 @@ public abstract class PropertyMapping {
 
             Object defaultValue = propertyMap.get(DEFAULT_VALUE_KEY);
             boolean isUserDefined = propertyMap.containsKey(DEFAULT_VALUE_KEY);
-            return PropertyMapping.of(
-                propertyKey,
-                neoPropertyKey,
-                DefaultValue.of(defaultValue, isUserDefined),
-                aggregation
-            );
+
+            Object precisionValue = propertyMap.get(PRECISION_KEY);
+            var precision = precisionValue == null
+                ? PropertyPrecision.DOUBLE
+                : PropertyPrecision.parse(precisionValue);
+
+            return ImmutablePropertyMapping
+                .builder()
+                .propertyKey(propertyKey)
+                .neoPropertyKey(neoPropertyKey)
+                .defaultValue(DefaultValue.of(defaultValue, isUserDefined))
+                .aggregation(aggregation)
+                .precision(precision)
+                .build();
         } else {
             throw new IllegalStateException(formatWithLocale(
                 "Expected stringOrMap to be of type String or Map, but got %s",
@@ -137,6 +155,10 @@ public abstract class PropertyMapping {
         if (includeAggregation) {
             value.put(RelationshipProjection.AGGREGATION_KEY, aggregation().name());
         }
+        // only written when set, so that existing projections keep their serialized form
+        if (precision() != PropertyPrecision.DOUBLE) {
+            value.put(PRECISION_KEY, precision().name());
+        }
         return new AbstractMap.SimpleImmutableEntry<>(propertyKey(), value);
     }
 
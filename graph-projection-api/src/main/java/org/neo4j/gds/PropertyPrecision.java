@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+import static org.neo4j.gds.utils.StringFormatting.toUpperCaseWithLocale;
+
+/**
+ * The precision in which floating point property values are kept in memory.
+ * Values stored with {@link #FLOAT} are rounded to the nearest {@code float}
+ * and widened to {@code double} again when they are read.
+ *
+ * The precision is only honored by native projections.
+ */
+public enum PropertyPrecision {
+
+    DOUBLE,
+    FLOAT;
+
+    private static final List<String> VALUES = Arrays
+        .stream(PropertyPrecision.values())
+        .map(PropertyPrecision::name)
+        .collect(Collectors.toList());
+
+    public static PropertyPrecision parse(Object input) {
+        if (input instanceof String) {
+            var inputString = toUpperCaseWithLocale((String) input);
+            if (VALUES.contains(inputString)) {
+                return PropertyPrecision.valueOf(inputString);
+            }
+
+            throw new IllegalArgumentException(formatWithLocale(
+                "Precision `%s` is not supported. Must be one of: %s.",
+                inputString,
+                VALUES
+            ));
+        }
+        else if (input instanceof PropertyPrecision) {
+            return (PropertyPrecision) input;
+        }
+
+        throw new IllegalArgumentException(formatWithLocale(
+            "Expected PropertyPrecision or String. Got %s.",
+            input.getClass().getSimpleName()
+        ));
+    }
+}
@@ -28,6 +28,7 @@ import java.util.Map;
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class PropertyMappingTest {
@@ -86,6 +87,31 @@ class PropertyMappingTest {
         assertEquals(propertyMapping.defaultValue(), DefaultValue.of(42.0));
     }
 
+    @Test
+    void testFromObjectWithPrecision() {
+        PropertyMapping propertyMapping = PropertyMapping.fromObject(
+            "weight",
+            Map.of(
+                "property", "cost",
+                "precision", "float"
+            )
+        );
+        assertEquals(PropertyPrecision.FLOAT, propertyMapping.precision());
+        assertEquals(Aggregation.DEFAULT, propertyMapping.aggregation());
+        assertEquals(PropertyPrecision.FLOAT.name(), ((Map<?, ?>) propertyMapping.toObject(false).getValue()).get("precision"));
+        assertEquals(PropertyPrecision.DOUBLE, PropertyMapping.fromObject("weight", "cost").precision());
+        assertFalse(((Map<?, ?>) PropertyMapping.of("weight").toObject(false).getValue()).containsKey("precision"));
+    }
+
+    @Test
+    void failsOnUnknownPrecision() {
+        IllegalArgumentException ex = assertThrows(
+            IllegalArgumentException.class, () -> PropertyMapping.fromObject("weight", Map.of(
+                "precision", "half"
+            )));
+        assertThat(ex.getMessage(), containsString("Precision `HALF` is not supported."));
+    }
+
     @Test
     void failsOnWrongKeyType() {
         IllegalArgumentException ex = assertThrows(
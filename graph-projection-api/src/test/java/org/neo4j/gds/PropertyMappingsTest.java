@@ -86,4 +86,17 @@ class PropertyMappingsTest {
         assertThat(ex.getMessage(), containsString("Expected String or Map for property mappings. Got Integer"));
     }
 
+    @Test
+    void failsOnPrecisionOutsideOfProjections() {
+        var propertyMappings = Map.of("weight", Map.of("precision", "FLOAT"));
+        assertEquals(PropertyPrecision.FLOAT, PropertyMappings.fromObject(propertyMappings).mappings().get(0).precision());
+
+        IllegalArgumentException ex = assertThrows(
+            IllegalArgumentException.class,
+            () -> PropertyMappings.fromObjectWithoutPrecision(propertyMappings)
+        );
+        assertThat(ex.getMessage(), containsString("The `precision` of property `weight` is only supported by native projections."));
+        assertEquals(1, PropertyMappings.fromObjectWithoutPrecision(Map.of("weight", Map.of())).numberOfMappings());
+    }
+
 }
@@ -51,7 +51,7 @@ public interface GraphStoreExporterBaseConfig extends BaseConfig {
 
     @Value.Default
     @Value.Parameter(false)
-    @Configuration.ConvertWith("org.neo4j.gds.AbstractPropertyMappings#fromObject")
+    @Configuration.ConvertWith("org.neo4j.gds.AbstractPropertyMappings#fromObjectWithoutPrecision")
     default org.neo4j.gds.PropertyMappings additionalNodeProperties() {
         return org.neo4j.gds.PropertyMappings.of();
     }
@@ -26,9 +26,10 @@ import org.neo4j.internal.batchimport.input.InputEntityVisitor;
 import java.io.Closeable;
 import java.io.Flushable;
 import java.io.IOException;
+import java.util.List;
 
 public final class ElementImportRunner<T extends InputEntityVisitor.Adapter & Flushable & Closeable> implements Runnable {
-    private final T visitor;
+    private final List<T> visitors;
     private final InputIterator inputIterator;
     private final ProgressTracker progressTracker;
 
@@ -37,7 +38,19 @@ public final class ElementImportRunner<T extends InputEntityVisitor.Adapter & Fl
         InputIterator inputIterator,
         ProgressTracker progressTracker
     ) {
-        this.visitor = visitor;
+        this(List.of(visitor), inputIterator, progressTracker);
+    }
+
+    /**
+     * Distributes the chunks of the input round-robin over the given visitors,
+     * e.g. to write more files than there are threads.
+     */
+    ElementImportRunner(
+        List<T> visitors,
+        InputIterator inputIterator,
+        ProgressTracker progressTracker
+    ) {
+        this.visitors = visitors;
         this.inputIterator = inputIterator;
         this.progressTracker = progressTracker;
     }
@@ -45,7 +58,10 @@ public final class ElementImportRunner<T extends InputEntityVisitor.Adapter & Fl
     @Override
     public void run() {
         try (var chunk = inputIterator.newChunk()) {
+            int visitorIndex = 0;
             while (inputIterator.next(chunk)) {
+                var visitor = visitors.get(visitorIndex);
+                visitorIndex = (visitorIndex + 1) % visitors.size();
                 while (chunk.next(visitor)) {
                     progressTracker.logProgress();
                 }
@@ -55,6 +71,8 @@ public final class ElementImportRunner<T extends InputEntityVisitor.Adapter & Fl
             throw new RuntimeException(e);
         }
 
-        visitor.close();
+        for (var visitor : visitors) {
+            visitor.close();
+        }
     }
 }
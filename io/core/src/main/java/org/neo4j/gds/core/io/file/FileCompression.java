@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+import static org.neo4j.gds.utils.StringFormatting.toUpperCaseWithLocale;
+
+/**
+ * Compression codec applied to the data files of a file export.
+ * <p>
+ * Every data file is compressed as a single, self-contained stream,
+ * so that each shard can be decompressed and imported independently of the others.
+ */
+public enum FileCompression {
+    NONE("") {
+        @Override
+        public OutputStream compress(OutputStream outputStream) {
+            return outputStream;
+        }
+
+        @Override
+        public InputStream decompress(InputStream inputStream) {
+            return inputStream;
+        }
+    },
+    GZIP(".gz") {
+        @Override
+        public OutputStream compress(OutputStream outputStream) throws IOException {
+            return new GZIPOutputStream(outputStream, BUFFER_SIZE) {
+                {
+                    // The export is usually bound by compression speed, not by disk space.
+                    def.setLevel(Deflater.BEST_SPEED);
+                }
+            };
+        }
+
+        @Override
+        public InputStream decompress(InputStream inputStream) throws IOException {
+            return new GZIPInputStream(inputStream, BUFFER_SIZE);
+        }
+    };
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final List<String> VALUES = Arrays
+        .stream(FileCompression.values())
+        .map(FileCompression::name)
+        .collect(Collectors.toList());
+
+    private final String fileExtension;
+
+    FileCompression(String fileExtension) {
+        this.fileExtension = fileExtension;
+    }
+
+    /**
+     * The suffix appended to the name of a compressed data file, e.g. {@code .gz}.
+     */
+    public String fileExtension() {
+        return fileExtension;
+    }
+
+    public abstract OutputStream compress(OutputStream outputStream) throws IOException;
+
+    public abstract InputStream decompress(InputStream inputStream) throws IOException;
+
+    public static FileCompression parse(Object input) {
+        if (input instanceof String) {
+            var inputString = toUpperCaseWithLocale((String) input);
+            if (VALUES.contains(inputString)) {
+                return FileCompression.valueOf(inputString);
+            }
+
+            throw new IllegalArgumentException(formatWithLocale(
+                "Compression `%s` is not supported. Must be one of: %s.",
+                inputString,
+                VALUES
+            ));
+        } else if (input instanceof FileCompression) {
+            return (FileCompression) input;
+        }
+
+        throw new IllegalArgumentException(formatWithLocale(
+            "Expected Compression or String. Got %s.",
+            input.getClass().getSimpleName()
+        ));
+    }
+
+    public static String toString(FileCompression compression) {
+        return compression.name();
+    }
+}
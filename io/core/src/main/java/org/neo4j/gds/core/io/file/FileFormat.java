@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+import static org.neo4j.gds.utils.StringFormatting.toUpperCaseWithLocale;
+
+/**
+ * The file format of a graph store export.
+ * <p>
+ * {@link #CSV} files can be read by other tools and imported into a database.
+ * {@link #BINARY} files are a snapshot of the in-memory layout, which is memory-mapped
+ * by {@link FileToGraphStoreImporter} instead of being parsed row by row.
+ */
+public enum FileFormat {
+    CSV,
+    BINARY;
+
+    private static final List<String> VALUES = Arrays
+        .stream(FileFormat.values())
+        .map(FileFormat::name)
+        .collect(Collectors.toList());
+
+    public static FileFormat parse(Object input) {
+        if (input instanceof String) {
+            var inputString = toUpperCaseWithLocale((String) input);
+            if (VALUES.contains(inputString)) {
+                return FileFormat.valueOf(inputString);
+            }
+
+            throw new IllegalArgumentException(formatWithLocale(
+                "Format `%s` is not supported. Must be one of: %s.",
+                inputString,
+                VALUES
+            ));
+        } else if (input instanceof FileFormat) {
+            return (FileFormat) input;
+        }
+
+        throw new IllegalArgumentException(formatWithLocale(
+            "Expected Format or String. Got %s.",
+            input.getClass().getSimpleName()
+        ));
+    }
+
+    public static String toString(FileFormat format) {
+        return format.name();
+    }
+}
@@ -43,6 +43,7 @@ import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.io.GraphStoreGraphPropertyVisitor;
 import org.neo4j.gds.core.io.GraphStoreRelationshipVisitor;
+import org.neo4j.gds.core.io.file.binary.BinaryToGraphStoreImporter;
 import org.neo4j.gds.core.loading.CSRGraphStoreUtil;
 import org.neo4j.gds.core.loading.GraphStoreBuilder;
 import org.neo4j.gds.core.loading.ImmutableStaticCapabilities;
@@ -111,6 +112,12 @@ public abstract class FileToGraphStoreImporter {
     protected abstract String rootTaskName();
 
     public UserGraphStore run() {
+        // Binary snapshots are memory-mapped as they are instead of being imported row by row.
+        if (BinaryToGraphStoreImporter.isBinarySnapshot(importPath)) {
+            log.info("Importing binary graph store snapshot from %s", importPath);
+            return new BinaryToGraphStoreImporter(concurrency, importPath).run();
+        }
+
         var fileInput = fileInput(importPath);
         this.progressTracker = createProgressTracker(fileInput);
         progressTracker.beginSubTask();
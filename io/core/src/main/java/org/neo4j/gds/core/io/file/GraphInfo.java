@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.core.io.file;
 
+import org.immutables.value.Value;
 import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.annotation.ValueClass;
 import org.neo4j.gds.api.DatabaseId;
@@ -31,4 +32,10 @@ public interface GraphInfo {
     long nodeCount();
     long maxOriginalId();
     Map<RelationshipType, Long> relationshipTypeCounts();
+
+    @Value.Default
+    @Value.Parameter(false)
+    default FileCompression compression() {
+        return FileCompression.NONE;
+    }
 }
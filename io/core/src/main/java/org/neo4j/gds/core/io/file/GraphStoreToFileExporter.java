@@ -36,11 +36,15 @@ import org.neo4j.gds.core.utils.progress.tasks.Task;
 import org.neo4j.gds.core.utils.progress.tasks.TaskProgressTracker;
 import org.neo4j.gds.core.utils.progress.tasks.Tasks;
 import org.neo4j.internal.batchimport.input.Collector;
+import org.neo4j.internal.batchimport.input.InputEntityVisitor;
 import org.neo4j.logging.Log;
 
+import java.io.Closeable;
+import java.io.Flushable;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Supplier;
 
@@ -142,13 +146,18 @@ public class GraphStoreToFileExporter extends GraphStoreExporter<GraphStoreToFil
         var nodeInput = graphStoreInput.nodes(Collector.EMPTY);
         var nodeInputIterator = nodeInput.iterator();
 
+        var concurrency = Math.min(config.writeConcurrency(), config.writeShards());
         var tasks = ParallelUtil.tasks(
-            config.writeConcurrency(),
-            (index) -> new ElementImportRunner<>(nodeVisitorSupplier.apply(index), nodeInputIterator, progressTracker)
+            concurrency,
+            (index) -> new ElementImportRunner<>(
+                shardVisitors(nodeVisitorSupplier, index, concurrency),
+                nodeInputIterator,
+                progressTracker
+            )
         );
 
         RunWithConcurrency.builder()
-            .concurrency(config.writeConcurrency())
+            .concurrency(concurrency)
             .tasks(tasks)
             .run();
         progressTracker.endSubTask();
@@ -162,23 +171,39 @@ public class GraphStoreToFileExporter extends GraphStoreExporter<GraphStoreToFil
         var relationshipInput = graphStoreInput.relationships(Collector.EMPTY);
         var relationshipInputIterator = relationshipInput.iterator();
 
+        var concurrency = Math.min(config.writeConcurrency(), config.writeShards());
         var tasks = ParallelUtil.tasks(
-            config.writeConcurrency(),
+            concurrency,
             (index) -> new ElementImportRunner<>(
-                relationshipVisitorSupplier.apply(index),
+                shardVisitors(relationshipVisitorSupplier, index, concurrency),
                 relationshipInputIterator,
                 progressTracker
             )
         );
 
         RunWithConcurrency.builder()
-            .concurrency(config.writeConcurrency())
+            .concurrency(concurrency)
             .tasks(tasks)
             .mayInterruptIfRunning(false)
             .run();
         progressTracker.endSubTask();
     }
 
+    /**
+     * Each task writes every {@code concurrency}-th shard, starting at its own index.
+     */
+    private <VISITOR extends InputEntityVisitor.Adapter & Flushable & Closeable> List<VISITOR> shardVisitors(
+        VisitorProducer<VISITOR> visitorProducer,
+        int taskIndex,
+        int concurrency
+    ) {
+        var visitors = new ArrayList<VISITOR>();
+        for (int shard = taskIndex; shard < config.writeShards(); shard += concurrency) {
+            visitors.add(visitorProducer.apply(shard));
+        }
+        return visitors;
+    }
+
     private void exportGraphProperties(
         GraphStoreInput graphStoreInput,
         ProgressTracker progressTracker
@@ -212,7 +237,10 @@ public class GraphStoreToFileExporter extends GraphStoreExporter<GraphStoreToFil
     }
 
     private void exportGraphInfo(GraphStoreInput graphStoreInput) {
-        GraphInfo graphInfo = graphStoreInput.metaDataStore().graphInfo();
+        GraphInfo graphInfo = ImmutableGraphInfo.builder()
+            .from(graphStoreInput.metaDataStore().graphInfo())
+            .compression(config.compression())
+            .build();
         try (var graphInfoVisitor = graphInfoVisitorSupplier.get()) {
             graphInfoVisitor.export(graphInfo);
         }
@@ -26,6 +26,8 @@ import org.neo4j.gds.core.CypherMapWrapper;
 import org.neo4j.gds.core.Username;
 import org.neo4j.gds.core.io.GraphStoreExporterBaseConfig;
 
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
 @ValueClass
 @Configuration
 @SuppressWarnings("immutables:subtype")
@@ -39,6 +41,57 @@ public interface GraphStoreToFileExporterConfig extends GraphStoreExporterBaseCo
 
     String exportName();
 
+    /**
+     * The number of files written per node label combination and per relationship type.
+     * Shards are independent of the write concurrency, so that an import can be parallelized
+     * regardless of how many threads wrote the export.
+     */
+    @Value.Default
+    @Configuration.IntegerRange(min = 1)
+    default int writeShards() {
+        return writeConcurrency();
+    }
+
+    /**
+     * The codec used to compress the data files. Header and metadata files are never compressed.
+     */
+    @Value.Default
+    @Configuration.ConvertWith("org.neo4j.gds.core.io.file.FileCompression#parse")
+    @Configuration.ToMapValue("org.neo4j.gds.core.io.file.FileCompression#toString")
+    default FileCompression compression() {
+        return FileCompression.NONE;
+    }
+
+    /**
+     * The format of the exported files. Binary exports are imported by memory-mapping them.
+     */
+    @Value.Default
+    @Configuration.ConvertWith("org.neo4j.gds.core.io.file.FileFormat#parse")
+    @Configuration.ToMapValue("org.neo4j.gds.core.io.file.FileFormat#toString")
+    default FileFormat format() {
+        return FileFormat.CSV;
+    }
+
+    @Value.Check
+    default void validateFormat() {
+        if (format() != FileFormat.BINARY) {
+            return;
+        }
+        if (compression() != FileCompression.NONE) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The `%s` format does not support compression, but got `%s`.",
+                FileFormat.BINARY,
+                compression()
+            ));
+        }
+        if (additionalNodeProperties().hasMappings()) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The `%s` format does not support additional node properties.",
+                FileFormat.BINARY
+            ));
+        }
+    }
+
     static GraphStoreToFileExporterConfig of(String username, CypherMapWrapper config) {
         return new GraphStoreToFileExporterConfigImpl(username, config);
     }
@@ -0,0 +1,243 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.binary;
+
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.paged.HugeObjectArray;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import static java.nio.file.StandardOpenOption.READ;
+import static org.neo4j.gds.core.io.file.binary.BinaryGraphStoreFormat.BLOCK_HEADER_BYTES;
+import static org.neo4j.gds.core.io.file.binary.BinaryGraphStoreFormat.FILE_HEADER_BYTES;
+import static org.neo4j.gds.core.io.file.binary.BinaryGraphStoreFormat.MAGIC;
+import static org.neo4j.gds.core.io.file.binary.BinaryGraphStoreFormat.VERSION;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Reads the blocks written by {@link BinaryBlockWriter} and verifies their checksums.
+ * Blocks can either be copied onto the heap or mapped directly from the file.
+ */
+final class BinaryBlockReader implements AutoCloseable {
+
+    // a single mapping cannot be larger than what a ByteBuffer can address
+    private static final long MAX_SEGMENT_SIZE = Integer.MAX_VALUE;
+
+    private final Path file;
+    private final FileChannel channel;
+    private final ByteBuffer blockHeader;
+    private final CRC32 checksum;
+    private long expectedChecksum;
+
+    BinaryBlockReader(Path file) throws IOException {
+        this.file = file;
+        this.channel = FileChannel.open(file, READ);
+        this.blockHeader = ByteBuffer.allocate(BLOCK_HEADER_BYTES);
+        this.checksum = new CRC32();
+
+        var fileHeader = ByteBuffer.allocate(FILE_HEADER_BYTES);
+        readFully(fileHeader);
+        fileHeader.flip();
+        if (fileHeader.getInt() != MAGIC) {
+            throw new IllegalStateException(formatWithLocale("File `%s` is not a binary graph store file.", file));
+        }
+        int version = fileHeader.getInt();
+        if (version != VERSION) {
+            throw new IllegalStateException(formatWithLocale(
+                "File `%s` has unsupported format version %d, expected %d.",
+                file,
+                version,
+                VERSION
+            ));
+        }
+    }
+
+    boolean hasNextBlock() throws IOException {
+        return channel.position() < channel.size();
+    }
+
+    /**
+     * Copies the next block onto the heap.
+     */
+    ByteBuffer readBlock() throws IOException {
+        long offset = channel.position();
+        long length = readBlockHeader();
+        var payload = ByteBuffer.allocate(Math.toIntExact(length));
+        readFully(payload);
+        payload.flip();
+        verify(payload, offset);
+        return payload;
+    }
+
+    /**
+     * Maps all remaining blocks read-only into memory without copying them onto the heap.
+     * Consecutive blocks share one mapping of at most 2 GiB,
+     * so that the number of mappings does not grow with the number of blocks.
+     */
+    List<ByteBuffer> mapRemainingBlocks() throws IOException {
+        var blocks = new ArrayList<BlockLocation>();
+        long fileSize = channel.size();
+        while (hasNextBlock()) {
+            long offset = channel.position();
+            long length = readBlockHeader();
+            long payloadPosition = channel.position();
+            if (length > MAX_SEGMENT_SIZE || payloadPosition + length > fileSize) {
+                throw new EOFException(formatWithLocale("Unexpected end of file `%s`.", file));
+            }
+            blocks.add(new BlockLocation(offset, payloadPosition, (int) length, expectedChecksum));
+            channel.position(payloadPosition + length);
+        }
+
+        var payloads = new ArrayList<ByteBuffer>(blocks.size());
+        int segmentStart = 0;
+        while (segmentStart < blocks.size()) {
+            long segmentPosition = blocks.get(segmentStart).payloadPosition;
+            int segmentEnd = segmentStart;
+            long segmentSize = 0;
+            while (segmentEnd < blocks.size()) {
+                long blockEnd = blocks.get(segmentEnd).end() - segmentPosition;
+                if (blockEnd > MAX_SEGMENT_SIZE) {
+                    break;
+                }
+                segmentSize = blockEnd;
+                segmentEnd++;
+            }
+
+            MappedByteBuffer segment = channel.map(FileChannel.MapMode.READ_ONLY, segmentPosition, segmentSize);
+            for (int i = segmentStart; i < segmentEnd; i++) {
+                var block = blocks.get(i);
+                int start = (int) (block.payloadPosition - segmentPosition);
+                var payload = segment.duplicate();
+                payload.limit(start + block.length);
+                payload.position(start);
+                expectedChecksum = block.checksum;
+                verify(payload, block.offset);
+                payloads.add(payload.slice());
+            }
+            segmentStart = segmentEnd;
+        }
+        return payloads;
+    }
+
+    void readLongColumn(HugeLongArray into) throws IOException {
+        long index = 0;
+        while (index < into.size()) {
+            var block = readBlock().asLongBuffer();
+            while (block.hasRemaining()) {
+                into.set(index++, block.get());
+            }
+        }
+    }
+
+    void readIntColumn(HugeIntArray into) throws IOException {
+        long index = 0;
+        while (index < into.size()) {
+            var block = readBlock().asIntBuffer();
+            while (block.hasRemaining()) {
+                into.set(index++, block.get());
+            }
+        }
+    }
+
+    void readDoubleColumn(HugeDoubleArray into) throws IOException {
+        long index = 0;
+        while (index < into.size()) {
+            var block = readBlock().asDoubleBuffer();
+            while (block.hasRemaining()) {
+                into.set(index++, block.get());
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> void readValueColumn(HugeObjectArray<T> into, ValueType valueType) throws IOException {
+        long index = 0;
+        while (index < into.size()) {
+            var block = readBlock();
+            int length = block.getInt();
+            for (int i = 0; i < length; i++) {
+                into.set(index++, (T) BinaryValues.decode(block, valueType));
+            }
+        }
+    }
+
+    private long readBlockHeader() throws IOException {
+        blockHeader.clear();
+        readFully(blockHeader);
+        blockHeader.flip();
+        long length = blockHeader.getLong();
+        expectedChecksum = blockHeader.getLong();
+        return length;
+    }
+
+    private void verify(ByteBuffer payload, long offset) {
+        checksum.reset();
+        checksum.update(payload.duplicate());
+        if (checksum.getValue() != expectedChecksum) {
+            throw new IllegalStateException(formatWithLocale(
+                "Checksum mismatch in block at offset %d of file `%s`.",
+                offset,
+                file
+            ));
+        }
+    }
+
+    private void readFully(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new EOFException(formatWithLocale("Unexpected end of file `%s`.", file));
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private static final class BlockLocation {
+        final long offset;
+        final long payloadPosition;
+        final int length;
+        final long checksum;
+
+        BlockLocation(long offset, long payloadPosition, int length, long checksum) {
+            this.offset = offset;
+            this.payloadPosition = payloadPosition;
+            this.length = length;
+            this.checksum = checksum;
+        }
+
+        long end() {
+            return payloadPosition + length;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.binary;
+
+import org.neo4j.gds.api.nodeproperties.ValueType;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.function.LongFunction;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.zip.CRC32;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static org.neo4j.gds.core.io.file.binary.BinaryGraphStoreFormat.BLOCK_HEADER_BYTES;
+import static org.neo4j.gds.core.io.file.binary.BinaryGraphStoreFormat.CHUNK_SIZE;
+import static org.neo4j.gds.core.io.file.binary.BinaryGraphStoreFormat.FILE_HEADER_BYTES;
+import static org.neo4j.gds.core.io.file.binary.BinaryGraphStoreFormat.MAGIC;
+import static org.neo4j.gds.core.io.file.binary.BinaryGraphStoreFormat.VERSION;
+
+/**
+ * Writes length-prefixed and checksummed blocks to a single file.
+ */
+final class BinaryBlockWriter implements AutoCloseable {
+
+    private final FileChannel channel;
+    private final ByteBuffer blockHeader;
+    private final CRC32 checksum;
+
+    BinaryBlockWriter(Path file) throws IOException {
+        this.channel = FileChannel.open(file, CREATE, WRITE, TRUNCATE_EXISTING);
+        this.blockHeader = ByteBuffer.allocate(BLOCK_HEADER_BYTES);
+        this.checksum = new CRC32();
+
+        var fileHeader = ByteBuffer.allocate(FILE_HEADER_BYTES).putInt(MAGIC).putInt(VERSION).flip();
+        writeFully(fileHeader);
+    }
+
+    /**
+     * Writes the remaining bytes of the given {@code payload} as a single block.
+     */
+    void writeBlock(ByteBuffer payload) throws IOException {
+        checksum.reset();
+        checksum.update(payload.duplicate());
+        blockHeader.clear();
+        blockHeader.putLong(payload.remaining()).putLong(checksum.getValue()).flip();
+        writeFully(blockHeader);
+        writeFully(payload);
+    }
+
+    void writeBlock(byte[] payload, int length) throws IOException {
+        writeBlock(ByteBuffer.wrap(payload, 0, length));
+    }
+
+    void writeLongColumn(long size, LongUnaryOperator values) throws IOException {
+        var buffer = ByteBuffer.allocate((int) Math.min(size, CHUNK_SIZE) * Long.BYTES);
+        for (long start = 0; start < size; start += CHUNK_SIZE) {
+            long end = Math.min(size, start + CHUNK_SIZE);
+            buffer.clear();
+            for (long index = start; index < end; index++) {
+                buffer.putLong(values.applyAsLong(index));
+            }
+            writeBlock(buffer.flip());
+        }
+    }
+
+    void writeIntColumn(long size, LongToIntFunction values) throws IOException {
+        var buffer = ByteBuffer.allocate((int) Math.min(size, CHUNK_SIZE) * Integer.BYTES);
+        for (long start = 0; start < size; start += CHUNK_SIZE) {
+            long end = Math.min(size, start + CHUNK_SIZE);
+            buffer.clear();
+            for (long index = start; index < end; index++) {
+                buffer.putInt(values.applyAsInt(index));
+            }
+            writeBlock(buffer.flip());
+        }
+    }
+
+    void writeDoubleColumn(long size, LongToDoubleFunction values) throws IOException {
+        var buffer = ByteBuffer.allocate((int) Math.min(size, CHUNK_SIZE) * Double.BYTES);
+        for (long start = 0; start < size; start += CHUNK_SIZE) {
+            long end = Math.min(size, start + CHUNK_SIZE);
+            buffer.clear();
+            for (long index = start; index < end; index++) {
+                buffer.putDouble(values.applyAsDouble(index));
+            }
+            writeBlock(buffer.flip());
+        }
+    }
+
+    void writeValueColumn(long size, ValueType valueType, LongFunction<Object> values) throws IOException {
+        var chunk = new Object[(int) Math.min(size, CHUNK_SIZE)];
+        for (long start = 0; start < size; start += CHUNK_SIZE) {
+            int length = (int) (Math.min(size, start + CHUNK_SIZE) - start);
+            int bytes = Integer.BYTES;
+            for (int i = 0; i < length; i++) {
+                chunk[i] = values.apply(start + i);
+                bytes += BinaryValues.encodedSize(valueType, chunk[i]);
+            }
+            var buffer = ByteBuffer.allocate(bytes).putInt(length);
+            for (int i = 0; i < length; i++) {
+                BinaryValues.encode(buffer, valueType, chunk[i]);
+            }
+            writeBlock(buffer.flip());
+        }
+    }
+
+    private void writeFully(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.binary;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Layout of a binary graph store snapshot.
+ * <p>
+ * Every file starts with {@link #MAGIC} and {@link #VERSION}, followed by a sequence of blocks.
+ * A block is prefixed with its payload length and the CRC32 checksum of the payload.
+ * Columns are split into blocks of at most {@link #CHUNK_SIZE} values.
+ */
+final class BinaryGraphStoreFormat {
+
+    static final int MAGIC = 0x47445342;
+    static final int VERSION = 1;
+    static final int FILE_HEADER_BYTES = 2 * Integer.BYTES;
+    static final int BLOCK_HEADER_BYTES = 2 * Long.BYTES;
+
+    static final int CHUNK_SIZE = 1 << 16;
+
+    static final String METADATA_FILE_NAME = "metadata.bin";
+    static final String NODES_FILE_NAME = "nodes.bin";
+
+    private BinaryGraphStoreFormat() {}
+
+    static String nodePropertyFileName(int propertyIndex) {
+        return formatWithLocale("node_property_%d.bin", propertyIndex);
+    }
+
+    static String relationshipsFileName(int typeIndex) {
+        return formatWithLocale("relationships_%d.bin", typeIndex);
+    }
+
+    static String adjacencyFileName(int typeIndex) {
+        return formatWithLocale("relationships_%d_adjacency.bin", typeIndex);
+    }
+
+    static String relationshipPropertyFileName(int typeIndex, int propertyIndex) {
+        return formatWithLocale("relationships_%d_property_%d.bin", typeIndex, propertyIndex);
+    }
+
+    static String graphPropertyFileName(int propertyIndex) {
+        return formatWithLocale("graph_property_%d.bin", propertyIndex);
+    }
+
+    static int chunkCount(long size) {
+        return (int) ((size + CHUNK_SIZE - 1) / CHUNK_SIZE);
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.binary;
+
+import org.neo4j.gds.ElementIdentifier;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.annotation.ValueClass;
+import org.neo4j.gds.api.DatabaseId;
+import org.neo4j.gds.api.schema.GraphSchema;
+import org.neo4j.gds.core.loading.Capabilities;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Everything about a snapshot that is not stored in a column.
+ * Files are addressed by the position of their element in the sorted lists below.
+ */
+@ValueClass
+interface BinaryGraphStoreMetadata {
+
+    String userName();
+
+    DatabaseId databaseId();
+
+    Capabilities capabilities();
+
+    long nodeCount();
+
+    long maxOriginalId();
+
+    GraphSchema schema();
+
+    Map<RelationshipType, Long> relationshipCounts();
+
+    Map<RelationshipType, Boolean> multiGraphs();
+
+    default List<NodeLabel> nodeLabels() {
+        return schema().nodeSchema().availableLabels().stream()
+            .sorted(Comparator.comparing(ElementIdentifier::name))
+            .collect(Collectors.toList());
+    }
+
+    default List<String> nodePropertyKeys() {
+        return schema().nodeSchema().unionProperties().keySet().stream().sorted().collect(Collectors.toList());
+    }
+
+    default List<RelationshipType> relationshipTypes() {
+        return relationshipCounts().keySet().stream()
+            .sorted(Comparator.comparing(ElementIdentifier::name))
+            .collect(Collectors.toList());
+    }
+
+    default List<String> relationshipPropertyKeys(RelationshipType relationshipType) {
+        return schema().relationshipSchema().properties().get(relationshipType).keySet().stream()
+            .sorted()
+            .collect(Collectors.toList());
+    }
+
+    default List<String> graphPropertyKeys() {
+        return schema().graphProperties().keySet().stream().sorted().collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.binary;
+
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.DatabaseId;
+import org.neo4j.gds.api.DefaultValue;
+import org.neo4j.gds.api.PropertyState;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.api.schema.GraphSchema;
+import org.neo4j.gds.api.schema.NodeSchema;
+import org.neo4j.gds.api.schema.PropertySchema;
+import org.neo4j.gds.api.schema.RelationshipPropertySchema;
+import org.neo4j.gds.api.schema.RelationshipSchema;
+import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.loading.ImmutableStaticCapabilities;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Serializes {@link BinaryGraphStoreMetadata} into a single block.
+ */
+final class BinaryMetadataCodec {
+
+    private BinaryMetadataCodec() {}
+
+    static ByteBuffer encode(BinaryGraphStoreMetadata metadata) throws IOException {
+        var bytes = new ByteArrayOutputStream();
+        var out = new DataOutputStream(bytes);
+
+        out.writeUTF(metadata.userName());
+        out.writeUTF(metadata.databaseId().databaseName());
+        out.writeBoolean(metadata.capabilities().canWriteToDatabase());
+        out.writeLong(metadata.nodeCount());
+        out.writeLong(metadata.maxOriginalId());
+
+        var nodeProperties = metadata.schema().nodeSchema().properties();
+        out.writeInt(nodeProperties.size());
+        for (var labelAndProperties : nodeProperties.entrySet()) {
+            out.writeUTF(labelAndProperties.getKey().name());
+            out.writeInt(labelAndProperties.getValue().size());
+            for (var propertySchema : labelAndProperties.getValue().values()) {
+                writePropertySchema(out, propertySchema);
+            }
+        }
+
+        var relationshipSchema = metadata.schema().relationshipSchema();
+        out.writeInt(relationshipSchema.properties().size());
+        for (var typeAndProperties : relationshipSchema.properties().entrySet()) {
+            var relationshipType = typeAndProperties.getKey();
+            out.writeUTF(relationshipType.name());
+            out.writeUTF(relationshipSchema.orientation(relationshipType).name());
+            out.writeInt(typeAndProperties.getValue().size());
+            for (var propertySchema : typeAndProperties.getValue().values()) {
+                writePropertySchema(out, propertySchema);
+                out.writeUTF(propertySchema.aggregation().name());
+            }
+        }
+
+        var graphProperties = metadata.schema().graphProperties();
+        out.writeInt(graphProperties.size());
+        for (var propertySchema : graphProperties.values()) {
+            writePropertySchema(out, propertySchema);
+        }
+
+        out.writeInt(metadata.relationshipCounts().size());
+        for (var typeAndCount : metadata.relationshipCounts().entrySet()) {
+            out.writeUTF(typeAndCount.getKey().name());
+            out.writeLong(typeAndCount.getValue());
+            out.writeBoolean(metadata.multiGraphs().get(typeAndCount.getKey()));
+        }
+
+        out.flush();
+        return ByteBuffer.wrap(bytes.toByteArray());
+    }
+
+    static BinaryGraphStoreMetadata decode(ByteBuffer block) throws IOException {
+        var in = new DataInputStream(new ByteArrayInputStream(
+            block.array(),
+            block.arrayOffset() + block.position(),
+            block.remaining()
+        ));
+
+        var builder = ImmutableBinaryGraphStoreMetadata.builder()
+            .userName(in.readUTF())
+            .databaseId(DatabaseId.from(in.readUTF()))
+            .capabilities(ImmutableStaticCapabilities.of(in.readBoolean()))
+            .nodeCount(in.readLong())
+            .maxOriginalId(in.readLong());
+
+        var nodeSchema = NodeSchema.builder();
+        int labelCount = in.readInt();
+        for (int i = 0; i < labelCount; i++) {
+            var label = NodeLabel.of(in.readUTF());
+            nodeSchema.addLabel(label);
+            int propertyCount = in.readInt();
+            for (int j = 0; j < propertyCount; j++) {
+                var propertySchema = readPropertySchema(in);
+                nodeSchema.addProperty(label, propertySchema.key(), propertySchema);
+            }
+        }
+
+        var relationshipSchema = RelationshipSchema.builder();
+        int typeCount = in.readInt();
+        for (int i = 0; i < typeCount; i++) {
+            var relationshipType = RelationshipType.of(in.readUTF());
+            var orientation = Orientation.valueOf(in.readUTF());
+            relationshipSchema.addRelationshipType(relationshipType, orientation);
+            int propertyCount = in.readInt();
+            for (int j = 0; j < propertyCount; j++) {
+                var propertySchema = readPropertySchema(in);
+                var aggregation = Aggregation.valueOf(in.readUTF());
+                relationshipSchema.addProperty(
+                    relationshipType,
+                    orientation,
+                    propertySchema.key(),
+                    RelationshipPropertySchema.of(
+                        propertySchema.key(),
+                        propertySchema.valueType(),
+                        propertySchema.defaultValue(),
+                        propertySchema.state(),
+                        aggregation
+                    )
+                );
+            }
+        }
+
+        var graphProperties = new LinkedHashMap<String, PropertySchema>();
+        int graphPropertyCount = in.readInt();
+        for (int i = 0; i < graphPropertyCount; i++) {
+            var propertySchema = readPropertySchema(in);
+            graphProperties.put(propertySchema.key(), propertySchema);
+        }
+
+        builder.schema(GraphSchema.of(nodeSchema.build(), relationshipSchema.build(), graphProperties));
+
+        var relationshipCounts = new HashMap<RelationshipType, Long>();
+        var multiGraphs = new HashMap<RelationshipType, Boolean>();
+        int topologyCount = in.readInt();
+        for (int i = 0; i < topologyCount; i++) {
+            var relationshipType = RelationshipType.of(in.readUTF());
+            relationshipCounts.put(relationshipType, in.readLong());
+            multiGraphs.put(relationshipType, in.readBoolean());
+        }
+
+        return builder
+            .relationshipCounts(relationshipCounts)
+            .multiGraphs(multiGraphs)
+            .build();
+    }
+
+    private static void writePropertySchema(DataOutput out, PropertySchema propertySchema) throws IOException {
+        out.writeUTF(propertySchema.key());
+        out.writeUTF(propertySchema.valueType().name());
+        out.writeUTF(propertySchema.state().name());
+
+        var defaultValue = propertySchema.defaultValue();
+        var valueType = propertySchema.valueType();
+        out.writeBoolean(defaultValue.isUserDefined());
+        // Fallback values are restored from the value type, so only user defined values are stored.
+        if (defaultValue.isUserDefined() && defaultValue.getObject() != null) {
+            var value = defaultValueObject(defaultValue, valueType);
+            var encoded = ByteBuffer.allocate(BinaryValues.encodedSize(valueType, value));
+            BinaryValues.encode(encoded, valueType, value);
+            out.writeInt(encoded.capacity());
+            out.write(encoded.array());
+        } else {
+            out.writeInt(0);
+        }
+    }
+
+    private static PropertySchema readPropertySchema(DataInput in) throws IOException {
+        var key = in.readUTF();
+        var valueType = ValueType.valueOf(in.readUTF());
+        var state = PropertyState.valueOf(in.readUTF());
+
+        boolean isUserDefined = in.readBoolean();
+        int encodedLength = in.readInt();
+        DefaultValue defaultValue;
+        if (encodedLength > 0) {
+            var encoded = new byte[encodedLength];
+            in.readFully(encoded);
+            defaultValue = DefaultValue.of(BinaryValues.decode(ByteBuffer.wrap(encoded), valueType), isUserDefined);
+        } else if (isUserDefined) {
+            defaultValue = DefaultValue.of(null, true);
+        } else {
+            defaultValue = valueType.fallbackValue();
+        }
+
+        return PropertySchema.of(key, valueType, defaultValue, state);
+    }
+
+    private static Object defaultValueObject(DefaultValue defaultValue, ValueType valueType) {
+        switch (valueType) {
+            case LONG:
+                return defaultValue.longValue();
+            case DOUBLE:
+                return defaultValue.doubleValue();
+            case LONG_ARRAY:
+                return defaultValue.longArrayValue();
+            case DOUBLE_ARRAY:
+                return defaultValue.doubleArrayValue();
+            case FLOAT_ARRAY:
+                return defaultValue.floatArrayValue();
+            default:
+                return defaultValue.getObject();
+        }
+    }
+}
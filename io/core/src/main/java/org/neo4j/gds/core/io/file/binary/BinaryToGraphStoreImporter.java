@@ -0,0 +1,387 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.binary;
+
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.api.ImmutableProperties;
+import org.neo4j.gds.api.ImmutableTopology;
+import org.neo4j.gds.api.RelationshipProperty;
+import org.neo4j.gds.api.RelationshipPropertyStore;
+import org.neo4j.gds.api.Relationships;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.api.properties.graph.DoubleArrayGraphPropertyValues;
+import org.neo4j.gds.api.properties.graph.DoubleGraphPropertyValues;
+import org.neo4j.gds.api.properties.graph.FloatArrayGraphPropertyValues;
+import org.neo4j.gds.api.properties.graph.GraphProperty;
+import org.neo4j.gds.api.properties.graph.GraphPropertyStore;
+import org.neo4j.gds.api.properties.graph.GraphPropertyValues;
+import org.neo4j.gds.api.properties.graph.LongArrayGraphPropertyValues;
+import org.neo4j.gds.api.properties.graph.LongGraphPropertyValues;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.huge.OffHeapCompressedAdjacencyList;
+import org.neo4j.gds.core.huge.UncompressedAdjacencyList;
+import org.neo4j.gds.core.io.file.FileToGraphStoreImporter;
+import org.neo4j.gds.core.io.file.ImmutableUserGraphStore;
+import org.neo4j.gds.core.loading.ArrayIdMapBuilder;
+import org.neo4j.gds.core.loading.CSRGraphStoreUtil;
+import org.neo4j.gds.core.loading.GraphStoreBuilder;
+import org.neo4j.gds.core.loading.LabelInformation;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.paged.HugeObjectArray;
+import org.neo4j.values.storable.NumberType;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.neo4j.gds.core.io.file.binary.BinaryGraphStoreFormat.METADATA_FILE_NAME;
+import static org.neo4j.gds.core.io.file.binary.BinaryGraphStoreFormat.NODES_FILE_NAME;
+import static org.neo4j.gds.core.io.file.binary.BinaryGraphStoreFormat.adjacencyFileName;
+import static org.neo4j.gds.core.io.file.binary.BinaryGraphStoreFormat.graphPropertyFileName;
+import static org.neo4j.gds.core.io.file.binary.BinaryGraphStoreFormat.nodePropertyFileName;
+import static org.neo4j.gds.core.io.file.binary.BinaryGraphStoreFormat.relationshipPropertyFileName;
+import static org.neo4j.gds.core.io.file.binary.BinaryGraphStoreFormat.relationshipsFileName;
+
+/**
+ * Loads a snapshot written by {@link GraphStoreToBinaryExporter} into a {@link org.neo4j.gds.core.loading.CSRGraphStore}.
+ * <p>
+ * Nodes keep the internal ids they had at export time, which allows the adjacency pages to be
+ * memory-mapped as they are and served by an {@link OffHeapCompressedAdjacencyList}.
+ * All other columns are copied onto the heap.
+ * Every block is verified against its checksum while loading.
+ */
+public final class BinaryToGraphStoreImporter {
+
+    private final int concurrency;
+    private final Path importPath;
+
+    public BinaryToGraphStoreImporter(int concurrency, Path importPath) {
+        this.concurrency = concurrency;
+        this.importPath = importPath;
+    }
+
+    /**
+     * Returns true iff the directory contains a snapshot that was written by {@link GraphStoreToBinaryExporter}.
+     */
+    public static boolean isBinarySnapshot(Path importPath) {
+        return Files.isRegularFile(importPath.resolve(METADATA_FILE_NAME));
+    }
+
+    public FileToGraphStoreImporter.UserGraphStore run() {
+        try {
+            return importGraphStore();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private FileToGraphStoreImporter.UserGraphStore importGraphStore() throws IOException {
+        BinaryGraphStoreMetadata metadata;
+        try (var reader = new BinaryBlockReader(importPath.resolve(METADATA_FILE_NAME))) {
+            metadata = BinaryMetadataCodec.decode(reader.readBlock());
+        }
+
+        var idMap = importNodes(metadata);
+
+        var nodeProperties = new ConcurrentHashMap<String, NodePropertyValues>();
+        var topologies = new ConcurrentHashMap<RelationshipType, Relationships.Topology>();
+        var relationshipPropertyStores = new ConcurrentHashMap<RelationshipType, RelationshipPropertyStore>();
+
+        var tasks = new ArrayList<Runnable>();
+        var nodePropertyKeys = metadata.nodePropertyKeys();
+        for (int i = 0; i < nodePropertyKeys.size(); i++) {
+            var propertyKey = nodePropertyKeys.get(i);
+            var propertyIndex = i;
+            tasks.add(uncheckedTask(() -> nodeProperties.put(
+                propertyKey,
+                importNodeProperty(metadata, propertyKey, propertyIndex)
+            )));
+        }
+        var relationshipTypes = metadata.relationshipTypes();
+        for (int i = 0; i < relationshipTypes.size(); i++) {
+            var relationshipType = relationshipTypes.get(i);
+            var typeIndex = i;
+            tasks.add(uncheckedTask(() -> importRelationships(
+                metadata,
+                relationshipType,
+                typeIndex,
+                topologies,
+                relationshipPropertyStores
+            )));
+        }
+
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .executor(Pools.DEFAULT)
+            .run();
+
+        var graphStoreBuilder = new GraphStoreBuilder()
+            .databaseId(metadata.databaseId())
+            .capabilities(metadata.capabilities())
+            .schema(metadata.schema())
+            .nodes(idMap)
+            .relationships(topologies)
+            .relationshipPropertyStores(relationshipPropertyStores)
+            .concurrency(concurrency);
+
+        var nodePropertySchemas = metadata.schema().nodeSchema().unionProperties();
+        CSRGraphStoreUtil.extractNodeProperties(graphStoreBuilder, nodePropertySchemas::get, nodeProperties);
+
+        if (!metadata.graphPropertyKeys().isEmpty()) {
+            graphStoreBuilder.graphProperties(importGraphProperties(metadata));
+        }
+
+        return ImmutableUserGraphStore.of(metadata.userName(), graphStoreBuilder.build());
+    }
+
+    private IdMap importNodes(BinaryGraphStoreMetadata metadata) throws IOException {
+        var nodeCount = metadata.nodeCount();
+        var idMapBuilder = ArrayIdMapBuilder.of(nodeCount);
+
+        try (var reader = new BinaryBlockReader(importPath.resolve(NODES_FILE_NAME))) {
+            // Allocating in file order keeps the internal ids of the export.
+            long imported = 0;
+            while (imported < nodeCount) {
+                var block = reader.readBlock().asLongBuffer();
+                var originalIds = new long[block.remaining()];
+                block.get(originalIds);
+                idMapBuilder.allocate(originalIds.length).insert(originalIds);
+                imported += originalIds.length;
+            }
+
+            var nodeLabels = metadata.nodeLabels();
+            LabelInformation.Builder labelInformationBuilder;
+            if (metadata.schema().nodeSchema().containsOnlyAllNodesLabel()) {
+                labelInformationBuilder = LabelInformation.single(NodeLabel.ALL_NODES);
+            } else {
+                labelInformationBuilder = LabelInformation.builder(nodeCount);
+                var originalIds = idMapBuilder.array();
+                for (var nodeLabel : nodeLabels) {
+                    long nodeId = 0;
+                    while (nodeId < nodeCount) {
+                        var words = reader.readBlock().asLongBuffer();
+                        while (words.hasRemaining()) {
+                            long word = words.get();
+                            while (word != 0L) {
+                                int bit = Long.numberOfTrailingZeros(word);
+                                labelInformationBuilder.addNodeIdToLabel(nodeLabel, originalIds.get(nodeId + bit));
+                                word &= word - 1;
+                            }
+                            nodeId += Long.SIZE;
+                        }
+                    }
+                }
+            }
+
+            return idMapBuilder.build(labelInformationBuilder, metadata.maxOriginalId(), concurrency);
+        }
+    }
+
+    private NodePropertyValues importNodeProperty(
+        BinaryGraphStoreMetadata metadata,
+        String propertyKey,
+        int propertyIndex
+    ) throws IOException {
+        var nodeCount = metadata.nodeCount();
+        var valueType = metadata.schema().nodeSchema().unionProperties().get(propertyKey).valueType();
+        try (var reader = new BinaryBlockReader(importPath.resolve(nodePropertyFileName(propertyIndex)))) {
+            switch (valueType) {
+                case LONG: {
+                    var values = HugeLongArray.newArray(nodeCount);
+                    reader.readLongColumn(values);
+                    return values.asNodeProperties();
+                }
+                case DOUBLE: {
+                    var values = HugeDoubleArray.newArray(nodeCount);
+                    reader.readDoubleColumn(values);
+                    return values.asNodeProperties();
+                }
+                case LONG_ARRAY:
+                    return readArrayColumn(reader, long[].class, valueType, nodeCount);
+                case DOUBLE_ARRAY:
+                    return readArrayColumn(reader, double[].class, valueType, nodeCount);
+                case FLOAT_ARRAY:
+                    return readArrayColumn(reader, float[].class, valueType, nodeCount);
+                default:
+                    throw BinaryValues.unsupported(valueType);
+            }
+        }
+    }
+
+    private static <T> NodePropertyValues readArrayColumn(
+        BinaryBlockReader reader,
+        Class<T> arrayClass,
+        ValueType valueType,
+        long nodeCount
+    ) throws IOException {
+        var values = HugeObjectArray.newArray(arrayClass, nodeCount);
+        reader.readValueColumn(values, valueType);
+        return values.asNodeProperties();
+    }
+
+    private void importRelationships(
+        BinaryGraphStoreMetadata metadata,
+        RelationshipType relationshipType,
+        int typeIndex,
+        Map<RelationshipType, Relationships.Topology> topologies,
+        Map<RelationshipType, RelationshipPropertyStore> relationshipPropertyStores
+    ) throws IOException {
+        var nodeCount = metadata.nodeCount();
+        var propertyKeys = metadata.relationshipPropertyKeys(relationshipType);
+
+        var degrees = HugeIntArray.newArray(nodeCount);
+        var adjacencyOffsets = HugeLongArray.newArray(nodeCount);
+        var propertyOffsets = new ArrayList<HugeLongArray>();
+        try (var reader = new BinaryBlockReader(importPath.resolve(relationshipsFileName(typeIndex)))) {
+            reader.readIntColumn(degrees);
+            reader.readLongColumn(adjacencyOffsets);
+            for (int j = 0; j < propertyKeys.size(); j++) {
+                var offsets = HugeLongArray.newArray(nodeCount);
+                reader.readLongColumn(offsets);
+                propertyOffsets.add(offsets);
+            }
+        }
+
+        List<ByteBuffer> adjacencyPages;
+        try (var reader = new BinaryBlockReader(importPath.resolve(adjacencyFileName(typeIndex)))) {
+            // Mapped buffers stay valid after the channel is closed.
+            adjacencyPages = reader.mapRemainingBlocks();
+        }
+
+        var relationshipSchema = metadata.schema().relationshipSchema();
+        var orientation = relationshipSchema.orientation(relationshipType);
+        var elementCount = metadata.relationshipCounts().get(relationshipType);
+        var isMultiGraph = metadata.multiGraphs().get(relationshipType);
+
+        topologies.put(relationshipType, ImmutableTopology.of(
+            new OffHeapCompressedAdjacencyList(adjacencyPages.toArray(ByteBuffer[]::new), degrees, adjacencyOffsets),
+            elementCount,
+            orientation,
+            isMultiGraph
+        ));
+
+        var propertyStoreBuilder = RelationshipPropertyStore.builder();
+        for (int j = 0; j < propertyKeys.size(); j++) {
+            var propertyKey = propertyKeys.get(j);
+            var propertySchema = relationshipSchema.properties().get(relationshipType).get(propertyKey);
+
+            // Property pages are uncompressed doubles, which are copied onto the heap rather than mapped.
+            // They take 8 bytes per relationship and property, independent of how the exported graph stored them.
+            var propertyPages = new ArrayList<long[]>();
+            try (var reader = new BinaryBlockReader(importPath.resolve(relationshipPropertyFileName(typeIndex, j)))) {
+                while (reader.hasNextBlock()) {
+                    var block = reader.readBlock().asLongBuffer();
+                    var page = new long[block.remaining()];
+                    block.get(page);
+                    propertyPages.add(page);
+                }
+            }
+
+            var properties = ImmutableProperties.of(
+                new UncompressedAdjacencyList(propertyPages.toArray(long[][]::new), degrees, propertyOffsets.get(j)),
+                elementCount,
+                orientation,
+                isMultiGraph,
+                propertySchema.defaultValue().doubleValue()
+            );
+            propertyStoreBuilder.putIfAbsent(propertyKey, RelationshipProperty.of(
+                propertyKey,
+                NumberType.FLOATING_POINT,
+                propertySchema.state(),
+                properties,
+                propertySchema.defaultValue(),
+                propertySchema.aggregation()
+            ));
+        }
+        relationshipPropertyStores.put(relationshipType, propertyStoreBuilder.build());
+    }
+
+    private GraphPropertyStore importGraphProperties(BinaryGraphStoreMetadata metadata) throws IOException {
+        var graphPropertyStoreBuilder = GraphPropertyStore.builder();
+        var graphPropertyKeys = metadata.graphPropertyKeys();
+        for (int i = 0; i < graphPropertyKeys.size(); i++) {
+            var propertyKey = graphPropertyKeys.get(i);
+            var valueType = metadata.schema().graphProperties().get(propertyKey).valueType();
+
+            var values = new ArrayList<>();
+            try (var reader = new BinaryBlockReader(importPath.resolve(graphPropertyFileName(i)))) {
+                while (reader.hasNextBlock()) {
+                    var block = reader.readBlock();
+                    int length = block.getInt();
+                    for (int j = 0; j < length; j++) {
+                        values.add(BinaryValues.decode(block, valueType));
+                    }
+                }
+            }
+
+            graphPropertyStoreBuilder.putProperty(
+                propertyKey,
+                GraphProperty.of(propertyKey, graphPropertyValues(valueType, values))
+            );
+        }
+        return graphPropertyStoreBuilder.build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static GraphPropertyValues graphPropertyValues(ValueType valueType, List<?> values) {
+        switch (valueType) {
+            case LONG:
+                return LongGraphPropertyValues.ofLongStream(values.stream().mapToLong(value -> (long) value));
+            case DOUBLE:
+                return DoubleGraphPropertyValues.ofDoubleStream(values.stream().mapToDouble(value -> (double) value));
+            case LONG_ARRAY:
+                return LongArrayGraphPropertyValues.ofLongArrayStream(((List<long[]>) values).stream());
+            case DOUBLE_ARRAY:
+                return DoubleArrayGraphPropertyValues.ofDoubleArrayStream(((List<double[]>) values).stream());
+            case FLOAT_ARRAY:
+                return FloatArrayGraphPropertyValues.ofFloatArrayStream(((List<float[]>) values).stream());
+            default:
+                throw BinaryValues.unsupported(valueType);
+        }
+    }
+
+    private static Runnable uncheckedTask(IOTask task) {
+        return () -> {
+            try {
+                task.run();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+    }
+
+    @FunctionalInterface
+    private interface IOTask {
+        void run() throws IOException;
+    }
+}
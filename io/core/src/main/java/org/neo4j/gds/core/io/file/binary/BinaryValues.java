@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.binary;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+
+import java.nio.ByteBuffer;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Encodes single property values of a given {@link ValueType}.
+ * Arrays are prefixed with their length, where {@code -1} encodes a missing array.
+ */
+final class BinaryValues {
+
+    private static final int NULL_ARRAY = -1;
+
+    private BinaryValues() {}
+
+    static int encodedSize(ValueType valueType, @Nullable Object value) {
+        switch (valueType) {
+            case LONG:
+                return Long.BYTES;
+            case DOUBLE:
+                return Double.BYTES;
+            case LONG_ARRAY:
+                return Integer.BYTES + (value == null ? 0 : ((long[]) value).length * Long.BYTES);
+            case DOUBLE_ARRAY:
+                return Integer.BYTES + (value == null ? 0 : ((double[]) value).length * Double.BYTES);
+            case FLOAT_ARRAY:
+                return Integer.BYTES + (value == null ? 0 : ((float[]) value).length * Float.BYTES);
+            default:
+                throw unsupported(valueType);
+        }
+    }
+
+    static void encode(ByteBuffer into, ValueType valueType, @Nullable Object value) {
+        switch (valueType) {
+            case LONG:
+                into.putLong(((Number) value).longValue());
+                break;
+            case DOUBLE:
+                into.putDouble(((Number) value).doubleValue());
+                break;
+            case LONG_ARRAY:
+                if (value == null) {
+                    into.putInt(NULL_ARRAY);
+                } else {
+                    var array = (long[]) value;
+                    into.putInt(array.length);
+                    into.asLongBuffer().put(array);
+                    into.position(into.position() + array.length * Long.BYTES);
+                }
+                break;
+            case DOUBLE_ARRAY:
+                if (value == null) {
+                    into.putInt(NULL_ARRAY);
+                } else {
+                    var array = (double[]) value;
+                    into.putInt(array.length);
+                    into.asDoubleBuffer().put(array);
+                    into.position(into.position() + array.length * Double.BYTES);
+                }
+                break;
+            case FLOAT_ARRAY:
+                if (value == null) {
+                    into.putInt(NULL_ARRAY);
+                } else {
+                    var array = (float[]) value;
+                    into.putInt(array.length);
+                    into.asFloatBuffer().put(array);
+                    into.position(into.position() + array.length * Float.BYTES);
+                }
+                break;
+            default:
+                throw unsupported(valueType);
+        }
+    }
+
+    static @Nullable Object decode(ByteBuffer from, ValueType valueType) {
+        switch (valueType) {
+            case LONG:
+                return from.getLong();
+            case DOUBLE:
+                return from.getDouble();
+            case LONG_ARRAY: {
+                int length = from.getInt();
+                if (length == NULL_ARRAY) {
+                    return null;
+                }
+                var array = new long[length];
+                from.asLongBuffer().get(array);
+                from.position(from.position() + length * Long.BYTES);
+                return array;
+            }
+            case DOUBLE_ARRAY: {
+                int length = from.getInt();
+                if (length == NULL_ARRAY) {
+                    return null;
+                }
+                var array = new double[length];
+                from.asDoubleBuffer().get(array);
+                from.position(from.position() + length * Double.BYTES);
+                return array;
+            }
+            case FLOAT_ARRAY: {
+                int length = from.getInt();
+                if (length == NULL_ARRAY) {
+                    return null;
+                }
+                var array = new float[length];
+                from.asFloatBuffer().get(array);
+                from.position(from.position() + length * Float.BYTES);
+                return array;
+            }
+            default:
+                throw unsupported(valueType);
+        }
+    }
+
+    static IllegalArgumentException unsupported(ValueType valueType) {
+        return new IllegalArgumentException(formatWithLocale("Unsupported value type `%s`", valueType));
+    }
+}
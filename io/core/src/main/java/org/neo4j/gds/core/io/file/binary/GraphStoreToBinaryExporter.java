@@ -0,0 +1,560 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.binary;
+
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.properties.graph.GraphPropertyValues;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.io.file.GraphStoreToFileExporterConfig;
+import org.neo4j.gds.core.loading.AdjacencyCompression;
+import org.neo4j.gds.core.loading.BumpAllocator;
+import org.neo4j.gds.core.loading.VarLongEncoding;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.neo4j.gds.core.io.file.binary.BinaryGraphStoreFormat.CHUNK_SIZE;
+import static org.neo4j.gds.core.io.file.binary.BinaryGraphStoreFormat.METADATA_FILE_NAME;
+import static org.neo4j.gds.core.io.file.binary.BinaryGraphStoreFormat.NODES_FILE_NAME;
+import static org.neo4j.gds.core.io.file.binary.BinaryGraphStoreFormat.adjacencyFileName;
+import static org.neo4j.gds.core.io.file.binary.BinaryGraphStoreFormat.graphPropertyFileName;
+import static org.neo4j.gds.core.io.file.binary.BinaryGraphStoreFormat.nodePropertyFileName;
+import static org.neo4j.gds.core.io.file.binary.BinaryGraphStoreFormat.relationshipPropertyFileName;
+import static org.neo4j.gds.core.io.file.binary.BinaryGraphStoreFormat.relationshipsFileName;
+import static org.neo4j.gds.mem.BitUtil.ceilDiv;
+
+/**
+ * Writes a {@link GraphStore} as a binary snapshot that can be loaded with {@link BinaryToGraphStoreImporter}.
+ * <p>
+ * The id map and all properties are written as columns in internal node id order.
+ * Adjacency lists are written as delta-encoded pages in the layout of
+ * {@link org.neo4j.gds.core.huge.CompressedAdjacencyList}, so that the importer can map them
+ * into memory without decoding them.
+ * Each file is written by its own task, except for relationship types:
+ * their adjacency lists are encoded in node batches by several tasks and written in node order.
+ */
+public final class GraphStoreToBinaryExporter {
+
+    // Upper bound of relationships that are encoded by a single task before its pages are written.
+    private static final long MAX_BATCH_RELATIONSHIPS = 1L << 20;
+
+    private final GraphStore graphStore;
+    private final GraphStoreToFileExporterConfig config;
+    private final Path exportPath;
+
+    public GraphStoreToBinaryExporter(
+        GraphStore graphStore,
+        GraphStoreToFileExporterConfig config,
+        Path exportPath
+    ) {
+        this.graphStore = graphStore;
+        this.config = config;
+        this.exportPath = exportPath;
+    }
+
+    public void run() {
+        try {
+            Files.createDirectories(exportPath);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        var metadata = metadata();
+        var tasks = new ArrayList<Runnable>();
+        tasks.add(uncheckedTask(() -> exportMetadata(metadata)));
+        tasks.add(uncheckedTask(() -> exportNodes(metadata)));
+
+        var nodePropertyKeys = metadata.nodePropertyKeys();
+        for (int i = 0; i < nodePropertyKeys.size(); i++) {
+            var propertyKey = nodePropertyKeys.get(i);
+            var propertyIndex = i;
+            tasks.add(uncheckedTask(() -> exportNodeProperty(propertyKey, propertyIndex)));
+        }
+
+        var graphPropertyKeys = metadata.graphPropertyKeys();
+        for (int i = 0; i < graphPropertyKeys.size(); i++) {
+            var propertyKey = graphPropertyKeys.get(i);
+            var propertyIndex = i;
+            tasks.add(uncheckedTask(() -> exportGraphProperty(propertyKey, propertyIndex)));
+        }
+
+        RunWithConcurrency.builder()
+            .concurrency(config.writeConcurrency())
+            .tasks(tasks)
+            .executor(Pools.DEFAULT)
+            .run();
+
+        // Each relationship type is encoded by several tasks, so the types are exported one after another.
+        var relationshipTypes = metadata.relationshipTypes();
+        for (int i = 0; i < relationshipTypes.size(); i++) {
+            var relationshipType = relationshipTypes.get(i);
+            var typeIndex = i;
+            uncheckedTask(() -> exportRelationships(
+                relationshipType,
+                typeIndex,
+                metadata.relationshipPropertyKeys(relationshipType)
+            )).run();
+        }
+    }
+
+    private BinaryGraphStoreMetadata metadata() {
+        var relationshipCounts = new HashMap<RelationshipType, Long>();
+        var multiGraphs = new HashMap<RelationshipType, Boolean>();
+        for (var relationshipType : graphStore.relationshipTypes()) {
+            relationshipCounts.put(relationshipType, graphStore.relationshipCount(relationshipType));
+            multiGraphs.put(relationshipType, graphStore.getGraph(relationshipType).isMultiGraph());
+        }
+
+        return ImmutableBinaryGraphStoreMetadata.builder()
+            .userName(config.username())
+            .databaseId(graphStore.databaseId())
+            .capabilities(graphStore.capabilities())
+            .nodeCount(graphStore.nodeCount())
+            .maxOriginalId(graphStore.nodes().highestNeoId())
+            .schema(graphStore.schema())
+            .relationshipCounts(relationshipCounts)
+            .multiGraphs(multiGraphs)
+            .build();
+    }
+
+    private void exportMetadata(BinaryGraphStoreMetadata metadata) throws IOException {
+        try (var writer = new BinaryBlockWriter(exportPath.resolve(METADATA_FILE_NAME))) {
+            writer.writeBlock(BinaryMetadataCodec.encode(metadata));
+        }
+    }
+
+    private void exportNodes(BinaryGraphStoreMetadata metadata) throws IOException {
+        var nodes = graphStore.nodes();
+        var nodeCount = graphStore.nodeCount();
+        try (var writer = new BinaryBlockWriter(exportPath.resolve(NODES_FILE_NAME))) {
+            writer.writeLongColumn(nodeCount, nodes::toOriginalNodeId);
+
+            // One bit set per label, stored as a column of words.
+            long wordCount = (nodeCount + Long.SIZE - 1) / Long.SIZE;
+            for (var nodeLabel : metadata.nodeLabels()) {
+                writer.writeLongColumn(wordCount, wordIndex -> {
+                    long word = 0L;
+                    long start = wordIndex * Long.SIZE;
+                    long end = Math.min(nodeCount, start + Long.SIZE);
+                    for (long nodeId = start; nodeId < end; nodeId++) {
+                        if (nodes.hasLabel(nodeId, nodeLabel)) {
+                            word |= 1L << (nodeId - start);
+                        }
+                    }
+                    return word;
+                });
+            }
+        }
+    }
+
+    private void exportNodeProperty(String propertyKey, int propertyIndex) throws IOException {
+        NodePropertyValues values = graphStore.nodeProperty(propertyKey).values();
+        var nodeCount = graphStore.nodeCount();
+        try (var writer = new BinaryBlockWriter(exportPath.resolve(nodePropertyFileName(propertyIndex)))) {
+            // The schema decides the column type, so that the importer can read it back.
+            var valueType = graphStore.schema().nodeSchema().unionProperties().get(propertyKey).valueType();
+            switch (valueType) {
+                case LONG:
+                    writer.writeLongColumn(nodeCount, values::longValue);
+                    break;
+                case DOUBLE:
+                    writer.writeDoubleColumn(nodeCount, values::doubleValue);
+                    break;
+                case LONG_ARRAY:
+                    writer.writeValueColumn(nodeCount, valueType, values::longArrayValue);
+                    break;
+                case DOUBLE_ARRAY:
+                    writer.writeValueColumn(nodeCount, valueType, values::doubleArrayValue);
+                    break;
+                case FLOAT_ARRAY:
+                    writer.writeValueColumn(nodeCount, valueType, values::floatArrayValue);
+                    break;
+                default:
+                    throw BinaryValues.unsupported(valueType);
+            }
+        }
+    }
+
+    private void exportRelationships(
+        RelationshipType relationshipType,
+        int typeIndex,
+        List<String> propertyKeys
+    ) throws IOException {
+        var nodeCount = graphStore.nodeCount();
+        var propertyCount = propertyKeys.size();
+        var concurrency = config.writeConcurrency();
+
+        var topology = graphStore.getGraph(relationshipType);
+        var propertyGraphs = propertyKeys.stream()
+            .map(propertyKey -> graphStore.getGraph(relationshipType, Optional.of(propertyKey)))
+            .collect(Collectors.toList());
+
+        var degrees = HugeIntArray.newArray(nodeCount);
+        long relationshipCount = 0;
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            int degree = topology.degree(nodeId);
+            degrees.set(nodeId, degree);
+            relationshipCount += degree;
+        }
+
+        var adjacencyOffsets = HugeLongArray.newArray(nodeCount);
+        var propertyOffsets = new HugeLongArray[propertyCount];
+        for (int j = 0; j < propertyCount; j++) {
+            propertyOffsets[j] = HugeLongArray.newArray(nodeCount);
+        }
+
+        // Small types are still split across all tasks, large types are bounded by the batch size.
+        long batchRelationships = Math.max(1, Math.min(MAX_BATCH_RELATIONSHIPS, ceilDiv(relationshipCount, concurrency)));
+        var propertyWriters = new BinaryBlockWriter[propertyCount];
+        try (var adjacencyWriter = new BinaryBlockWriter(exportPath.resolve(adjacencyFileName(typeIndex)))) {
+            for (int j = 0; j < propertyCount; j++) {
+                propertyWriters[j] = new BinaryBlockWriter(exportPath.resolve(relationshipPropertyFileName(typeIndex, j)));
+            }
+
+            int adjacencyPageCount = 0;
+            var propertyPageCounts = new int[propertyCount];
+            long nextNodeId = 0;
+            while (nextNodeId < nodeCount) {
+                // Batches are encoded in parallel, one wave at a time, and written in node order.
+                var wave = new ArrayList<RelationshipBatch>(concurrency);
+                while (wave.size() < concurrency && nextNodeId < nodeCount) {
+                    long startNodeId = nextNodeId;
+                    long batchSize = 0;
+                    do {
+                        batchSize += degrees.get(nextNodeId++);
+                    } while (nextNodeId < nodeCount && batchSize < batchRelationships);
+
+                    wave.add(new RelationshipBatch(
+                        startNodeId,
+                        nextNodeId,
+                        topology.concurrentCopy(),
+                        propertyGraphs.stream().map(Graph::concurrentCopy).collect(Collectors.toList()),
+                        degrees,
+                        adjacencyOffsets,
+                        propertyOffsets
+                    ));
+                }
+
+                RunWithConcurrency.builder()
+                    .concurrency(concurrency)
+                    .tasks(wave)
+                    .executor(Pools.DEFAULT)
+                    .run();
+
+                for (var batch : wave) {
+                    batch.rebase(adjacencyPageCount, propertyPageCounts);
+                    adjacencyPageCount += batch.adjacencyPages.writeTo(adjacencyWriter);
+                    for (int j = 0; j < propertyCount; j++) {
+                        propertyPageCounts[j] += batch.propertyPages[j].writeTo(propertyWriters[j]);
+                    }
+                }
+            }
+        } finally {
+            for (var writer : propertyWriters) {
+                if (writer != null) {
+                    writer.close();
+                }
+            }
+        }
+
+        try (var writer = new BinaryBlockWriter(exportPath.resolve(relationshipsFileName(typeIndex)))) {
+            writer.writeIntColumn(nodeCount, degrees::get);
+            writer.writeLongColumn(nodeCount, adjacencyOffsets::get);
+            for (var offsets : propertyOffsets) {
+                writer.writeLongColumn(nodeCount, offsets::get);
+            }
+        }
+    }
+
+    private static void readRelationships(
+        long nodeId,
+        Graph topology,
+        List<Graph> propertyGraphs,
+        long[] targets,
+        long[][] properties
+    ) {
+        if (propertyGraphs.isEmpty()) {
+            var index = new int[]{0};
+            topology.forEachRelationship(nodeId, (source, target) -> {
+                targets[index[0]++] = target;
+                return true;
+            });
+            return;
+        }
+
+        for (int j = 0; j < propertyGraphs.size(); j++) {
+            var index = new int[]{0};
+            var propertyValues = properties[j];
+            var readTargets = j == 0;
+            propertyGraphs.get(j).forEachRelationship(nodeId, Double.NaN, (source, target, property) -> {
+                if (readTargets) {
+                    targets[index[0]] = target;
+                }
+                propertyValues[index[0]++] = Double.doubleToLongBits(property);
+                return true;
+            });
+        }
+    }
+
+    private void exportGraphProperty(String propertyKey, int propertyIndex) throws IOException {
+        GraphPropertyValues values = graphStore.graphPropertyValues(propertyKey);
+        var valueType = values.valueType();
+        try (var writer = new BinaryBlockWriter(exportPath.resolve(graphPropertyFileName(propertyIndex)))) {
+            var chunk = new ArrayList<Object>(CHUNK_SIZE);
+            var iterator = values.objects().iterator();
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == CHUNK_SIZE || !iterator.hasNext()) {
+                    writer.writeValueColumn(chunk.size(), valueType, index -> chunk.get((int) index));
+                    chunk.clear();
+                }
+            }
+        }
+    }
+
+    private static Runnable uncheckedTask(IOTask task) {
+        return () -> {
+            try {
+                task.run();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+    }
+
+    @FunctionalInterface
+    private interface IOTask {
+        void run() throws IOException;
+    }
+
+    /**
+     * Encodes the relationships of a range of nodes into pages of its own.
+     * The offsets of the nodes point into these pages until they are {@link #rebase(int, int[]) rebased}
+     * onto the pages that were written by previous batches.
+     */
+    private static final class RelationshipBatch implements Runnable {
+        private final long startNodeId;
+        private final long endNodeId;
+        private final Graph topology;
+        private final List<Graph> propertyGraphs;
+        private final HugeIntArray degrees;
+        private final HugeLongArray adjacencyOffsets;
+        private final HugeLongArray[] propertyOffsets;
+        private final BytePageWriter adjacencyPages;
+        private final LongPageWriter[] propertyPages;
+
+        RelationshipBatch(
+            long startNodeId,
+            long endNodeId,
+            Graph topology,
+            List<Graph> propertyGraphs,
+            HugeIntArray degrees,
+            HugeLongArray adjacencyOffsets,
+            HugeLongArray[] propertyOffsets
+        ) {
+            this.startNodeId = startNodeId;
+            this.endNodeId = endNodeId;
+            this.topology = topology;
+            this.propertyGraphs = propertyGraphs;
+            this.degrees = degrees;
+            this.adjacencyOffsets = adjacencyOffsets;
+            this.propertyOffsets = propertyOffsets;
+            this.adjacencyPages = new BytePageWriter();
+            this.propertyPages = new LongPageWriter[propertyOffsets.length];
+            for (int j = 0; j < propertyPages.length; j++) {
+                propertyPages[j] = new LongPageWriter();
+            }
+        }
+
+        @Override
+        public void run() {
+            var propertyCount = propertyPages.length;
+            var aggregations = new Aggregation[propertyCount];
+            Arrays.fill(aggregations, Aggregation.NONE);
+
+            var targets = new long[0];
+            var properties = new long[propertyCount][0];
+            var compressed = new byte[0];
+
+            for (long nodeId = startNodeId; nodeId < endNodeId; nodeId++) {
+                int degree = degrees.get(nodeId);
+                if (degree == 0) {
+                    continue;
+                }
+
+                if (targets.length < degree) {
+                    targets = new long[degree];
+                    for (int j = 0; j < propertyCount; j++) {
+                        properties[j] = new long[degree];
+                    }
+                }
+
+                readRelationships(nodeId, topology, propertyGraphs, targets, properties);
+
+                // Lists are sorted by target, so that the delta encoding stays positive.
+                int length = AdjacencyCompression.applyDeltaEncoding(
+                    targets,
+                    degree,
+                    properties,
+                    aggregations,
+                    true
+                );
+                int requiredBytes = VarLongEncoding.encodedVLongsSize(targets, length);
+                if (compressed.length < requiredBytes) {
+                    compressed = new byte[requiredBytes];
+                }
+                int compressedLength = AdjacencyCompression.compress(targets, compressed, length);
+
+                adjacencyOffsets.set(nodeId, adjacencyPages.append(compressed, compressedLength));
+                for (int j = 0; j < propertyCount; j++) {
+                    propertyOffsets[j].set(nodeId, propertyPages[j].append(properties[j], length));
+                }
+            }
+
+            adjacencyPages.flush();
+            for (var pages : propertyPages) {
+                pages.flush();
+            }
+        }
+
+        void rebase(int adjacencyPageCount, int[] propertyPageCounts) {
+            long adjacencyBase = ((long) adjacencyPageCount) << BumpAllocator.PAGE_SHIFT;
+            for (long nodeId = startNodeId; nodeId < endNodeId; nodeId++) {
+                if (degrees.get(nodeId) == 0) {
+                    continue;
+                }
+                adjacencyOffsets.set(nodeId, adjacencyOffsets.get(nodeId) + adjacencyBase);
+                for (int j = 0; j < propertyOffsets.length; j++) {
+                    long propertyBase = ((long) propertyPageCounts[j]) << BumpAllocator.PAGE_SHIFT;
+                    propertyOffsets[j].set(nodeId, propertyOffsets[j].get(nodeId) + propertyBase);
+                }
+            }
+        }
+    }
+
+    /**
+     * Places byte lists into pages the same way {@link BumpAllocator} does:
+     * a list never crosses a page boundary and lists larger than a page get their own page.
+     * Pages are kept in memory until they are written to a file.
+     */
+    private static final class BytePageWriter {
+        private final List<ByteBuffer> pages;
+        private final byte[] page;
+        private int pageOffset;
+
+        BytePageWriter() {
+            this.pages = new ArrayList<>();
+            this.page = new byte[BumpAllocator.PAGE_SIZE];
+        }
+
+        long append(byte[] values, int length) {
+            if (length > BumpAllocator.PAGE_SIZE) {
+                flush();
+                pages.add(ByteBuffer.wrap(Arrays.copyOf(values, length)));
+                return ((long) pages.size() - 1) << BumpAllocator.PAGE_SHIFT;
+            }
+            if (pageOffset + length > BumpAllocator.PAGE_SIZE) {
+                flush();
+            }
+            long address = (((long) pages.size()) << BumpAllocator.PAGE_SHIFT) | pageOffset;
+            System.arraycopy(values, 0, page, pageOffset, length);
+            pageOffset += length;
+            return address;
+        }
+
+        void flush() {
+            if (pageOffset > 0) {
+                pages.add(ByteBuffer.wrap(Arrays.copyOf(page, pageOffset)));
+                pageOffset = 0;
+            }
+        }
+
+        int writeTo(BinaryBlockWriter writer) throws IOException {
+            for (var page : pages) {
+                writer.writeBlock(page);
+            }
+            return pages.size();
+        }
+    }
+
+    /**
+     * Same as {@link BytePageWriter}, for the long-valued pages of
+     * {@link org.neo4j.gds.core.huge.UncompressedAdjacencyList}.
+     */
+    private static final class LongPageWriter {
+        private final List<ByteBuffer> pages;
+        private final ByteBuffer page;
+
+        LongPageWriter() {
+            this.pages = new ArrayList<>();
+            this.page = ByteBuffer.allocate(BumpAllocator.PAGE_SIZE * Long.BYTES);
+        }
+
+        long append(long[] values, int length) {
+            if (length > BumpAllocator.PAGE_SIZE) {
+                flush();
+                var oversizePage = ByteBuffer.allocate(length * Long.BYTES);
+                oversizePage.asLongBuffer().put(values, 0, length);
+                pages.add(oversizePage);
+                return ((long) pages.size() - 1) << BumpAllocator.PAGE_SHIFT;
+            }
+            int pageOffset = page.position() / Long.BYTES;
+            if (pageOffset + length > BumpAllocator.PAGE_SIZE) {
+                flush();
+                pageOffset = 0;
+            }
+            long address = (((long) pages.size()) << BumpAllocator.PAGE_SHIFT) | pageOffset;
+            page.asLongBuffer().put(values, 0, length);
+            page.position(page.position() + length * Long.BYTES);
+            return address;
+        }
+
+        void flush() {
+            if (page.position() > 0) {
+                page.flip();
+                pages.add(ByteBuffer.allocate(page.remaining()).put(page).flip());
+                page.clear();
+            }
+        }
+
+        int writeTo(BinaryBlockWriter writer) throws IOException {
+            for (var page : pages) {
+                writer.writeBlock(page);
+            }
+            return pages.size();
+        }
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.binary;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.properties.graph.LongGraphPropertyValues;
+import org.neo4j.gds.core.huge.OffHeapCompressedAdjacencyList;
+import org.neo4j.gds.core.io.file.GraphStoreToFileExporterConfig;
+import org.neo4j.gds.core.io.file.ImmutableGraphStoreToFileExporterConfig;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.Inject;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.neo4j.gds.TestSupport.assertGraphEquals;
+
+@GdlExtension
+class BinaryGraphStoreRoundTripTest {
+
+    @GdlGraph
+    private static final String GDL =
+        "CREATE" +
+        "  (a:A:B { prop1: 0, prop2: 42.0, prop3: [0.3D, 0.2D] })" +
+        ", (b:A:B { prop1: 1, prop2: 43.0, prop3: [1.0D] })" +
+        ", (c:A:C { prop1: 2, prop2: 44.0, prop3: [-0.04D] })" +
+        ", (d:B { prop1: 3, prop2: 45.0 })" +
+        ", (a)-[:REL1 { prop1: 0, prop2: 42 }]->(a)" +
+        ", (a)-[:REL1 { prop1: 1, prop2: 43 }]->(b)" +
+        ", (a)-[:REL1 { prop1: 2, prop2: 44 }]->(b)" +
+        ", (b)-[:REL1 { prop1: 3, prop2: 45 }]->(a)" +
+        ", (b)-[:REL2]->(c)" +
+        ", (c)-[:REL2]->(d)" +
+        ", (d)-[:REL2]->(a)";
+
+    @Inject
+    GraphStore graphStore;
+
+    @Inject
+    Graph graph;
+
+    @TempDir
+    Path exportPath;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldRoundTripGraphStore(int concurrency) {
+        new GraphStoreToBinaryExporter(graphStore, exportConfig(concurrency), exportPath).run();
+
+        var userGraphStore = new BinaryToGraphStoreImporter(concurrency, exportPath).run();
+        var importedGraphStore = userGraphStore.graphStore();
+
+        assertThat(userGraphStore.userName()).isEqualTo("alice");
+        assertThat(importedGraphStore.schema()).isEqualTo(graphStore.schema());
+        assertThat(importedGraphStore.nodeLabels()).isEqualTo(graphStore.nodeLabels());
+        assertThat(importedGraphStore.relationshipCount()).isEqualTo(graphStore.relationshipCount());
+        assertGraphEquals(graph, importedGraphStore.getUnion());
+        assertGraphEquals(
+            graphStore.getGraph(RelationshipType.of("REL1"), Optional.of("prop2")),
+            importedGraphStore.getGraph(RelationshipType.of("REL1"), Optional.of("prop2"))
+        );
+    }
+
+    @Test
+    void shouldKeepInternalNodeIds() {
+        new GraphStoreToBinaryExporter(graphStore, exportConfig(1), exportPath).run();
+
+        var importedGraphStore = new BinaryToGraphStoreImporter(1, exportPath).run().graphStore();
+
+        for (long nodeId = 0; nodeId < graphStore.nodeCount(); nodeId++) {
+            assertThat(importedGraphStore.nodes().toOriginalNodeId(nodeId))
+                .isEqualTo(graphStore.nodes().toOriginalNodeId(nodeId));
+        }
+    }
+
+    @Test
+    void shouldImportGraphProperties() {
+        graphStore.addGraphProperty("longProp", new LongGraphPropertyValues() {
+            @Override
+            public LongStream longValues() {
+                return LongStream.range(0, 100_000);
+            }
+
+            @Override
+            public long size() {
+                return 100_000;
+            }
+        });
+
+        new GraphStoreToBinaryExporter(graphStore, exportConfig(1), exportPath).run();
+        var importedGraphStore = new BinaryToGraphStoreImporter(1, exportPath).run().graphStore();
+
+        assertThat(importedGraphStore.graphProperty("longProp").values().longValues().toArray())
+            .containsExactly(LongStream.range(0, 100_000).toArray());
+    }
+
+    @Test
+    void shouldWriteAdjacencyInCompressedPageLayout() throws IOException {
+        new GraphStoreToBinaryExporter(graphStore, exportConfig(1), exportPath).run();
+
+        try (var reader = new BinaryBlockReader(exportPath.resolve(BinaryGraphStoreFormat.adjacencyFileName(0)))) {
+            var pages = reader.mapRemainingBlocks();
+            assertThat(pages).hasSize(1);
+            var page = pages.get(0);
+            var degrees = HugeIntArray.of(3, 1, 0, 0);
+            var offsets = HugeLongArray.of(0, 3, 0, 0);
+            var adjacencyList = new OffHeapCompressedAdjacencyList(new ByteBuffer[]{page}, degrees, offsets);
+            var cursor = adjacencyList.adjacencyCursor(0);
+            var targets = LongStream.builder();
+            while (cursor.hasNextVLong()) {
+                targets.add(cursor.nextVLong());
+            }
+            // node a has a self loop and two parallel relationships to b
+            assertThat(targets.build().toArray()).containsExactly(0L, 1L, 1L);
+        }
+    }
+
+    @Test
+    void shouldMapAllRemainingBlocks() throws IOException {
+        var file = exportPath.resolve("blocks");
+        try (var writer = new BinaryBlockWriter(file)) {
+            writer.writeBlock(new byte[]{1, 2, 3}, 3);
+            writer.writeBlock(new byte[]{4}, 1);
+            writer.writeBlock(new byte[]{5, 6}, 2);
+        }
+
+        try (var reader = new BinaryBlockReader(file)) {
+            var blocks = reader.mapRemainingBlocks();
+            assertThat(blocks).hasSize(3);
+            assertThat(bytes(blocks.get(0))).containsExactly(1, 2, 3);
+            assertThat(bytes(blocks.get(1))).containsExactly(4);
+            assertThat(bytes(blocks.get(2))).containsExactly(5, 6);
+            assertThat(reader.hasNextBlock()).isFalse();
+        }
+    }
+
+    @Test
+    void shouldFailOnCorruptedBlock() throws IOException {
+        new GraphStoreToBinaryExporter(graphStore, exportConfig(1), exportPath).run();
+
+        var nodesFile = exportPath.resolve(BinaryGraphStoreFormat.NODES_FILE_NAME);
+        try (var channel = FileChannel.open(nodesFile, StandardOpenOption.WRITE)) {
+            long payloadStart = BinaryGraphStoreFormat.FILE_HEADER_BYTES + BinaryGraphStoreFormat.BLOCK_HEADER_BYTES;
+            channel.write(ByteBuffer.wrap(new byte[]{42}), payloadStart + 3);
+        }
+
+        assertThatThrownBy(() -> new BinaryToGraphStoreImporter(1, exportPath).run())
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("Checksum mismatch");
+    }
+
+    private static byte[] bytes(ByteBuffer buffer) {
+        var bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return bytes;
+    }
+
+    private static GraphStoreToFileExporterConfig exportConfig(int concurrency) {
+        return ImmutableGraphStoreToFileExporterConfig.builder()
+            .username("alice")
+            .exportName("my-export")
+            .writeConcurrency(concurrency)
+            .build();
+    }
+}
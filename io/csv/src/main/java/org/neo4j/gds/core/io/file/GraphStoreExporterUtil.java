@@ -24,7 +24,9 @@ import org.neo4j.gds.annotation.ValueClass;
 import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.core.GraphStoreExportSettings;
 import org.neo4j.gds.core.io.GraphStoreExporter;
+import org.neo4j.gds.core.io.ImmutableExportedProperties;
 import org.neo4j.gds.core.io.NeoNodeProperties;
+import org.neo4j.gds.core.io.file.binary.GraphStoreToBinaryExporter;
 import org.neo4j.gds.core.io.file.csv.GraphStoreToCsvExporter;
 import org.neo4j.gds.core.utils.progress.TaskRegistryFactory;
 import org.neo4j.graphdb.config.Configuration;
@@ -52,10 +54,10 @@ public final class GraphStoreExporterUtil {
         Log log
     ) {
         try {
-            var exporter = GraphStoreToCsvExporter.create(graphStore, config, path, neoNodeProperties, taskRegistryFactory, log);
-
             var start = System.nanoTime();
-            var exportedProperties = exporter.run();
+            var exportedProperties = config.format() == FileFormat.BINARY
+                ? exportBinary(graphStore, path, config)
+                : GraphStoreToCsvExporter.create(graphStore, config, path, neoNodeProperties, taskRegistryFactory, log).run();
             var end = System.nanoTime();
 
             var tookMillis = TimeUnit.NANOSECONDS.toMillis(end - start);
@@ -70,6 +72,22 @@ public final class GraphStoreExporterUtil {
         }
     }
 
+    private static GraphStoreExporter.ExportedProperties exportBinary(
+        GraphStore graphStore,
+        Path path,
+        GraphStoreToFileExporterConfig config
+    ) {
+        new GraphStoreToBinaryExporter(graphStore, config, path).run();
+
+        long nodeProperties = graphStore.nodePropertyKeys().size() * graphStore.nodeCount();
+        long relationshipProperties = graphStore
+            .relationshipTypes()
+            .stream()
+            .mapToLong(type -> graphStore.relationshipPropertyKeys(type).size() * graphStore.relationshipCount(type))
+            .sum();
+        return ImmutableExportedProperties.of(nodeProperties, relationshipProperties);
+    }
+
     public static Path exportLocation(Configuration neo4jConfig, GraphStoreToFileExporterConfig config) {
         var rootPath = neo4jConfig.get(GraphStoreExportSettings.export_location_setting);
         var exportPath = rootPath != null ? rootPath.resolve(EXPORT_DIR) : null;
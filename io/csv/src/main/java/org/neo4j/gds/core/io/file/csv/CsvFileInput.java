@@ -50,7 +50,9 @@ import org.neo4j.internal.batchimport.input.InputEntityVisitor;
 import org.neo4j.internal.batchimport.input.ReadableGroups;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -75,7 +77,13 @@ final class CsvFileInput implements FileInput {
             .withArrayElementSeparator(ARRAY_ELEMENT_SEPARATOR)
         );
 
+    /**
+     * Data files larger than this are parsed in several chunks, possibly by different threads.
+     */
+    static final long DEFAULT_SPLIT_SIZE_IN_BYTES = 64L * 1024 * 1024;
+
     private final Path importPath;
+    private final long splitSizeInBytes;
     private final String userName;
     private final GraphInfo graphInfo;
     private final NodeSchema nodeSchema;
@@ -84,7 +92,12 @@ final class CsvFileInput implements FileInput {
     private final Capabilities capabilities;
 
     CsvFileInput(Path importPath) {
+        this(importPath, DEFAULT_SPLIT_SIZE_IN_BYTES);
+    }
+
+    CsvFileInput(Path importPath, long splitSizeInBytes) {
         this.importPath = importPath;
+        this.splitSizeInBytes = splitSizeInBytes;
         this.userName = new UserInfoLoader(importPath).load();
         this.graphInfo = new GraphInfoLoader(importPath, CSV_MAPPER).load();
         this.nodeSchema = new NodeSchemaLoader(importPath).load();
@@ -95,10 +108,10 @@ final class CsvFileInput implements FileInput {
 
     @Override
     public InputIterable nodes(Collector badCollector) {
-        Map<Path, List<Path>> pathMapping = CsvImportFileUtil.nodeHeaderToFileMapping(importPath);
-        Map<NodeFileHeader, List<Path>> headerToDataFilesMapping = pathMapping.entrySet().stream().collect(Collectors.toMap(
+        Map<Path, List<Path>> pathMapping = CsvImportFileUtil.nodeHeaderToFileMapping(importPath, graphInfo.compression());
+        Map<NodeFileHeader, List<CsvFileSplit>> headerToDataFilesMapping = pathMapping.entrySet().stream().collect(Collectors.toMap(
             entry -> CsvImportFileUtil.parseNodeHeader(entry.getKey()),
-            Map.Entry::getValue
+            entry -> split(entry.getValue())
         ));
 
         return () -> new NodeImporter(headerToDataFilesMapping, nodeSchema);
@@ -106,10 +119,10 @@ final class CsvFileInput implements FileInput {
 
     @Override
     public InputIterable relationships(Collector badCollector) {
-        Map<Path, List<Path>> pathMapping = CsvImportFileUtil.relationshipHeaderToFileMapping(importPath);
-        Map<RelationshipFileHeader, List<Path>> headerToDataFilesMapping = pathMapping.entrySet().stream().collect(Collectors.toMap(
+        Map<Path, List<Path>> pathMapping = CsvImportFileUtil.relationshipHeaderToFileMapping(importPath, graphInfo.compression());
+        Map<RelationshipFileHeader, List<CsvFileSplit>> headerToDataFilesMapping = pathMapping.entrySet().stream().collect(Collectors.toMap(
             entry -> CsvImportFileUtil.parseRelationshipHeader(entry.getKey()),
-            Map.Entry::getValue
+            entry -> split(entry.getValue())
         ));
 
         return () -> new RelationshipImporter(headerToDataFilesMapping, relationshipSchema);
@@ -117,15 +130,27 @@ final class CsvFileInput implements FileInput {
 
     @Override
     public InputIterable graphProperties() {
-        var pathMapping = CsvImportFileUtil.graphPropertyHeaderToFileMapping(importPath);
+        var pathMapping = CsvImportFileUtil.graphPropertyHeaderToFileMapping(importPath, graphInfo.compression());
         var headerToDataFilesMapping = pathMapping.entrySet().stream().collect(Collectors.toMap(
             entry -> CsvImportFileUtil.parseGraphPropertyHeader(entry.getKey()),
-            Map.Entry::getValue
+            entry -> split(entry.getValue())
         ));
 
         return () -> new GraphPropertyImporter(headerToDataFilesMapping, graphPropertySchema);
     }
 
+    private List<CsvFileSplit> split(List<Path> dataFiles) {
+        var splits = new ArrayList<CsvFileSplit>();
+        for (Path dataFile : dataFiles) {
+            try {
+                splits.addAll(CsvFileSplit.split(dataFile, splitSizeInBytes, graphInfo.compression()));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return splits;
+    }
+
     @Override
     public IdType idType() {
         return IdType.ACTUAL;
@@ -176,11 +201,11 @@ final class CsvFileInput implements FileInput {
         SCHEMA,
         PROPERTY_SCHEMA extends PropertySchema> implements InputIterator {
 
-        private final MappedListIterator<HEADER, Path> entryIterator;
+        private final MappedListIterator<HEADER, CsvFileSplit> entryIterator;
         final SCHEMA elementSchema;
 
         FileImporter(
-            Map<HEADER, List<Path>> headerToDataFilesMapping,
+            Map<HEADER, List<CsvFileSplit>> headerToDataFilesMapping,
             SCHEMA elementSchema
         ) {
             this.entryIterator = new MappedListIterator<>(headerToDataFilesMapping);
@@ -190,7 +215,7 @@ final class CsvFileInput implements FileInput {
         @Override
         public synchronized boolean next(InputChunk chunk) throws IOException {
             if (entryIterator.hasNext()) {
-                Pair<HEADER, Path> entry = entryIterator.next();
+                Pair<HEADER, CsvFileSplit> entry = entryIterator.next();
 
                 assert chunk instanceof LineChunk;
                 var header = entry.getKey();
@@ -208,7 +233,7 @@ final class CsvFileInput implements FileInput {
     static class NodeImporter extends FileImporter<NodeFileHeader, NodeSchema, PropertySchema> {
 
         NodeImporter(
-            Map<NodeFileHeader, List<Path>> headerToDataFilesMapping,
+            Map<NodeFileHeader, List<CsvFileSplit>> headerToDataFilesMapping,
             NodeSchema nodeSchema
         ) {
             super(headerToDataFilesMapping, nodeSchema);
@@ -223,7 +248,7 @@ final class CsvFileInput implements FileInput {
     static class RelationshipImporter extends FileImporter<RelationshipFileHeader, RelationshipSchema, RelationshipPropertySchema> {
 
         RelationshipImporter(
-            Map<RelationshipFileHeader, List<Path>> headerToDataFilesMapping,
+            Map<RelationshipFileHeader, List<CsvFileSplit>> headerToDataFilesMapping,
             RelationshipSchema relationshipSchema
         ) {
             super(headerToDataFilesMapping, relationshipSchema);
@@ -239,7 +264,7 @@ final class CsvFileInput implements FileInput {
 
 
         GraphPropertyImporter(
-            Map<GraphPropertyFileHeader, List<Path>> headerToDataFilesMapping,
+            Map<GraphPropertyFileHeader, List<CsvFileSplit>> headerToDataFilesMapping,
             Map<String, PropertySchema> graphPropertySchema
         ) {
             super(headerToDataFilesMapping, graphPropertySchema);
@@ -266,10 +291,13 @@ final class CsvFileInput implements FileInput {
             this.schema = schema;
         }
 
-        void initialize(HEADER header, Path path) throws IOException {
+        void initialize(HEADER header, CsvFileSplit split) throws IOException {
             this.header = header;
             this.propertySchemas = header.schemaForIdentifier(schema);
-            this.lineIterator = LINE_READER.readValues(path.toFile());
+            if (this.lineIterator != null) {
+                this.lineIterator.close();
+            }
+            this.lineIterator = LINE_READER.readValues(split.open());
         }
 
         @Override
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.csv;
+
+import org.immutables.value.Value;
+import org.neo4j.gds.annotation.ValueClass;
+import org.neo4j.gds.core.io.file.FileCompression;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.nio.file.StandardOpenOption.READ;
+
+/**
+ * A byte range {@code [start, end)} of a data file that starts and ends at a line boundary.
+ * Splits of the same file can be parsed independently of each other.
+ * <p>
+ * Splitting relies on values never containing line breaks, which holds for all files
+ * written by {@link GraphStoreToCsvExporter}.
+ * Compressed files are never split, as they can only be decompressed from the start.
+ */
+@ValueClass
+interface CsvFileSplit {
+
+    Path path();
+
+    long start();
+
+    long end();
+
+    @Value.Default
+    @Value.Parameter(false)
+    default FileCompression compression() {
+        return FileCompression.NONE;
+    }
+
+    static List<CsvFileSplit> split(Path file, long splitSizeInBytes) throws IOException {
+        return split(file, splitSizeInBytes, FileCompression.NONE);
+    }
+
+    static List<CsvFileSplit> split(Path file, long splitSizeInBytes, FileCompression compression) throws IOException {
+        long fileSize = Files.size(file);
+        if (compression != FileCompression.NONE) {
+            return List.of(ImmutableCsvFileSplit.builder()
+                .path(file)
+                .start(0)
+                .end(fileSize)
+                .compression(compression)
+                .build());
+        }
+        if (fileSize <= splitSizeInBytes) {
+            return List.of(ImmutableCsvFileSplit.of(file, 0, fileSize));
+        }
+
+        var splits = new ArrayList<CsvFileSplit>();
+        try (var channel = FileChannel.open(file, READ)) {
+            var buffer = ByteBuffer.allocate(8192);
+            long start = 0;
+            while (start < fileSize) {
+                long end = start + splitSizeInBytes >= fileSize
+                    ? fileSize
+                    : nextLineStart(channel, start + splitSizeInBytes, fileSize, buffer);
+                splits.add(ImmutableCsvFileSplit.of(file, start, end));
+                start = end;
+            }
+        }
+        return splits;
+    }
+
+    /**
+     * Returns the first position at or after {@code position} at which a line starts.
+     */
+    private static long nextLineStart(FileChannel channel, long position, long fileSize, ByteBuffer buffer) throws IOException {
+        // Start one byte early, so that a position directly behind a line break is returned as is.
+        long offset = position - 1;
+        while (offset < fileSize) {
+            buffer.clear();
+            int read = channel.read(buffer, offset);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (buffer.get(i) == '\n') {
+                    return offset + i + 1;
+                }
+            }
+            offset += read;
+        }
+        return fileSize;
+    }
+
+    default InputStream open() throws IOException {
+        var rawInput = new BufferedInputStream(new RangeInputStream(FileChannel.open(path(), READ), start(), end()));
+        return compression().decompress(rawInput);
+    }
+
+    final class RangeInputStream extends InputStream {
+        private final FileChannel channel;
+        private final long end;
+        private long position;
+
+        RangeInputStream(FileChannel channel, long start, long end) {
+            this.channel = channel;
+            this.position = start;
+            this.end = end;
+        }
+
+        @Override
+        public int read() throws IOException {
+            var single = new byte[1];
+            return read(single, 0, 1) == -1 ? -1 : single[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) throws IOException {
+            if (position >= end) {
+                return -1;
+            }
+            int toRead = (int) Math.min(length, end - position);
+            int read = channel.read(ByteBuffer.wrap(bytes, offset, toRead), position);
+            if (read > 0) {
+                position += read;
+            }
+            return read;
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+}
@@ -21,6 +21,7 @@ package org.neo4j.gds.core.io.file.csv;
 
 import de.siegmar.fastcsv.writer.CsvAppender;
 import de.siegmar.fastcsv.writer.CsvWriter;
+import org.neo4j.gds.core.io.file.FileCompression;
 import org.neo4j.gds.core.io.file.GraphInfo;
 import org.neo4j.gds.core.io.file.SingleRowVisitor;
 
@@ -35,6 +36,7 @@ public class CsvGraphInfoVisitor implements SingleRowVisitor<GraphInfo> {
     public static final String NODE_COUNT_COLUMN_NAME = "nodeCount";
     public static final String MAX_ORIGINAL_ID_COLUMN_NAME = "maxOriginalId";
     public static final String REL_TYPE_COUNTS_COLUMN_NAME = "relTypeCounts";
+    public static final String COMPRESSION_COLUMN_NAME = "compression";
 
     private final CsvAppender csvAppender;
 
@@ -54,6 +56,7 @@ public class CsvGraphInfoVisitor implements SingleRowVisitor<GraphInfo> {
             this.csvAppender.appendField(Long.toString(graphInfo.nodeCount()));
             this.csvAppender.appendField(Long.toString(graphInfo.maxOriginalId()));
             this.csvAppender.appendField(CsvMapUtil.relationshipCountsToString(graphInfo.relationshipTypeCounts()));
+            this.csvAppender.appendField(FileCompression.toString(graphInfo.compression()));
             this.csvAppender.endLine();
         } catch (IOException e) {
             throw new RuntimeException(e);
@@ -75,6 +78,7 @@ public class CsvGraphInfoVisitor implements SingleRowVisitor<GraphInfo> {
         this.csvAppender.appendField(NODE_COUNT_COLUMN_NAME);
         this.csvAppender.appendField(MAX_ORIGINAL_ID_COLUMN_NAME);
         this.csvAppender.appendField(REL_TYPE_COUNTS_COLUMN_NAME);
+        this.csvAppender.appendField(COMPRESSION_COLUMN_NAME);
         this.csvAppender.endLine();
     }
 }
@@ -20,6 +20,7 @@
 package org.neo4j.gds.core.io.file.csv;
 
 import org.neo4j.gds.api.schema.PropertySchema;
+import org.neo4j.gds.core.io.file.FileCompression;
 import org.neo4j.gds.core.io.file.GraphPropertyVisitor;
 
 import java.io.IOException;
@@ -43,17 +44,29 @@ public class CsvGraphPropertyVisitor extends GraphPropertyVisitor {
     private final int visitorId;
     private final Map<String, JacksonFileAppender> csvAppenders;
     private final Set<String> headerFiles;
+    private final FileCompression compression;
 
     public CsvGraphPropertyVisitor(
         Path fileLocation,
         Map<String, PropertySchema> graphPropertySchemas,
         Set<String> headerFiles,
         int visitorId
+    ) {
+        this(fileLocation, graphPropertySchemas, headerFiles, visitorId, FileCompression.NONE);
+    }
+
+    public CsvGraphPropertyVisitor(
+        Path fileLocation,
+        Map<String, PropertySchema> graphPropertySchemas,
+        Set<String> headerFiles,
+        int visitorId,
+        FileCompression compression
     ) {
         this.fileLocation = fileLocation;
         this.graphPropertySchemas = graphPropertySchemas;
         this.headerFiles = headerFiles;
         this.visitorId = visitorId;
+        this.compression = compression;
         this.csvAppenders = new HashMap<>();
     }
 
@@ -92,19 +105,20 @@ public class CsvGraphPropertyVisitor extends GraphPropertyVisitor {
     private JacksonFileAppender getAppender(String propertyKey) {
         return csvAppenders.computeIfAbsent(propertyKey, __ -> {
             var headerFileName = formatWithLocale(GRAPH_PROPERTY_HEADER_FILE_NAME_TEMPLATE, propertyKey);
-            var dataFileName = formatWithLocale(GRAPH_PROPERTY_DATA_FILE_NAME_TEMPLATE, propertyKey, visitorId);
+            var dataFileName = formatWithLocale(GRAPH_PROPERTY_DATA_FILE_NAME_TEMPLATE, propertyKey, visitorId)
+                + compression.fileExtension();
             var propertySchema = graphPropertySchemas.get(propertyKey);
 
             if (headerFiles.add(headerFileName)) {
                 writeHeaderFile(propertySchema, headerFileName);
             }
 
-            return fileAppender(fileLocation.resolve(dataFileName), propertySchema);
+            return fileAppender(fileLocation.resolve(dataFileName), propertySchema, compression);
         });
     }
 
     private void writeHeaderFile(PropertySchema propertySchema, String headerFileName) {
-        try (var headerAppender = fileAppender(fileLocation.resolve(headerFileName), propertySchema)) {
+        try (var headerAppender = fileAppender(fileLocation.resolve(headerFileName), propertySchema, FileCompression.NONE)) {
             var propertyHeader = formatWithLocale(
                 "%s:%s",
                 propertySchema.key(),
@@ -121,12 +135,14 @@ public class CsvGraphPropertyVisitor extends GraphPropertyVisitor {
 
     private JacksonFileAppender fileAppender(
         Path filePath,
-        PropertySchema propertySchema
+        PropertySchema propertySchema,
+        FileCompression fileCompression
     ) {
         return JacksonFileAppender.of(
             filePath,
             List.of(propertySchema),
-            UnaryOperator.identity()
+            UnaryOperator.identity(),
+            fileCompression
         );
     }
 }
@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.core.io.file.csv;
 
+import org.neo4j.gds.core.io.file.FileCompression;
 import org.neo4j.gds.core.io.file.GraphPropertyFileHeader;
 import org.neo4j.gds.core.io.file.NodeFileHeader;
 import org.neo4j.gds.core.io.file.RelationshipFileHeader;
@@ -35,6 +36,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
+import java.util.regex.Pattern;
 
 public final class CsvImportFileUtil {
 
@@ -65,15 +67,27 @@ public final class CsvImportFileUtil {
     }
 
     public static Map<Path, List<Path>> nodeHeaderToFileMapping(Path csvDirectory) {
-        return headerToFileMapping(csvDirectory, CsvImportFileUtil::getNodeHeaderFiles);
+        return nodeHeaderToFileMapping(csvDirectory, FileCompression.NONE);
+    }
+
+    public static Map<Path, List<Path>> nodeHeaderToFileMapping(Path csvDirectory, FileCompression compression) {
+        return headerToFileMapping(csvDirectory, CsvImportFileUtil::getNodeHeaderFiles, compression);
     }
 
     public static Map<Path, List<Path>> relationshipHeaderToFileMapping(Path csvDirectory) {
-        return headerToFileMapping(csvDirectory, CsvImportFileUtil::getRelationshipHeaderFiles);
+        return relationshipHeaderToFileMapping(csvDirectory, FileCompression.NONE);
+    }
+
+    public static Map<Path, List<Path>> relationshipHeaderToFileMapping(Path csvDirectory, FileCompression compression) {
+        return headerToFileMapping(csvDirectory, CsvImportFileUtil::getRelationshipHeaderFiles, compression);
     }
 
     public static Map<Path, List<Path>> graphPropertyHeaderToFileMapping(Path csvDirectory) {
-        return headerToFileMapping(csvDirectory, CsvImportFileUtil::getGraphPropertyHeaderFiles);
+        return graphPropertyHeaderToFileMapping(csvDirectory, FileCompression.NONE);
+    }
+
+    public static Map<Path, List<Path>> graphPropertyHeaderToFileMapping(Path csvDirectory, FileCompression compression) {
+        return headerToFileMapping(csvDirectory, CsvImportFileUtil::getGraphPropertyHeaderFiles, compression);
     }
 
     public static List<Path> getNodeHeaderFiles(Path csvDirectory) {
@@ -91,10 +105,16 @@ public final class CsvImportFileUtil {
         return getFilesByRegex(csvDirectory, graphPropertyFilesPattern);
     }
 
-    private static Map<Path, List<Path>> headerToFileMapping(Path csvDirectory, Function<Path, Collection<Path>> headerPaths) {
+    private static Map<Path, List<Path>> headerToFileMapping(
+        Path csvDirectory,
+        Function<Path, Collection<Path>> headerPaths,
+        FileCompression compression
+    ) {
         Map<Path, List<Path>> headerToDataFileMapping = new HashMap<>();
+        // Header files are never compressed, only the data files carry the codec's extension.
+        var dataFileExtension = Pattern.quote(compression.fileExtension());
         for (Path headerFile : headerPaths.apply(csvDirectory)) {
-            String dataFilePattern = headerFile.getFileName().toString().replace("_header", "(_\\d+)");
+            String dataFilePattern = headerFile.getFileName().toString().replace("_header", "(_\\d+)") + dataFileExtension;
             List<Path> dataPaths = headerToDataFileMapping.computeIfAbsent(
                 headerFile,
                 path -> new ArrayList<>()
@@ -23,6 +23,7 @@ import com.fasterxml.jackson.dataformat.csv.CsvSchema;
 import org.jetbrains.annotations.TestOnly;
 import org.neo4j.gds.api.schema.NodeSchema;
 import org.neo4j.gds.api.schema.PropertySchema;
+import org.neo4j.gds.core.io.file.FileCompression;
 import org.neo4j.gds.core.io.file.NodeVisitor;
 
 import java.io.IOException;
@@ -44,23 +45,26 @@ public class CsvNodeVisitor extends NodeVisitor {
     private final int visitorId;
     private final Map<String, JacksonFileAppender> csvAppenders;
     private final Set<String> headerFiles;
+    private final FileCompression compression;
 
     CsvNodeVisitor(
         Path fileLocation,
         NodeSchema nodeSchema,
         Set<String> headerFiles,
-        int visitorId
+        int visitorId,
+        FileCompression compression
     ) {
         super(nodeSchema);
         this.fileLocation = fileLocation;
         this.headerFiles = headerFiles;
         this.visitorId = visitorId;
+        this.compression = compression;
         this.csvAppenders = new HashMap<>();
     }
 
     @TestOnly
     public CsvNodeVisitor(Path fileLocation, NodeSchema nodeSchema) {
-        this(fileLocation, nodeSchema, new HashSet<>(), 0);
+        this(fileLocation, nodeSchema, new HashSet<>(), 0, FileCompression.NONE);
     }
 
     @Override
@@ -104,7 +108,7 @@ public class CsvNodeVisitor extends NodeVisitor {
         return csvAppenders.computeIfAbsent(labelsString, (ignore) -> {
             var fileName = labelsString.isBlank() ? "nodes" : formatWithLocale("nodes_%s", labelsString);
             var headerFileName = formatWithLocale("%s_header.csv", fileName);
-            var dataFileName = formatWithLocale("%s_%d.csv", fileName, visitorId);
+            var dataFileName = formatWithLocale("%s_%d.csv%s", fileName, visitorId, compression.fileExtension());
 
             if (headerFiles.add(headerFileName)) {
                 writeHeaderFile(headerFileName);
@@ -112,7 +116,8 @@ public class CsvNodeVisitor extends NodeVisitor {
 
             return fileAppender(
                 fileLocation.resolve(dataFileName),
-                csvSchemaBuilder -> csvSchemaBuilder.addNumberColumn(ID_COLUMN_NAME)
+                csvSchemaBuilder -> csvSchemaBuilder.addNumberColumn(ID_COLUMN_NAME),
+                compression
             );
         });
     }
@@ -120,7 +125,8 @@ public class CsvNodeVisitor extends NodeVisitor {
     private void writeHeaderFile(String headerFileName) {
         try (var headerAppender = fileAppender(
             fileLocation.resolve(headerFileName),
-            csvSchemaBuilder -> csvSchemaBuilder.addColumn(ID_COLUMN_NAME, CsvSchema.ColumnType.STRING)
+            csvSchemaBuilder -> csvSchemaBuilder.addColumn(ID_COLUMN_NAME, CsvSchema.ColumnType.STRING),
+            FileCompression.NONE
         )) {
             headerAppender.startLine();
             headerAppender.append(ID_COLUMN_NAME);
@@ -151,13 +157,18 @@ public class CsvNodeVisitor extends NodeVisitor {
         }
     }
 
-    private JacksonFileAppender fileAppender(Path filePath, UnaryOperator<CsvSchema.Builder> builderUnaryOperator) {
+    private JacksonFileAppender fileAppender(
+        Path filePath,
+        UnaryOperator<CsvSchema.Builder> builderUnaryOperator,
+        FileCompression fileCompression
+    ) {
         var propertySchema = getPropertySchema();
         propertySchema.sort(Comparator.comparing(PropertySchema::key));
         return JacksonFileAppender.of(
             filePath,
             propertySchema,
-            builderUnaryOperator
+            builderUnaryOperator,
+            fileCompression
         );
     }
 }
@@ -22,6 +22,7 @@ package org.neo4j.gds.core.io.file.csv;
 import org.jetbrains.annotations.TestOnly;
 import org.neo4j.gds.api.schema.PropertySchema;
 import org.neo4j.gds.api.schema.RelationshipSchema;
+import org.neo4j.gds.core.io.file.FileCompression;
 import org.neo4j.gds.core.io.file.RelationshipVisitor;
 
 import java.io.IOException;
@@ -43,23 +44,26 @@ public class CsvRelationshipVisitor extends RelationshipVisitor {
     private final Set<String> headerFiles;
     private final int visitorId;
     private final Map<String, JacksonFileAppender> csvAppenders;
+    private final FileCompression compression;
 
     CsvRelationshipVisitor(
         Path fileLocation,
         RelationshipSchema relationshipSchema,
         Set<String> headerFiles,
-        int visitorId
+        int visitorId,
+        FileCompression compression
     ) {
         super(relationshipSchema);
         this.fileLocation = fileLocation;
         this.headerFiles = headerFiles;
         this.visitorId = visitorId;
+        this.compression = compression;
         this.csvAppenders = new HashMap<>();
     }
 
     @TestOnly
     CsvRelationshipVisitor(Path fileLocation, RelationshipSchema relationshipSchema) {
-        this(fileLocation, relationshipSchema, new HashSet<>(), 0);
+        this(fileLocation, relationshipSchema, new HashSet<>(), 0, FileCompression.NONE);
     }
 
     @Override
@@ -104,18 +108,18 @@ public class CsvRelationshipVisitor extends RelationshipVisitor {
         return csvAppenders.computeIfAbsent(relationshipType(), (ignore) -> {
             var fileName = formatWithLocale("relationships_%s", relationshipType());
             var headerFileName = formatWithLocale("%s_header.csv", fileName);
-            var dataFileName = formatWithLocale("%s_%d.csv", fileName, visitorId);
+            var dataFileName = formatWithLocale("%s_%d.csv%s", fileName, visitorId, compression.fileExtension());
 
             if (headerFiles.add(headerFileName)) {
                 writeHeaderFile(headerFileName);
             }
 
-            return fileAppender(fileLocation.resolve(dataFileName));
+            return fileAppender(fileLocation.resolve(dataFileName), compression);
         });
     }
 
     private void writeHeaderFile(String headerFileName) {
-        try (var headerAppender = fileAppender(fileLocation.resolve(headerFileName))) {
+        try (var headerAppender = fileAppender(fileLocation.resolve(headerFileName), FileCompression.NONE)) {
             headerAppender.startLine();
             headerAppender.append(START_ID_COLUMN_NAME);
             headerAppender.append(END_ID_COLUMN_NAME);
@@ -146,7 +150,7 @@ public class CsvRelationshipVisitor extends RelationshipVisitor {
         }
     }
 
-    private JacksonFileAppender fileAppender(Path filePath) {
+    private JacksonFileAppender fileAppender(Path filePath, FileCompression fileCompression) {
         var propertySchema = getPropertySchema();
         propertySchema.sort(Comparator.comparing(PropertySchema::key));
         return JacksonFileAppender.of(
@@ -154,7 +158,8 @@ public class CsvRelationshipVisitor extends RelationshipVisitor {
             propertySchema,
             csvSchemaBuilder -> csvSchemaBuilder
                 .addNumberColumn(START_ID_COLUMN_NAME)
-                .addNumberColumn(END_ID_COLUMN_NAME)
+                .addNumberColumn(END_ID_COLUMN_NAME),
+            fileCompression
         );
     }
 }
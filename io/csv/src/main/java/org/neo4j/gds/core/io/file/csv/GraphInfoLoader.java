@@ -31,6 +31,7 @@ import com.fasterxml.jackson.dataformat.csv.CsvParser;
 import com.fasterxml.jackson.dataformat.csv.CsvSchema;
 import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.api.DatabaseId;
+import org.neo4j.gds.core.io.file.FileCompression;
 import org.neo4j.gds.core.io.file.GraphInfo;
 import org.neo4j.gds.core.io.file.ImmutableGraphInfo;
 
@@ -65,6 +66,7 @@ public class GraphInfoLoader {
                 .nodeCount(line.nodeCount)
                 .maxOriginalId(line.maxOriginalId)
                 .relationshipTypeCounts(line.relTypeCounts)
+                .compression(line.compression)
                 .build();
 
         } catch (IOException e) {
@@ -89,6 +91,10 @@ public class GraphInfoLoader {
 
         @JsonDeserialize(using = RelationshipTypesDeserializer.class)
         Map<RelationshipType, Long> relTypeCounts = Map.of();
+
+        // Exports written before compression was supported don't have this column.
+        @JsonProperty
+        FileCompression compression = FileCompression.NONE;
     }
 
     static class RelationshipTypesDeserializer extends StdDeserializer<Map<RelationshipType, Long>> {
@@ -24,9 +24,12 @@ import com.fasterxml.jackson.dataformat.csv.CsvMapper;
 import com.fasterxml.jackson.dataformat.csv.CsvSchema;
 import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.api.schema.PropertySchema;
+import org.neo4j.gds.core.io.file.FileCompression;
 
+import java.io.BufferedWriter;
 import java.io.Flushable;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
 import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
@@ -48,6 +51,19 @@ final class JacksonFileAppender implements Flushable, AutoCloseable {
         Path filePath,
         List<PROPERTY_SCHEMA> propertySchemas,
         UnaryOperator<CsvSchema.Builder> schemaEnricher
+    ) {
+        return of(filePath, propertySchemas, schemaEnricher, FileCompression.NONE);
+    }
+
+    /**
+     * Creates an appender that writes a single compressed stream to {@code filePath},
+     * so the resulting file can be decompressed on its own.
+     */
+    static <PROPERTY_SCHEMA extends PropertySchema> JacksonFileAppender of(
+        Path filePath,
+        List<PROPERTY_SCHEMA> propertySchemas,
+        UnaryOperator<CsvSchema.Builder> schemaEnricher,
+        FileCompression compression
     ) {
         var csvSchemaBuilder = schemaEnricher.apply(CsvSchema.builder());
         for (PROPERTY_SCHEMA propertySchema : propertySchemas) {
@@ -74,7 +90,10 @@ final class JacksonFileAppender implements Flushable, AutoCloseable {
         var factory = mapper.getFactory();
 
         try {
-            var writer = Files.newBufferedWriter(filePath, StandardCharsets.UTF_8);
+            var writer = new BufferedWriter(new OutputStreamWriter(
+                compression.compress(Files.newOutputStream(filePath)),
+                StandardCharsets.UTF_8
+            ));
             var csvEncoder = factory.createGenerator(writer);
             csvEncoder.setSchema(csvSchema);
             return new JacksonFileAppender(csvEncoder, csvSchema);
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.csv;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CsvFileSplitTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldNotSplitSmallFiles() throws IOException {
+        var file = writeLines(10);
+
+        var splits = CsvFileSplit.split(file, Files.size(file));
+
+        assertThat(splits).containsExactly(ImmutableCsvFileSplit.of(file, 0, Files.size(file)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {1, 7, 42, 1337})
+    void shouldSplitAtLineBoundaries(long splitSize) throws IOException {
+        var file = writeLines(1000);
+        var content = Files.readAllBytes(file);
+
+        var splits = CsvFileSplit.split(file, splitSize);
+
+        assertThat(splits).hasSizeGreaterThan(1);
+        assertThat(splits.get(0).start()).isEqualTo(0);
+        assertThat(splits.get(splits.size() - 1).end()).isEqualTo(content.length);
+        for (int i = 1; i < splits.size(); i++) {
+            assertThat(splits.get(i).start()).isEqualTo(splits.get(i - 1).end());
+            assertThat(content[(int) splits.get(i).start() - 1]).isEqualTo((byte) '\n');
+        }
+    }
+
+    @Test
+    void shouldReadEveryLineExactlyOnce() throws IOException {
+        var file = writeLines(1000);
+
+        var lines = new ArrayList<String>();
+        for (var split : CsvFileSplit.split(file, 100)) {
+            try (var in = split.open()) {
+                var text = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+                text.lines().forEach(lines::add);
+            }
+        }
+
+        assertThat(lines).containsExactlyElementsOf(Files.readAllLines(file));
+    }
+
+    private Path writeLines(int lineCount) throws IOException {
+        List<String> lines = IntStream.range(0, lineCount)
+            .mapToObj(i -> i + "," + (i * 31 % 97) + ",\"1;2;3\"")
+            .collect(Collectors.toList());
+        return Files.write(tempDir.resolve("relationships_REL_0.csv"), lines);
+    }
+}
@@ -22,6 +22,7 @@ package org.neo4j.gds.core.io.file.csv;
 import org.junit.jupiter.api.Test;
 import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.api.DatabaseId;
+import org.neo4j.gds.core.io.file.FileCompression;
 import org.neo4j.gds.core.io.file.ImmutableGraphInfo;
 
 import java.util.List;
@@ -48,7 +49,8 @@ class CsvGraphInfoVisitorTest extends CsvVisitorTest {
                     databaseId.databaseName(),
                     Long.toString(1337L),
                     Long.toString(19L),
-                    CsvMapUtil.relationshipCountsToString(relationshipTypeCounts)
+                    CsvMapUtil.relationshipCountsToString(relationshipTypeCounts),
+                    FileCompression.NONE.name()
                 )
             )
         );
@@ -60,7 +62,8 @@ class CsvGraphInfoVisitorTest extends CsvVisitorTest {
             CsvGraphInfoVisitor.DATABASE_NAME_COLUMN_NAME,
             CsvGraphInfoVisitor.NODE_COUNT_COLUMN_NAME,
             CsvGraphInfoVisitor.MAX_ORIGINAL_ID_COLUMN_NAME,
-            CsvGraphInfoVisitor.REL_TYPE_COUNTS_COLUMN_NAME
+            CsvGraphInfoVisitor.REL_TYPE_COUNTS_COLUMN_NAME,
+            CsvGraphInfoVisitor.COMPRESSION_COLUMN_NAME
         );
     }
 }
@@ -28,6 +28,9 @@ import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.api.properties.graph.DoubleArrayGraphPropertyValues;
 import org.neo4j.gds.api.properties.graph.LongGraphPropertyValues;
 import org.neo4j.gds.compat.Neo4jProxy;
+import org.neo4j.gds.core.io.file.FileCompression;
+import org.neo4j.gds.core.io.file.FileFormat;
+import org.neo4j.gds.core.io.file.GraphStoreExporterUtil;
 import org.neo4j.gds.core.io.file.GraphStoreToFileExporterConfig;
 import org.neo4j.gds.core.io.file.ImmutableGraphStoreToFileExporterConfig;
 import org.neo4j.gds.core.loading.ImmutableStaticCapabilities;
@@ -38,11 +41,13 @@ import org.neo4j.gds.extension.Inject;
 import org.neo4j.gds.gdl.GdlFactory;
 
 import java.nio.file.Path;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.neo4j.gds.TestSupport.assertGraphEquals;
 
 @GdlExtension
@@ -112,6 +117,64 @@ class CsvToGraphStoreImporterIntegrationTest {
             .containsExactlyInAnyOrder(expectedDoubleArrayProperties);
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldImportCompressedExport(int concurrency) {
+        var config = ImmutableGraphStoreToFileExporterConfig.builder()
+            .from(exportConfig(concurrency))
+            .compression(FileCompression.GZIP)
+            .build();
+        GraphStoreToCsvExporter.create(graphStore, config, graphLocation).run();
+
+        assertThat(CsvImportFileUtil.nodeHeaderToFileMapping(graphLocation, FileCompression.GZIP).values())
+            .isNotEmpty()
+            .allSatisfy(dataFiles -> assertThat(dataFiles).isNotEmpty());
+        assertThat(CsvImportFileUtil.nodeHeaderToFileMapping(graphLocation).values())
+            .allSatisfy(dataFiles -> assertThat(dataFiles).isEmpty());
+
+        var importer = new CsvToGraphStoreImporter(concurrency, graphLocation, Neo4jProxy.testLog(), EmptyTaskRegistryFactory.INSTANCE);
+        var userGraphStore = importer.run();
+
+        var importedGraph = userGraphStore.graphStore().getUnion();
+        assertGraphEquals(graph, importedGraph);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldImportBinaryExport(int concurrency) {
+        var config = ImmutableGraphStoreToFileExporterConfig.builder()
+            .from(exportConfig(concurrency))
+            .format(FileFormat.BINARY)
+            .build();
+        var result = GraphStoreExporterUtil.export(
+            graphStore,
+            graphLocation,
+            config,
+            Optional.empty(),
+            EmptyTaskRegistryFactory.INSTANCE,
+            Neo4jProxy.testLog()
+        );
+        assertThat(result.importedProperties().nodePropertyCount()).isEqualTo(12);
+        assertThat(result.importedProperties().relationshipPropertyCount()).isEqualTo(12);
+
+        var importer = new CsvToGraphStoreImporter(concurrency, graphLocation, Neo4jProxy.testLog(), EmptyTaskRegistryFactory.INSTANCE);
+        var userGraphStore = importer.run();
+
+        var importedGraph = userGraphStore.graphStore().getUnion();
+        assertGraphEquals(graph, importedGraph);
+    }
+
+    @Test
+    void shouldNotCompressBinaryExport() {
+        assertThatThrownBy(() -> ImmutableGraphStoreToFileExporterConfig.builder()
+            .from(exportConfig(1))
+            .format(FileFormat.BINARY)
+            .compression(FileCompression.GZIP)
+            .build()
+        ).isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("The `BINARY` format does not support compression, but got `GZIP`.");
+    }
+
     @Test
     void shouldImportGraphWithNoLabels() {
         var graphStore = GdlFactory.of("()-[]->()").build();
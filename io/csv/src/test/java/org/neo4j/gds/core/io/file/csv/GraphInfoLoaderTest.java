@@ -25,6 +25,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.api.DatabaseId;
+import org.neo4j.gds.core.io.file.FileCompression;
 
 import java.io.IOException;
 import java.nio.file.Path;
@@ -107,6 +108,22 @@ class GraphInfoLoaderTest {
         var graphInfo = graphInfoLoader.load();
 
         assertThat(graphInfo.relationshipTypeCounts()).isEmpty();
+        assertThat(graphInfo.compression()).isEqualTo(FileCompression.NONE);
+    }
+
+    @Test
+    void shouldLoadGraphInfoWithCompression(@TempDir Path exportDir) throws IOException {
+        var graphInfoFile = exportDir.resolve(GRAPH_INFO_FILE_NAME).toFile();
+        var lines = List.of(
+            String.join(", ", "databaseName", "nodeCount", "maxOriginalId", "relTypeCounts", "compression"),
+            String.join(", ", "my-database", "19", "1337", "REL;42", "GZIP")
+        );
+        FileUtils.writeLines(graphInfoFile, lines);
+
+        var graphInfoLoader = new GraphInfoLoader(exportDir, CSV_MAPPER);
+        var graphInfo = graphInfoLoader.load();
+
+        assertThat(graphInfo.compression()).isEqualTo(FileCompression.GZIP);
     }
 
 }
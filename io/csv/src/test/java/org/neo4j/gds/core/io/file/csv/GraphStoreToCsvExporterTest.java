@@ -29,6 +29,7 @@ import org.neo4j.gds.api.PropertyState;
 import org.neo4j.gds.api.nodeproperties.ValueType;
 import org.neo4j.gds.api.properties.graph.LongGraphPropertyValues;
 import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.io.file.FileCompression;
 import org.neo4j.gds.core.io.file.ImmutableGraphStoreToFileExporterConfig;
 import org.neo4j.gds.extension.GdlExtension;
 import org.neo4j.gds.extension.GdlGraph;
@@ -327,6 +328,26 @@ public class GraphStoreToCsvExporterTest extends CsvTest {
         );
     }
 
+    @Test
+    void exportMoreShardsThanThreads() throws IOException {
+        var config = ImmutableGraphStoreToFileExporterConfig
+            .builder()
+            .exportName(tempDir.toString())
+            .writeConcurrency(1)
+            .writeShards(2)
+            .batchSize(1)
+            .includeMetaData(true)
+            .build();
+
+        GraphStoreToCsvExporter.create(concurrentGraphStore, config, tempDir).run();
+
+        // a single thread alternates between the shards for each batch of nodes
+        assertThat(Files.readAllLines(tempDir.resolve("nodes_0.csv"))).hasSize(2);
+        assertThat(Files.readAllLines(tempDir.resolve("nodes_1.csv"))).hasSize(2);
+        assertThat(tempDir.resolve("relationships_REL1_0.csv")).exists();
+        assertThat(tempDir.resolve("relationships_REL1_1.csv")).exists();
+    }
+
     @Test
     void exportGraphPropertiesMultithreaded() throws IOException {
         var config = ImmutableGraphStoreToFileExporterConfig
@@ -457,13 +478,15 @@ public class GraphStoreToCsvExporterTest extends CsvTest {
                     CsvGraphInfoVisitor.DATABASE_NAME_COLUMN_NAME,
                     CsvGraphInfoVisitor.NODE_COUNT_COLUMN_NAME,
                     CsvGraphInfoVisitor.MAX_ORIGINAL_ID_COLUMN_NAME,
-                    CsvGraphInfoVisitor.REL_TYPE_COUNTS_COLUMN_NAME
+                    CsvGraphInfoVisitor.REL_TYPE_COUNTS_COLUMN_NAME,
+                    CsvGraphInfoVisitor.COMPRESSION_COLUMN_NAME
                 ),
                 List.of(
                     graphStore.databaseId().databaseName(),
                     Long.toString(graphStore.nodeCount()),
                     Long.toString(3L),
-                    CsvMapUtil.relationshipCountsToString(Map.of(RelationshipType.of("REL2"), 6L, RelationshipType.of("REL1"), 6L))
+                    CsvMapUtil.relationshipCountsToString(Map.of(RelationshipType.of("REL2"), 6L, RelationshipType.of("REL1"), 6L)),
+                    FileCompression.NONE.name()
                 )
             )
         );
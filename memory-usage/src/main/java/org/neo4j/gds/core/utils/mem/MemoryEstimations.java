@@ -374,6 +374,22 @@ public final class MemoryEstimations {
             return this;
         }
 
+        /**
+         * Adds a fixed memory range that resides outside of the Java heap to the builder.
+         * The range is reported through {@link MemoryTree#offHeapMemoryUsage()} and
+         * does not contribute to {@link MemoryTree#memoryUsage()}.
+         *
+         * @param description description of the sub-component
+         * @param range       off-heap memory range
+         * @return this builder
+         */
+        public Builder fixedOffHeap(final String description, final MemoryRange range) {
+            components.add(new OffHeapLeafEstimation(
+                    description,
+                    (dimensions, concurrency) -> range));
+            return this;
+        }
+
         /**
          * Adds a new sub-component to the builder.
          *
@@ -624,6 +640,20 @@ final class LeafEstimation extends BaseEstimation {
     }
 }
 
+final class OffHeapLeafEstimation extends BaseEstimation {
+    private final MemoryResident resident;
+
+    OffHeapLeafEstimation(final String description, final MemoryResident resident) {
+        super(description);
+        this.resident = resident;
+    }
+
+    @Override
+    public MemoryTree estimate(final GraphDimensions dimensions, final int concurrency) {
+        MemoryRange memoryRange = resident.estimateMemoryUsage(dimensions, concurrency);
+        return new OffHeapLeafTree(description(), memoryRange);
+    }
+}
 
 final class SetupEstimation extends BaseEstimation {
     private final MemoryEstimations.MemoryEstimationSetup setup;
@@ -770,6 +800,25 @@ final class LeafTree extends BaseTree {
     }
 }
 
+final class OffHeapLeafTree extends BaseTree {
+    private final MemoryRange range;
+
+    OffHeapLeafTree(final String description, final MemoryRange range) {
+        super(description);
+        this.range = range;
+    }
+
+    @Override
+    public MemoryRange memoryUsage() {
+        return MemoryRange.empty();
+    }
+
+    @Override
+    public MemoryRange offHeapMemoryUsage() {
+        return range;
+    }
+}
+
 final class AndThenTree extends BaseTree {
     private final MemoryTree delegate;
     private final UnaryOperator<MemoryRange> andThen;
@@ -788,6 +837,12 @@ final class AndThenTree extends BaseTree {
         return andThen.apply(delegate.memoryUsage());
     }
 
+    @Override
+    public MemoryRange offHeapMemoryUsage() {
+        var offHeapMemoryUsage = delegate.offHeapMemoryUsage();
+        return offHeapMemoryUsage.isEmpty() ? offHeapMemoryUsage : andThen.apply(offHeapMemoryUsage);
+    }
+
     @Override
     public Collection<MemoryTree> components() {
         return delegate.components();
@@ -838,6 +893,13 @@ final class CompositeMaxTree extends BaseTree {
             .map(MemoryTree::memoryUsage)
             .reduce(MemoryRange.empty(), MemoryRange::max);
     }
+
+    @Override
+    public MemoryRange offHeapMemoryUsage() {
+        return components.stream()
+            .map(MemoryTree::offHeapMemoryUsage)
+            .reduce(MemoryRange.empty(), MemoryRange::max);
+    }
 }
 
 final class DelegateTree extends BaseTree {
@@ -857,4 +919,9 @@ final class DelegateTree extends BaseTree {
     public MemoryRange memoryUsage() {
         return delegate.memoryUsage();
     }
+
+    @Override
+    public MemoryRange offHeapMemoryUsage() {
+        return delegate.offHeapMemoryUsage();
+    }
 }
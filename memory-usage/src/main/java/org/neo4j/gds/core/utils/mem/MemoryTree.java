@@ -44,6 +44,17 @@ public interface MemoryTree {
      */
     MemoryRange memoryUsage();
 
+    /**
+     * @return The memory of this component that resides outside of the Java heap,
+     *     e.g. in direct buffers or memory-mapped files. This memory is not part of {@link #memoryUsage()}.
+     */
+    default MemoryRange offHeapMemoryUsage() {
+        return components()
+            .stream()
+            .map(MemoryTree::offHeapMemoryUsage)
+            .reduce(MemoryRange.empty(), MemoryRange::add);
+    }
+
     /**
      * @return nested resources of this component.
      */
@@ -62,6 +73,10 @@ public interface MemoryTree {
         Map<String, Object> root = new HashMap<>();
         root.put("name", description());
         root.put("memoryUsage", memoryUsage().toString());
+        var offHeapMemoryUsage = offHeapMemoryUsage();
+        if (!offHeapMemoryUsage.isEmpty()) {
+            root.put("offHeapMemoryUsage", offHeapMemoryUsage.toString());
+        }
         List<Map<String, Object>> components = components()
                 .stream()
                 .map(MemoryTree::renderMap)
@@ -96,6 +111,12 @@ public interface MemoryTree {
         sb.append(estimation.description());
         sb.append(": ");
         sb.append(estimation.memoryUsage());
+        var offHeapMemoryUsage = estimation.offHeapMemoryUsage();
+        if (!offHeapMemoryUsage.isEmpty()) {
+            sb.append(" (off-heap: ");
+            sb.append(offHeapMemoryUsage);
+            sb.append(")");
+        }
         sb.append(System.lineSeparator());
 
         for (final MemoryTree component : estimation.components()) {
@@ -30,7 +30,7 @@ import com.carrotsearch.hppc.LongHashSet;
 import com.carrotsearch.hppc.ObjectLongIdentityHashMap;
 import com.carrotsearch.hppc.ObjectLongMap;
 import org.neo4j.gds.annotation.SuppressForbidden;
-import org.openjdk.jol.info.GraphWalker;
+import org.openjdk.jol.util.ObjectUtils;
 import org.openjdk.jol.vm.VM;
 
 import java.io.OutputStream;
@@ -41,6 +41,11 @@ import java.lang.reflect.Modifier;
 import java.nio.charset.StandardCharsets;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
 
 import static java.lang.Integer.numberOfTrailingZeros;
 
@@ -293,13 +298,78 @@ public final class MemoryUsage {
         return alignObjectSize(size);
     }
 
+    /**
+     * Returns the retained size of all objects that are reachable from {@code thing}.
+     * Objects that implement {@link Sized} are counted with their own size,
+     * the objects they are referencing are not walked.
+     *
+     * @return the size in bytes or -1 if the object layout of the VM is unknown
+     */
     public static long sizeOf(Object thing) {
         if (!VmInfoHolder.VM_INFO_AVAILABLE) {
             return -1L;
         }
-        return new GraphWalker().walk(thing).totalSize();
+
+        var visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        var stack = new ArrayDeque<>();
+        visited.add(thing);
+        stack.push(thing);
+
+        long size = 0L;
+        while (!stack.isEmpty()) {
+            var current = stack.pop();
+            if (current instanceof Sized) {
+                size += ((Sized) current).sizeOf();
+                continue;
+            }
+
+            size += VM.current().sizeOf(current);
+            if (current instanceof Object[]) {
+                for (Object element : (Object[]) current) {
+                    if (element != null && visited.add(element)) {
+                        stack.push(element);
+                    }
+                }
+            } else if (!current.getClass().isArray()) {
+                for (Field field : REFERENCE_FIELDS.get(current.getClass())) {
+                    var value = ObjectUtils.value(current, field);
+                    if (value != null && visited.add(value)) {
+                        stack.push(value);
+                    }
+                }
+            }
+        }
+        return size;
+    }
+
+    /**
+     * An object that reports its own size to {@link #sizeOf(Object)}.
+     * Used for objects that reference state which is not owned by them, e.g. the database.
+     */
+    public interface Sized {
+        /**
+         * @return the size of this object and of the objects it owns in bytes,
+         *     must not call {@link MemoryUsage#sizeOf(Object)} on this object
+         */
+        long sizeOf();
     }
 
+    // instance fields of the class and its super classes that reference other objects
+    private static final ClassValue<List<Field>> REFERENCE_FIELDS = new ClassValue<>() {
+        @Override
+        protected List<Field> computeValue(Class<?> type) {
+            var fields = new ArrayList<Field>();
+            for (Class<?> clazz = type; clazz != null; clazz = clazz.getSuperclass()) {
+                for (Field field : clazz.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers()) && !field.getType().isPrimitive()) {
+                        fields.add(field);
+                    }
+                }
+            }
+            return fields;
+        }
+    };
+
     /**
      * Aligns an object size to be the next multiple of object alignment bytes.
      */
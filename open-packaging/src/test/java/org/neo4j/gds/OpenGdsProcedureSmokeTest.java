@@ -69,6 +69,8 @@ class OpenGdsProcedureSmokeTest extends BaseProcTest {
         "gds.alpha.leiden.stream",
         "gds.alpha.leiden.write",
 
+        "gds.alpha.listMemoryReservations",
+
         "gds.alpha.kmeans.mutate",
         "gds.alpha.kmeans.mutate.estimate",
         "gds.alpha.kmeans.stats",
@@ -507,7 +509,7 @@ class OpenGdsProcedureSmokeTest extends BaseProcTest {
         );
 
         // If you find yourself updating this count, please also update the count in SmokeTest.kt
-        int expectedCount = 358;
+        int expectedCount = 359;
         assertEquals(
             expectedCount,
             registeredProcedures.size(),
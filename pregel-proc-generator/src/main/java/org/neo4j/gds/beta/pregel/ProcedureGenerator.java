@@ -262,6 +262,10 @@ abstract class ProcedureGenerator extends PregelGenerator {
                 .returns(MemoryEstimation.class)
                 .addParameter(pregelSpec.configTypeName(), "configuration")
                 .addStatement("var computation = new $T()", computationClassName(pregelSpec, ""))
+                .addStatement("var combiner = computation.combiner()")
+                .beginControlFlow("if (combiner.isPresent())")
+                .addStatement("return $T.memoryEstimation(computation.schema(configuration), combiner.get())", Pregel.class)
+                .endControlFlow()
                 .addStatement(
                     "return $T.memoryEstimation(computation.schema(configuration), computation.reducer().isEmpty(), configuration.isAsynchronous())",
                     Pregel.class
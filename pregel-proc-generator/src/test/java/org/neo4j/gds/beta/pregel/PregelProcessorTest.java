@@ -62,6 +62,19 @@ class PregelProcessorTest {
             );
     }
 
+    @Test
+    void estimatesCombinerComputation() {
+        assertAbout(javaSource())
+            .that(forResource("positive/CombinerComputation.java"))
+            .processedWith(new PregelProcessor())
+            .compilesWithoutError()
+            .and()
+            .generatesSources(
+                loadExpectedFile("expected/CombinerComputationStreamProc.java"),
+                loadExpectedFile("expected/CombinerComputationAlgorithm.java")
+            );
+    }
+
     @Test
     void baseClassMustBeAClass() {
         runNegativeTest(
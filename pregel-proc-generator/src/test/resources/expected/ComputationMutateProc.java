@@ -109,6 +109,10 @@ public final class ComputationMutateProc extends PregelMutateProc<ComputationAlg
             @Override
             public MemoryEstimation memoryEstimation(PregelProcedureConfig configuration) {
                 var computation = new Computation();
+                var combiner = computation.combiner();
+                if (combiner.isPresent()) {
+                    return Pregel.memoryEstimation(computation.schema(configuration), combiner.get());
+                }
                 return Pregel.memoryEstimation(
                     computation.schema(configuration),
                     computation.reducer().isEmpty(),
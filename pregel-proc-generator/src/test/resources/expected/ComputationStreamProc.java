@@ -104,6 +104,10 @@ public final class ComputationStreamProc extends PregelStreamProc<ComputationAlg
             @Override
             public MemoryEstimation memoryEstimation(PregelProcedureConfig configuration) {
                 var computation = new Computation();
+                var combiner = computation.combiner();
+                if (combiner.isPresent()) {
+                    return Pregel.memoryEstimation(computation.schema(configuration), combiner.get());
+                }
                 return Pregel.memoryEstimation(
                     computation.schema(configuration),
                     computation.reducer().isEmpty(),
@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.neo4j.gds.api.nodeproperties.ValueType;
+
+/**
+ * A combiner condenses all messages sent to a single node into one message,
+ * like a {@link Reducer}, but for long messages and for arrays of a fixed width.
+ * Array messages are combined in place, the width of every message must match {@link OfLongArray#width()}
+ * or {@link OfDoubleArray#width()} respectively.
+ *
+ * Combining works on one primitive slot per node, which keeps the message
+ * memory linear in the number of nodes instead of the number of relationships.
+ */
+public interface Combiner {
+
+    ValueType valueType();
+
+    interface OfLong extends Combiner {
+
+        /**
+         * The identity element is used as the initial value.
+         */
+        long identity();
+
+        /**
+         * Computes a new value based on the current value and the message.
+         */
+        long combine(long current, long message);
+
+        @Override
+        default ValueType valueType() {
+            return ValueType.LONG;
+        }
+    }
+
+    interface OfLongArray extends Combiner {
+
+        int width();
+
+        /**
+         * The identity element is used as the initial value of every array entry.
+         */
+        long identity();
+
+        /**
+         * Combines the message into the current value.
+         * The message must not be modified.
+         */
+        void combine(long[] current, long[] message);
+
+        @Override
+        default ValueType valueType() {
+            return ValueType.LONG_ARRAY;
+        }
+    }
+
+    interface OfDoubleArray extends Combiner {
+
+        int width();
+
+        /**
+         * The identity element is used as the initial value of every array entry.
+         */
+        double identity();
+
+        /**
+         * Combines the message into the current value.
+         * The message must not be modified.
+         */
+        void combine(double[] current, double[] message);
+
+        @Override
+        default ValueType valueType() {
+            return ValueType.DOUBLE_ARRAY;
+        }
+    }
+
+    class LongMin implements OfLong {
+
+        @Override
+        public long identity() {
+            return Long.MAX_VALUE;
+        }
+
+        @Override
+        public long combine(long current, long message) {
+            return Math.min(current, message);
+        }
+    }
+
+    class LongMax implements OfLong {
+
+        @Override
+        public long identity() {
+            return Long.MIN_VALUE;
+        }
+
+        @Override
+        public long combine(long current, long message) {
+            return Math.max(current, message);
+        }
+    }
+
+    class LongSum implements OfLong {
+
+        @Override
+        public long identity() {
+            return 0;
+        }
+
+        @Override
+        public long combine(long current, long message) {
+            return current + message;
+        }
+    }
+
+    class LongArraySum implements OfLongArray {
+
+        private final int width;
+
+        public LongArraySum(int width) {
+            this.width = width;
+        }
+
+        @Override
+        public int width() {
+            return width;
+        }
+
+        @Override
+        public long identity() {
+            return 0;
+        }
+
+        @Override
+        public void combine(long[] current, long[] message) {
+            for (int i = 0; i < width; i++) {
+                current[i] += message[i];
+            }
+        }
+    }
+
+    class DoubleArraySum implements OfDoubleArray {
+
+        private final int width;
+
+        public DoubleArraySum(int width) {
+            this.width = width;
+        }
+
+        @Override
+        public int width() {
+            return width;
+        }
+
+        @Override
+        public double identity() {
+            return 0;
+        }
+
+        @Override
+        public void combine(double[] current, double[] message) {
+            for (int i = 0; i < width; i++) {
+                current[i] += message[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,437 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.core.utils.paged.HugeAtomicLongArray;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+
+import java.util.NoSuchElementException;
+
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfDoubleArray;
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfLongArray;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * A messenger that uses a {@link Combiner} to condense all messages
+ * sent to a node into a single long or fixed-width array message.
+ * Every node owns one slot per message buffer, so the memory
+ * consumption does not depend on the number of sent messages.
+ */
+public class CombiningMessenger implements Messenger<CombiningMessenger.CombinedMessageIterator> {
+
+    // Array messages are combined under a lock, which is striped over the node ids.
+    private static final int STRIPE_SHIFT = 10;
+    private static final int STRIPES = 1 << STRIPE_SHIFT;
+    private static final long STRIPE_MASK = STRIPES - 1;
+
+    private final Combiner combiner;
+
+    private Slots sendSlots;
+    private Slots receiveSlots;
+
+    CombiningMessenger(long nodeCount, Combiner combiner) {
+        this.combiner = combiner;
+        this.sendSlots = Slots.create(nodeCount, combiner);
+        this.receiveSlots = Slots.create(nodeCount, combiner);
+    }
+
+    static MemoryEstimation memoryEstimation(Combiner combiner) {
+        return MemoryEstimations.builder(CombiningMessenger.class)
+            .perNode("send slots", nodeCount -> Slots.memoryEstimation(nodeCount, combiner))
+            .perNode("receive slots", nodeCount -> Slots.memoryEstimation(nodeCount, combiner))
+            .build();
+    }
+
+    @Override
+    public void initIteration(int iteration) {
+        // Reading a message resets its slot, every node holding
+        // a message is read, so both buffers are empty at this point.
+        var tmp = receiveSlots;
+        this.receiveSlots = sendSlots;
+        this.sendSlots = tmp;
+    }
+
+    @Override
+    public void sendTo(long targetNodeId, double message) {
+        throw new UnsupportedOperationException(formatWithLocale(
+            "Cannot send a double message, the combiner expects messages of type `%s`.",
+            combiner.valueType()
+        ));
+    }
+
+    @Override
+    public void sendLongTo(long targetNodeId, long message) {
+        sendSlots.combine(targetNodeId, message);
+    }
+
+    @Override
+    public void sendLongArrayTo(long targetNodeId, long[] message) {
+        sendSlots.combine(targetNodeId, message);
+    }
+
+    @Override
+    public void sendDoubleArrayTo(long targetNodeId, double[] message) {
+        sendSlots.combine(targetNodeId, message);
+    }
+
+    @Override
+    public CombinedMessageIterator messageIterator() {
+        return new CombinedMessageIterator(combiner);
+    }
+
+    @Override
+    public void initMessageIterator(
+        CombinedMessageIterator messageIterator,
+        long nodeId,
+        boolean isFirstIteration
+    ) {
+        messageIterator.hasMessage = receiveSlots.read(nodeId, messageIterator);
+    }
+
+    @Override
+    public void release() {
+        sendSlots.release();
+        receiveSlots.release();
+    }
+
+    /**
+     * Combined messages are not iterated, but read via the typed accessors of {@link Messages}.
+     */
+    public static final class CombinedMessageIterator implements Messages.MessageIterator {
+
+        private final Combiner combiner;
+        private final long[] longArrayMessage;
+        private final double[] doubleArrayMessage;
+
+        private long longMessage;
+        private boolean hasMessage;
+
+        CombinedMessageIterator(Combiner combiner) {
+            this.combiner = combiner;
+            this.longArrayMessage = combiner instanceof Combiner.OfLongArray
+                ? new long[((Combiner.OfLongArray) combiner).width()]
+                : null;
+            this.doubleArrayMessage = combiner instanceof Combiner.OfDoubleArray
+                ? new double[((Combiner.OfDoubleArray) combiner).width()]
+                : null;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return !hasMessage;
+        }
+
+        @Override
+        public boolean hasNext() {
+            throw notIterable();
+        }
+
+        @Override
+        public double nextDouble() {
+            throw notIterable();
+        }
+
+        @Override
+        public long longMessage() {
+            validate(Combiner.OfLong.class);
+            return longMessage;
+        }
+
+        @Override
+        public long[] longArrayMessage() {
+            validate(Combiner.OfLongArray.class);
+            return longArrayMessage;
+        }
+
+        @Override
+        public double[] doubleArrayMessage() {
+            validate(Combiner.OfDoubleArray.class);
+            return doubleArrayMessage;
+        }
+
+        private void validate(Class<? extends Combiner> expectedCombiner) {
+            if (!expectedCombiner.isInstance(combiner)) {
+                throw new UnsupportedOperationException(formatWithLocale(
+                    "The combined message is of type `%s`.",
+                    combiner.valueType()
+                ));
+            }
+            if (!hasMessage) {
+                throw new NoSuchElementException("The node did not receive a message.");
+            }
+        }
+
+        private UnsupportedOperationException notIterable() {
+            return new UnsupportedOperationException(formatWithLocale(
+                "Combined messages of type `%s` cannot be iterated, use the typed accessors instead.",
+                combiner.valueType()
+            ));
+        }
+    }
+
+    private abstract static class Slots {
+
+        final HugeAtomicBitSet received;
+
+        static Slots create(long nodeCount, Combiner combiner) {
+            if (combiner instanceof Combiner.OfLong) {
+                return new LongSlots(nodeCount, (Combiner.OfLong) combiner);
+            }
+            if (combiner instanceof Combiner.OfLongArray) {
+                return new LongArraySlots(nodeCount, (Combiner.OfLongArray) combiner);
+            }
+            if (combiner instanceof Combiner.OfDoubleArray) {
+                return new DoubleArraySlots(nodeCount, (Combiner.OfDoubleArray) combiner);
+            }
+            throw unsupportedCombiner(combiner);
+        }
+
+        static long memoryEstimation(long nodeCount, Combiner combiner) {
+            long receivedBits = HugeAtomicBitSet.memoryEstimation(nodeCount);
+            if (combiner instanceof Combiner.OfLong) {
+                return receivedBits + HugeAtomicLongArray.memoryEstimation(nodeCount);
+            }
+            if (combiner instanceof Combiner.OfLongArray) {
+                var width = ((Combiner.OfLongArray) combiner).width();
+                return receivedBits
+                       + HugeLongArray.memoryEstimation(nodeCount * width)
+                       + STRIPES * sizeOfLongArray(width);
+            }
+            if (combiner instanceof Combiner.OfDoubleArray) {
+                var width = ((Combiner.OfDoubleArray) combiner).width();
+                return receivedBits
+                       + HugeDoubleArray.memoryEstimation(nodeCount * width)
+                       + STRIPES * sizeOfDoubleArray(width);
+            }
+            throw unsupportedCombiner(combiner);
+        }
+
+        private static IllegalArgumentException unsupportedCombiner(Combiner combiner) {
+            return new IllegalArgumentException(formatWithLocale(
+                "Unsupported combiner for messages of type `%s`.",
+                combiner.valueType()
+            ));
+        }
+
+        Slots(long nodeCount) {
+            this.received = HugeAtomicBitSet.create(nodeCount);
+        }
+
+        /**
+         * Copies the message of the given node into the iterator and resets the slot.
+         *
+         * @return false, iff the node did not receive a message
+         */
+        boolean read(long nodeId, CombinedMessageIterator iterator) {
+            if (!received.get(nodeId)) {
+                return false;
+            }
+            received.clear(nodeId);
+            readAndReset(nodeId, iterator);
+            return true;
+        }
+
+        abstract void readAndReset(long nodeId, CombinedMessageIterator iterator);
+
+        void combine(long nodeId, long message) {
+            throw unexpectedMessage(ValueType.LONG);
+        }
+
+        void combine(long nodeId, long[] message) {
+            throw unexpectedMessage(ValueType.LONG_ARRAY);
+        }
+
+        void combine(long nodeId, double[] message) {
+            throw unexpectedMessage(ValueType.DOUBLE_ARRAY);
+        }
+
+        abstract ValueType valueType();
+
+        abstract void release();
+
+        private UnsupportedOperationException unexpectedMessage(ValueType messageType) {
+            return new UnsupportedOperationException(formatWithLocale(
+                "Cannot send a message of type `%s`, the combiner expects messages of type `%s`.",
+                messageType,
+                valueType()
+            ));
+        }
+
+        static void validateWidth(int width, int messageWidth) {
+            if (messageWidth != width) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Expected a message of width %d, but got %d.",
+                    width,
+                    messageWidth
+                ));
+            }
+        }
+    }
+
+    private static final class LongSlots extends Slots {
+
+        private final Combiner.OfLong combiner;
+        private final HugeAtomicLongArray values;
+
+        LongSlots(long nodeCount, Combiner.OfLong combiner) {
+            super(nodeCount);
+            this.combiner = combiner;
+            this.values = HugeAtomicLongArray.newArray(nodeCount);
+            this.values.setAll(combiner.identity());
+        }
+
+        @Override
+        void combine(long nodeId, long message) {
+            values.update(nodeId, current -> combiner.combine(current, message));
+            received.set(nodeId);
+        }
+
+        @Override
+        void readAndReset(long nodeId, CombinedMessageIterator iterator) {
+            iterator.longMessage = values.get(nodeId);
+            values.set(nodeId, combiner.identity());
+        }
+
+        @Override
+        ValueType valueType() {
+            return ValueType.LONG;
+        }
+
+        @Override
+        void release() {
+            values.release();
+        }
+    }
+
+    private static final class LongArraySlots extends Slots {
+
+        private final Combiner.OfLongArray combiner;
+        private final int width;
+        private final HugeLongArray values;
+        // one scratch array per lock stripe, also used as the lock
+        private final long[][] stripes;
+
+        LongArraySlots(long nodeCount, Combiner.OfLongArray combiner) {
+            super(nodeCount);
+            this.combiner = combiner;
+            this.width = combiner.width();
+            this.values = HugeLongArray.newArray(nodeCount * width);
+            this.values.fill(combiner.identity());
+            this.stripes = new long[STRIPES][width];
+        }
+
+        @Override
+        void combine(long nodeId, long[] message) {
+            validateWidth(width, message.length);
+            long offset = nodeId * width;
+            var current = stripes[(int) (nodeId & STRIPE_MASK)];
+            synchronized (current) {
+                for (int i = 0; i < width; i++) {
+                    current[i] = values.get(offset + i);
+                }
+                combiner.combine(current, message);
+                for (int i = 0; i < width; i++) {
+                    values.set(offset + i, current[i]);
+                }
+            }
+            received.set(nodeId);
+        }
+
+        @Override
+        void readAndReset(long nodeId, CombinedMessageIterator iterator) {
+            long offset = nodeId * width;
+            var identity = combiner.identity();
+            for (int i = 0; i < width; i++) {
+                iterator.longArrayMessage[i] = values.get(offset + i);
+                values.set(offset + i, identity);
+            }
+        }
+
+        @Override
+        ValueType valueType() {
+            return ValueType.LONG_ARRAY;
+        }
+
+        @Override
+        void release() {
+            values.release();
+        }
+    }
+
+    private static final class DoubleArraySlots extends Slots {
+
+        private final Combiner.OfDoubleArray combiner;
+        private final int width;
+        private final HugeDoubleArray values;
+        // one scratch array per lock stripe, also used as the lock
+        private final double[][] stripes;
+
+        DoubleArraySlots(long nodeCount, Combiner.OfDoubleArray combiner) {
+            super(nodeCount);
+            this.combiner = combiner;
+            this.width = combiner.width();
+            this.values = HugeDoubleArray.newArray(nodeCount * width);
+            this.values.fill(combiner.identity());
+            this.stripes = new double[STRIPES][width];
+        }
+
+        @Override
+        void combine(long nodeId, double[] message) {
+            validateWidth(width, message.length);
+            long offset = nodeId * width;
+            var current = stripes[(int) (nodeId & STRIPE_MASK)];
+            synchronized (current) {
+                for (int i = 0; i < width; i++) {
+                    current[i] = values.get(offset + i);
+                }
+                combiner.combine(current, message);
+                for (int i = 0; i < width; i++) {
+                    values.set(offset + i, current[i]);
+                }
+            }
+            received.set(nodeId);
+        }
+
+        @Override
+        void readAndReset(long nodeId, CombinedMessageIterator iterator) {
+            long offset = nodeId * width;
+            var identity = combiner.identity();
+            for (int i = 0; i < width; i++) {
+                iterator.doubleArrayMessage[i] = values.get(offset + i);
+                values.set(offset + i, identity);
+            }
+        }
+
+        @Override
+        ValueType valueType() {
+            return ValueType.DOUBLE_ARRAY;
+        }
+
+        @Override
+        void release() {
+            values.release();
+        }
+    }
+}
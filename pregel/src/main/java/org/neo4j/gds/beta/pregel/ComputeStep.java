@@ -41,6 +41,8 @@ public interface ComputeStep<CONFIG extends PregelConfig, ITERATOR extends Messa
 
     Messenger<ITERATOR> messenger();
 
+    Frontier frontier();
+
     Partition nodeBatch();
 
     InitContext<CONFIG> initContext();
@@ -81,7 +83,40 @@ public interface ComputeStep<CONFIG extends PregelConfig, ITERATOR extends Messa
 
     void sendTo(long targetNodeId, double message);
 
+    /**
+     * Records that a message has been sent to the given node.
+     */
+    void messageSent(long targetNodeId);
+
+    /**
+     * Records that a message has been stored for all neighbors of a node, see {@link Messenger#sendToNeighbors(long, double)}.
+     *
+     * @param degree the number of neighbors that receive the message
+     */
+    void messageSentToNeighbors(int degree);
+
+    /**
+     * Records the measurements of the current node batch, see {@link SuperstepRecorder}.
+     */
+    void batchComputed(long computedNodes, long elapsedNanos);
+
+    default void sendLongTo(long targetNodeId, long message) {
+        messenger().sendLongTo(targetNodeId, message);
+        messageSent(targetNodeId);
+    }
+
+    default void sendLongArrayTo(long targetNodeId, long[] message) {
+        messenger().sendLongArrayTo(targetNodeId, message);
+        messageSent(targetNodeId);
+    }
+
+    default void sendDoubleArrayTo(long targetNodeId, double[] message) {
+        messenger().sendDoubleArrayTo(targetNodeId, message);
+        messageSent(targetNodeId);
+    }
+
     default void computeBatch() {
+        var start = System.nanoTime();
         var messenger = messenger();
         var messageIterator = messenger.messageIterator();
         var messages = new Messages(messageIterator);
@@ -91,25 +126,47 @@ public interface ComputeStep<CONFIG extends PregelConfig, ITERATOR extends Messa
         var initContext = initContext();
         var computeContext = computeContext();
         var voteBits = voteBits();
+        var frontier = frontier();
+        var graph = graph();
+        var isGathering = messenger.isGathering();
+        var computedNodes = new MutableLong();
 
-        nodeBatch.consume(nodeId -> {
+        LongConsumer computeNode = nodeId -> {
             if (computeContext.isInitialSuperstep()) {
                 initContext.setNodeId(nodeId);
                 computation.init(initContext);
             }
 
             messenger.initMessageIterator(messageIterator, nodeId, computeContext.isInitialSuperstep());
+            if (isGathering) {
+                messenger.gatherMessages(messageIterator, nodeId, graph);
+            }
 
             if (!messages.isEmpty() || !voteBits.get(nodeId)) {
                 voteBits.clear(nodeId);
                 computeContext.setNodeId(nodeId);
                 computation.compute(computeContext, messages);
+                computedNodes.increment();
+                if (!voteBits.get(nodeId)) {
+                    frontier.activate(nodeId);
+                }
             }
-        });
+        };
+
+        if (frontier.isSparse()) {
+            // the batch is a range of indices into the active nodes
+            nodeBatch.consume(index -> computeNode.accept(frontier.activeNode(index)));
+        } else {
+            nodeBatch.consume(computeNode);
+        }
         progressTracker().logProgress(nodeBatch.nodeCount());
+        batchComputed(computedNodes.longValue(), System.nanoTime() - start);
     }
 
     default void sendToNeighbors(long sourceNodeId, double message) {
+        if (sendToAllNeighbors(sourceNodeId, message)) {
+            return;
+        }
         graph().forEachRelationship(sourceNodeId, (ignored, targetNodeId) -> {
             sendTo(targetNodeId, message);
             return true;
@@ -117,12 +174,27 @@ public interface ComputeStep<CONFIG extends PregelConfig, ITERATOR extends Messa
     }
 
     default void sendToNeighborsWeighted(long sourceNodeId, double message) {
+        // the receivers apply the relationship weight while gathering
+        if (sendToAllNeighbors(sourceNodeId, message)) {
+            return;
+        }
         graph().forEachRelationship(sourceNodeId, 1.0, (ignored, targetNodeId, weight) -> {
             sendTo(targetNodeId, computation().applyRelationshipWeight(message, weight));
             return true;
         });
     }
 
+    private boolean sendToAllNeighbors(long sourceNodeId, double message) {
+        if (messenger().sendToNeighbors(sourceNodeId, message)) {
+            var degree = degree(sourceNodeId);
+            if (degree > 0) {
+                messageSentToNeighbors(degree);
+            }
+            return true;
+        }
+        return false;
+    }
+
     default void forEachNeighbor(long sourceNodeId, LongConsumer targetConsumer) {
         graph().forEachRelationship(sourceNodeId, (ignored, targetNodeId) -> {
             targetConsumer.accept(targetNodeId);
@@ -19,24 +19,23 @@
  */
 package org.neo4j.gds.beta.pregel;
 
-import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.beta.pregel.context.ComputeContext;
 import org.neo4j.gds.beta.pregel.context.InitContext;
 import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
 import org.neo4j.gds.core.utils.partition.Partition;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
-import org.neo4j.gds.mem.BitUtil;
 
-import java.util.concurrent.CountedCompleter;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+/**
+ * Worker state of the {@link ForkJoinComputer}.
+ * Node batches are handed out by the work-stealing scheduler,
+ * a step computes one batch at a time on the current thread.
+ */
 public final class ForkJoinComputeStep<CONFIG extends PregelConfig, ITERATOR extends Messages.MessageIterator>
-    extends CountedCompleter<Void>
     implements ComputeStep<CONFIG, ITERATOR> {
 
-    private static final int SEQUENTIAL_THRESHOLD = 1000;
-
     private final Graph graph;
     private final CONFIG config;
 
@@ -44,12 +43,16 @@ public final class ForkJoinComputeStep<CONFIG extends PregelConfig, ITERATOR ext
     private final ComputeContext<CONFIG> computeContext;
     private final NodeValue nodeValue;
     private final HugeAtomicBitSet voteBits;
+    private final Frontier frontier;
+    private final SuperstepRecorder superstepRecorder;
+    private final int partition;
     private final Messenger<ITERATOR> messenger;
     private final PregelComputation<CONFIG> computation;
 
     private Partition nodeBatch;
     private final int iteration;
     private boolean hasSendMessage;
+    private long sentMessages;
     private final AtomicBoolean sentMessage;
     private final ProgressTracker progressTracker;
 
@@ -58,21 +61,23 @@ public final class ForkJoinComputeStep<CONFIG extends PregelConfig, ITERATOR ext
         PregelComputation<CONFIG> computation,
         CONFIG config,
         int iteration,
-        Partition nodeBatch,
         NodeValue nodeValue,
         Messenger<ITERATOR> messenger,
         HugeAtomicBitSet voteBits,
-        @Nullable CountedCompleter<Void> parent,
+        Frontier frontier,
+        SuperstepRecorder superstepRecorder,
+        int partition,
         AtomicBoolean sentMessage,
         ProgressTracker progressTracker
     ) {
-        super(parent);
         this.graph = graph;
         this.config = config;
         this.iteration = iteration;
         this.computation = computation;
         this.voteBits = voteBits;
-        this.nodeBatch = nodeBatch;
+        this.frontier = frontier;
+        this.superstepRecorder = superstepRecorder;
+        this.partition = partition;
         this.nodeValue = nodeValue;
         this.messenger = messenger;
         this.computeContext = new ComputeContext<>(this, config, progressTracker);
@@ -81,45 +86,13 @@ public final class ForkJoinComputeStep<CONFIG extends PregelConfig, ITERATOR ext
         this.initContext = new InitContext<>(this, config, graph, progressTracker);
     }
 
-    @Override
-    public void compute() {
-        if (nodeBatch.nodeCount() >= SEQUENTIAL_THRESHOLD) {
-            long startNode = nodeBatch.startNode();
-            long batchSize = nodeBatch.nodeCount();
-            boolean isEven = batchSize % 2 == 0;
-
-            long pivot = BitUtil.ceilDiv(batchSize, 2);
-
-            var rightBatch = isEven
-                ? Partition.of(startNode + pivot, pivot)
-                : Partition.of(startNode + pivot, pivot - 1);
-
-            var leftBatch = Partition.of(startNode, pivot);
-
-            var leftTask = new ForkJoinComputeStep<>(
-                graph.concurrentCopy(),
-                computation,
-                config,
-                iteration,
-                leftBatch,
-                nodeValue,
-                messenger,
-                voteBits,
-                this,
-                sentMessage,
-                progressTracker
-            );
-
-            this.nodeBatch = rightBatch;
-
-            addToPendingCount(1);
-            leftTask.fork();
-
-            this.compute();
-        } else {
-            computeBatch();
-            this.sentMessage.set(hasSendMessage);
-            tryComplete();
+    void compute(Partition nodeBatch) {
+        this.nodeBatch = nodeBatch;
+        this.hasSendMessage = false;
+        computeBatch();
+        // only ever raise the flag, other workers might have sent messages already
+        if (hasSendMessage) {
+            this.sentMessage.set(true);
         }
     }
 
@@ -148,6 +121,11 @@ public final class ForkJoinComputeStep<CONFIG extends PregelConfig, ITERATOR ext
         return messenger;
     }
 
+    @Override
+    public Frontier frontier() {
+        return frontier;
+    }
+
     @Override
     public Partition nodeBatch() {
         return nodeBatch;
@@ -176,6 +154,25 @@ public final class ForkJoinComputeStep<CONFIG extends PregelConfig, ITERATOR ext
     @Override
     public void sendTo(long targetNodeId, double message) {
         messenger.sendTo(targetNodeId, message);
+        messageSent(targetNodeId);
+    }
+
+    @Override
+    public void messageSent(long targetNodeId) {
+        frontier.activate(targetNodeId);
         hasSendMessage = true;
+        sentMessages++;
+    }
+
+    @Override
+    public void messageSentToNeighbors(int degree) {
+        hasSendMessage = true;
+        sentMessages += degree;
+    }
+
+    @Override
+    public void batchComputed(long computedNodes, long elapsedNanos) {
+        superstepRecorder.recordBatch(partition, nodeBatch.nodeCount(), computedNodes, sentMessages, elapsedNanos);
+        sentMessages = 0;
     }
 }
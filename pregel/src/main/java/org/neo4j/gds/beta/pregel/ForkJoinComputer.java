@@ -20,19 +20,23 @@
 package org.neo4j.gds.beta.pregel;
 
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.WorkStealingScheduler;
 import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
-import org.neo4j.gds.core.utils.partition.Partition;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class ForkJoinComputer<CONFIG extends PregelConfig> extends PregelComputer<CONFIG> {
 
     private final ForkJoinPool forkJoinPool;
 
+    private WorkStealingScheduler denseScheduler;
+    private WorkStealingScheduler scheduler;
     private AtomicBoolean sentMessage;
-    private ForkJoinComputeStep<CONFIG, ?> rootTask;
+    private AtomicInteger workerCount;
+    private int iteration;
 
     ForkJoinComputer(
         Graph graph,
@@ -50,30 +54,41 @@ public class ForkJoinComputer<CONFIG extends PregelConfig> extends PregelCompute
 
     @Override
     public void initComputation() {
-        // silence is golden
+        // The cost of computing a node is dominated by the messages it sends to its neighbours.
+        this.denseScheduler = WorkStealingScheduler.degreeWeighted(graph, config.concurrency());
+        // the scheduler creates at most one compute step per pool thread and one for the submitting thread
+        superstepRecorder.initPartitions(forkJoinPool.getParallelism() + 1);
     }
 
     @Override
     public void initIteration(int iteration) {
         this.sentMessage = new AtomicBoolean(false);
-        this.rootTask = new ForkJoinComputeStep<>(
-            graph,
-            computation,
-            config,
-            iteration,
-            Partition.of(0, graph.nodeCount()),
-            nodeValues,
-            messenger,
-            voteBits,
-            null,
-            sentMessage,
-            progressTracker
-        );
+        this.workerCount = new AtomicInteger();
+        this.iteration = iteration;
+
+        initFrontier(iteration);
+        // In sparse supersteps the scheduled ids are indices into the frontier.
+        this.scheduler = frontier.isSparse()
+            ? WorkStealingScheduler.weighted(
+                frontier.size(),
+                index -> graph.degree(frontier.activeNode(index)) + 1,
+                config.concurrency()
+            )
+            : denseScheduler;
     }
 
     @Override
     public void runIteration() {
-        forkJoinPool.invoke(rootTask);
+        scheduler.<ForkJoinComputeStep<CONFIG, ?>>run(
+            forkJoinPool,
+            this::createComputeStep,
+            (computeStep, nodeBatch) -> computeStep.compute(nodeBatch)
+        );
+
+        if (frontier.isSparse()) {
+            // skipped nodes count as computed
+            progressTracker.logProgress(graph.nodeCount() - frontier.size());
+        }
     }
 
     @Override
@@ -85,4 +100,21 @@ public class ForkJoinComputer<CONFIG extends PregelConfig> extends PregelCompute
     void release() {
         forkJoinPool.shutdown();
     }
+
+    private ForkJoinComputeStep<CONFIG, ?> createComputeStep() {
+        return new ForkJoinComputeStep<>(
+            graph.concurrentCopy(),
+            computation,
+            config,
+            iteration,
+            nodeValues,
+            messenger,
+            voteBits,
+            frontier,
+            superstepRecorder,
+            workerCount.getAndIncrement(),
+            sentMessage,
+            progressTracker
+        );
+    }
 }
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tracks the nodes that need to be computed in the next superstep,
+ * i.e. the nodes that received a message and the nodes that did not vote to halt.
+ *
+ * As long as these are only a small fraction of all nodes, they are collected in a compact list
+ * and the next superstep only iterates that list (sparse).
+ * Once the list would grow beyond its capacity, collecting stops and
+ * the next superstep iterates all nodes and checks their vote bits (dense).
+ */
+public final class Frontier {
+
+    // Below one active node in SPARSE_RATIO nodes, iterating the list is cheaper than scanning all nodes.
+    static final int SPARSE_RATIO = 20;
+
+    private ActiveNodes current;
+    private ActiveNodes next;
+    private boolean sparse;
+
+    static Frontier create(long nodeCount) {
+        var capacity = capacity(nodeCount);
+        return new Frontier(new ActiveNodes(nodeCount, capacity), new ActiveNodes(nodeCount, capacity));
+    }
+
+    static MemoryEstimation memoryEstimation() {
+        return MemoryEstimations.builder(Frontier.class)
+            .perNode("current members", HugeAtomicBitSet::memoryEstimation)
+            .perNode("next members", HugeAtomicBitSet::memoryEstimation)
+            .perNode("current nodes", nodeCount -> HugeLongArray.memoryEstimation(capacity(nodeCount)))
+            .perNode("next nodes", nodeCount -> HugeLongArray.memoryEstimation(capacity(nodeCount)))
+            .build();
+    }
+
+    private static long capacity(long nodeCount) {
+        return Math.max(1, nodeCount / SPARSE_RATIO);
+    }
+
+    private Frontier(ActiveNodes current, ActiveNodes next) {
+        this.current = current;
+        this.next = next;
+    }
+
+    void initIteration(int iteration) {
+        initIteration(iteration, false);
+    }
+
+    /**
+     * Makes the nodes collected during the previous superstep the frontier of the given one.
+     * Must not be called concurrently with any other method.
+     *
+     * @param allNodesActive forces a dense superstep, e.g. if messages have not been tracked
+     */
+    void initIteration(int iteration, boolean allNodesActive) {
+        // the initial superstep has to initialize all nodes
+        this.sparse = iteration > 0 && !allNodesActive && next.isComplete();
+
+        var tmp = current;
+        this.current = next;
+        this.next = tmp;
+        this.next.clear();
+    }
+
+    /**
+     * Whether the current superstep only needs to compute the nodes in {@link #activeNode(long)}.
+     */
+    boolean isSparse() {
+        return sparse;
+    }
+
+    /**
+     * The number of active nodes in the current superstep, only defined if it is sparse.
+     */
+    long size() {
+        return current.size();
+    }
+
+    long activeNode(long index) {
+        return current.nodes.get(index);
+    }
+
+    /**
+     * Marks the given node to be computed in the next superstep.
+     */
+    void activate(long nodeId) {
+        next.add(nodeId);
+    }
+
+    private static final class ActiveNodes {
+        private final HugeAtomicBitSet members;
+        private final HugeLongArray nodes;
+        private final long capacity;
+        private final AtomicLong size;
+
+        ActiveNodes(long nodeCount, long capacity) {
+            this.members = HugeAtomicBitSet.create(nodeCount);
+            this.nodes = HugeLongArray.newArray(capacity);
+            this.capacity = capacity;
+            this.size = new AtomicLong();
+        }
+
+        void add(long nodeId) {
+            // the list is full, the next superstep is dense anyway
+            if (size.get() > capacity) {
+                return;
+            }
+            if (!members.getAndSet(nodeId)) {
+                var index = size.getAndIncrement();
+                if (index < capacity) {
+                    nodes.set(index, nodeId);
+                }
+            }
+        }
+
+        boolean isComplete() {
+            return size.get() <= capacity;
+        }
+
+        long size() {
+            return Math.min(size.get(), capacity);
+        }
+
+        void clear() {
+            if (isComplete()) {
+                var count = size();
+                for (long index = 0; index < count; index++) {
+                    members.clear(nodes.get(index));
+                }
+            } else {
+                members.clear();
+            }
+            size.set(0);
+        }
+    }
+}
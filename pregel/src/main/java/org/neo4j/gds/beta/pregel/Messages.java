@@ -34,6 +34,22 @@ public final class Messages implements Iterable<Double> {
 
     interface MessageIterator extends PrimitiveIterator.OfDouble {
         boolean isEmpty();
+
+        default long longMessage() {
+            throw noCombiner();
+        }
+
+        default long[] longArrayMessage() {
+            throw noCombiner();
+        }
+
+        default double[] doubleArrayMessage() {
+            throw noCombiner();
+        }
+
+        private static UnsupportedOperationException noCombiner() {
+            return new UnsupportedOperationException("Typed messages require the computation to specify a combiner.");
+        }
     }
 
     private final MessageIterator iterator;
@@ -50,4 +66,33 @@ public final class Messages implements Iterable<Double> {
     public boolean isEmpty() {
         return iterator.isEmpty();
     }
+
+    /**
+     * Returns the combined message of a computation that uses a {@link Combiner.OfLong}.
+     *
+     * @throws java.util.NoSuchElementException if the node did not receive a message
+     */
+    public long longMessage() {
+        return iterator.longMessage();
+    }
+
+    /**
+     * Returns the combined message of a computation that uses a {@link Combiner.OfLongArray}.
+     * The array is reused for the next node and must not be kept.
+     *
+     * @throws java.util.NoSuchElementException if the node did not receive a message
+     */
+    public long[] longArrayMessage() {
+        return iterator.longArrayMessage();
+    }
+
+    /**
+     * Returns the combined message of a computation that uses a {@link Combiner.OfDoubleArray}.
+     * The array is reused for the next node and must not be kept.
+     *
+     * @throws java.util.NoSuchElementException if the node did not receive a message
+     */
+    public double[] doubleArrayMessage() {
+        return iterator.doubleArrayMessage();
+    }
 }
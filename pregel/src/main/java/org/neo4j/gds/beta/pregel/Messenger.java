@@ -19,15 +19,65 @@
  */
 package org.neo4j.gds.beta.pregel;
 
+import org.neo4j.gds.api.Graph;
+
 public interface Messenger<ITERATOR extends Messages.MessageIterator> {
 
     void initIteration(int iteration);
 
     void sendTo(long targetNodeId, double message);
 
+    default void sendLongTo(long targetNodeId, long message) {
+        throw noCombiner();
+    }
+
+    default void sendLongArrayTo(long targetNodeId, long[] message) {
+        throw noCombiner();
+    }
+
+    default void sendDoubleArrayTo(long targetNodeId, double[] message) {
+        throw noCombiner();
+    }
+
+    /**
+     * Sends the message to all neighbors of the source node by storing it once,
+     * so that the receivers can gather it in the next superstep.
+     *
+     * @return false, iff the message has not been stored and needs to be pushed to every neighbor
+     */
+    default boolean sendToNeighbors(long sourceNodeId, double message) {
+        return false;
+    }
+
+    /**
+     * Chooses how messages to all neighbors are sent in the current superstep.
+     * Messengers that do not support gathering always push them.
+     *
+     * @param isDenseSuperstep whether many nodes are active in the current superstep
+     */
+    default void initDirection(boolean isDenseSuperstep) {}
+
+    /**
+     * Whether the receivers in the current superstep need to gather messages from their neighbors.
+     */
+    default boolean isGathering() {
+        return false;
+    }
+
+    /**
+     * Reduces the messages that the neighbors of the given node sent in the
+     * previous superstep into the initialized message iterator of that node.
+     * The graph must not be shared with other threads.
+     */
+    default void gatherMessages(ITERATOR messageIterator, long nodeId, Graph graph) {}
+
     ITERATOR messageIterator();
 
     void initMessageIterator(ITERATOR messageIterator, long nodeId, boolean isFirstIteration);
 
     void release();
+
+    private static UnsupportedOperationException noCombiner() {
+        return new UnsupportedOperationException("Typed messages require the computation to specify a combiner.");
+    }
 }
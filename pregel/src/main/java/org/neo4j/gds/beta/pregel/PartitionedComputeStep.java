@@ -32,8 +32,11 @@ public final class PartitionedComputeStep<CONFIG extends PregelConfig, ITERATOR
     private final InitContext<CONFIG> initContext;
     private final ComputeContext<CONFIG> computeContext;
     private final ProgressTracker progressTracker;
-    private final Partition nodeBatch;
+    private Partition nodeBatch;
     private final HugeAtomicBitSet voteBits;
+    private final Frontier frontier;
+    private final SuperstepRecorder superstepRecorder;
+    private final int partition;
     private final Messenger<ITERATOR> messenger;
     private final PregelComputation<CONFIG> computation;
 
@@ -41,6 +44,7 @@ public final class PartitionedComputeStep<CONFIG extends PregelConfig, ITERATOR
     private int iteration;
     private final NodeValue nodeValue;
     private boolean hasSentMessage;
+    private long sentMessages;
 
     PartitionedComputeStep(
         Graph graph,
@@ -51,6 +55,9 @@ public final class PartitionedComputeStep<CONFIG extends PregelConfig, ITERATOR
         NodeValue nodeValue,
         Messenger<ITERATOR> messenger,
         HugeAtomicBitSet voteBits,
+        Frontier frontier,
+        SuperstepRecorder superstepRecorder,
+        int partition,
         ProgressTracker progressTracker
     ) {
         this.graph = graph;
@@ -58,6 +65,9 @@ public final class PartitionedComputeStep<CONFIG extends PregelConfig, ITERATOR
         this.nodeValue = nodeValue;
         this.computation = computation;
         this.voteBits = voteBits;
+        this.frontier = frontier;
+        this.superstepRecorder = superstepRecorder;
+        this.partition = partition;
         this.nodeBatch = nodeBatch;
         this.messenger = messenger;
         this.computeContext = new ComputeContext<>(this, config, progressTracker);
@@ -95,6 +105,11 @@ public final class PartitionedComputeStep<CONFIG extends PregelConfig, ITERATOR
         return messenger;
     }
 
+    @Override
+    public Frontier frontier() {
+        return frontier;
+    }
+
     @Override
     public Partition nodeBatch() {
         return nodeBatch;
@@ -123,11 +138,31 @@ public final class PartitionedComputeStep<CONFIG extends PregelConfig, ITERATOR
     @Override
     public void sendTo(long targetNodeId, double message) {
         messenger.sendTo(targetNodeId, message);
+        messageSent(targetNodeId);
+    }
+
+    @Override
+    public void messageSent(long targetNodeId) {
+        frontier.activate(targetNodeId);
+        hasSentMessage = true;
+        sentMessages++;
+    }
+
+    @Override
+    public void messageSentToNeighbors(int degree) {
         hasSentMessage = true;
+        sentMessages += degree;
     }
 
-    void init(int iteration) {
+    @Override
+    public void batchComputed(long computedNodes, long elapsedNanos) {
+        superstepRecorder.recordBatch(partition, nodeBatch.nodeCount(), computedNodes, sentMessages, elapsedNanos);
+        sentMessages = 0;
+    }
+
+    void init(int iteration, Partition nodeBatch) {
         this.iteration = iteration;
+        this.nodeBatch = nodeBatch;
         this.hasSentMessage = false;
     }
 
@@ -26,11 +26,15 @@ import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
 import org.neo4j.gds.core.utils.partition.Partition;
 import org.neo4j.gds.core.utils.partition.PartitionUtils;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.mem.BitUtil;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
@@ -39,6 +43,7 @@ public class PartitionedComputer<CONFIG extends PregelConfig> extends PregelComp
     private final int concurrency;
 
     private List<PartitionedComputeStep<CONFIG, ?>> computeSteps;
+    private List<Partition> densePartitions;
 
     PartitionedComputer(
         Graph graph,
@@ -59,12 +64,22 @@ public class PartitionedComputer<CONFIG extends PregelConfig> extends PregelComp
     @Override
     public void initComputation() {
         this.computeSteps = createComputeSteps(voteBits);
+        superstepRecorder.initPartitions(computeSteps.size());
+        this.densePartitions = computeSteps
+            .stream()
+            .map(PartitionedComputeStep::nodeBatch)
+            .collect(Collectors.toList());
     }
 
     @Override
     public void initIteration(int iteration) {
-        for (var computeStep : computeSteps) {
-            computeStep.init(iteration);
+        initFrontier(iteration);
+
+        var partitions = frontier.isSparse()
+            ? sparsePartitions(frontier.size(), computeSteps.size())
+            : densePartitions;
+        for (int i = 0; i < computeSteps.size(); i++) {
+            computeSteps.get(i).init(iteration, partitions.get(i));
         }
     }
 
@@ -75,6 +90,11 @@ public class PartitionedComputer<CONFIG extends PregelConfig> extends PregelComp
             .tasks(computeSteps)
             .executor(executorService)
             .run();
+
+        if (frontier.isSparse()) {
+            // skipped nodes count as computed
+            progressTracker.logProgress(graph.nodeCount() - frontier.size());
+        }
     }
 
     @Override
@@ -93,8 +113,23 @@ public class PartitionedComputer<CONFIG extends PregelConfig> extends PregelComp
         // executor service (thread pool), since we use the shared global thread pool.
     }
 
+    /**
+     * Splits the indices of the active nodes evenly over the existing compute steps.
+     */
+    private static List<Partition> sparsePartitions(long activeNodes, int stepCount) {
+        var batchSize = BitUtil.ceilDiv(activeNodes, stepCount);
+        var partitions = new ArrayList<Partition>(stepCount);
+        for (int i = 0; i < stepCount; i++) {
+            var start = Math.min(i * batchSize, activeNodes);
+            var end = Math.min(start + batchSize, activeNodes);
+            partitions.add(Partition.of(start, end - start));
+        }
+        return partitions;
+    }
+
     @NotNull
     private List<PartitionedComputeStep<CONFIG, ?>> createComputeSteps(HugeAtomicBitSet voteBits) {
+        var partitionIndex = new AtomicInteger();
         Function<Partition, PartitionedComputeStep<CONFIG, ?>> partitionFunction = partition -> new PartitionedComputeStep<>(
             graph.concurrentCopy(),
             computation,
@@ -104,6 +139,9 @@ public class PartitionedComputer<CONFIG extends PregelConfig> extends PregelComp
             nodeValues,
             messenger,
             voteBits,
+            frontier,
+            superstepRecorder,
+            partitionIndex.getAndIncrement(),
             progressTracker
         );
 
@@ -29,7 +29,9 @@ import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.core.utils.progress.tasks.Task;
 import org.neo4j.gds.core.utils.progress.tasks.Tasks;
+import org.neo4j.gds.utils.GdsFeatureToggles;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
 
@@ -75,25 +77,67 @@ public final class Pregel<CONFIG extends PregelConfig> {
         );
     }
 
+    /**
+     * Estimates the memory of a computation on a graph of unknown orientation.
+     * Reducing computations gather messages on undirected graphs, which is included in the upper bound.
+     */
     public static MemoryEstimation memoryEstimation(PregelSchema pregelSchema, boolean isQueueBased, boolean isAsync) {
-        var estimationBuilder = MemoryEstimations.builder(Pregel.class)
-            .perNode("vote bits", HugeAtomicBitSet::memoryEstimation)
-            .perThread("compute steps", MemoryEstimations.builder(PartitionedComputeStep.class).build())
-            .add("node value", NodeValue.memoryEstimation(pregelSchema));
+        return memoryEstimation(pregelSchema, isQueueBased, isAsync, ReducingMessenger.memoryEstimation());
+    }
+
+    /**
+     * Estimates the memory of a computation, reducing computations on undirected graphs also gather messages.
+     */
+    public static MemoryEstimation memoryEstimation(
+        PregelSchema pregelSchema,
+        boolean isQueueBased,
+        boolean isAsync,
+        boolean isUndirected
+    ) {
+        return memoryEstimation(pregelSchema, isQueueBased, isAsync, ReducingMessenger.memoryEstimation(isUndirected));
+    }
+
+    private static MemoryEstimation memoryEstimation(
+        PregelSchema pregelSchema,
+        boolean isQueueBased,
+        boolean isAsync,
+        MemoryEstimation messageArrays
+    ) {
+        var estimationBuilder = estimationBuilder(pregelSchema);
 
         if (isQueueBased) {
             if (isAsync) {
                 estimationBuilder.add("message queues", AsyncQueueMessenger.memoryEstimation());
             } else {
-                estimationBuilder.add("message queues", SyncQueueMessenger.memoryEstimation());
+                var heapBudget = GdsFeatureToggles.PREGEL_MESSAGE_HEAP_BUDGET.get();
+                estimationBuilder.add("message queues", heapBudget > 0
+                    ? SpillingQueueMessenger.memoryEstimation(heapBudget)
+                    : SyncQueueMessenger.memoryEstimation());
             }
         } else {
-            estimationBuilder.add("message arrays", ReducingMessenger.memoryEstimation());
+            estimationBuilder.add("message arrays", messageArrays);
         }
 
         return estimationBuilder.build();
     }
 
+    /**
+     * Estimates the memory of a computation that specifies a {@link PregelComputation#combiner()}.
+     */
+    public static MemoryEstimation memoryEstimation(PregelSchema pregelSchema, Combiner combiner) {
+        return estimationBuilder(pregelSchema)
+            .add("message slots", CombiningMessenger.memoryEstimation(combiner))
+            .build();
+    }
+
+    private static MemoryEstimations.Builder estimationBuilder(PregelSchema pregelSchema) {
+        return MemoryEstimations.builder(Pregel.class)
+            .perNode("vote bits", HugeAtomicBitSet::memoryEstimation)
+            .perThread("compute steps", MemoryEstimations.builder(PartitionedComputeStep.class).build())
+            .add("node value", NodeValue.memoryEstimation(pregelSchema))
+            .add("frontier", Frontier.memoryEstimation());
+    }
+
     public static <CONFIG extends PregelConfig> Task progressTask(Graph graph, CONFIG config, String taskName) {
         return Tasks.iterativeDynamic(
             taskName,
@@ -130,12 +174,19 @@ public final class Pregel<CONFIG extends PregelConfig> {
         this.progressTracker = progressTracker;
 
         var reducer = computation.reducer();
+        var combiner = computation.combiner();
 
-        this.messenger = reducer.isPresent()
-            ? new ReducingMessenger(graph, config, reducer.get())
-            : config.isAsynchronous()
-                ? new AsyncQueueMessenger(graph.nodeCount())
-                : new SyncQueueMessenger(graph.nodeCount());
+        if (reducer.isPresent() && combiner.isPresent()) {
+            throw new IllegalArgumentException("A Pregel computation can either specify a reducer or a combiner, but not both.");
+        }
+
+        this.messenger = combiner.isPresent()
+            ? new CombiningMessenger(graph.nodeCount(), combiner.get())
+            : reducer.isPresent()
+                ? new ReducingMessenger(graph, config, reducer.get(), computation::applyRelationshipWeight)
+                : config.isAsynchronous()
+                    ? new AsyncQueueMessenger(graph.nodeCount())
+                    : syncQueueMessenger(graph.nodeCount());
 
         this.computer = PregelComputer.<CONFIG>builder()
             .graph(graph)
@@ -151,8 +202,16 @@ public final class Pregel<CONFIG extends PregelConfig> {
             .build();
     }
 
+    private static Messenger<?> syncQueueMessenger(long nodeCount) {
+        var heapBudget = GdsFeatureToggles.PREGEL_MESSAGE_HEAP_BUDGET.get();
+        return heapBudget > 0
+            ? new SpillingQueueMessenger(nodeCount, heapBudget)
+            : new SyncQueueMessenger(nodeCount);
+    }
+
     public PregelResult run() {
         boolean didConverge = false;
+        var superstepMetrics = new ArrayList<SuperstepMetrics>();
 
         computer.initComputation();
 
@@ -164,9 +223,18 @@ public final class Pregel<CONFIG extends PregelConfig> {
                 try {
                     progressTracker.beginSubTask();
 
-                    computer.initIteration(iteration);
+                    var messagingStart = System.nanoTime();
                     messenger.initIteration(iteration);
+                    var messagingNanos = System.nanoTime() - messagingStart;
+
+                    computer.initIteration(iteration);
+                    var computeStart = System.nanoTime();
                     computer.runIteration();
+                    var computeNanos = System.nanoTime() - computeStart;
+
+                    var metrics = computer.superstepMetrics(iteration, messagingNanos, computeNanos);
+                    superstepMetrics.add(metrics);
+                    metrics.toMap().forEach(progressTracker::setMetric);
                 } finally {
                     progressTracker.endSubTask();
                 }
@@ -187,6 +255,7 @@ public final class Pregel<CONFIG extends PregelConfig> {
                 .nodeValues(nodeValues)
                 .didConverge(didConverge)
                 .ranIterations(iteration)
+                .addAllSuperstepMetrics(superstepMetrics)
                 .build();
         } finally {
             progressTracker.endSubTask();
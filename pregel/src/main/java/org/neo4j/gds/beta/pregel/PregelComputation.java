@@ -103,6 +103,18 @@ public interface PregelComputation<C extends PregelConfig> {
         return Optional.empty();
     }
 
+    /**
+     * A combiner is the counterpart of a {@link #reducer()} for long messages
+     * and arrays of a fixed width. Those messages are sent via the typed
+     * methods of the compute context, e.g. {@code context.sendLongTo(target, id)},
+     * and read via the typed accessors of the messages, e.g. {@link Messages#longMessage()}.
+     *
+     * A computation can either specify a reducer or a combiner.
+     */
+    default Optional<Combiner> combiner() {
+        return Optional.empty();
+    }
+
     /**
      * If the input graph is weighted, i.e. relationships have a
      * property, this method can be overridden to apply that weight
@@ -36,6 +36,8 @@ abstract class PregelComputer<CONFIG extends PregelConfig> {
     final NodeValue nodeValues;
     final Messenger<?> messenger;
     final HugeAtomicBitSet voteBits;
+    final Frontier frontier;
+    final SuperstepRecorder superstepRecorder;
     final ProgressTracker progressTracker;
 
     PregelComputer(
@@ -53,17 +55,38 @@ abstract class PregelComputer<CONFIG extends PregelConfig> {
         this.nodeValues = nodeValues;
         this.messenger = messenger;
         this.voteBits = voteBits;
+        this.frontier = Frontier.create(graph.nodeCount());
+        this.superstepRecorder = new SuperstepRecorder();
         this.progressTracker = progressTracker;
     }
 
     abstract void initComputation();
 
+    /**
+     * Prepares the frontier of the given superstep and chooses the direction of its messages.
+     * Must be called after the messenger has been initialized for the superstep.
+     */
+    void initFrontier(int iteration) {
+        // gathered messages are not tracked, so every node might have received one
+        frontier.initIteration(iteration, messenger.isGathering());
+        // Gathering is worth it if a large share of the nodes is sending,
+        // which uses the same threshold as the frontier representation.
+        messenger.initDirection(!frontier.isSparse());
+    }
+
     abstract void initIteration(int iteration);
 
     abstract void runIteration();
 
     abstract boolean hasConverged();
 
+    /**
+     * Summarizes the superstep that has just been run, the durations are measured by the caller.
+     */
+    SuperstepMetrics superstepMetrics(int iteration, long messagingNanos, long computeNanos) {
+        return superstepRecorder.finishSuperstep(iteration, messagingNanos, computeNanos);
+    }
+
     abstract void release();
 
     static <CONFIG extends PregelConfig> ComputerBuilder<CONFIG> builder() {
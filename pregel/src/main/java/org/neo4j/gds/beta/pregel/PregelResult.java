@@ -21,6 +21,8 @@ package org.neo4j.gds.beta.pregel;
 
 import org.neo4j.gds.annotation.ValueClass;
 
+import java.util.List;
+
 @ValueClass
 public interface PregelResult {
 
@@ -29,4 +31,9 @@ public interface PregelResult {
     int ranIterations();
 
     boolean didConverge();
+
+    /**
+     * The measurements of every superstep that has been run, in order.
+     */
+    List<SuperstepMetrics> superstepMetrics();
 }
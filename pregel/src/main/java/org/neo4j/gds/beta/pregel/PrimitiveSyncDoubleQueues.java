@@ -110,18 +110,24 @@ public final class PrimitiveSyncDoubleQueues extends PrimitiveDoubleQueues {
     static class Iterator implements Messages.MessageIterator {
 
         double[] queue;
-        private int length;
+        private int end;
         private int pos;
+        private boolean isEmpty;
 
         void init(double[] queue, int length) {
+            init(queue, 0, length);
+        }
+
+        void init(double[] queue, int offset, int length) {
             this.queue = queue;
-            this.pos = 0;
-            this.length = length;
+            this.pos = offset;
+            this.end = offset + length;
+            this.isEmpty = length == 0;
         }
 
         @Override
         public boolean hasNext() {
-            return pos < length;
+            return pos < end;
         }
 
         @Override
@@ -131,7 +137,7 @@ public final class PrimitiveSyncDoubleQueues extends PrimitiveDoubleQueues {
 
         @Override
         public boolean isEmpty() {
-            return length == 0;
+            return isEmpty;
         }
     }
 }
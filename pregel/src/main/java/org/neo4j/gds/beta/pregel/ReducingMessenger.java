@@ -19,11 +19,17 @@
  */
 package org.neo4j.gds.beta.pregel;
 
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
 import org.neo4j.gds.core.utils.paged.HugeAtomicDoubleArray;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
+
+import java.util.function.DoubleBinaryOperator;
 
 /**
  * A messenger implementation that is backed by two double arrays used
@@ -37,24 +43,54 @@ public class ReducingMessenger implements Messenger<ReducingMessenger.SingleMess
     private final PregelConfig config;
     private final Reducer reducer;
 
+    private final DoubleBinaryOperator relationshipWeight;
+
     private HugeAtomicDoubleArray sendArray;
     private HugeAtomicDoubleArray receiveArray;
 
-    ReducingMessenger(Graph graph, PregelConfig config, Reducer reducer) {
+    // Only present if the graph is undirected, i.e. the relationships of a node are also its incoming ones.
+    @Nullable
+    private final Outbox[] outboxes;
+    @Nullable
+    private Outbox sendOutbox;
+    @Nullable
+    private Outbox receiveOutbox;
+
+    ReducingMessenger(Graph graph, PregelConfig config, Reducer reducer, DoubleBinaryOperator relationshipWeight) {
         assert !Double.isNaN(reducer.identity()): "identity element must not be NaN";
 
         this.graph = graph;
         this.config = config;
         this.reducer = reducer;
+        this.relationshipWeight = relationshipWeight;
 
         this.receiveArray = HugeAtomicDoubleArray.newArray(graph.nodeCount());
         this.sendArray = HugeAtomicDoubleArray.newArray(graph.nodeCount());
+
+        this.outboxes = graph.schema().isUndirected()
+            ? new Outbox[]{new Outbox(graph.nodeCount()), new Outbox(graph.nodeCount())}
+            : null;
+    }
+
+    static MemoryEstimation memoryEstimation(boolean isUndirected) {
+        var builder = MemoryEstimations.builder(ReducingMessenger.class)
+            .perNode("send array", HugeAtomicDoubleArray::memoryEstimation)
+            .perNode("receive array", HugeAtomicDoubleArray::memoryEstimation);
+        if (isUndirected) {
+            builder.perNode("outboxes", nodeCount -> 2 * Outbox.memoryEstimation(nodeCount));
+        }
+        return builder.build();
     }
 
+    /**
+     * Estimates the memory when the orientation of the graph is not known,
+     * the outboxes are only part of the upper bound.
+     */
     static MemoryEstimation memoryEstimation() {
         return MemoryEstimations.builder(ReducingMessenger.class)
             .perNode("send array", HugeAtomicDoubleArray::memoryEstimation)
             .perNode("receive array", HugeAtomicDoubleArray::memoryEstimation)
+            .rangePerNode("outboxes", nodeCount -> MemoryRange.of(0, 2 * Outbox.memoryEstimation(nodeCount)))
             .build();
     }
 
@@ -65,6 +101,16 @@ public class ReducingMessenger implements Messenger<ReducingMessenger.SingleMess
         this.receiveArray = sendArray;
         this.sendArray = tmp;
 
+        // messages stored in the previous superstep are gathered in this one
+        this.receiveOutbox = iteration > 0 ? sendOutbox : null;
+        this.sendOutbox = null;
+
+        // Every node holding a message is visited and reset while reading it,
+        // so only the freshly allocated array needs to be filled with the identity.
+        if (iteration > 0) {
+            return;
+        }
+
         ParallelUtil.parallelForEachNode(
             graph,
             config.concurrency(),
@@ -72,6 +118,50 @@ public class ReducingMessenger implements Messenger<ReducingMessenger.SingleMess
         );
     }
 
+    @Override
+    public void initDirection(boolean isDenseSuperstep) {
+        if (outboxes == null || !isDenseSuperstep) {
+            return;
+        }
+        // The outbox that was gathered in the previous superstep is not needed anymore.
+        this.sendOutbox = outboxes[0] == receiveOutbox ? outboxes[1] : outboxes[0];
+        this.sendOutbox.clear();
+    }
+
+    @Override
+    public boolean sendToNeighbors(long sourceNodeId, double message) {
+        if (sendOutbox == null) {
+            return false;
+        }
+        sendOutbox.add(sourceNodeId, message, reducer);
+        return true;
+    }
+
+    @Override
+    public boolean isGathering() {
+        return receiveOutbox != null;
+    }
+
+    @Override
+    public void gatherMessages(SingleMessageIterator messageIterator, long nodeId, Graph graph) {
+        var outbox = receiveOutbox;
+        if (config.hasRelationshipWeightProperty()) {
+            graph.forEachRelationship(nodeId, 1.0, (ignored, neighbor, weight) -> {
+                if (outbox.hasMessage(neighbor)) {
+                    messageIterator.reduce(relationshipWeight.applyAsDouble(outbox.message(neighbor), weight), reducer);
+                }
+                return true;
+            });
+        } else {
+            graph.forEachRelationship(nodeId, (ignored, neighbor) -> {
+                if (outbox.hasMessage(neighbor)) {
+                    messageIterator.reduce(outbox.message(neighbor), reducer);
+                }
+                return true;
+            });
+        }
+    }
+
     @Override
     public void sendTo(long targetNodeId, double message) {
         sendArray.update(
@@ -99,6 +189,53 @@ public class ReducingMessenger implements Messenger<ReducingMessenger.SingleMess
     public void release() {
         sendArray.release();
         receiveArray.release();
+        if (outboxes != null) {
+            for (var outbox : outboxes) {
+                outbox.release();
+            }
+        }
+    }
+
+    /**
+     * Holds the messages that nodes sent to all of their neighbors, which the neighbors gather instead
+     * of every message being pushed to them. Only the sender writes its slot, so no atomic update is needed.
+     */
+    private static final class Outbox {
+        private final HugeDoubleArray messages;
+        private final HugeAtomicBitSet senders;
+
+        static long memoryEstimation(long nodeCount) {
+            return HugeDoubleArray.memoryEstimation(nodeCount) + HugeAtomicBitSet.memoryEstimation(nodeCount);
+        }
+
+        Outbox(long nodeCount) {
+            this.messages = HugeDoubleArray.newArray(nodeCount);
+            this.senders = HugeAtomicBitSet.create(nodeCount);
+        }
+
+        void add(long sourceNodeId, double message, Reducer reducer) {
+            if (senders.getAndSet(sourceNodeId)) {
+                messages.set(sourceNodeId, reducer.reduce(messages.get(sourceNodeId), message));
+            } else {
+                messages.set(sourceNodeId, message);
+            }
+        }
+
+        boolean hasMessage(long nodeId) {
+            return senders.get(nodeId);
+        }
+
+        double message(long nodeId) {
+            return messages.get(nodeId);
+        }
+
+        void clear() {
+            senders.clear();
+        }
+
+        void release() {
+            messages.release();
+        }
     }
 
     static class SingleMessageIterator implements Messages.MessageIterator {
@@ -111,6 +248,11 @@ public class ReducingMessenger implements Messenger<ReducingMessenger.SingleMess
             this.hasNext = hasNext;
         }
 
+        void reduce(double value, Reducer reducer) {
+            this.message = reducer.reduce(message, value);
+            this.hasNext = true;
+        }
+
         @Override
         public boolean isEmpty() {
             return !hasNext;
@@ -0,0 +1,664 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.mem.BitUtil;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.stream.Collectors;
+
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfByteArray;
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfDoubleArray;
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfIntArray;
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfLongArray;
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfObjectArray;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * A synchronous messenger that stores the messages of a superstep in segments instead of per-node queues.
+ * <p>
+ * Every thread collects the messages it sends in a buffer. A full buffer is sorted by the block
+ * of the target nodes and stored as a segment. Segments are kept on heap as long as they fit
+ * into the heap budget, all other segments are written to a temporary spill file, which is
+ * memory-mapped back in large chunks at the beginning of the next superstep.
+ * <p>
+ * The messages of a block are collected from all segments when the first node of
+ * that block reads its messages and are dropped once all of them have been read.
+ * A block that receives more messages than fit into a single array is split into
+ * pages of consecutive nodes.
+ */
+public class SpillingQueueMessenger implements Messenger<PrimitiveSyncDoubleQueues.Iterator> {
+
+    static final int SEGMENT_SIZE = 1 << 18;
+
+    // Blocks contain at least 16384 nodes and there are at most 1024 blocks,
+    // which bounds the block offsets that are stored with every segment.
+    private static final int MIN_BLOCK_SHIFT = 14;
+    private static final int MAX_BLOCK_COUNT_SHIFT = 10;
+
+    // stays clear of the VM specific array size limit
+    static final int MAX_PAGE_SIZE = 1 << 30;
+
+    private static final double[] NO_MESSAGES = new double[0];
+
+    private final long nodeCount;
+    private final long heapBudget;
+    private final int segmentSize;
+    private final int maxPageSize;
+    private final int blockShift;
+    private final int blockCount;
+
+    private final AtomicLong heapSegmentsSize;
+    private final Queue<SendBuffer> sendBuffers;
+    private final ThreadLocal<SendBuffer> localSendBuffer;
+    private final Queue<Segment> sentSegments;
+    private volatile SpillFile spillFile;
+
+    private final AtomicLongArray pendingMessages;
+    private final AtomicReferenceArray<Block> blocks;
+    private final Object[] blockLocks;
+    private List<Segment> receivedSegments;
+
+    SpillingQueueMessenger(long nodeCount, long heapBudget) {
+        this(nodeCount, heapBudget, SEGMENT_SIZE, MAX_PAGE_SIZE);
+    }
+
+    SpillingQueueMessenger(long nodeCount, long heapBudget, int segmentSize) {
+        this(nodeCount, heapBudget, segmentSize, MAX_PAGE_SIZE);
+    }
+
+    SpillingQueueMessenger(long nodeCount, long heapBudget, int segmentSize, int maxPageSize) {
+        this.nodeCount = nodeCount;
+        this.heapBudget = heapBudget;
+        this.segmentSize = segmentSize;
+        this.maxPageSize = maxPageSize;
+        this.blockShift = blockShift(nodeCount);
+        this.blockCount = blockCount(nodeCount, blockShift);
+
+        this.heapSegmentsSize = new AtomicLong();
+        this.sendBuffers = new ConcurrentLinkedQueue<>();
+        this.localSendBuffer = ThreadLocal.withInitial(this::newSendBuffer);
+        this.sentSegments = new ConcurrentLinkedQueue<>();
+
+        this.pendingMessages = new AtomicLongArray(blockCount);
+        this.blocks = new AtomicReferenceArray<>(blockCount);
+        this.blockLocks = new Object[blockCount];
+        Arrays.setAll(blockLocks, ignore -> new Object());
+        this.receivedSegments = List.of();
+    }
+
+    static MemoryEstimation memoryEstimation(long heapBudget) {
+        return MemoryEstimations.builder(SpillingQueueMessenger.class)
+            .perGraphDimension("heap segments", (dimensions, concurrency) -> MemoryRange.of(Math.min(
+                heapBudget,
+                dimensions.relCountUpperBound() * (Double.BYTES + Integer.BYTES)
+            )))
+            .perThread("send buffers", sendBufferSize(SEGMENT_SIZE))
+            .perGraphDimension("received blocks", (dimensions, concurrency) -> {
+                var nodeCount = dimensions.nodeCount();
+                var blockShift = blockShift(nodeCount);
+                var blockCount = Math.max(1, blockCount(nodeCount, blockShift));
+                var blockSize = Math.min(1L << blockShift, nodeCount);
+                var relCount = dimensions.relCountUpperBound();
+                // every thread reads from about one block at a time
+                var blocks = concurrency * sizeOfIntArray(blockSize + 1)
+                             + sizeOfLongArray(blockCount)
+                             + 2 * sizeOfObjectArray(blockCount);
+                // at best the messages are spread evenly over the blocks,
+                // at worst the blocks that are read at the same time receive all messages of a superstep
+                var allMessages = sizeOfDoubleArray(relCount);
+                var evenlySpreadMessages = Math.min(
+                    concurrency * sizeOfDoubleArray(BitUtil.ceilDiv(relCount, blockCount)),
+                    allMessages
+                );
+                return MemoryRange.of(blocks + evenlySpreadMessages, blocks + allMessages);
+            })
+            .build();
+    }
+
+    @Override
+    public void initIteration(int iteration) {
+        sendBuffers.forEach(this::storeSegment);
+
+        // all messages of the previous superstep have been read
+        receivedSegments.forEach(segment -> heapSegmentsSize.addAndGet(-segment.heapSize()));
+
+        var segments = new ArrayList<Segment>(sentSegments.size());
+        Segment segment;
+        while ((segment = sentSegments.poll()) != null) {
+            segments.add(segment);
+        }
+
+        var spillFile = this.spillFile;
+        if (spillFile != null) {
+            spillFile.map(segments);
+            spillFile.remove();
+            this.spillFile = null;
+        }
+        this.receivedSegments = segments;
+
+        for (int blockIndex = 0; blockIndex < blockCount; blockIndex++) {
+            long messages = 0;
+            for (var receivedSegment : segments) {
+                messages += receivedSegment.blockOffsets[blockIndex + 1] - receivedSegment.blockOffsets[blockIndex];
+            }
+            pendingMessages.set(blockIndex, messages);
+            blocks.set(blockIndex, null);
+        }
+    }
+
+    @Override
+    public void sendTo(long targetNodeId, double message) {
+        var sendBuffer = localSendBuffer.get();
+        sendBuffer.targets[sendBuffer.length] = targetNodeId;
+        sendBuffer.messages[sendBuffer.length] = message;
+        if (++sendBuffer.length == segmentSize) {
+            storeSegment(sendBuffer);
+        }
+    }
+
+    @Override
+    public PrimitiveSyncDoubleQueues.Iterator messageIterator() {
+        return new PrimitiveSyncDoubleQueues.Iterator();
+    }
+
+    @Override
+    public void initMessageIterator(
+        PrimitiveSyncDoubleQueues.Iterator messageIterator,
+        long nodeId,
+        boolean isFirstIteration
+    ) {
+        int blockIndex = (int) (nodeId >>> blockShift);
+        var block = block(blockIndex);
+        if (block == null) {
+            messageIterator.init(NO_MESSAGES, 0);
+            return;
+        }
+
+        int localNodeId = (int) (nodeId - ((long) blockIndex << blockShift));
+        int page = block.page(localNodeId);
+        int offset = block.offsets[localNodeId];
+        int length = block.end(localNodeId, page) - offset;
+        messageIterator.init(block.pages[page], offset, length);
+
+        // every node reads its messages exactly once per superstep
+        if (length > 0 && pendingMessages.addAndGet(blockIndex, -length) == 0) {
+            synchronized (blockLocks[blockIndex]) {
+                blocks.set(blockIndex, null);
+            }
+        }
+    }
+
+    @Override
+    public void release() {
+        sendBuffers.forEach(SendBuffer::release);
+        sendBuffers.clear();
+        sentSegments.clear();
+        receivedSegments = List.of();
+        for (int blockIndex = 0; blockIndex < blockCount; blockIndex++) {
+            blocks.set(blockIndex, null);
+        }
+        var spillFile = this.spillFile;
+        if (spillFile != null) {
+            spillFile.remove();
+            this.spillFile = null;
+        }
+    }
+
+    private SendBuffer newSendBuffer() {
+        var sendBuffer = new SendBuffer(segmentSize);
+        sendBuffers.add(sendBuffer);
+        return sendBuffer;
+    }
+
+    private void storeSegment(SendBuffer sendBuffer) {
+        int length = sendBuffer.length;
+        if (length == 0) {
+            return;
+        }
+        sendBuffer.length = 0;
+
+        var targets = sendBuffer.targets;
+        var blockOffsets = new int[blockCount + 1];
+        for (int i = 0; i < length; i++) {
+            blockOffsets[(int) (targets[i] >>> blockShift) + 1]++;
+        }
+        for (int blockIndex = 0; blockIndex < blockCount; blockIndex++) {
+            blockOffsets[blockIndex + 1] += blockOffsets[blockIndex];
+        }
+
+        long heapSize = HeapSegment.heapSize(length);
+        if (heapSegmentsSize.addAndGet(heapSize) <= heapBudget) {
+            var localNodeIds = new int[length];
+            var messages = new double[length];
+            sortIntoBlocks(sendBuffer, length, blockOffsets, (index, localNodeId, message) -> {
+                localNodeIds[index] = localNodeId;
+                messages[index] = message;
+            });
+            sentSegments.add(new HeapSegment(blockOffsets, localNodeIds, messages));
+        } else {
+            heapSegmentsSize.addAndGet(-heapSize);
+            var buffer = sendBuffer.spillBuffer();
+            int messagesSize = length * Double.BYTES;
+            sortIntoBlocks(sendBuffer, length, blockOffsets, (index, localNodeId, message) -> {
+                buffer.putDouble(index * Double.BYTES, message);
+                buffer.putInt(messagesSize + index * Integer.BYTES, localNodeId);
+            });
+            buffer.limit(MappedSegment.fileSize(length)).position(0);
+            long position = spillFile().write(buffer);
+            buffer.clear();
+            sentSegments.add(new MappedSegment(blockOffsets, position, length));
+        }
+    }
+
+    private void sortIntoBlocks(SendBuffer sendBuffer, int length, int[] blockOffsets, SortedMessageConsumer consumer) {
+        var cursors = Arrays.copyOf(blockOffsets, blockCount);
+        var targets = sendBuffer.targets;
+        var messages = sendBuffer.messages;
+        for (int i = 0; i < length; i++) {
+            long target = targets[i];
+            int blockIndex = (int) (target >>> blockShift);
+            int localNodeId = (int) (target - ((long) blockIndex << blockShift));
+            consumer.accept(cursors[blockIndex]++, localNodeId, messages[i]);
+        }
+    }
+
+    private SpillFile spillFile() {
+        var spillFile = this.spillFile;
+        if (spillFile == null) {
+            synchronized (this) {
+                spillFile = this.spillFile;
+                if (spillFile == null) {
+                    spillFile = SpillFile.create();
+                    this.spillFile = spillFile;
+                }
+            }
+        }
+        return spillFile;
+    }
+
+    private Block block(int blockIndex) {
+        var block = blocks.get(blockIndex);
+        if (block != null) {
+            return block;
+        }
+        synchronized (blockLocks[blockIndex]) {
+            // the block has either no messages or all of them have been read
+            if (pendingMessages.get(blockIndex) == 0) {
+                return null;
+            }
+            block = blocks.get(blockIndex);
+            if (block == null) {
+                block = loadBlock(blockIndex);
+                blocks.set(blockIndex, block);
+            }
+            return block;
+        }
+    }
+
+    private Block loadBlock(int blockIndex) {
+        long blockStart = (long) blockIndex << blockShift;
+        int blockSize = (int) Math.min(1L << blockShift, nodeCount - blockStart);
+        var offsets = new int[blockSize];
+
+        // count the messages per node
+        for (var segment : receivedSegments) {
+            int end = segment.blockOffsets[blockIndex + 1];
+            for (int i = segment.blockOffsets[blockIndex]; i < end; i++) {
+                offsets[segment.localNodeId(i)]++;
+            }
+        }
+
+        // split the block into pages of consecutive nodes, the messages of a node never cross pages
+        int pageCount = 1;
+        long pageSize = 0;
+        for (int localNodeId = 0; localNodeId < blockSize; localNodeId++) {
+            int messages = offsets[localNodeId];
+            if (messages > maxPageSize) {
+                throw new IllegalStateException(formatWithLocale(
+                    "Node %d received %d messages in a single superstep, at most %d messages per node are supported.",
+                    blockStart + localNodeId,
+                    messages,
+                    maxPageSize
+                ));
+            }
+            if (pageSize + messages > maxPageSize) {
+                pageCount++;
+                pageSize = 0;
+            }
+            pageSize += messages;
+        }
+
+        // turn the counts into end offsets within the page of every node
+        var pageStarts = new int[pageCount + 1];
+        var pages = new double[pageCount][];
+        int page = 0;
+        pageSize = 0;
+        for (int localNodeId = 0; localNodeId < blockSize; localNodeId++) {
+            int messages = offsets[localNodeId];
+            if (pageSize + messages > maxPageSize) {
+                pages[page++] = new double[(int) pageSize];
+                pageStarts[page] = localNodeId;
+                pageSize = 0;
+            }
+            pageSize += messages;
+            offsets[localNodeId] = (int) pageSize;
+        }
+        pages[page] = new double[(int) pageSize];
+        pageStarts[pageCount] = blockSize;
+        var block = new Block(pageStarts, offsets, pages);
+
+        // filling from the end moves every offset back to the start of its node
+        for (var segment : receivedSegments) {
+            int end = segment.blockOffsets[blockIndex + 1];
+            for (int i = segment.blockOffsets[blockIndex]; i < end; i++) {
+                int localNodeId = segment.localNodeId(i);
+                block.pages[block.page(localNodeId)][--offsets[localNodeId]] = segment.message(i);
+            }
+        }
+
+        return block;
+    }
+
+    private static int blockShift(long nodeCount) {
+        int nodeShift = 64 - Long.numberOfLeadingZeros(Math.max(1, nodeCount - 1));
+        return Math.max(MIN_BLOCK_SHIFT, nodeShift - MAX_BLOCK_COUNT_SHIFT);
+    }
+
+    private static int blockCount(long nodeCount, int blockShift) {
+        return (int) BitUtil.ceilDiv(nodeCount, 1L << blockShift);
+    }
+
+    private static long sendBufferSize(int segmentSize) {
+        return sizeOfLongArray(segmentSize) + sizeOfDoubleArray(segmentSize) + sizeOfByteArray(MappedSegment.fileSize(segmentSize));
+    }
+
+    @FunctionalInterface
+    private interface SortedMessageConsumer {
+        void accept(int index, int localNodeId, double message);
+    }
+
+    private static final class SendBuffer {
+        private final int segmentSize;
+        private long[] targets;
+        private double[] messages;
+        private ByteBuffer spillBuffer;
+        private int length;
+
+        SendBuffer(int segmentSize) {
+            this.segmentSize = segmentSize;
+            this.targets = new long[segmentSize];
+            this.messages = new double[segmentSize];
+        }
+
+        ByteBuffer spillBuffer() {
+            if (spillBuffer == null) {
+                spillBuffer = ByteBuffer.allocate(MappedSegment.fileSize(segmentSize)).order(ByteOrder.nativeOrder());
+            }
+            return spillBuffer;
+        }
+
+        void release() {
+            // the buffer stays reachable from the thread that sent the messages
+            this.targets = null;
+            this.messages = null;
+            this.spillBuffer = null;
+        }
+    }
+
+    private abstract static class Segment {
+        final int[] blockOffsets;
+
+        Segment(int[] blockOffsets) {
+            this.blockOffsets = blockOffsets;
+        }
+
+        abstract int localNodeId(int index);
+
+        abstract double message(int index);
+
+        abstract long heapSize();
+    }
+
+    private static final class HeapSegment extends Segment {
+        private final int[] localNodeIds;
+        private final double[] messages;
+
+        static long heapSize(int length) {
+            return sizeOfIntArray(length) + sizeOfDoubleArray(length);
+        }
+
+        HeapSegment(int[] blockOffsets, int[] localNodeIds, double[] messages) {
+            super(blockOffsets);
+            this.localNodeIds = localNodeIds;
+            this.messages = messages;
+        }
+
+        @Override
+        int localNodeId(int index) {
+            return localNodeIds[index];
+        }
+
+        @Override
+        double message(int index) {
+            return messages[index];
+        }
+
+        @Override
+        long heapSize() {
+            return heapSize(messages.length);
+        }
+    }
+
+    /**
+     * A segment in the spill file, the messages are followed by the local node ids.
+     */
+    private static final class MappedSegment extends Segment {
+        private final long position;
+        private final int length;
+        private IntBuffer localNodeIds;
+        private DoubleBuffer messages;
+
+        static int fileSize(int length) {
+            // keeps the messages of the following segment aligned
+            return Math.toIntExact(BitUtil.align((long) length * (Double.BYTES + Integer.BYTES), Double.BYTES));
+        }
+
+        MappedSegment(int[] blockOffsets, long position, int length) {
+            super(blockOffsets);
+            this.position = position;
+            this.length = length;
+        }
+
+        void map(ByteBuffer chunk, int start) {
+            var segment = chunk.duplicate();
+            segment.limit(start + fileSize(length));
+            segment.position(start);
+            segment = segment.slice();
+            int messagesSize = length * Double.BYTES;
+            this.messages = segment
+                .duplicate()
+                .limit(messagesSize)
+                .slice()
+                .order(ByteOrder.nativeOrder())
+                .asDoubleBuffer();
+            this.localNodeIds = segment
+                .duplicate()
+                .position(messagesSize)
+                .slice()
+                .order(ByteOrder.nativeOrder())
+                .asIntBuffer();
+        }
+
+        @Override
+        int localNodeId(int index) {
+            return localNodeIds.get(index);
+        }
+
+        @Override
+        double message(int index) {
+            return messages.get(index);
+        }
+
+        @Override
+        long heapSize() {
+            return 0;
+        }
+    }
+
+    private static final class Block {
+        // the first local node id of every page, followed by the block size
+        final int[] pageStarts;
+        // the start offset of every node within its page
+        final int[] offsets;
+        final double[][] pages;
+
+        Block(int[] pageStarts, int[] offsets, double[][] pages) {
+            this.pageStarts = pageStarts;
+            this.offsets = offsets;
+            this.pages = pages;
+        }
+
+        int page(int localNodeId) {
+            if (pages.length == 1) {
+                return 0;
+            }
+            int page = Arrays.binarySearch(pageStarts, 0, pages.length, localNodeId);
+            // pages start at distinct nodes, otherwise the search returns the insertion point
+            return page >= 0 ? page : -page - 2;
+        }
+
+        int end(int localNodeId, int page) {
+            return localNodeId + 1 < pageStarts[page + 1] ? offsets[localNodeId + 1] : pages[page].length;
+        }
+    }
+
+    /**
+     * The segments that did not fit into the heap budget during one superstep.
+     * The file is mapped in chunks of up to 2 GiB and removed once the segments have been mapped,
+     * the mappings stay valid until they are garbage collected.
+     */
+    private static final class SpillFile {
+        // a single mapping cannot be larger than what a ByteBuffer can address
+        private static final long MAX_CHUNK_SIZE = Integer.MAX_VALUE;
+
+        private final Path file;
+        private final FileChannel channel;
+        private final AtomicLong fileSize;
+
+        static SpillFile create() {
+            try {
+                var file = Files.createTempFile("gds-pregel-messages-", ".segments");
+                var channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                return new SpillFile(file, channel);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not create spill file for Pregel messages", e);
+            }
+        }
+
+        private SpillFile(Path file, FileChannel channel) {
+            this.file = file;
+            this.channel = channel;
+            this.fileSize = new AtomicLong();
+        }
+
+        long write(ByteBuffer source) {
+            long position = fileSize.getAndAdd(source.remaining());
+            try {
+                while (source.hasRemaining()) {
+                    channel.write(source, position + source.position());
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not spill Pregel messages to " + file, e);
+            }
+            return position;
+        }
+
+        /**
+         * Maps the file in chunks of consecutive segments, every segment gets a slice of its chunk.
+         */
+        void map(List<Segment> segments) {
+            var mappedSegments = segments
+                .stream()
+                .filter(MappedSegment.class::isInstance)
+                .map(MappedSegment.class::cast)
+                .sorted(Comparator.comparingLong(segment -> segment.position))
+                .collect(Collectors.toList());
+
+            try {
+                int chunkStart = 0;
+                while (chunkStart < mappedSegments.size()) {
+                    long chunkPosition = mappedSegments.get(chunkStart).position;
+                    int chunkEnd = chunkStart;
+                    long chunkSize = 0;
+                    while (chunkEnd < mappedSegments.size()) {
+                        var segment = mappedSegments.get(chunkEnd);
+                        long segmentEnd = segment.position + MappedSegment.fileSize(segment.length) - chunkPosition;
+                        if (segmentEnd > MAX_CHUNK_SIZE) {
+                            break;
+                        }
+                        chunkSize = segmentEnd;
+                        chunkEnd++;
+                    }
+
+                    var chunk = channel.map(FileChannel.MapMode.READ_ONLY, chunkPosition, chunkSize);
+                    for (int i = chunkStart; i < chunkEnd; i++) {
+                        var segment = mappedSegments.get(i);
+                        segment.map(chunk, (int) (segment.position - chunkPosition));
+                    }
+                    chunkStart = chunkEnd;
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not map Pregel messages from " + file, e);
+            }
+        }
+
+        void remove() {
+            try {
+                channel.close();
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                // some platforms do not allow removing a file that is still mapped
+                file.toFile().deleteOnExit();
+            }
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.neo4j.gds.annotation.ValueClass;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Measurements of a single superstep of a Pregel computation.
+ * They are also reported as metrics of the corresponding compute iteration task.
+ */
+@ValueClass
+public interface SuperstepMetrics {
+
+    String ACTIVE_NODES = "activeNodes";
+    String MESSAGES_SENT = "messagesSent";
+    String MESSAGES_RECEIVED = "messagesReceived";
+    String COMPUTE_MICROS = "computeMicros";
+    String MESSAGING_MICROS = "messagingMicros";
+    String SLOWEST_PARTITION_MICROS = "slowestPartitionMicros";
+    String MEDIAN_PARTITION_MICROS = "medianPartitionMicros";
+
+    int iteration();
+
+    /**
+     * The number of nodes that have been computed, i.e. that had not voted to halt or received messages.
+     */
+    long activeNodes();
+
+    /**
+     * The number of messages sent by the computed nodes.
+     * A message sent to all neighbors counts once per neighbor.
+     */
+    long messagesSent();
+
+    /**
+     * The number of messages sent in the previous superstep, which are delivered in this superstep.
+     * Reducers and combiners condense them while they are being sent.
+     */
+    long messagesReceived();
+
+    /**
+     * The time in microseconds spent computing all nodes, including sending their messages.
+     */
+    long computeMicros();
+
+    /**
+     * The time in microseconds spent preparing the messages of the previous superstep for this superstep,
+     * e.g. swapping, resetting or spilling the message buffers.
+     */
+    long messagingMicros();
+
+    /**
+     * The time in microseconds spent on the slowest partition, the nodes computed by a single compute step.
+     */
+    long slowestPartitionMicros();
+
+    /**
+     * The median time in microseconds spent on a partition, compare to {@link #slowestPartitionMicros()} to detect skew.
+     */
+    long medianPartitionMicros();
+
+    default Map<String, Number> toMap() {
+        var metrics = new LinkedHashMap<String, Number>();
+        metrics.put(ACTIVE_NODES, activeNodes());
+        metrics.put(MESSAGES_SENT, messagesSent());
+        metrics.put(MESSAGES_RECEIVED, messagesReceived());
+        metrics.put(COMPUTE_MICROS, computeMicros());
+        metrics.put(MESSAGING_MICROS, messagingMicros());
+        metrics.put(SLOWEST_PARTITION_MICROS, slowestPartitionMicros());
+        metrics.put(MEDIAN_PARTITION_MICROS, medianPartitionMicros());
+        return metrics;
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects the measurements of the compute steps during a superstep.
+ * Every step reports once per computed batch of nodes.
+ * <p>
+ * A partition is the work of a single compute step within a superstep.
+ * Every step owns one slot of the partition arrays, which are only
+ * read after all steps of the superstep have finished.
+ */
+final class SuperstepRecorder {
+
+    private final LongAdder activeNodes;
+    private final LongAdder messagesSent;
+    private long[] partitionNodes;
+    private long[] partitionNanos;
+    private long previousMessagesSent;
+
+    SuperstepRecorder() {
+        this.activeNodes = new LongAdder();
+        this.messagesSent = new LongAdder();
+        this.partitionNodes = new long[0];
+        this.partitionNanos = new long[0];
+    }
+
+    /**
+     * Allocates the slots of the given number of partitions, the steps are assigned the indices {@code [0, partitionCount)}.
+     */
+    void initPartitions(int partitionCount) {
+        this.partitionNodes = new long[partitionCount];
+        this.partitionNanos = new long[partitionCount];
+    }
+
+    void recordBatch(int partition, long batchSize, long computedNodes, long sentMessages, long elapsedNanos) {
+        activeNodes.add(computedNodes);
+        messagesSent.add(sentMessages);
+        partitionNodes[partition] += batchSize;
+        partitionNanos[partition] += elapsedNanos;
+    }
+
+    /**
+     * Summarizes the recorded batches and starts recording the next superstep.
+     */
+    SuperstepMetrics finishSuperstep(int iteration, long messagingNanos, long computeNanos) {
+        // partitions without nodes, e.g. in sparse supersteps, would distort the median
+        var partitions = new long[partitionNanos.length];
+        int partitionCount = 0;
+        for (int partition = 0; partition < partitionNanos.length; partition++) {
+            if (partitionNodes[partition] > 0) {
+                partitions[partitionCount++] = partitionNanos[partition];
+            }
+        }
+        Arrays.sort(partitions, 0, partitionCount);
+        long slowestPartitionNanos = partitionCount == 0 ? 0 : partitions[partitionCount - 1];
+        long medianPartitionNanos = partitionCount == 0 ? 0 : partitions[(partitionCount - 1) / 2];
+        long sentMessages = messagesSent.sumThenReset();
+
+        var metrics = ImmutableSuperstepMetrics.builder()
+            .iteration(iteration)
+            .activeNodes(activeNodes.sumThenReset())
+            .messagesSent(sentMessages)
+            .messagesReceived(previousMessagesSent)
+            .computeMicros(TimeUnit.NANOSECONDS.toMicros(computeNanos))
+            .messagingMicros(TimeUnit.NANOSECONDS.toMicros(messagingNanos))
+            .slowestPartitionMicros(TimeUnit.NANOSECONDS.toMicros(slowestPartitionNanos))
+            .medianPartitionMicros(TimeUnit.NANOSECONDS.toMicros(medianPartitionNanos))
+            .build();
+
+        this.previousMessagesSent = sentMessages;
+        Arrays.fill(partitionNodes, 0);
+        Arrays.fill(partitionNanos, 0);
+        return metrics;
+    }
+}
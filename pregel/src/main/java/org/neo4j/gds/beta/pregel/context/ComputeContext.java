@@ -127,6 +127,56 @@ public final class ComputeContext<CONFIG extends PregelConfig> extends NodeCentr
         computeStep.sendTo(targetNodeId, message);
     }
 
+    /**
+     * Sends the given message to the target node.
+     * Requires the computation to specify a {@link org.neo4j.gds.beta.pregel.Combiner.OfLong}.
+     */
+    public void sendLongTo(long targetNodeId, long message) {
+        computeStep.sendLongTo(targetNodeId, message);
+    }
+
+    /**
+     * Sends the given message to all neighbors of the node.
+     * Relationship weights are not applied to typed messages.
+     */
+    public void sendLongToNeighbors(long message) {
+        computeStep.forEachNeighbor(nodeId, targetNodeId -> computeStep.sendLongTo(targetNodeId, message));
+    }
+
+    /**
+     * Sends the given message to the target node.
+     * Requires the computation to specify a {@link org.neo4j.gds.beta.pregel.Combiner.OfLongArray}.
+     * The message is copied and can be reused by the caller.
+     */
+    public void sendLongArrayTo(long targetNodeId, long[] message) {
+        computeStep.sendLongArrayTo(targetNodeId, message);
+    }
+
+    /**
+     * Sends the given message to all neighbors of the node.
+     * Relationship weights are not applied to typed messages.
+     */
+    public void sendLongArrayToNeighbors(long[] message) {
+        computeStep.forEachNeighbor(nodeId, targetNodeId -> computeStep.sendLongArrayTo(targetNodeId, message));
+    }
+
+    /**
+     * Sends the given message to the target node.
+     * Requires the computation to specify a {@link org.neo4j.gds.beta.pregel.Combiner.OfDoubleArray}.
+     * The message is copied and can be reused by the caller.
+     */
+    public void sendDoubleArrayTo(long targetNodeId, double[] message) {
+        computeStep.sendDoubleArrayTo(targetNodeId, message);
+    }
+
+    /**
+     * Sends the given message to all neighbors of the node.
+     * Relationship weights are not applied to typed messages.
+     */
+    public void sendDoubleArrayToNeighbors(double[] message) {
+        computeStep.forEachNeighbor(nodeId, targetNodeId -> computeStep.sendDoubleArrayTo(targetNodeId, message));
+    }
+
     @FunctionalInterface
     interface SendMessagesFunction {
         void sendToNeighbors(long sourceNodeId, double message);
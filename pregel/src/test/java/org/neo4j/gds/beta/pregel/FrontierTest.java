@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FrontierTest {
+
+    @Test
+    void shouldBeDenseInInitialSuperstep() {
+        var frontier = Frontier.create(100);
+
+        frontier.initIteration(0);
+
+        assertThat(frontier.isSparse()).isFalse();
+    }
+
+    @Test
+    void shouldCollectActivatedNodesOnce() {
+        var frontier = Frontier.create(100);
+        frontier.initIteration(0);
+
+        frontier.activate(42);
+        frontier.activate(13);
+        frontier.activate(42);
+
+        frontier.initIteration(1);
+
+        assertThat(frontier.isSparse()).isTrue();
+        assertThat(frontier.size()).isEqualTo(2);
+        assertThat(LongStream.range(0, frontier.size()).map(frontier::activeNode)).containsExactly(42L, 13L);
+    }
+
+    @Test
+    void shouldBeDenseWhenTooManyNodesAreActive() {
+        var nodeCount = 100;
+        var frontier = Frontier.create(nodeCount);
+        frontier.initIteration(0);
+
+        for (long nodeId = 0; nodeId <= nodeCount / Frontier.SPARSE_RATIO; nodeId++) {
+            frontier.activate(nodeId);
+        }
+
+        frontier.initIteration(1);
+
+        assertThat(frontier.isSparse()).isFalse();
+    }
+
+    @Test
+    void shouldForgetNodesOfPreviousSupersteps() {
+        var frontier = Frontier.create(100);
+        frontier.initIteration(0);
+        frontier.activate(1);
+
+        frontier.initIteration(1);
+        frontier.activate(1);
+        frontier.activate(2);
+
+        frontier.initIteration(2);
+        frontier.activate(3);
+
+        frontier.initIteration(3);
+
+        assertThat(frontier.isSparse()).isTrue();
+        assertThat(frontier.size()).isEqualTo(1);
+        assertThat(frontier.activeNode(0)).isEqualTo(3);
+    }
+
+    @Test
+    void shouldRecoverFromDenseSuperstep() {
+        var nodeCount = 100;
+        var frontier = Frontier.create(nodeCount);
+        frontier.initIteration(0);
+        LongStream.range(0, nodeCount).forEach(frontier::activate);
+
+        frontier.initIteration(1);
+        assertThat(frontier.isSparse()).isFalse();
+        frontier.activate(7);
+
+        frontier.initIteration(2);
+        frontier.activate(7);
+
+        frontier.initIteration(3);
+
+        assertThat(frontier.isSparse()).isTrue();
+        assertThat(frontier.size()).isEqualTo(1);
+        assertThat(frontier.activeNode(0)).isEqualTo(7);
+    }
+
+    @Test
+    void shouldBeSparseWhenNothingIsActive() {
+        var frontier = Frontier.create(100);
+        frontier.initIteration(0);
+
+        frontier.initIteration(1);
+
+        assertThat(frontier.isSparse()).isTrue();
+        assertThat(frontier.size()).isZero();
+    }
+}
@@ -27,6 +27,7 @@ import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.gds.GdlBuilder;
+import org.neo4j.gds.Orientation;
 import org.neo4j.gds.TestProgressTracker;
 import org.neo4j.gds.TestSupport;
 import org.neo4j.gds.TestTaskStore;
@@ -53,8 +54,11 @@ import org.neo4j.gds.extension.GdlExtension;
 import org.neo4j.gds.extension.GdlGraph;
 import org.neo4j.gds.extension.Inject;
 import org.neo4j.gds.extension.TestGraph;
+import org.neo4j.gds.utils.ExceptionUtil;
+import org.neo4j.gds.utils.GdsFeatureToggles;
 
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
@@ -62,6 +66,8 @@ import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -87,9 +93,15 @@ class PregelTest {
         ", (alice)-[:REL {prop: 2.0}]->(bob)" +
         ", (alice)-[:REL {prop: 1.0}]->(eve)";
 
+    @GdlGraph(graphNamePrefix = "undirected", orientation = Orientation.UNDIRECTED)
+    private static final String UNDIRECTED_TEST_GRAPH = TEST_GRAPH;
+
     @Inject
     private TestGraph graph;
 
+    @Inject
+    private TestGraph undirectedGraph;
+
     @ParameterizedTest
     @MethodSource("partitioningConfigAndResult")
     void sendsMessages(
@@ -367,11 +379,260 @@ class PregelTest {
         assertArrayEquals(new long[]{3L, 3L, 3L}, nodeValues.longProperties(KEY).toArray());
     }
 
+    @ParameterizedTest
+    @EnumSource(Partitioning.class)
+    void gathersMessagesOnUndirectedGraphs(Partitioning partitioning) {
+        var pregelJob = Pregel.create(
+            undirectedGraph,
+            ImmutablePregelConfig.builder().maxIterations(2).partitioning(partitioning).build(),
+            new TestReduciblePregelComputation(),
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER
+        );
+
+        var nodeValues = pregelJob.run().nodeValues();
+
+        assertThat(nodeValues.doubleValue(KEY, undirectedGraph.toOriginalNodeId("alice"))).isEqualTo(2.0);
+        assertThat(nodeValues.doubleValue(KEY, undirectedGraph.toOriginalNodeId("bob"))).isEqualTo(1.0);
+        assertThat(nodeValues.doubleValue(KEY, undirectedGraph.toOriginalNodeId("eve"))).isEqualTo(1.0);
+    }
+
+    @ParameterizedTest
+    @EnumSource(Partitioning.class)
+    void gathersWeightedMessagesOnUndirectedGraphs(Partitioning partitioning) {
+        var computation = new TestWeightComputation() {
+            @Override
+            public Optional<Reducer> reducer() {
+                return Optional.of(new Reducer.Sum());
+            }
+        };
+
+        var pregelJob = Pregel.create(
+            undirectedGraph,
+            ImmutablePregelConfig.builder()
+                .maxIterations(2)
+                .partitioning(partitioning)
+                .relationshipWeightProperty("prop")
+                .build(),
+            computation,
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER
+        );
+
+        var nodeValues = pregelJob.run().nodeValues();
+
+        assertThat(nodeValues.doubleValue(KEY, undirectedGraph.toOriginalNodeId("alice"))).isEqualTo(3.0);
+        assertThat(nodeValues.doubleValue(KEY, undirectedGraph.toOriginalNodeId("bob"))).isEqualTo(2.0);
+        assertThat(nodeValues.doubleValue(KEY, undirectedGraph.toOriginalNodeId("eve"))).isEqualTo(1.0);
+    }
+
+    @ParameterizedTest
+    @EnumSource(Partitioning.class)
+    void combinesLongMessages(Partitioning partitioning) {
+        var pregelJob = Pregel.create(
+            graph,
+            ImmutablePregelConfig.builder().maxIterations(10).partitioning(partitioning).build(),
+            new TestLongCombinerComputation(),
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER
+        );
+
+        var result = pregelJob.run();
+
+        assertThat(result.didConverge()).isTrue();
+        assertThat(result.nodeValues().longProperties(KEY).toArray()).containsExactly(23L, 23L, 23L);
+    }
+
+    @ParameterizedTest
+    @EnumSource(Partitioning.class)
+    void combinesDoubleArrayMessages(Partitioning partitioning) {
+        var pregelJob = Pregel.create(
+            graph,
+            ImmutablePregelConfig.builder().maxIterations(2).partitioning(partitioning).build(),
+            new TestDoubleArrayCombinerComputation(),
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER
+        );
+
+        var nodeValues = pregelJob.run().nodeValues();
+
+        for (var variable : List.of("alice", "bob", "eve")) {
+            assertThat(nodeValues.doubleArrayValue(KEY, graph.toOriginalNodeId(variable)))
+                .containsExactly(42.0 + 43.0 + 44.0, 3.0);
+        }
+    }
+
+    @Test
+    void preventReducerAndCombiner() {
+        var computation = new TestLongCombinerComputation() {
+            @Override
+            public Optional<Reducer> reducer() {
+                return Optional.of(new Reducer.Sum());
+            }
+        };
+
+        assertThatThrownBy(() -> Pregel.create(
+            graph,
+            ImmutablePregelConfig.builder().maxIterations(1).build(),
+            computation,
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER
+        ))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("either specify a reducer or a combiner");
+    }
+
+    @Test
+    void preventDoubleMessagesWithCombiner() {
+        var computation = new TestLongCombinerComputation() {
+            @Override
+            public void compute(ComputeContext<PregelConfig> context, Messages messages) {
+                context.sendToNeighbors(42.0);
+            }
+        };
+
+        var pregelJob = Pregel.create(
+            graph,
+            ImmutablePregelConfig.builder().maxIterations(1).build(),
+            computation,
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER
+        );
+
+        assertThatThrownBy(pregelJob::run)
+            .extracting(ExceptionUtil::rootCause)
+            .isInstanceOf(UnsupportedOperationException.class)
+            .extracting(Throwable::getMessage)
+            .isEqualTo("Cannot send a double message, the combiner expects messages of type `LONG`.");
+    }
+
+    @Test
+    void combinerMemoryEstimationIsLinearInNodes() {
+        var schema = new PregelSchema.Builder().add("key", ValueType.LONG).build();
+        var dimensions = ImmutableGraphDimensions.builder()
+            .nodeCount(10_000)
+            .relCountUpperBound(100_000)
+            .build();
+
+        var queueEstimation = Pregel.memoryEstimation(schema, true, false).estimate(dimensions, 4).memoryUsage();
+        var combinerEstimation = Pregel
+            .memoryEstimation(schema, new Combiner.LongArraySum(2))
+            .estimate(dimensions, 4)
+            .memoryUsage();
+
+        assertThat(combinerEstimation.max).isLessThan(queueEstimation.min);
+    }
+
+    @ParameterizedTest
+    @EnumSource(Partitioning.class)
+    void recordsSuperstepMetrics(Partitioning partitioning) {
+        var config = ImmutablePregelConfig.builder()
+            .maxIterations(10)
+            .partitioning(partitioning)
+            .build();
+
+        var result = Pregel.create(
+            graph,
+            config,
+            new TestPregelComputation(),
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER
+        ).run();
+
+        assertThat(result.superstepMetrics())
+            .extracting(
+                SuperstepMetrics::iteration,
+                SuperstepMetrics::activeNodes,
+                SuperstepMetrics::messagesSent,
+                SuperstepMetrics::messagesReceived
+            )
+            .containsExactly(
+                // every node computes, alice messages bob and eve
+                tuple(0, 3L, 2L, 0L),
+                // only the receivers compute
+                tuple(1, 2L, 0L, 2L)
+            );
+        assertThat(result.superstepMetrics()).allSatisfy(metrics -> assertThat(metrics.slowestPartitionMicros())
+            .isGreaterThanOrEqualTo(metrics.medianPartitionMicros()));
+    }
+
+    @Test
+    void reportsSuperstepMetricsOnComputeTasks() {
+        var config = ImmutablePregelConfig.builder()
+            .maxIterations(10)
+            .build();
+
+        var task = Pregel.progressTask(graph, config, "TestPregelComputation");
+        var progressTracker = new TaskProgressTracker(task, Neo4jProxy.testLog(), 1, EmptyTaskRegistryFactory.INSTANCE);
+
+        Pregel.create(graph, config, new TestPregelComputation(), Pools.DEFAULT, progressTracker).run();
+
+        // compute and master compute tasks alternate
+        var firstComputeTask = task.subTasks().get(0);
+        var secondComputeTask = task.subTasks().get(2);
+        assertThat(firstComputeTask.metrics())
+            .containsKeys(
+                SuperstepMetrics.COMPUTE_MICROS,
+                SuperstepMetrics.MESSAGING_MICROS,
+                SuperstepMetrics.SLOWEST_PARTITION_MICROS,
+                SuperstepMetrics.MEDIAN_PARTITION_MICROS
+            )
+            .containsEntry(SuperstepMetrics.ACTIVE_NODES, 3L)
+            .containsEntry(SuperstepMetrics.MESSAGES_SENT, 2L);
+        assertThat(secondComputeTask.metrics())
+            .containsEntry(SuperstepMetrics.ACTIVE_NODES, 2L)
+            .containsEntry(SuperstepMetrics.MESSAGES_RECEIVED, 2L);
+        assertThat(task.subTasks().get(1).metrics()).isEmpty();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"AUTO", "RANGE"})
+    void spillsMessagesBeyondHeapBudget(Partitioning partitioning) {
+        var graph = RandomGraphGenerator.builder()
+            .nodeCount(40_000)
+            .averageDegree(10)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .seed(42L)
+            .build()
+            .generate();
+
+        var config = ImmutablePregelConfig.builder()
+            .maxIterations(2)
+            .partitioning(partitioning)
+            .concurrency(4)
+            .isAsynchronous(false)
+            .build();
+
+        var expected = Pregel
+            .create(graph, config, new TestPregelComputation(), Pools.DEFAULT, ProgressTracker.NULL_TRACKER)
+            .run()
+            .nodeValues()
+            .doubleProperties(KEY)
+            .toArray();
+
+        try {
+            GdsFeatureToggles.PREGEL_MESSAGE_HEAP_BUDGET.set(1024);
+            var pregelJob = Pregel.create(
+                graph,
+                config,
+                new TestPregelComputation(),
+                Pools.DEFAULT,
+                ProgressTracker.NULL_TRACKER
+            );
+            var actual = pregelJob.run().nodeValues().doubleProperties(KEY).toArray();
+            pregelJob.release();
+
+            assertArrayEquals(expected, actual);
+        } finally {
+            GdsFeatureToggles.PREGEL_MESSAGE_HEAP_BUDGET.set(GdsFeatureToggles.PREGEL_MESSAGE_HEAP_BUDGET_DEFAULT_SETTING);
+        }
+    }
+
     static Stream<Arguments> estimations() {
         return Stream.of(
             // queue based sync
-            Arguments.of(1, new PregelSchema.Builder().add("key", ValueType.LONG).build(), true, false, 7441704L),
-            Arguments.of(10, new PregelSchema.Builder().add("key", ValueType.LONG).build(), true, false, 7442208L),
+            Arguments.of(1, new PregelSchema.Builder().add("key", ValueType.LONG).build(), true, false, 7452464L),
+            Arguments.of(10, new PregelSchema.Builder().add("key", ValueType.LONG).build(), true, false, 7452968L),
             Arguments.of(1, new PregelSchema.Builder()
                     .add("key1", ValueType.LONG)
                     .add("key2", ValueType.DOUBLE)
@@ -380,7 +641,7 @@ class PregelTest {
                     .build(),
                 true,
                 false,
-                9441776L
+                9452536L
             ),
             Arguments.of(10, new PregelSchema.Builder()
                     .add("key1", ValueType.LONG)
@@ -390,12 +651,12 @@ class PregelTest {
                     .build(),
                 true,
                 false,
-                9442280L
+                9453040L
             ),
 
             // queue based async
-            Arguments.of(1, new PregelSchema.Builder().add("key", ValueType.LONG).build(), true, true, 3841664L),
-            Arguments.of(10, new PregelSchema.Builder().add("key", ValueType.LONG).build(), true, true, 3842168L),
+            Arguments.of(1, new PregelSchema.Builder().add("key", ValueType.LONG).build(), true, true, 3852424L),
+            Arguments.of(10, new PregelSchema.Builder().add("key", ValueType.LONG).build(), true, true, 3852928L),
             Arguments.of(1, new PregelSchema.Builder()
                     .add("key1", ValueType.LONG)
                     .add("key2", ValueType.DOUBLE)
@@ -404,7 +665,7 @@ class PregelTest {
                     .build(),
                 true,
                 true,
-                5841736L
+                5852496L
             ),
             Arguments.of(10, new PregelSchema.Builder()
                     .add("key1", ValueType.LONG)
@@ -414,12 +675,12 @@ class PregelTest {
                     .build(),
                 true,
                 true,
-                5842240L
+                5853000L
             ),
 
-            // array based
-            Arguments.of(1, new PregelSchema.Builder().add("key", ValueType.LONG).build(), false, false, 241584L),
-            Arguments.of(10, new PregelSchema.Builder().add("key", ValueType.LONG).build(), false, false, 242088L),
+            // array based, the upper bound gathers messages as on undirected graphs
+            Arguments.of(1, new PregelSchema.Builder().add("key", ValueType.LONG).build(), false, false, 415080L),
+            Arguments.of(10, new PregelSchema.Builder().add("key", ValueType.LONG).build(), false, false, 415584L),
             Arguments.of(1, new PregelSchema.Builder()
                     .add("key1", ValueType.LONG)
                     .add("key2", ValueType.DOUBLE)
@@ -428,7 +689,7 @@ class PregelTest {
                     .build(),
                 false,
                 false,
-                2241656L
+                2415152L
             ),
             Arguments.of(10, new PregelSchema.Builder()
                     .add("key1", ValueType.LONG)
@@ -438,7 +699,7 @@ class PregelTest {
                     .build(),
                 false,
                 false,
-                2242160L
+                2415656L
             )
         );
     }
@@ -524,6 +785,24 @@ class PregelTest {
         );
     }
 
+    @Test
+    void reducingMemoryEstimationIncludesOutboxesOnUndirectedGraphs() {
+        var dimensions = ImmutableGraphDimensions.builder()
+            .nodeCount(10_000)
+            .relCountUpperBound(100_000)
+            .build();
+        var schema = new PregelSchema.Builder().add("key", ValueType.LONG).build();
+
+        var directed = Pregel.memoryEstimation(schema, false, false, false).estimate(dimensions, 1).memoryUsage();
+        var undirected = Pregel.memoryEstimation(schema, false, false, true).estimate(dimensions, 1).memoryUsage();
+
+        var unknown = Pregel.memoryEstimation(schema, false, false).estimate(dimensions, 1).memoryUsage();
+
+        assertThat(directed).isEqualTo(MemoryRange.of(252344L));
+        assertThat(undirected).isEqualTo(MemoryRange.of(415080L));
+        assertThat(unknown).isEqualTo(MemoryRange.of(252344L, 415080L));
+    }
+
     static Stream<Arguments> partitioningConfigAndResult() {
         return crossArguments(PregelTest::partitionings, PregelTest::configAndResult);
     }
@@ -734,6 +1013,70 @@ class PregelTest {
         }
     }
 
+    static class TestLongCombinerComputation implements PregelComputation<PregelConfig> {
+
+        @Override
+        public PregelSchema schema(PregelConfig config) {
+            return new PregelSchema.Builder().add(KEY, ValueType.LONG).build();
+        }
+
+        @Override
+        public void init(InitContext<PregelConfig> context) {
+            context.setNodeValue(KEY, context.nodeProperties("longSeed").longValue(context.nodeId()));
+        }
+
+        @Override
+        public void compute(ComputeContext<PregelConfig> context, Messages messages) {
+            if (context.isInitialSuperstep()) {
+                context.sendLongToNeighbors(context.longNodeValue(KEY));
+            } else if (!messages.isEmpty() && messages.longMessage() < context.longNodeValue(KEY)) {
+                context.setNodeValue(KEY, messages.longMessage());
+                context.sendLongToNeighbors(messages.longMessage());
+            }
+            context.voteToHalt();
+        }
+
+        @Override
+        public Optional<Combiner> combiner() {
+            return Optional.of(new Combiner.LongMin());
+        }
+    }
+
+    static class TestDoubleArrayCombinerComputation implements PregelComputation<PregelConfig> {
+
+        static final String SEED_KEY = "seed";
+
+        @Override
+        public PregelSchema schema(PregelConfig config) {
+            return new PregelSchema.Builder()
+                .add(KEY, ValueType.DOUBLE_ARRAY)
+                .add(SEED_KEY, ValueType.DOUBLE)
+                .build();
+        }
+
+        @Override
+        public void init(InitContext<PregelConfig> context) {
+            context.setNodeValue(SEED_KEY, context.nodeProperties("doubleSeed").doubleValue(context.nodeId()));
+        }
+
+        @Override
+        public void compute(ComputeContext<PregelConfig> context, Messages messages) {
+            if (context.isInitialSuperstep()) {
+                var message = new double[]{context.doubleNodeValue(SEED_KEY), 1.0};
+                for (long target = 0; target < context.nodeCount(); target++) {
+                    context.sendDoubleArrayTo(target, message);
+                }
+            } else {
+                context.setNodeValue(KEY, messages.doubleArrayMessage().clone());
+            }
+        }
+
+        @Override
+        public Optional<Combiner> combiner() {
+            return Optional.of(new Combiner.DoubleArraySum(2));
+        }
+    }
+
     static class TestMasterCompute implements PregelComputation<PregelConfig> {
 
         private final int stopAtIteration;
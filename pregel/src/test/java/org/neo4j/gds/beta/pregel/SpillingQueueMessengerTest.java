@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.core.ImmutableGraphDimensions;
+import org.neo4j.gds.mem.BitUtil;
+
+import java.util.Arrays;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfDoubleArray;
+
+class SpillingQueueMessengerTest {
+
+    // spans three blocks of nodes
+    private static final long NODE_COUNT = 40_000;
+
+    @ParameterizedTest
+    @ValueSource(longs = {1L, 1L << 30})
+    void shouldReceiveMessagesInNextSuperstep(long heapBudget) {
+        var messenger = new SpillingQueueMessenger(NODE_COUNT, heapBudget, 100);
+        messenger.initIteration(0);
+
+        for (long nodeId = 0; nodeId < NODE_COUNT; nodeId += 7) {
+            messenger.sendTo(nodeId, nodeId);
+            messenger.sendTo(NODE_COUNT - 1 - nodeId, 42);
+        }
+
+        messenger.initIteration(1);
+
+        var iterator = messenger.messageIterator();
+        for (long nodeId = 0; nodeId < NODE_COUNT; nodeId++) {
+            messenger.initMessageIterator(iterator, nodeId, false);
+            var expected = new double[(nodeId % 7 == 0 ? 1 : 0) + ((NODE_COUNT - 1 - nodeId) % 7 == 0 ? 1 : 0)];
+            if (nodeId % 7 == 0) {
+                expected[0] = nodeId;
+            }
+            if ((NODE_COUNT - 1 - nodeId) % 7 == 0) {
+                expected[expected.length - 1] = 42;
+            }
+            assertThat(iterator.isEmpty()).isEqualTo(expected.length == 0);
+            assertThat(drain(iterator)).containsExactlyInAnyOrder(expected);
+        }
+
+        messenger.release();
+    }
+
+    @Test
+    void shouldForgetMessagesOfPreviousSupersteps() {
+        var messenger = new SpillingQueueMessenger(NODE_COUNT, 1L, 10);
+        messenger.initIteration(0);
+        messenger.sendTo(1, 1);
+
+        messenger.initIteration(1);
+        messenger.sendTo(2, 2);
+
+        messenger.initIteration(2);
+
+        var iterator = messenger.messageIterator();
+        messenger.initMessageIterator(iterator, 1, false);
+        assertThat(iterator.isEmpty()).isTrue();
+        messenger.initMessageIterator(iterator, 2, false);
+        assertThat(drain(iterator)).containsExactly(2D);
+
+        messenger.release();
+    }
+
+    @Test
+    void shouldCollectMessagesFromAllThreads() throws ExecutionException, InterruptedException {
+        var concurrency = 4;
+        var messenger = new SpillingQueueMessenger(NODE_COUNT, 64 * 1024, 1000);
+        messenger.initIteration(0);
+
+        var executor = Executors.newFixedThreadPool(concurrency);
+        try {
+            var tasks = IntStream.range(0, concurrency)
+                .mapToObj(thread -> executor.submit(() -> {
+                    for (long nodeId = 0; nodeId < NODE_COUNT; nodeId++) {
+                        messenger.sendTo(nodeId, thread);
+                    }
+                }))
+                .collect(Collectors.toList());
+            for (Future<?> task : tasks) {
+                task.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        messenger.initIteration(1);
+
+        var iterator = messenger.messageIterator();
+        for (long nodeId = 0; nodeId < NODE_COUNT; nodeId++) {
+            messenger.initMessageIterator(iterator, nodeId, false);
+            assertThat(drain(iterator)).containsExactlyInAnyOrder(0D, 1D, 2D, 3D);
+        }
+
+        messenger.release();
+    }
+
+    @Test
+    void shouldEstimateHeapBudget() {
+        var dimensions = ImmutableGraphDimensions.builder()
+            .nodeCount(NODE_COUNT)
+            .relCountUpperBound(10 * NODE_COUNT)
+            .build();
+
+        var smallBudget = SpillingQueueMessenger.memoryEstimation(1024).estimate(dimensions, 4).memoryUsage();
+        var largeBudget = SpillingQueueMessenger.memoryEstimation(1024 + 1_000_000).estimate(dimensions, 4).memoryUsage();
+
+        assertThat(largeBudget.min).isEqualTo(smallBudget.min + 1_000_000);
+        assertThat(largeBudget.max).isEqualTo(smallBudget.max + 1_000_000);
+    }
+
+    @Test
+    void shouldCapHeapBudgetEstimationAtTheMessagesOfASuperstep() {
+        var dimensions = ImmutableGraphDimensions.builder()
+            .nodeCount(NODE_COUNT)
+            .relCountUpperBound(10 * NODE_COUNT)
+            .build();
+        var allMessages = 10 * NODE_COUNT * (Double.BYTES + Integer.BYTES);
+
+        var exactBudget = SpillingQueueMessenger.memoryEstimation(allMessages).estimate(dimensions, 4).memoryUsage();
+        var largeBudget = SpillingQueueMessenger.memoryEstimation(1L << 40).estimate(dimensions, 4).memoryUsage();
+
+        assertThat(largeBudget).isEqualTo(exactBudget);
+    }
+
+    @Test
+    void shouldBoundReceivedBlocksByAllMessagesOfASuperstep() {
+        var dimensions = ImmutableGraphDimensions.builder()
+            .nodeCount(NODE_COUNT)
+            .relCountUpperBound(10 * NODE_COUNT)
+            .build();
+
+        var memoryUsage = SpillingQueueMessenger.memoryEstimation(1024).estimate(dimensions, 1).memoryUsage();
+
+        // 40_000 nodes are split into 3 blocks, a single block might receive all messages
+        assertThat(memoryUsage.max - memoryUsage.min).isEqualTo(
+            sizeOfDoubleArray(10 * NODE_COUNT) - sizeOfDoubleArray(BitUtil.ceilDiv(10 * NODE_COUNT, 3))
+        );
+    }
+
+    @Test
+    void shouldSplitBlocksIntoPages() {
+        var messenger = new SpillingQueueMessenger(NODE_COUNT, 1L << 30, 100, 5);
+        messenger.initIteration(0);
+
+        for (long nodeId = 0; nodeId < NODE_COUNT; nodeId++) {
+            for (int message = 0; message < nodeId % 4; message++) {
+                messenger.sendTo(nodeId, message);
+            }
+        }
+
+        messenger.initIteration(1);
+
+        var iterator = messenger.messageIterator();
+        for (long nodeId = 0; nodeId < NODE_COUNT; nodeId++) {
+            messenger.initMessageIterator(iterator, nodeId, false);
+            var expected = IntStream.range(0, (int) (nodeId % 4)).asDoubleStream().toArray();
+            assertThat(drain(iterator)).containsExactlyInAnyOrder(expected);
+        }
+
+        messenger.release();
+    }
+
+    @Test
+    void shouldFailOnNodesThatReceiveMoreMessagesThanFitIntoAPage() {
+        var messenger = new SpillingQueueMessenger(NODE_COUNT, 1L << 30, 100, 2);
+        messenger.initIteration(0);
+        for (int message = 0; message < 3; message++) {
+            messenger.sendTo(42, message);
+        }
+        messenger.initIteration(1);
+
+        var iterator = messenger.messageIterator();
+        assertThatThrownBy(() -> messenger.initMessageIterator(iterator, 42, false))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("Node 42 received 3 messages in a single superstep, at most 2 messages per node are supported.");
+
+        messenger.release();
+    }
+
+    private static double[] drain(PrimitiveSyncDoubleQueues.Iterator iterator) {
+        var messages = new double[16];
+        int length = 0;
+        while (iterator.hasNext()) {
+            if (length == messages.length) {
+                messages = Arrays.copyOf(messages, length * 2);
+            }
+            messages[length++] = iterator.nextDouble();
+        }
+        return Arrays.copyOf(messages, length);
+    }
+}
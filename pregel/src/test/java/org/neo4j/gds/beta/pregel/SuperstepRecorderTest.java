@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SuperstepRecorderTest {
+
+    @Test
+    void shouldSumBatchesPerPartition() {
+        var recorder = new SuperstepRecorder();
+        recorder.initPartitions(4);
+
+        recorder.recordBatch(0, 10, 10, 3, TimeUnit.MICROSECONDS.toNanos(5));
+        recorder.recordBatch(0, 10, 5, 2, TimeUnit.MICROSECONDS.toNanos(7));
+        recorder.recordBatch(1, 10, 10, 1, TimeUnit.MICROSECONDS.toNanos(4));
+        recorder.recordBatch(2, 10, 0, 0, TimeUnit.MICROSECONDS.toNanos(2));
+        // empty batches do not count as a partition
+        recorder.recordBatch(3, 0, 0, 0, TimeUnit.MICROSECONDS.toNanos(100));
+
+        var metrics = recorder.finishSuperstep(0, 1_500, TimeUnit.MILLISECONDS.toNanos(3));
+
+        assertThat(metrics.activeNodes()).isEqualTo(25);
+        assertThat(metrics.messagesSent()).isEqualTo(6);
+        assertThat(metrics.messagesReceived()).isEqualTo(0);
+        assertThat(metrics.computeMicros()).isEqualTo(3_000);
+        assertThat(metrics.messagingMicros()).isEqualTo(1);
+        assertThat(metrics.slowestPartitionMicros()).isEqualTo(12);
+        assertThat(metrics.medianPartitionMicros()).isEqualTo(4);
+    }
+
+    @Test
+    void shouldStartEverySuperstepWithEmptyPartitions() {
+        var recorder = new SuperstepRecorder();
+        recorder.initPartitions(2);
+
+        recorder.recordBatch(0, 10, 10, 7, TimeUnit.MICROSECONDS.toNanos(50));
+        recorder.finishSuperstep(0, 0, 0);
+
+        recorder.recordBatch(1, 10, 2, 0, TimeUnit.MICROSECONDS.toNanos(3));
+        var metrics = recorder.finishSuperstep(1, 0, 0);
+
+        assertThat(metrics.activeNodes()).isEqualTo(2);
+        assertThat(metrics.messagesSent()).isEqualTo(0);
+        assertThat(metrics.messagesReceived()).isEqualTo(7);
+        assertThat(metrics.slowestPartitionMicros()).isEqualTo(3);
+        assertThat(metrics.medianPartitionMicros()).isEqualTo(3);
+    }
+}
@@ -260,13 +260,20 @@ public class GraphProjectProc extends CatalogProc {
     }
 
     private GraphProjectResult projectGraph(GraphProjectConfig config) {
-        memoryUsageValidator().tryValidateMemoryUsage(config, this::memoryTreeWithDimensions);
-
         GraphProjectResult.Builder builder = config instanceof GraphProjectFromCypherConfig
             ? new GraphProjectCypherResult.Builder((GraphProjectFromCypherConfig) config)
             : new GraphProjectNativeResult.Builder((GraphProjectFromStoreConfig) config);
 
-        try (ProgressTimer ignored = ProgressTimer.start(builder::withProjectMillis)) {
+        // once the graph is in the catalog its memory is allocated and no longer needs to be reserved
+        try (
+            var memoryReservation = memoryUsageValidator().tryReserveMemory(
+                config,
+                this::memoryTreeWithDimensions,
+                config.graphName(),
+                "Graph projection"
+            );
+            ProgressTimer ignored = ProgressTimer.start(builder::withProjectMillis)
+        ) {
             GraphStore graphStore = new GraphStoreFromDatabaseLoader(
                 config,
                 username(),
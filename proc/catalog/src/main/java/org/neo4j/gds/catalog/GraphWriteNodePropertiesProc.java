@@ -143,12 +143,13 @@ public class GraphWriteNodePropertiesProc extends CatalogProc {
                     Optional.empty()
                 );
 
-                var exporter = nodePropertyExporterBuilder
+                var exporterBuilder = nodePropertyExporterBuilder
                     .withIdMap(subGraph)
                     .withTerminationFlag(TerminationFlag.wrap(transaction))
-                    .parallel(Pools.DEFAULT, config.writeConcurrency())
-                    .withProgressTracker(progressTracker)
-                    .build();
+                    .parallel(Pools.io(), config.writeConcurrency())
+                    .withProgressTracker(progressTracker);
+                config.writeBatchSize().ifPresent(exporterBuilder::withBatchSize);
+                var exporter = exporterBuilder.build();
 
                 var writeNodeProperties =
                     config.nodeProperties().stream()
@@ -118,7 +118,7 @@ public class GraphWriteRelationshipProc extends CatalogProc {
         try (var ignored = ProgressTimer.start(builder::withWriteMillis)) {
             long relationshipsWritten = runWithExceptionLogging(
                 "Writing relationships failed",
-                () -> writeRelationshipType(graphStore, config.relationshipProperty(), relationshipType, progressTracker)
+                () -> writeRelationshipType(graphStore, config, relationshipType, progressTracker)
             );
             builder.withRelationshipsWritten(relationshipsWritten);
         }
@@ -129,16 +129,18 @@ public class GraphWriteRelationshipProc extends CatalogProc {
 
     private long writeRelationshipType(
         GraphStore graphStore,
-        Optional<String> relationshipProperty,
+        GraphWriteRelationshipConfig config,
         RelationshipType relationshipType,
         ProgressTracker progressTracker
     ) {
+        var relationshipProperty = config.relationshipProperty();
         var graph = graphStore.getGraph(relationshipType, relationshipProperty);
 
         var builder = relationshipExporterBuilder
             .withIdMappingOperator(graph::toOriginalNodeId)
             .withGraph(graph)
             .withTerminationFlag(TerminationFlag.wrap(transaction))
+            .withTargetBatchLatency(config.targetBatchLatency())
             .withProgressTracker(progressTracker);
 
         if (relationshipProperty.isPresent()) {
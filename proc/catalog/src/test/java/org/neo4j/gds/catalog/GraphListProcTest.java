@@ -34,6 +34,7 @@ import org.neo4j.gds.api.DatabaseId;
 import org.neo4j.gds.beta.generator.GraphGenerateProc;
 import org.neo4j.gds.config.GraphProjectConfig;
 import org.neo4j.gds.core.loading.GraphStoreCatalog;
+import org.neo4j.gds.core.loading.nodeproperties.LazyNodePropertyValues;
 import org.neo4j.gds.projection.CypherAggregation;
 import org.neo4j.graphdb.Result;
 
@@ -66,6 +67,7 @@ import static org.neo4j.gds.assertj.AssertionsHelper.stringObjectMapAssertFactor
 import static org.neo4j.gds.compat.MapUtil.map;
 import static org.neo4j.gds.config.GraphProjectFromCypherConfig.ALL_NODES_QUERY;
 import static org.neo4j.gds.config.GraphProjectFromCypherConfig.ALL_RELATIONSHIPS_QUERY;
+import static org.neo4j.gds.utils.GdsFeatureToggles.USE_LAZY_NODE_PROPERTIES;
 import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
 class GraphListProcTest extends BaseProcTest {
@@ -568,6 +570,35 @@ class GraphListProcTest extends BaseProcTest {
         );
     }
 
+    @Test
+    void calculateMemoryUsageOfLazyNodeProperties() {
+        runQuery("CALL gds.graph.project('eager', 'A', 'REL', {nodeProperties: 'foo'})");
+        USE_LAZY_NODE_PROPERTIES.enableAndRun(
+            () -> runQuery("CALL gds.graph.project('lazy', 'A', 'REL', {nodeProperties: 'foo'})")
+        );
+        var lazyValues = (LazyNodePropertyValues) GraphStoreCatalog
+            .get(getUsername(), DatabaseId.of(db), "lazy")
+            .graphStore()
+            .nodeProperty("foo")
+            .values();
+
+        // neither the database nor the shared cache are counted, the values are not read
+        var lazySize = listedSizeInBytes("lazy");
+        assertThat(lazySize).isPositive().isLessThan(listedSizeInBytes("eager"));
+        assertThat(lazyValues.isMaterialized()).isFalse();
+
+        lazyValues.materialize();
+        assertThat(listedSizeInBytes("lazy")).isGreaterThan(lazySize);
+    }
+
+    private long listedSizeInBytes(String graphName) {
+        return runQuery(
+            "CALL gds.graph.list($graphName) YIELD sizeInBytes",
+            Map.of("graphName", graphName),
+            result -> result.<Long>columnAs("sizeInBytes").next()
+        );
+    }
+
     @ParameterizedTest(name = "name argument: {0}")
     @ValueSource(strings = {"", "null"})
     void listAllGraphsWhenCalledWithoutArgumentOrAnEmptyArgument(String argument) {
@@ -19,15 +19,19 @@
  */
 package org.neo4j.gds.config;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.neo4j.gds.core.CypherMapWrapper;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Stream;
 
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 class GraphWriteNodePropertiesConfigTest {
@@ -42,6 +46,32 @@ class GraphWriteNodePropertiesConfigTest {
         assertEquals(expectedWriteConcurrency, config.writeConcurrency());
     }
 
+    @Test
+    void writeBatchSize() {
+        var config = GraphWriteNodePropertiesConfig.of("g", List.of("a"), List.of("A"), CypherMapWrapper.empty());
+        assertEquals(Optional.empty(), config.writeBatchSize());
+
+        var map = CypherMapWrapper.create(Map.of("writeBatchSize", 42));
+        config = GraphWriteNodePropertiesConfig.of("g", List.of("a"), List.of("A"), map);
+        assertEquals(Optional.of(42L), config.writeBatchSize());
+    }
+
+    @Test
+    void failsOnNonPositiveWriteBatchSize() {
+        var map = CypherMapWrapper.create(Map.of("writeBatchSize", 0));
+        assertThatThrownBy(() -> GraphWriteNodePropertiesConfig.of("g", List.of("a"), List.of("A"), map))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Configuration parameter `writeBatchSize` must be a positive number, got 0.");
+    }
+
+    @Test
+    void writeBatchLatency() {
+        var map = CypherMapWrapper.create(Map.of("writeBatchLatency", 250));
+        var config = GraphWriteNodePropertiesConfig.of("g", List.of("a"), List.of("A"), map);
+        assertEquals(Optional.of(250L), config.writeBatchLatency());
+        assertEquals(Duration.ofMillis(250), config.targetBatchLatency());
+    }
+
     private static Stream<Arguments> inputs() {
         return Stream.of(
             Arguments.of(Map.of(), ConcurrencyConfig.DEFAULT_CONCURRENCY, ConcurrencyConfig.DEFAULT_CONCURRENCY),
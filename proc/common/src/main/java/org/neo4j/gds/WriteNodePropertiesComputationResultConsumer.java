@@ -124,11 +124,12 @@ public class WriteNodePropertiesComputationResultConsumer<ALGO extends Algorithm
         ProgressTracker progressTracker,
         ComputationResult<ALGO, ALGO_RESULT, CONFIG> computationResult
     ) {
-        return nodePropertyExporterBuilder
+        var builder = nodePropertyExporterBuilder
             .withIdMap(graph)
             .withTerminationFlag(computationResult.algorithm().terminationFlag)
             .withProgressTracker(progressTracker)
-            .parallel(Pools.DEFAULT, computationResult.config().writeConcurrency())
-            .build();
+            .parallel(Pools.io(), computationResult.config().writeConcurrency());
+        computationResult.config().writeBatchSize().ifPresent(builder::withBatchSize);
+        return builder.build();
     }
 }
@@ -85,7 +85,7 @@ public class KmeansWriteSpec implements AlgorithmSpec<Kmeans, KmeansResult, Kmea
                 NodePropertyExporter exporter =  executionContext.nodePropertyExporterBuilder()
                     .withIdMap(graph)
                     .withTerminationFlag(algorithm.getTerminationFlag())
-                    .parallel(Pools.DEFAULT, writeConcurrency)
+                    .parallel(Pools.io(), writeConcurrency)
                     .build();
 
                 var properties = new LongNodePropertyValues() {
@@ -83,7 +83,7 @@ public class LeidenWriteSpec implements AlgorithmSpec<Leiden, LeidenResult, Leid
                 NodePropertyExporter exporter =  executionContext.nodePropertyExporterBuilder()
                     .withIdMap(graph)
                     .withTerminationFlag(algorithm.getTerminationFlag())
-                    .parallel(Pools.DEFAULT, writeConcurrency)
+                    .parallel(Pools.io(), writeConcurrency)
                     .build();
 
                 var properties = new LongNodePropertyValues() {
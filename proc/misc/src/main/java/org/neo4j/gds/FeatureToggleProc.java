@@ -137,6 +137,21 @@ public final class FeatureToggleProc {
         return Stream.of(new FeatureState(GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.isEnabled()));
     }
 
+    @Internal
+    @Procedure("gds.features.usePackedAdjacencyList")
+    @Description("Toggle whether the adjacency list should be stored in bit-packed blocks during graph creation.")
+    public void usePackedAdjacencyList(@Name(value = "usePackedAdjacencyList") boolean usePackedAdjacencyList) {
+        GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST.toggle(usePackedAdjacencyList);
+    }
+
+    @Internal
+    @Procedure("gds.features.usePackedAdjacencyList.reset")
+    @Description("Set the default behaviour of whether to store adjacency lists in bit-packed blocks during graph creation. That value is returned.")
+    public Stream<FeatureState> resetUsePackedAdjacencyList() {
+        GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST.reset();
+        return Stream.of(new FeatureState(GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST.isEnabled()));
+    }
+
     @Internal
     @Procedure("gds.features.useReorderedAdjacencyList")
     @Description("Toggle whether the adjacency list should be reordered during graph creation.")
@@ -152,6 +167,123 @@ public final class FeatureToggleProc {
         return Stream.of(new FeatureState(GdsFeatureToggles.USE_REORDERED_ADJACENCY_LIST.isEnabled()));
     }
 
+    @Internal
+    @Procedure("gds.features.useOffHeapAdjacencyList")
+    @Description("Toggle whether the pages of compressed adjacency lists should be stored off-heap during graph creation.")
+    public void useOffHeapAdjacencyList(@Name(value = "useOffHeapAdjacencyList") boolean useOffHeapAdjacencyList) {
+        GdsFeatureToggles.USE_OFF_HEAP_ADJACENCY_LIST.toggle(useOffHeapAdjacencyList);
+    }
+
+    @Internal
+    @Procedure("gds.features.useOffHeapAdjacencyList.reset")
+    @Description("Set the default behaviour of whether to store compressed adjacency list pages off-heap during graph creation. That value is returned.")
+    public Stream<FeatureState> resetUseOffHeapAdjacencyList() {
+        GdsFeatureToggles.USE_OFF_HEAP_ADJACENCY_LIST.reset();
+        return Stream.of(new FeatureState(GdsFeatureToggles.USE_OFF_HEAP_ADJACENCY_LIST.isEnabled()));
+    }
+
+    @Internal
+    @Procedure("gds.features.useMemoryMappedAdjacencyList")
+    @Description("Toggle whether the pages of compressed adjacency lists should be spilled to memory-mapped files during graph creation.")
+    public void useMemoryMappedAdjacencyList(@Name(value = "useMemoryMappedAdjacencyList") boolean useMemoryMappedAdjacencyList) {
+        GdsFeatureToggles.USE_MEMORY_MAPPED_ADJACENCY_LIST.toggle(useMemoryMappedAdjacencyList);
+    }
+
+    @Internal
+    @Procedure("gds.features.useMemoryMappedAdjacencyList.reset")
+    @Description("Set the default behaviour of whether to spill compressed adjacency list pages to memory-mapped files during graph creation. That value is returned.")
+    public Stream<FeatureState> resetUseMemoryMappedAdjacencyList() {
+        GdsFeatureToggles.USE_MEMORY_MAPPED_ADJACENCY_LIST.reset();
+        return Stream.of(new FeatureState(GdsFeatureToggles.USE_MEMORY_MAPPED_ADJACENCY_LIST.isEnabled()));
+    }
+
+    @Internal
+    @Procedure("gds.features.useDegreeOrderedNodeIds")
+    @Description("Toggle whether nodes should be relabeled by descending degree during graph creation.")
+    public void useDegreeOrderedNodeIds(@Name(value = "useDegreeOrderedNodeIds") boolean useDegreeOrderedNodeIds) {
+        GdsFeatureToggles.USE_DEGREE_ORDERED_NODE_IDS.toggle(useDegreeOrderedNodeIds);
+    }
+
+    @Internal
+    @Procedure("gds.features.useDegreeOrderedNodeIds.reset")
+    @Description("Set the default behaviour of whether to relabel nodes by descending degree during graph creation. That value is returned.")
+    public Stream<FeatureState> resetUseDegreeOrderedNodeIds() {
+        GdsFeatureToggles.USE_DEGREE_ORDERED_NODE_IDS.reset();
+        return Stream.of(new FeatureState(GdsFeatureToggles.USE_DEGREE_ORDERED_NODE_IDS.isEnabled()));
+    }
+
+    @Internal
+    @Procedure("gds.features.usePackedNodeProperties")
+    @Description("Toggle whether long node properties should be bit-packed during graph creation.")
+    public void usePackedNodeProperties(@Name(value = "usePackedNodeProperties") boolean usePackedNodeProperties) {
+        GdsFeatureToggles.USE_PACKED_NODE_PROPERTIES.toggle(usePackedNodeProperties);
+    }
+
+    @Internal
+    @Procedure("gds.features.usePackedNodeProperties.reset")
+    @Description("Set the default behaviour of whether to bit-pack long node properties during graph creation. That value is returned.")
+    public Stream<FeatureState> resetUsePackedNodeProperties() {
+        GdsFeatureToggles.USE_PACKED_NODE_PROPERTIES.reset();
+        return Stream.of(new FeatureState(GdsFeatureToggles.USE_PACKED_NODE_PROPERTIES.isEnabled()));
+    }
+
+    @Internal
+    @Procedure("gds.features.useLazyNodeProperties")
+    @Description("Toggle whether node properties should be read from the database when they are first requested instead of during graph creation.")
+    public void useLazyNodeProperties(@Name(value = "useLazyNodeProperties") boolean useLazyNodeProperties) {
+        GdsFeatureToggles.USE_LAZY_NODE_PROPERTIES.toggle(useLazyNodeProperties);
+    }
+
+    @Internal
+    @Procedure("gds.features.useLazyNodeProperties.reset")
+    @Description("Set the default behaviour of whether to read node properties when they are first requested. That value is returned.")
+    public Stream<FeatureState> resetUseLazyNodeProperties() {
+        GdsFeatureToggles.USE_LAZY_NODE_PROPERTIES.reset();
+        return Stream.of(new FeatureState(GdsFeatureToggles.USE_LAZY_NODE_PROPERTIES.isEnabled()));
+    }
+
+    @Internal
+    @Procedure("gds.features.lazyNodePropertiesCacheSize")
+    @Description("Set how many lazily read node property columns are kept in memory.")
+    public void lazyNodePropertiesCacheSize(@Name(value = "lazyNodePropertiesCacheSize") long lazyNodePropertiesCacheSize) {
+        if (lazyNodePropertiesCacheSize <= 0 || lazyNodePropertiesCacheSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Invalid value for lazyNodePropertiesCacheSize: %d, must be a non-zero, positive integer",
+                lazyNodePropertiesCacheSize
+            ));
+        }
+        GdsFeatureToggles.LAZY_NODE_PROPERTIES_CACHE_SIZE.set((int) lazyNodePropertiesCacheSize);
+    }
+
+    @Internal
+    @Procedure("gds.features.lazyNodePropertiesCacheSize.reset")
+    @Description("Set the number of lazily read node property columns kept in memory to the default. That value is returned.")
+    public Stream<FeatureValue> resetLazyNodePropertiesCacheSize() {
+        GdsFeatureToggles.LAZY_NODE_PROPERTIES_CACHE_SIZE.set(GdsFeatureToggles.LAZY_NODE_PROPERTIES_CACHE_SIZE_DEFAULT_SETTING);
+        return Stream.of(new FeatureValue(GdsFeatureToggles.LAZY_NODE_PROPERTIES_CACHE_SIZE_DEFAULT_SETTING));
+    }
+
+    @Internal
+    @Procedure("gds.features.pregelMessageHeapBudget")
+    @Description("Set how many bytes of messages synchronous Pregel computations keep on heap before writing them to disk.")
+    public void pregelMessageHeapBudget(@Name(value = "pregelMessageHeapBudget") long pregelMessageHeapBudget) {
+        if (pregelMessageHeapBudget < 0) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Invalid value for pregelMessageHeapBudget: %d, must be a positive integer or 0",
+                pregelMessageHeapBudget
+            ));
+        }
+        GdsFeatureToggles.PREGEL_MESSAGE_HEAP_BUDGET.set(pregelMessageHeapBudget);
+    }
+
+    @Internal
+    @Procedure("gds.features.pregelMessageHeapBudget.reset")
+    @Description("Set the heap budget for messages of synchronous Pregel computations to the default. That value is returned.")
+    public Stream<FeatureValue> resetPregelMessageHeapBudget() {
+        GdsFeatureToggles.PREGEL_MESSAGE_HEAP_BUDGET.set(GdsFeatureToggles.PREGEL_MESSAGE_HEAP_BUDGET_DEFAULT_SETTING);
+        return Stream.of(new FeatureValue(GdsFeatureToggles.PREGEL_MESSAGE_HEAP_BUDGET_DEFAULT_SETTING));
+    }
+
     @Internal
     @Procedure("gds.features.maxArrayLengthShift.reset")
     @Description("Set the value of the max array size before paging to the default. That value is returned.")
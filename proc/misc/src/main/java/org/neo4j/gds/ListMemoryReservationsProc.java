@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds;
+
+import org.neo4j.gds.core.utils.mem.MemoryReservation;
+import org.neo4j.gds.core.utils.mem.MemoryReservationLedger;
+import org.neo4j.gds.mem.MemoryUsage;
+import org.neo4j.procedure.Description;
+import org.neo4j.procedure.Name;
+import org.neo4j.procedure.Procedure;
+
+import java.util.stream.Stream;
+
+public class ListMemoryReservationsProc extends BaseProc {
+
+    @Procedure("gds.alpha.listMemoryReservations")
+    @Description("List the memory reserved by currently running jobs.")
+    public Stream<MemoryReservationResult> listMemoryReservations(
+        @Name(value = "graphName", defaultValue = "") String graphName
+    ) {
+        var isGdsAdmin = isGdsAdmin();
+        var username = username();
+        return MemoryReservationLedger.global()
+            .reservations()
+            .stream()
+            .filter(reservation -> isGdsAdmin || reservation.username().equals(username))
+            .filter(reservation -> graphName.isBlank() || reservation.graphName().equals(graphName))
+            .map(MemoryReservationResult::new);
+    }
+
+    @SuppressWarnings("unused")
+    public static class MemoryReservationResult {
+        public String jobId;
+        public String username;
+        public String graphName;
+        public String taskName;
+        public String reservedMemory;
+        public long reservedBytes;
+
+        MemoryReservationResult(MemoryReservation reservation) {
+            this.jobId = reservation.jobId().asString();
+            this.username = reservation.username();
+            this.graphName = reservation.graphName();
+            this.taskName = reservation.taskName();
+            this.reservedMemory = MemoryUsage.humanReadable(reservation.bytes());
+            this.reservedBytes = reservation.bytes();
+        }
+    }
+}
@@ -36,6 +36,7 @@ import java.time.Instant;
 import java.time.LocalTime;
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Stream;
@@ -82,6 +83,7 @@ public class ListProgressProc extends BaseProc {
         public String status;
         public LocalTimeValue timeStarted;
         public String elapsedTime;
+        public Map<String, Object> metrics;
 
         static ProgressResult fromTaskStoreEntry(Map.Entry<JobId, Task> taskStoreEntry) {
             var jobId = taskStoreEntry.getKey();
@@ -104,6 +106,7 @@ public class ListProgressProc extends BaseProc {
             this.status = task.status().name();
             this.timeStarted = localTimeValue(task);
             this.elapsedTime = prettyElapsedTime(task);
+            this.metrics = new HashMap<>(task.metrics());
         }
 
         private LocalTimeValue localTimeValue(Task task) {
@@ -31,10 +31,17 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.neo4j.gds.utils.GdsFeatureToggles.SKIP_ORPHANS;
+import static org.neo4j.gds.utils.GdsFeatureToggles.USE_DEGREE_ORDERED_NODE_IDS;
+import static org.neo4j.gds.utils.GdsFeatureToggles.USE_LAZY_NODE_PROPERTIES;
+import static org.neo4j.gds.utils.GdsFeatureToggles.USE_PACKED_NODE_PROPERTIES;
 import static org.neo4j.gds.utils.GdsFeatureToggles.USE_PARALLEL_PROPERTY_VALUE_INDEX;
 import static org.neo4j.gds.utils.GdsFeatureToggles.USE_PARTITIONED_SCAN;
 import static org.neo4j.gds.utils.GdsFeatureToggles.USE_PROPERTY_VALUE_INDEX;
+import static org.neo4j.gds.utils.GdsFeatureToggles.USE_MEMORY_MAPPED_ADJACENCY_LIST;
+import static org.neo4j.gds.utils.GdsFeatureToggles.USE_OFF_HEAP_ADJACENCY_LIST;
+import static org.neo4j.gds.utils.GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST;
 import static org.neo4j.gds.utils.GdsFeatureToggles.USE_REORDERED_ADJACENCY_LIST;
 import static org.neo4j.gds.utils.GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST;
 
@@ -146,6 +153,107 @@ class FeatureToggleProcTest extends BaseProcTest {
         assertFalse(USE_UNCOMPRESSED_ADJACENCY_LIST.isEnabled());
     }
 
+    @Test
+    void toggleUsePackedAdjacencyList() {
+        var usePackedAdjacencyList = USE_PACKED_ADJACENCY_LIST.isEnabled();
+        runQuery("CALL gds.features.usePackedAdjacencyList($value)", Map.of("value", !usePackedAdjacencyList));
+        assertEquals(!usePackedAdjacencyList, USE_PACKED_ADJACENCY_LIST.isEnabled());
+        runQuery("CALL gds.features.usePackedAdjacencyList($value)", Map.of("value", usePackedAdjacencyList));
+        assertEquals(usePackedAdjacencyList, USE_PACKED_ADJACENCY_LIST.isEnabled());
+    }
+
+    @Test
+    void resetUsePackedAdjacencyList() {
+        USE_PACKED_ADJACENCY_LIST.reset();
+        assertCypherResult(
+            "CALL gds.features.usePackedAdjacencyList.reset()",
+            List.of(Map.of("enabled", false))
+        );
+        assertFalse(USE_PACKED_ADJACENCY_LIST.isEnabled());
+    }
+
+    @Test
+    void toggleUseDegreeOrderedNodeIds() {
+        var useDegreeOrderedNodeIds = USE_DEGREE_ORDERED_NODE_IDS.isEnabled();
+        runQuery("CALL gds.features.useDegreeOrderedNodeIds($value)", Map.of("value", !useDegreeOrderedNodeIds));
+        assertEquals(!useDegreeOrderedNodeIds, USE_DEGREE_ORDERED_NODE_IDS.isEnabled());
+        runQuery("CALL gds.features.useDegreeOrderedNodeIds($value)", Map.of("value", useDegreeOrderedNodeIds));
+        assertEquals(useDegreeOrderedNodeIds, USE_DEGREE_ORDERED_NODE_IDS.isEnabled());
+    }
+
+    @Test
+    void resetUseDegreeOrderedNodeIds() {
+        USE_DEGREE_ORDERED_NODE_IDS.reset();
+        assertCypherResult(
+            "CALL gds.features.useDegreeOrderedNodeIds.reset()",
+            List.of(Map.of("enabled", false))
+        );
+        assertFalse(USE_DEGREE_ORDERED_NODE_IDS.isEnabled());
+    }
+
+    @Test
+    void toggleUsePackedNodeProperties() {
+        var usePackedNodeProperties = USE_PACKED_NODE_PROPERTIES.isEnabled();
+        runQuery("CALL gds.features.usePackedNodeProperties($value)", Map.of("value", !usePackedNodeProperties));
+        assertEquals(!usePackedNodeProperties, USE_PACKED_NODE_PROPERTIES.isEnabled());
+        runQuery("CALL gds.features.usePackedNodeProperties($value)", Map.of("value", usePackedNodeProperties));
+        assertEquals(usePackedNodeProperties, USE_PACKED_NODE_PROPERTIES.isEnabled());
+    }
+
+    @Test
+    void resetUsePackedNodeProperties() {
+        USE_PACKED_NODE_PROPERTIES.reset();
+        assertCypherResult(
+            "CALL gds.features.usePackedNodeProperties.reset()",
+            List.of(Map.of("enabled", true))
+        );
+        assertTrue(USE_PACKED_NODE_PROPERTIES.isEnabled());
+    }
+
+    @Test
+    void toggleUseOffHeapAdjacencyList() {
+        var useOffHeapAdjacencyList = USE_OFF_HEAP_ADJACENCY_LIST.isEnabled();
+        runQuery("CALL gds.features.useOffHeapAdjacencyList($value)", Map.of("value", !useOffHeapAdjacencyList));
+        assertEquals(!useOffHeapAdjacencyList, USE_OFF_HEAP_ADJACENCY_LIST.isEnabled());
+        runQuery("CALL gds.features.useOffHeapAdjacencyList($value)", Map.of("value", useOffHeapAdjacencyList));
+        assertEquals(useOffHeapAdjacencyList, USE_OFF_HEAP_ADJACENCY_LIST.isEnabled());
+    }
+
+    @Test
+    void resetUseOffHeapAdjacencyList() {
+        USE_OFF_HEAP_ADJACENCY_LIST.reset();
+        assertCypherResult(
+            "CALL gds.features.useOffHeapAdjacencyList.reset()",
+            List.of(Map.of("enabled", false))
+        );
+        assertFalse(USE_OFF_HEAP_ADJACENCY_LIST.isEnabled());
+    }
+
+    @Test
+    void toggleUseMemoryMappedAdjacencyList() {
+        var useMemoryMappedAdjacencyList = USE_MEMORY_MAPPED_ADJACENCY_LIST.isEnabled();
+        runQuery(
+            "CALL gds.features.useMemoryMappedAdjacencyList($value)",
+            Map.of("value", !useMemoryMappedAdjacencyList)
+        );
+        assertEquals(!useMemoryMappedAdjacencyList, USE_MEMORY_MAPPED_ADJACENCY_LIST.isEnabled());
+        runQuery(
+            "CALL gds.features.useMemoryMappedAdjacencyList($value)",
+            Map.of("value", useMemoryMappedAdjacencyList)
+        );
+        assertEquals(useMemoryMappedAdjacencyList, USE_MEMORY_MAPPED_ADJACENCY_LIST.isEnabled());
+    }
+
+    @Test
+    void resetUseMemoryMappedAdjacencyList() {
+        USE_MEMORY_MAPPED_ADJACENCY_LIST.reset();
+        assertCypherResult(
+            "CALL gds.features.useMemoryMappedAdjacencyList.reset()",
+            List.of(Map.of("enabled", false))
+        );
+        assertFalse(USE_MEMORY_MAPPED_ADJACENCY_LIST.isEnabled());
+    }
+
     @Test
     void toggleUseReorderedAdjacencyList() {
         var useReorderedAdjacencyList = USE_REORDERED_ADJACENCY_LIST.isEnabled();
@@ -243,4 +351,80 @@ class FeatureToggleProcTest extends BaseProcTest {
         );
         assertEquals(defaultValue, GdsFeatureToggles.PAGES_PER_THREAD.get());
     }
+
+    @Test
+    void toggleUseLazyNodeProperties() {
+        var useLazyNodeProperties = USE_LAZY_NODE_PROPERTIES.isEnabled();
+        runQuery("CALL gds.features.useLazyNodeProperties($value)", Map.of("value", !useLazyNodeProperties));
+        assertEquals(!useLazyNodeProperties, USE_LAZY_NODE_PROPERTIES.isEnabled());
+        runQuery("CALL gds.features.useLazyNodeProperties($value)", Map.of("value", useLazyNodeProperties));
+        assertEquals(useLazyNodeProperties, USE_LAZY_NODE_PROPERTIES.isEnabled());
+    }
+
+    @Test
+    void resetUseLazyNodeProperties() {
+        USE_LAZY_NODE_PROPERTIES.reset();
+        assertCypherResult(
+            "CALL gds.features.useLazyNodeProperties.reset()",
+            List.of(Map.of("enabled", false))
+        );
+        assertFalse(USE_LAZY_NODE_PROPERTIES.isEnabled());
+    }
+
+    @Test
+    void toggleLazyNodePropertiesCacheSizeValidation() {
+        var cacheSize = GdsFeatureToggles.LAZY_NODE_PROPERTIES_CACHE_SIZE.get();
+        var exception = assertThrows(
+            QueryExecutionException.class,
+            () -> runQuery("CALL gds.features.lazyNodePropertiesCacheSize($value)", Map.of("value", 0))
+        );
+        assertThat(exception)
+            .hasRootCauseInstanceOf(IllegalArgumentException.class)
+            .hasRootCauseMessage("Invalid value for lazyNodePropertiesCacheSize: 0, must be a non-zero, positive integer");
+        assertEquals(cacheSize, GdsFeatureToggles.LAZY_NODE_PROPERTIES_CACHE_SIZE.get());
+    }
+
+    @Test
+    void resetLazyNodePropertiesCacheSize() {
+        var defaultValue = GdsFeatureToggles.LAZY_NODE_PROPERTIES_CACHE_SIZE_DEFAULT_SETTING;
+        GdsFeatureToggles.LAZY_NODE_PROPERTIES_CACHE_SIZE.set(defaultValue + 1);
+        assertCypherResult(
+            "CALL gds.features.lazyNodePropertiesCacheSize.reset()",
+            List.of(Map.of("value", (long) defaultValue))
+        );
+        assertEquals(defaultValue, GdsFeatureToggles.LAZY_NODE_PROPERTIES_CACHE_SIZE.get());
+    }
+
+    @Test
+    void togglePregelMessageHeapBudget() {
+        var heapBudget = GdsFeatureToggles.PREGEL_MESSAGE_HEAP_BUDGET.get();
+        runQuery("CALL gds.features.pregelMessageHeapBudget($value)", Map.of("value", heapBudget + 1024));
+        assertEquals(heapBudget + 1024, GdsFeatureToggles.PREGEL_MESSAGE_HEAP_BUDGET.get());
+        runQuery("CALL gds.features.pregelMessageHeapBudget($value)", Map.of("value", heapBudget));
+        assertEquals(heapBudget, GdsFeatureToggles.PREGEL_MESSAGE_HEAP_BUDGET.get());
+    }
+
+    @Test
+    void togglePregelMessageHeapBudgetValidation() {
+        var heapBudget = GdsFeatureToggles.PREGEL_MESSAGE_HEAP_BUDGET.get();
+        var exception = assertThrows(
+            QueryExecutionException.class,
+            () -> runQuery("CALL gds.features.pregelMessageHeapBudget($value)", Map.of("value", -1))
+        );
+        assertThat(exception)
+            .hasRootCauseInstanceOf(IllegalArgumentException.class)
+            .hasRootCauseMessage("Invalid value for pregelMessageHeapBudget: -1, must be a positive integer or 0");
+        assertEquals(heapBudget, GdsFeatureToggles.PREGEL_MESSAGE_HEAP_BUDGET.get());
+    }
+
+    @Test
+    void resetPregelMessageHeapBudget() {
+        var defaultValue = GdsFeatureToggles.PREGEL_MESSAGE_HEAP_BUDGET_DEFAULT_SETTING;
+        GdsFeatureToggles.PREGEL_MESSAGE_HEAP_BUDGET.set(defaultValue + 1);
+        assertCypherResult(
+            "CALL gds.features.pregelMessageHeapBudget.reset()",
+            List.of(Map.of("value", defaultValue))
+        );
+        assertEquals(defaultValue, GdsFeatureToggles.PREGEL_MESSAGE_HEAP_BUDGET.get());
+    }
 }
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.core.utils.mem.MemoryReservation;
+import org.neo4j.gds.core.utils.mem.MemoryReservationLedger;
+import org.neo4j.gds.core.utils.progress.JobId;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ListMemoryReservationsProcTest extends BaseProcTest {
+
+    private final List<MemoryReservation> reservations = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        registerProcedures(ListMemoryReservationsProc.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        reservations.forEach(MemoryReservation::close);
+    }
+
+    @Test
+    void shouldListHeldReservation() {
+        var jobId = new JobId();
+        reserve(jobId, "alice", "g", "Louvain", 42 * 1024);
+
+        var rows = runQuery(
+            "alice",
+            "CALL gds.alpha.listMemoryReservations() " +
+            "YIELD jobId, username, graphName, taskName, reservedMemory, reservedBytes " +
+            "RETURN jobId, username, graphName, taskName, reservedMemory, reservedBytes",
+            result -> result.stream().collect(Collectors.toList())
+        );
+
+        assertThat(rows).containsExactly(Map.of(
+            "jobId", jobId.asString(),
+            "username", "alice",
+            "graphName", "g",
+            "taskName", "Louvain",
+            "reservedMemory", "42 KiB",
+            "reservedBytes", 42L * 1024
+        ));
+    }
+
+    @Test
+    void shouldNotListReleasedReservation() {
+        var reservation = reserve(new JobId(), "alice", "g", "Louvain", 1024);
+        reservation.close();
+
+        assertThat(listTaskNames("alice", "")).isEmpty();
+    }
+
+    @Test
+    void shouldOnlyListReservationsOfTheUser() {
+        reserve(new JobId(), "alice", "g", "Louvain", 1024);
+        reserve(new JobId(), "bob", "g", "PageRank", 1024);
+
+        assertThat(listTaskNames("alice", "")).containsExactly("Louvain");
+        assertThat(listTaskNames("bob", "")).containsExactly("PageRank");
+        assertThat(listTaskNames("carol", "")).isEmpty();
+    }
+
+    @Test
+    void shouldFilterByGraphName() {
+        reserve(new JobId(), "alice", "g1", "Louvain", 1024);
+        reserve(new JobId(), "alice", "g2", "PageRank", 1024);
+
+        assertThat(listTaskNames("alice", "g2")).containsExactly("PageRank");
+        assertThat(listTaskNames("alice", "g3")).isEmpty();
+    }
+
+    private MemoryReservation reserve(JobId jobId, String username, String graphName, String taskName, long bytes) {
+        var reservation = MemoryReservationLedger.global().reserve(
+            jobId,
+            username,
+            graphName,
+            taskName,
+            MemoryRange.of(bytes),
+            bytes
+        );
+        reservations.add(reservation);
+        return reservation;
+    }
+
+    private List<Object> listTaskNames(String username, String graphName) {
+        return runQuery(
+            username,
+            "CALL gds.alpha.listMemoryReservations('" + graphName + "') YIELD taskName RETURN taskName",
+            result -> result.stream().map(row -> row.get("taskName")).collect(Collectors.toList())
+        );
+    }
+}
@@ -100,6 +100,7 @@ public class ShortestPathWriteResultConsumer<ALGO extends Algorithm<DijkstraResu
                     .withIdMappingOperator(computationResult.graph()::toOriginalNodeId)
                     .withRelationships(relationshipStream)
                     .withTerminationFlag(algorithm.getTerminationFlag())
+                    .withTargetBatchLatency(config.targetBatchLatency())
                     .withProgressTracker(progressTracker)
                     .build();
 
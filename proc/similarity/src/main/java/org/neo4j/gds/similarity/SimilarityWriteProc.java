@@ -95,6 +95,7 @@ public abstract class SimilarityWriteProc<
                                 .withIdMappingOperator(rootIdMap::toOriginalNodeId)
                                 .withGraph(similarityGraph)
                                 .withTerminationFlag(algorithm.getTerminationFlag())
+                                .withTargetBatchLatency(config.targetBatchLatency())
                                 .withProgressTracker(progressTracker)
                                 .build();
 
@@ -109,6 +109,7 @@ public class FilteredNodeSimilarityWriteSpec implements AlgorithmSpec<
                                 .withIdMappingOperator(rootIdMap::toOriginalNodeId)
                                 .withGraph(similarityGraph)
                                 .withTerminationFlag(algorithm.getTerminationFlag())
+                                .withTargetBatchLatency(config.targetBatchLatency())
                                 .withProgressTracker(progressTracker)
                                 .build();
 
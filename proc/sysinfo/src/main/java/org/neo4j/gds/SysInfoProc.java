@@ -27,6 +27,7 @@ import org.neo4j.gds.compat.ProxyFactory;
 import org.neo4j.gds.compat.ProxyUtil;
 import org.neo4j.gds.compat.SettingProxyFactory;
 import org.neo4j.gds.core.Settings;
+import org.neo4j.gds.core.huge.PackedAdjacencyList;
 import org.neo4j.gds.core.utils.mem.GcListenerExtension;
 import org.neo4j.gds.utils.GdsFeatureToggles;
 import org.neo4j.graphdb.GraphDatabaseService;
@@ -171,7 +172,21 @@ public class SysInfoProc {
                 "featureUncompressedAdjacencyList",
                 GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.isEnabled()
             ))
-            .add(value("featureReorderedAdjacencyList", GdsFeatureToggles.USE_REORDERED_ADJACENCY_LIST.isEnabled()));
+            .add(value("featurePackedAdjacencyList", GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST.isEnabled()))
+            .add(value("featureReorderedAdjacencyList", GdsFeatureToggles.USE_REORDERED_ADJACENCY_LIST.isEnabled()))
+            .add(value("featureOffHeapAdjacencyList", GdsFeatureToggles.USE_OFF_HEAP_ADJACENCY_LIST.isEnabled()))
+            .add(value(
+                "featureMemoryMappedAdjacencyList",
+                GdsFeatureToggles.USE_MEMORY_MAPPED_ADJACENCY_LIST.isEnabled()
+            ))
+            .add(value("featureDegreeOrderedNodeIds", GdsFeatureToggles.USE_DEGREE_ORDERED_NODE_IDS.isEnabled()))
+            .add(value("featurePackedNodeProperties", GdsFeatureToggles.USE_PACKED_NODE_PROPERTIES.isEnabled()))
+            .add(value("featureLazyNodeProperties", GdsFeatureToggles.USE_LAZY_NODE_PROPERTIES.isEnabled()))
+            .add(value(
+                "featureLazyNodePropertiesCacheSize",
+                GdsFeatureToggles.LAZY_NODE_PROPERTIES_CACHE_SIZE.get()
+            ))
+            .add(value("featurePregelMessageHeapBudget", GdsFeatureToggles.PREGEL_MESSAGE_HEAP_BUDGET.get()));
 
     }
 
@@ -197,6 +212,11 @@ public class SysInfoProc {
         onHeapInfo("heap", memBean.getHeapMemoryUsage(), builder);
         offHeapInfo("offHeap", memBean.getNonHeapMemoryUsage(), builder);
 
+        var packedAdjacencyListsInBytes = PackedAdjacencyList.usedNativeMemory();
+        builder
+            .add(value("packedAdjacencyListsInBytes", packedAdjacencyListsInBytes))
+            .add(value("packedAdjacencyLists", safeHumanReadable(packedAdjacencyListsInBytes)));
+
         for (var pool : ManagementFactory.getMemoryPoolMXBeans()) {
             var usage = pool.getUsage();
             if (usage == null) {
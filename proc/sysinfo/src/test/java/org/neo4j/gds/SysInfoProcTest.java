@@ -198,6 +198,8 @@ class SysInfoProcTest extends BaseProcTest {
             .hasEntrySatisfying("offHeapUsed", isNotNull)
             .hasEntrySatisfying("offHeapTotalInBytes", isInteger)
             .hasEntrySatisfying("offHeapTotal", isNotNull)
+            .hasEntrySatisfying("packedAdjacencyListsInBytes", isInteger)
+            .hasEntrySatisfying("packedAdjacencyLists", isNotNull)
             .hasEntrySatisfying("freePhysicalMemoryInBytes", isInteger)
             .hasEntrySatisfying("freePhysicalMemory", isNotNull)
             .hasEntrySatisfying("committedVirtualMemoryInBytes", isInteger)